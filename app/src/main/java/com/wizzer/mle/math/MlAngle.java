@@ -55,6 +55,13 @@ public class MlAngle
     /** The angle: PI / 4. */
     public static final float ML_ANGLE_PI_FOURTH = 0.125f;
 
+    /** Angles in these units, where 1 is a full turn. */
+    public static final int ML_UNITS_ANGLE   = 0;
+    /** Angles in degrees. */
+    public static final int ML_UNITS_DEGREES = 1;
+    /** Angles in radians. */
+    public static final int ML_UNITS_RADIANS = 2;
+
     // Functions for doing conversions to angles, which use 2PI == 0x10000
     // in fixed and regular floating point values in float mode.
     
@@ -108,6 +115,32 @@ public class MlAngle
 	    return (s * 0.15915494309189533619f);
 	}
 
+    /**
+     * Get the factor that converts angles in the specified units to angles.
+     *
+     * @param units One of <code>ML_UNITS_ANGLE</code>, <code>ML_UNITS_DEGREES</code>
+     * or <code>ML_UNITS_RADIANS</code>.
+     *
+     * @return The factor is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the units
+     * are not valid.
+     */
+    public static final float unitsToAngle(int units)
+    {
+        switch (units)
+        {
+            case ML_UNITS_ANGLE:
+                return 1;
+            case ML_UNITS_DEGREES:
+                return (float)2.77777777777777777e-3;
+            case ML_UNITS_RADIANS:
+                return 0.15915494309189533619f;
+            default:
+                throw new IllegalArgumentException("Invalid angle units " + units + ".");
+        }
+    }
+
     // Hide default constructor.
     private MlAngle() {}
 
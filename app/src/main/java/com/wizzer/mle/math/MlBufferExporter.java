@@ -0,0 +1,371 @@
+/*
+ * MlBufferExporter.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Writes arrays of <code>MlTransform</code>s, <code>MlRotation</code>s and
+ * vectors into float buffers, in the layouts used to upload them to a GPU.
+ * <p>
+ * The elements are gathered into a reusable array in the requested layout and
+ * written with bulk puts, which is much faster than putting floats one at a
+ * time into a direct buffer. Buffers from <code>allocate()</code> are direct
+ * and in native order, so they can be passed to OpenGL without a copy. An
+ * exporter is not safe for use by multiple threads.
+ * </p><p>
+ * A transform is a 4x3 matrix whose last row is the translation. It can be
+ * written in one of these layouts:
+ * </p>
+ * <ul>
+ * <li><code>ML_LAYOUT_ROWS_4X3</code>: the 4 rows of 3 elements, as held by
+ * the transform.</li>
+ * <li><code>ML_LAYOUT_COLUMNS_3X4</code>: the 3 columns of 4 elements; these
+ * are the rows of the transposed matrix, which shaders using column vectors
+ * read as three <code>vec4</code>s.</li>
+ * <li><code>ML_LAYOUT_PADDED_4X4</code>: the 4 rows, each padded to 4 elements
+ * with the column (0, 0, 0, 1). This is the column-major form of the
+ * transposed 4x4 matrix that OpenGL expects for a <code>mat4</code>.</li>
+ * </ul>
+ */
+public class MlBufferExporter
+{
+    /** The layout of 4 rows of 3 elements. */
+    public static final int ML_LAYOUT_ROWS_4X3 = 0;
+    /** The layout of 3 columns of 4 elements. */
+    public static final int ML_LAYOUT_COLUMNS_3X4 = 1;
+    /** The layout of 4 rows padded to 4 elements. */
+    public static final int ML_LAYOUT_PADDED_4X4 = 2;
+
+    // The size of the array the elements are gathered in.
+    private static final int ML_SCRATCH_SIZE = 1024;
+
+    // The array the elements are gathered in.
+    private final float[] mScratch = new float[ML_SCRATCH_SIZE];
+
+    /**
+     * The default constructor.
+     */
+    public MlBufferExporter()
+    {
+        super();
+    }
+
+    /**
+     * Allocate a direct, native-order float buffer.
+     *
+     * @param count The number of floats in the buffer.
+     *
+     * @return The buffer is returned.
+     */
+    static public FloatBuffer allocate(int count)
+    {
+        return ByteBuffer.allocateDirect(count * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /**
+     * Get the number of floats of a transform in a layout.
+     *
+     * @param layout The layout, one of the <code>ML_LAYOUT_</code> constants.
+     *
+     * @return The number of floats is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the layout
+     * is not valid.
+     */
+    static public int getStride(int layout)
+    {
+        switch (layout)
+        {
+            case ML_LAYOUT_ROWS_4X3:
+            case ML_LAYOUT_COLUMNS_3X4:
+                return 12;
+            case ML_LAYOUT_PADDED_4X4:
+                return 16;
+            default:
+                throw new IllegalArgumentException("Invalid layout " + layout + ".");
+        }
+    }
+
+    // Store the elements of a transform in a layout, and return the offset
+    // after them.
+    static int layout(MlTransform transform, int layout, float[] dst, int d)
+    {
+        transform.sync();
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+
+        switch (layout)
+        {
+            case ML_LAYOUT_ROWS_4X3:
+                System.arraycopy(m, o, dst, d, 12);
+                return d + 12;
+            case ML_LAYOUT_COLUMNS_3X4:
+                for (int c = 0; c < 3; c++)
+                {
+                    dst[d++] = m[o + c];
+                    dst[d++] = m[o + 3 + c];
+                    dst[d++] = m[o + 6 + c];
+                    dst[d++] = m[o + 9 + c];
+                }
+                return d;
+            default:
+                for (int r = 0; r < 4; r++, o += 3)
+                {
+                    dst[d++] = m[o];
+                    dst[d++] = m[o + 1];
+                    dst[d++] = m[o + 2];
+                    dst[d++] = (r == 3) ? MlScalar.ML_SCALAR_ONE : MlScalar.ML_SCALAR_ZERO;
+                }
+                return d;
+        }
+    }
+
+    // Check that the buffer has room for n floats.
+    private static void checkRemaining(FloatBuffer buffer, long n)
+    {
+        if (buffer.remaining() < n)
+            throw new BufferOverflowException();
+    }
+
+    /**
+     * Write transforms at the current position of a float buffer, and advance
+     * the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param transforms The transforms to write.
+     * @param first The index of the first transform to write.
+     * @param count The number of transforms to write.
+     * @param layout The layout, one of the <code>ML_LAYOUT_</code> constants.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the transforms; nothing is written.
+     */
+    public final void put(FloatBuffer buffer, MlTransform[] transforms, int first, int count, int layout)
+    {
+        int stride = getStride(layout);
+        checkRemaining(buffer, (long)count * stride);
+
+        int chunk = ML_SCRATCH_SIZE / stride;
+        for (int i = first, end = first + count; i < end; )
+        {
+            int d = 0;
+            for (int n = Math.min(end, i + chunk); i < n; i++)
+                d = layout(transforms[i], layout, mScratch, d);
+            buffer.put(mScratch, 0, d);
+        }
+    }
+
+    /**
+     * Write transforms as floats at the current position of a byte buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param transforms The transforms to write.
+     * @param first The index of the first transform to write.
+     * @param count The number of transforms to write.
+     * @param layout The layout, one of the <code>ML_LAYOUT_</code> constants.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the transforms; nothing is written.
+     */
+    public final void put(ByteBuffer buffer, MlTransform[] transforms, int first, int count, int layout)
+    {
+        FloatBuffer floats = buffer.asFloatBuffer();
+        put(floats, transforms, first, count, layout);
+        buffer.position(buffer.position() + (floats.position() * 4));
+    }
+
+    /**
+     * Write rotations at the current position of a float buffer, as the 4
+     * components of their quaternions, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param rotations The rotations to write.
+     * @param first The index of the first rotation to write.
+     * @param count The number of rotations to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the rotations; nothing is written.
+     */
+    public final void put(FloatBuffer buffer, MlRotation[] rotations, int first, int count)
+    {
+        checkRemaining(buffer, (long)count * 4);
+
+        for (int i = first, end = first + count; i < end; )
+        {
+            int d = 0;
+            for (int n = Math.min(end, i + (ML_SCRATCH_SIZE / 4)); i < n; i++, d += 4)
+                System.arraycopy(rotations[i].mQuat, 0, mScratch, d, 4);
+            buffer.put(mScratch, 0, d);
+        }
+    }
+
+    /**
+     * Write rotations as floats at the current position of a byte buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param rotations The rotations to write.
+     * @param first The index of the first rotation to write.
+     * @param count The number of rotations to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the rotations; nothing is written.
+     */
+    public final void put(ByteBuffer buffer, MlRotation[] rotations, int first, int count)
+    {
+        FloatBuffer floats = buffer.asFloatBuffer();
+        put(floats, rotations, first, count);
+        buffer.position(buffer.position() + (floats.position() * 4));
+    }
+
+    /**
+     * Write vectors at the current position of a float buffer, and advance
+     * the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vectors The vectors to write.
+     * @param first The index of the first vector to write.
+     * @param count The number of vectors to write.
+     * @param padded <b>true</b> to pad each vector to 4 floats with a zero, as
+     * arrays of <code>vec3</code> are laid out in uniform buffers.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the vectors; nothing is written.
+     */
+    public final void put(FloatBuffer buffer, MlVector3[] vectors, int first, int count, boolean padded)
+    {
+        int stride = padded ? 4 : 3;
+        checkRemaining(buffer, (long)count * stride);
+
+        for (int i = first, end = first + count; i < end; )
+        {
+            int d = 0;
+            for (int n = Math.min(end, i + (ML_SCRATCH_SIZE / 4)); i < n; i++, d += stride)
+            {
+                System.arraycopy(vectors[i].mVector, 0, mScratch, d, 3);
+                if (padded)
+                    mScratch[d + 3] = MlScalar.ML_SCALAR_ZERO;
+            }
+            buffer.put(mScratch, 0, d);
+        }
+    }
+
+    /**
+     * Write vectors as floats at the current position of a byte buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vectors The vectors to write.
+     * @param first The index of the first vector to write.
+     * @param count The number of vectors to write.
+     * @param padded <b>true</b> to pad each vector to 4 floats with a zero.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the vectors; nothing is written.
+     */
+    public final void put(ByteBuffer buffer, MlVector3[] vectors, int first, int count, boolean padded)
+    {
+        FloatBuffer floats = buffer.asFloatBuffer();
+        put(floats, vectors, first, count, padded);
+        buffer.position(buffer.position() + (floats.position() * 4));
+    }
+
+    /**
+     * Write a batch of vectors at the current position of a float buffer,
+     * interleaving their components, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vectors The batch of vectors to write.
+     * @param first The index of the first vector to write.
+     * @param count The number of vectors to write.
+     * @param padded <b>true</b> to pad each vector to 4 floats with a zero.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the vectors; nothing is written.
+     */
+    public final void put(FloatBuffer buffer, MlVector3Array vectors, int first, int count, boolean padded)
+    {
+        int stride = padded ? 4 : 3;
+        checkRemaining(buffer, (long)count * stride);
+
+        float x[] = vectors.mX, y[] = vectors.mY, z[] = vectors.mZ;
+        for (int i = first, end = first + count; i < end; )
+        {
+            int d = 0;
+            for (int n = Math.min(end, i + (ML_SCRATCH_SIZE / 4)); i < n; i++)
+            {
+                mScratch[d++] = x[i];
+                mScratch[d++] = y[i];
+                mScratch[d++] = z[i];
+                if (padded)
+                    mScratch[d++] = MlScalar.ML_SCALAR_ZERO;
+            }
+            buffer.put(mScratch, 0, d);
+        }
+    }
+
+    /**
+     * Write a batch of vectors as floats at the current position of a byte
+     * buffer, in the byte order of the buffer, interleaving their components,
+     * and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vectors The batch of vectors to write.
+     * @param first The index of the first vector to write.
+     * @param count The number of vectors to write.
+     * @param padded <b>true</b> to pad each vector to 4 floats with a zero.
+     *
+     * @throws BufferOverflowException This exception is thrown if the buffer
+     * does not have room for the vectors; nothing is written.
+     */
+    public final void put(ByteBuffer buffer, MlVector3Array vectors, int first, int count, boolean padded)
+    {
+        FloatBuffer floats = buffer.asFloatBuffer();
+        put(floats, vectors, first, count, padded);
+        buffer.position(buffer.position() + (floats.position() * 4));
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * MlBufferPool.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.IdentityHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of direct byte buffers for serializing math data types, such as
+ * with the <code>ByteBuffer</code> methods of <code>MlMath</code>, without
+ * allocating a buffer for each record.
+ * <p>
+ * Buffers are slices of large direct slabs, in power-of-two sizes from
+ * <code>ML_MIN_BUFFER_SIZE</code> bytes to 1/16 of the slab size. A buffer is
+ * taken with <code>acquire()</code> and returned with <code>release()</code>.
+ * Each thread keeps a small cache of released buffers of each size, so once
+ * the pool has grown to the working set, acquiring and releasing buffers
+ * allocate nothing and rarely take the pool's lock. Larger buffers are
+ * allocated directly, and are not pooled.
+ * </p><p>
+ * When a slab has too little space left for a buffer, the rest of it is
+ * carved into smaller buffers for later use. Slabs are never freed. A buffer
+ * must not be used after it is released, nor released twice. Buffers cached
+ * by a thread that ends are lost to the pool.
+ * </p>
+ */
+public class MlBufferPool
+{
+    /** The default size of a slab, in bytes: 1 MiB. */
+    public static final int ML_DEFAULT_SLAB_SIZE = 1 << 20;
+    /** The smallest buffer size, in bytes. */
+    public static final int ML_MIN_BUFFER_SIZE = 64;
+
+    // The log2 of the smallest buffer size.
+    private static final int ML_MIN_SHIFT = 6;
+    // The number of buffers of each size cached by a thread.
+    private static final int ML_CACHE_SIZE = 32;
+
+    // A stack of free buffers of one size.
+    private static class FreeList
+    {
+        ByteBuffer[] mItems;
+        int mCount;
+
+        FreeList(int capacity)
+        {
+            mItems = new ByteBuffer[capacity];
+        }
+
+        void push(ByteBuffer buffer)
+        {
+            if (mCount == mItems.length)
+            {
+                ByteBuffer[] items = new ByteBuffer[mCount * 2];
+                System.arraycopy(mItems, 0, items, 0, mCount);
+                mItems = items;
+            }
+            mItems[mCount++] = buffer;
+        }
+
+        ByteBuffer pop()
+        {
+            ByteBuffer buffer = mItems[--mCount];
+            mItems[mCount] = null;
+            return buffer;
+        }
+    }
+
+    // The size of a slab.
+    private final int mSlabSize;
+    // The largest pooled buffer size.
+    private final int mMaxBufferSize;
+    // The number of buffer sizes.
+    private final int mClassCount;
+    // The free buffers of each size shared by all threads, guarded by this.
+    private final FreeList[] mFree;
+    // The slab buffers are carved from, guarded by this.
+    private ByteBuffer mSlab;
+    // The number of slabs allocated, guarded by this.
+    private int mSlabCount;
+    // The buffers carved from slabs, in an open-addressing table indexed by
+    // identity hash. Entries are added under this and never removed, and the
+    // table is read without locking: a buffer is added before it is first
+    // handed out, so any thread releasing it finds it.
+    private volatile ByteBuffer[] mPooled = new ByteBuffer[64];
+    // The number of buffers in mPooled, guarded by this.
+    private int mPooledCount;
+    // The buffers too large to be pooled that are in use, guarded by this.
+    private final IdentityHashMap<ByteBuffer, Boolean> mLarge =
+        new IdentityHashMap<ByteBuffer, Boolean>();
+    // The free buffers of each size cached by each thread.
+    private final ThreadLocal<FreeList[]> mCaches = new ThreadLocal<FreeList[]>()
+    {
+        @Override
+        protected FreeList[] initialValue()
+        {
+            FreeList[] caches = new FreeList[mClassCount];
+            for (int i = 0; i < mClassCount; i++)
+                caches[i] = new FreeList(ML_CACHE_SIZE);
+            return caches;
+        }
+    };
+
+    // The statistics.
+    private final AtomicLong mAcquires = new AtomicLong();
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mBytesInUse = new AtomicLong();
+    private final AtomicLong mHighWaterMark = new AtomicLong();
+
+    /**
+     * The default constructor, using slabs of the default size.
+     */
+    public MlBufferPool()
+    {
+        this(ML_DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * A constructor given the size of a slab.
+     *
+     * @param slabSize The size of a slab, in bytes; a power of two of at
+     * least 16 times <code>ML_MIN_BUFFER_SIZE</code>.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the slab
+     * size is not valid.
+     */
+    public MlBufferPool(int slabSize)
+    {
+        super();
+        if ((slabSize < (16 * ML_MIN_BUFFER_SIZE)) || (Integer.bitCount(slabSize) != 1))
+            throw new IllegalArgumentException("Invalid slab size " + slabSize + ".");
+
+        mSlabSize = slabSize;
+        mMaxBufferSize = slabSize >>> 4;
+        mClassCount = Integer.numberOfTrailingZeros(mMaxBufferSize) - ML_MIN_SHIFT + 1;
+        mFree = new FreeList[mClassCount];
+        for (int i = 0; i < mClassCount; i++)
+            mFree[i] = new FreeList(ML_CACHE_SIZE);
+    }
+
+    /**
+     * Get the largest size of a pooled buffer.
+     *
+     * @return The size is returned, in bytes.
+     */
+    public final int getMaxBufferSize()
+    {
+        return mMaxBufferSize;
+    }
+
+    // Get the index of the size class holding buffers of the specified size.
+    private static int sizeClass(int size)
+    {
+        if (size <= ML_MIN_BUFFER_SIZE)
+            return 0;
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - ML_MIN_SHIFT;
+    }
+
+    /**
+     * Acquire a buffer.
+     *
+     * @param size The number of bytes needed.
+     *
+     * @return A direct buffer with a capacity of at least <code>size</code>
+     * bytes, rounded up to a power of two, is returned. Its position is 0, its
+     * limit is its capacity, and its byte order is big-endian.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the size
+     * is negative.
+     */
+    public final ByteBuffer acquire(int size)
+    {
+        if (size < 0)
+            throw new IllegalArgumentException("Invalid buffer size " + size + ".");
+
+        mAcquires.incrementAndGet();
+        ByteBuffer buffer;
+        if (size > mMaxBufferSize)
+        {
+            buffer = ByteBuffer.allocateDirect(size);
+            track(buffer);
+        } else
+        {
+            int c = sizeClass(size);
+            FreeList cache = mCaches.get()[c];
+            if (cache.mCount > 0)
+            {
+                buffer = cache.pop();
+                mHits.incrementAndGet();
+            } else
+            {
+                buffer = refill(c, cache);
+            }
+        }
+
+        long inUse = mBytesInUse.addAndGet(buffer.capacity());
+        long high = mHighWaterMark.get();
+        while ((inUse > high) && ! mHighWaterMark.compareAndSet(high, inUse))
+            high = mHighWaterMark.get();
+        return buffer;
+    }
+
+    // Take a buffer of a size class from the shared free buffers, moving up
+    // to half a cache of them to the thread's cache, or carve a new one.
+    private synchronized ByteBuffer refill(int c, FreeList cache)
+    {
+        FreeList free = mFree[c];
+        if (free.mCount > 0)
+        {
+            mHits.incrementAndGet();
+            for (int n = Math.min(free.mCount - 1, ML_CACHE_SIZE / 2); n > 0; n--)
+                cache.push(free.pop());
+            return free.pop();
+        }
+
+        int size = ML_MIN_BUFFER_SIZE << c;
+        if ((mSlab == null) || (mSlab.remaining() < size))
+        {
+            // The rest of the slab, a multiple of the smallest size less than
+            // this one, is carved into free buffers of the smaller sizes.
+            if (mSlab != null)
+            {
+                for (int k = c - 1; k >= 0; k--)
+                {
+                    if (mSlab.remaining() >= (ML_MIN_BUFFER_SIZE << k))
+                        mFree[k].push(carve(ML_MIN_BUFFER_SIZE << k));
+                }
+            }
+            mSlab = ByteBuffer.allocateDirect(mSlabSize);
+            mSlabCount++;
+        }
+        return carve(size);
+    }
+
+    // Carve a buffer from the slab and record it as pooled. Called under this.
+    private ByteBuffer carve(int size)
+    {
+        int p = mSlab.position();
+        mSlab.limit(p + size);
+        ByteBuffer buffer = mSlab.slice();
+        mSlab.limit(mSlabSize);
+        mSlab.position(p + size);
+
+        ByteBuffer[] table = mPooled;
+        if (((mPooledCount + 1) * 2) > table.length)
+        {
+            // The grown table is complete before it is published.
+            ByteBuffer[] grown = new ByteBuffer[table.length * 2];
+            for (int i = 0; i < table.length; i++)
+            {
+                if (table[i] != null)
+                    insert(grown, table[i]);
+            }
+            insert(grown, buffer);
+            mPooled = grown;
+        } else
+            insert(table, buffer);
+        mPooledCount++;
+
+        return buffer;
+    }
+
+    // Add a buffer to an identity hash table.
+    private static void insert(ByteBuffer[] table, ByteBuffer buffer)
+    {
+        int mask = table.length - 1;
+        int i = System.identityHashCode(buffer) & mask;
+        while (table[i] != null)
+            i = (i + 1) & mask;
+        table[i] = buffer;
+    }
+
+    // Check whether a buffer was carved from a slab of this pool.
+    private boolean isPooled(ByteBuffer buffer)
+    {
+        ByteBuffer[] table = mPooled;
+        int mask = table.length - 1;
+        for (int i = System.identityHashCode(buffer) & mask; table[i] != null; i = (i + 1) & mask)
+        {
+            if (table[i] == buffer)
+                return true;
+        }
+        return false;
+    }
+
+    // Record a buffer too large to be pooled as in use.
+    private synchronized void track(ByteBuffer buffer)
+    {
+        mLarge.put(buffer, Boolean.TRUE);
+    }
+
+    // Record a buffer too large to be pooled as released, returning whether
+    // it was in use.
+    private synchronized boolean untrack(ByteBuffer buffer)
+    {
+        return (mLarge.remove(buffer) != null);
+    }
+
+    /**
+     * Release a buffer acquired from this pool, so it may be reused.
+     *
+     * @param buffer The buffer to release.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the buffer
+     * was not acquired from this pool.
+     */
+    public final void release(ByteBuffer buffer)
+    {
+        int capacity = buffer.capacity();
+        boolean owned;
+        if (capacity > mMaxBufferSize)
+            owned = untrack(buffer);
+        else
+            owned = isPooled(buffer);
+        if (! owned)
+            throw new IllegalArgumentException("The buffer was not acquired from this pool.");
+
+        mBytesInUse.addAndGet(-capacity);
+        if (capacity > mMaxBufferSize)
+            return;
+
+        buffer.clear();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        FreeList cache = mCaches.get()[sizeClass(capacity)];
+        if (cache.mCount == ML_CACHE_SIZE)
+            spill(sizeClass(capacity), cache);
+        cache.push(buffer);
+    }
+
+    // Move half of a thread's cache of a size class to the shared free buffers.
+    private synchronized void spill(int c, FreeList cache)
+    {
+        FreeList free = mFree[c];
+        for (int n = ML_CACHE_SIZE / 2; n > 0; n--)
+            free.push(cache.pop());
+    }
+
+    /**
+     * Get the number of slabs allocated.
+     *
+     * @return The number of slabs is returned.
+     */
+    public final synchronized int getSlabCount()
+    {
+        return mSlabCount;
+    }
+
+    /**
+     * Get the memory held in slabs.
+     *
+     * @return The number of bytes is returned.
+     */
+    public final synchronized long getSlabBytes()
+    {
+        return (long)mSlabCount * mSlabSize;
+    }
+
+    /**
+     * Get the memory of the buffers acquired and not yet released, including
+     * those too large to be pooled.
+     *
+     * @return The number of bytes is returned.
+     */
+    public final long getBytesInUse()
+    {
+        return mBytesInUse.get();
+    }
+
+    /**
+     * Get the largest value of <code>getBytesInUse()</code> so far.
+     *
+     * @return The number of bytes is returned.
+     */
+    public final long getHighWaterMark()
+    {
+        return mHighWaterMark.get();
+    }
+
+    /**
+     * Get the number of buffers acquired.
+     *
+     * @return The number of buffers is returned.
+     */
+    public final long getAcquireCount()
+    {
+        return mAcquires.get();
+    }
+
+    /**
+     * Get the number of buffers acquired that reused a released buffer.
+     *
+     * @return The number of buffers is returned.
+     */
+    public final long getHitCount()
+    {
+        return mHits.get();
+    }
+
+    /**
+     * Get the fraction of the buffers acquired that reused a released buffer.
+     *
+     * @return The hit rate is returned, from 0 to 1; it is 0 if no buffers
+     * have been acquired.
+     */
+    public final float getHitRate()
+    {
+        long acquires = mAcquires.get();
+        return (acquires == 0) ? 0 : ((float)mHits.get() / acquires);
+    }
+}
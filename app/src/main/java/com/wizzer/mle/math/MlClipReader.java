@@ -0,0 +1,292 @@
+/*
+ * MlClipReader.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads the animation clip files written by <code>MlClipWriter</code>.
+ * <p>
+ * Only the header and track table are read when the clip is opened. The
+ * frames are memory-mapped, in regions of up to 1 GiB that are mapped on
+ * first use, and any frame is decoded directly from the mapping, so opening
+ * a large clip is immediate and only the pages holding the frames that are
+ * accessed are read from the file.
+ * </p><p>
+ * A reader is not safe for use by multiple threads. Threads may each open a
+ * reader on the same file; the mappings share the same pages.
+ * </p>
+ */
+public class MlClipReader
+{
+    // The largest region of a track that is mapped at once, in bytes.
+    private static final int ML_CLIP_REGION_SIZE = 1 << 30;
+
+    // The channel the clip is read from.
+    private final FileChannel mChannel;
+    // The frame rate of the clip.
+    private final float mFrameRate;
+    // The file offset of the first frame of each track.
+    private final long[] mOffsets;
+    // The number of frames in each track.
+    private final int[] mFrameCounts;
+    // The frame stride of each track, in bytes.
+    private final int[] mStrides;
+    // The number of frames in a mapped region of each track.
+    private final int[] mRegionFrames;
+    // The mapped regions of each track, or null where not yet mapped.
+    private final ByteBuffer[][] mRegions;
+    // The position of the frame last located by region().
+    private int mIndex;
+
+    /**
+     * A constructor given the clip file.
+     *
+     * @param file The clip file.
+     *
+     * @throws IOException This exception is thrown if the file cannot be read,
+     * or is not a valid clip file.
+     */
+    public MlClipReader(File file) throws IOException
+    {
+        this(open(file), true);
+    }
+
+    /**
+     * A constructor given the channel to read the clip from.
+     *
+     * @param channel The channel the clip is read from.
+     *
+     * @throws IOException This exception is thrown if the channel cannot be read,
+     * or does not hold a valid clip file.
+     */
+    public MlClipReader(FileChannel channel) throws IOException
+    {
+        this(channel, false);
+    }
+
+    // Read the header and track table of the clip; a channel owned by the
+    // reader is closed if they are not valid.
+    private MlClipReader(FileChannel channel, boolean owned) throws IOException
+    {
+        super();
+        mChannel = channel;
+
+        boolean valid = false;
+        try
+        {
+            long size = channel.size();
+            ByteBuffer header = read(0, MlClipWriter.ML_CLIP_HEADER_SIZE, size);
+            if ((header.getInt() != MlClipWriter.ML_CLIP_MAGIC) ||
+                (header.getInt() != MlClipWriter.ML_CLIP_VERSION))
+                throw new IOException("Invalid clip file.");
+            int trackCount = header.getInt();
+            mFrameRate = header.getFloat();
+            if ((trackCount < 0) ||
+                (trackCount > ((size - MlClipWriter.ML_CLIP_HEADER_SIZE) / MlClipWriter.ML_CLIP_TRACK_SIZE)))
+                throw new IOException("Invalid clip file.");
+
+            ByteBuffer table = read(MlClipWriter.ML_CLIP_HEADER_SIZE,
+                trackCount * MlClipWriter.ML_CLIP_TRACK_SIZE, size);
+            mOffsets = new long[trackCount];
+            mFrameCounts = new int[trackCount];
+            mStrides = new int[trackCount];
+            mRegionFrames = new int[trackCount];
+            mRegions = new ByteBuffer[trackCount][];
+            for (int i = 0; i < trackCount; i++)
+            {
+                long offset = table.getLong();
+                int count = table.getInt();
+                int stride = table.getInt();
+                if ((offset < 0) || (count < 0) ||
+                    (stride < MlClipWriter.ML_CLIP_FRAME_SIZE) || (stride > ML_CLIP_REGION_SIZE) ||
+                    (offset > size) || (count > ((size - offset) / stride)))
+                    throw new IOException("Invalid clip file.");
+
+                mOffsets[i] = offset;
+                mFrameCounts[i] = count;
+                mStrides[i] = stride;
+                mRegionFrames[i] = ML_CLIP_REGION_SIZE / stride;
+                mRegions[i] = new ByteBuffer[(count + mRegionFrames[i] - 1) / mRegionFrames[i]];
+            }
+            valid = true;
+        } finally
+        {
+            if ((! valid) && owned)
+                channel.close();
+        }
+    }
+
+    // Open a channel on the clip file.
+    private static FileChannel open(File file) throws IOException
+    {
+        return new RandomAccessFile(file, "r").getChannel();
+    }
+
+    // Read length bytes of the file at the specified offset.
+    private ByteBuffer read(long offset, int length, long size) throws IOException
+    {
+        if ((offset + length) > size)
+            throw new IOException("Invalid clip file.");
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining())
+        {
+            if (mChannel.read(buffer, offset + buffer.position()) < 0)
+                throw new IOException("Invalid clip file.");
+        }
+        buffer.flip();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * Get the number of tracks in the clip.
+     *
+     * @return The number of tracks is returned.
+     */
+    public final int getTrackCount()
+    {
+        return mOffsets.length;
+    }
+
+    /**
+     * Get the number of frames in a track.
+     *
+     * @param track The index of the track.
+     *
+     * @return The number of frames is returned.
+     */
+    public final int getFrameCount(int track)
+    {
+        return mFrameCounts[track];
+    }
+
+    /**
+     * Get the frame rate of the clip.
+     *
+     * @return The frame rate is returned, in frames per second.
+     */
+    public final float getFrameRate()
+    {
+        return mFrameRate;
+    }
+
+    // Get the mapped region holding a frame, and set mIndex to the position of
+    // the frame within it.
+    private ByteBuffer region(int track, int frame) throws IOException
+    {
+        if ((frame < 0) || (frame >= mFrameCounts[track]))
+            throw new IndexOutOfBoundsException("Invalid frame " + frame + " in track " + track + ".");
+
+        int r = frame / mRegionFrames[track];
+        ByteBuffer region = mRegions[track][r];
+        if (region == null)
+        {
+            long first = (long)r * mRegionFrames[track];
+            long count = Math.min(mRegionFrames[track], mFrameCounts[track] - first);
+            region = mChannel.map(FileChannel.MapMode.READ_ONLY,
+                mOffsets[track] + (first * mStrides[track]), count * mStrides[track]);
+            region.order(ByteOrder.LITTLE_ENDIAN);
+            mRegions[track][r] = region;
+        }
+        mIndex = (frame - (r * mRegionFrames[track])) * mStrides[track];
+        return region;
+    }
+
+    /**
+     * Decode a frame of a track.
+     *
+     * @param track The index of the track.
+     * @param frame The index of the frame.
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the frame cannot be mapped.
+     * @throws IndexOutOfBoundsException This exception is thrown if the
+     * track or frame does not exist.
+     */
+    public final void getFrame(int track, int frame, MlTransform transform) throws IOException
+    {
+        getFrame(track, frame, transform.mData, transform.mOffset);
+        transform.changed();
+    }
+
+    /**
+     * Decode a frame of a track into an array, as the 12 elements of the
+     * transform in row-major order.
+     *
+     * @param track The index of the track.
+     * @param frame The index of the frame.
+     * @param m The output array that will contain the results.
+     * @param offset The offset in the array of the first element.
+     *
+     * @throws IOException This exception is thrown if the frame cannot be mapped.
+     * @throws IndexOutOfBoundsException This exception is thrown if the
+     * track or frame does not exist, or the array is too small.
+     */
+    public final void getFrame(int track, int frame, float[] m, int offset) throws IOException
+    {
+        if ((offset < 0) || (offset > (m.length - MlTransform.ML_TRANSFORM_SIZE)))
+            throw new IndexOutOfBoundsException("Invalid transform offset " + offset + ".");
+
+        ByteBuffer region = region(track, frame);
+        int index = mIndex;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++, index += 4)
+            m[offset + i] = region.getFloat(index);
+    }
+
+    /**
+     * Close the channel. Frames that were mapped remain mapped until they are
+     * garbage collected, but no further frames may be read.
+     *
+     * @throws IOException This exception is thrown if the channel cannot be closed.
+     */
+    public final void close() throws IOException
+    {
+        mChannel.close();
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * MlClipWriter.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Writes an animation clip file: a set of tracks, each a sequence of
+ * <code>MlTransform</code> frames, which <code>MlClipReader</code> can
+ * memory-map and access at random.
+ * <p>
+ * All values are little-endian. The file is laid out as:
+ * </p>
+ * <pre>
+ *     int    ML_CLIP_MAGIC
+ *     int    ML_CLIP_VERSION
+ *     int    number of tracks
+ *     float  frame rate, in frames per second
+ *     ...    for each track:
+ *                long   file offset of the first frame
+ *                int    number of frames
+ *                int    frame stride, in bytes
+ *     ...    the frames of each track, the 12 elements of the transform in
+ *            row-major order
+ * </pre>
+ * <p>
+ * Tracks are written one after the other: <code>beginTrack()</code> starts
+ * the next track, and <code>write()</code> appends a frame to it. The track
+ * table is written by <code>close()</code>.
+ * </p>
+ */
+public class MlClipWriter
+{
+    /** The word that starts a clip file. */
+    public static final int ML_CLIP_MAGIC = 0x4D4C4350;
+    /** The version of the clip file format. */
+    public static final int ML_CLIP_VERSION = 1;
+
+    // The size of the file header.
+    static final int ML_CLIP_HEADER_SIZE = 16;
+    // The size of an entry in the track table.
+    static final int ML_CLIP_TRACK_SIZE = 16;
+    // The size of a frame.
+    static final int ML_CLIP_FRAME_SIZE = MlTransform.ML_TRANSFORM_SIZE * 4;
+
+    // The channel the clip is written to.
+    private final FileChannel mChannel;
+    // The buffer the frames are encoded into.
+    private final ByteBuffer mBuffer;
+    // The frame rate of the clip.
+    private final float mFrameRate;
+    // The file offset of the first frame of each track.
+    private final long[] mOffsets;
+    // The number of frames in each track.
+    private final int[] mFrameCounts;
+    // The current track, or -1 before the first track is begun.
+    private int mTrack = -1;
+    // The file offset the buffer is written to.
+    private long mPosition;
+
+    /**
+     * A constructor given the file to write to. The file is created, or
+     * truncated if it exists.
+     *
+     * @param file The clip file.
+     * @param trackCount The number of tracks in the clip.
+     * @param frameRate The frame rate of the clip, in frames per second.
+     *
+     * @throws IOException This exception is thrown if the file cannot be opened.
+     */
+    public MlClipWriter(File file, int trackCount, float frameRate) throws IOException
+    {
+        this(open(file), trackCount, frameRate);
+    }
+
+    /**
+     * A constructor given the channel to write to. The clip is written from
+     * the start of the file.
+     *
+     * @param channel The channel the clip is written to.
+     * @param trackCount The number of tracks in the clip.
+     * @param frameRate The frame rate of the clip, in frames per second.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the number
+     * of tracks is negative.
+     */
+    public MlClipWriter(FileChannel channel, int trackCount, float frameRate)
+    {
+        super();
+        if (trackCount < 0)
+            throw new IllegalArgumentException("Invalid track count " + trackCount + ".");
+
+        mChannel = channel;
+        mBuffer = ByteBuffer.allocateDirect(MlStreamWriter.ML_DEFAULT_BUFFER_SIZE);
+        mBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        mFrameRate = frameRate;
+        mOffsets = new long[trackCount];
+        mFrameCounts = new int[trackCount];
+        mPosition = ML_CLIP_HEADER_SIZE + ((long)trackCount * ML_CLIP_TRACK_SIZE);
+    }
+
+    // Open a file for writing, truncating it.
+    private static FileChannel open(File file) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(0);
+        return raf.getChannel();
+    }
+
+    // Write the buffer to the channel at the current file offset.
+    private void drain() throws IOException
+    {
+        mBuffer.flip();
+        while (mBuffer.hasRemaining())
+            mPosition += mChannel.write(mBuffer, mPosition);
+        mBuffer.clear();
+    }
+
+    /**
+     * Begin the next track.
+     *
+     * @return The index of the track is returned.
+     *
+     * @throws IllegalStateException This exception is thrown if all the
+     * tracks have been begun.
+     */
+    public final int beginTrack()
+    {
+        if (mTrack >= (mOffsets.length - 1))
+            throw new IllegalStateException("All tracks have been begun.");
+
+        mTrack++;
+        mOffsets[mTrack] = mPosition + mBuffer.position();
+        return mTrack;
+    }
+
+    /**
+     * Append a frame to the current track.
+     *
+     * @param transform The transform to write.
+     *
+     * @throws IOException This exception is thrown if the file cannot be written.
+     * @throws IllegalStateException This exception is thrown if no track has
+     * been begun.
+     */
+    public final void write(MlTransform transform) throws IOException
+    {
+        transform.sync();
+        write(transform.mData, transform.mOffset);
+    }
+
+    /**
+     * Append a frame to the current track, given the 12 elements of the
+     * transform in row-major order.
+     *
+     * @param m The array containing the transform elements.
+     * @param offset The offset of the first element.
+     *
+     * @throws IOException This exception is thrown if the file cannot be written.
+     * @throws IllegalStateException This exception is thrown if no track has
+     * been begun.
+     */
+    public final void write(float[] m, int offset) throws IOException
+    {
+        if (mTrack < 0)
+            throw new IllegalStateException("No track has been begun.");
+        if ((offset < 0) || (offset > (m.length - MlTransform.ML_TRANSFORM_SIZE)))
+            throw new IndexOutOfBoundsException("Invalid transform offset " + offset + ".");
+        if (mFrameCounts[mTrack] == Integer.MAX_VALUE)
+            throw new IOException("Too many frames in track " + mTrack + ".");
+
+        if (mBuffer.remaining() < ML_CLIP_FRAME_SIZE)
+            drain();
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            mBuffer.putFloat(m[offset + i]);
+        mFrameCounts[mTrack]++;
+    }
+
+    /**
+     * Write the remaining frames and the track table, and close the channel.
+     * Tracks that were not begun are empty.
+     *
+     * @throws IOException This exception is thrown if the file cannot be written,
+     * or the channel cannot be closed.
+     */
+    public final void close() throws IOException
+    {
+        try
+        {
+            drain();
+
+            long end = mPosition;
+            for (int i = mTrack + 1; i < mOffsets.length; i++)
+                mOffsets[i] = end;
+
+            mBuffer.putInt(ML_CLIP_MAGIC);
+            mBuffer.putInt(ML_CLIP_VERSION);
+            mBuffer.putInt(mOffsets.length);
+            mBuffer.putFloat(mFrameRate);
+            mPosition = 0;
+            for (int i = 0; i < mOffsets.length; i++)
+            {
+                if (mBuffer.remaining() < ML_CLIP_TRACK_SIZE)
+                    drain();
+                mBuffer.putLong(mOffsets[i]);
+                mBuffer.putInt(mFrameCounts[i]);
+                mBuffer.putInt(ML_CLIP_FRAME_SIZE);
+            }
+            drain();
+        } finally
+        {
+            mChannel.close();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MlFixed.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * Utility class for 16.16 fixed-point scalars: an <code>int</code> holding a
+ * value times 0x10000, with 16 bits of integer part and 16 of fraction.
+ * <p>
+ * Every operation uses integer arithmetic only, with the rounding defined
+ * here, so the results are identical on every device and suit deterministic
+ * simulation. Products are rounded to the nearest value, with halves rounded
+ * up; quotients and square roots are truncated.
+ * </p>
+ */
+public class MlFixed
+{
+    /** The value: 0. */
+    public static final int ML_FIXED_ZERO = 0;
+    /** The value: 1. */
+    public static final int ML_FIXED_ONE  = 0x10000;
+    /** The value: 1/2. */
+    public static final int ML_FIXED_HALF = 0x8000;
+
+    /**
+     * Convert a float to fixed point, rounding to the nearest value.
+     *
+     * @param f The value to convert; values outside of the fixed-point range
+     * are clamped to it.
+     *
+     * @return The fixed-point value is returned.
+     */
+    public static final int floatToFixed(float f)
+    {
+        return Math.round(f * ML_FIXED_ONE);
+    }
+
+    /**
+     * Convert a fixed-point value to a float.
+     *
+     * @param x The value to convert.
+     *
+     * @return The float value is returned.
+     */
+    public static final float fixedToFloat(int x)
+    {
+        return x * (1.0f / ML_FIXED_ONE);
+    }
+
+    /**
+     * Multiply two fixed-point values.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     *
+     * @return The product is returned.
+     */
+    public static final int mul(int a, int b)
+    {
+        return round((long)a * b);
+    }
+
+    /**
+     * Divide two fixed-point values.
+     *
+     * @param a The dividend.
+     * @param b The divisor.
+     *
+     * @return The quotient is returned, truncated towards zero.
+     *
+     * @throws ArithmeticException This exception is thrown if <b>b</b> is zero.
+     */
+    public static final int div(int a, int b)
+    {
+        return (int)(((long)a << 16) / b);
+    }
+
+    /**
+     * Compute the square root of a fixed-point value.
+     *
+     * @param x The value.
+     *
+     * @return The square root is returned, truncated.
+     *
+     * @throws IllegalArgumentException This exception is thrown if <b>x</b>
+     * is negative.
+     */
+    public static final int sqrt(int x)
+    {
+        return (int)sqrt((long)x << 16);
+    }
+
+    // Round a value with 32 bits of fraction to 16.16.
+    static int round(long x)
+    {
+        return (int)((x + ML_FIXED_HALF) >> 16);
+    }
+
+    // Compute the integer square root of a long, truncated, one bit at a time.
+    static long sqrt(long x)
+    {
+        if (x < 0)
+            throw new IllegalArgumentException("Invalid value " + x + ".");
+
+        long root = 0;
+        long bit = 1L << 62;
+        while (bit > x)
+            bit >>= 2;
+        while (bit != 0)
+        {
+            if (x >= (root + bit))
+            {
+                x -= root + bit;
+                root = (root >> 1) + bit;
+            } else
+                root >>= 1;
+            bit >>= 2;
+        }
+        return root;
+    }
+
+    // Hide the default constructor.
+    private MlFixed() {}
+}
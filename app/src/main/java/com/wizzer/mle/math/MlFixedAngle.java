@@ -0,0 +1,159 @@
+/*
+ * MlFixedAngle.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * Utility class for integer angles, where 0x10000 is a full turn, and their
+ * 16.16 fixed-point sines and cosines.
+ * <p>
+ * An integer angle wraps with the <code>int</code> it is held in, so angles
+ * can be added without reduction. The sine is read from a table of a quarter
+ * turn, in 1024 steps, and interpolated in integer arithmetic; the result is
+ * within one unit in the last place of the exact value. The table is built
+ * once with <code>StrictMath</code>, whose results are specified to the bit,
+ * so every device computes the same sines.
+ * </p>
+ */
+public class MlFixedAngle
+{
+    /** The angle: 0. */
+    public static final int ML_FIXED_ANGLE_ZERO      = 0;
+    /** The angle: 2 * PI. */
+    public static final int ML_FIXED_ANGLE_TWO_PI    = 0x10000;
+    /** The angle: PI. */
+    public static final int ML_FIXED_ANGLE_PI        = 0x8000;
+    /** The angle: PI / 2. */
+    public static final int ML_FIXED_ANGLE_PI_HALF   = 0x4000;
+    /** The angle: PI / 4. */
+    public static final int ML_FIXED_ANGLE_PI_FOURTH = 0x2000;
+
+    // The number of steps in the table of a quarter turn.
+    private static final int ML_TABLE_STEPS = 1024;
+
+    // The sine, in 16.16, of each step of a quarter turn. The entry after the
+    // last mirrors the one before it, so interpolating at a quarter turn
+    // reads inside the table.
+    private static final int[] ML_SIN_TABLE = new int[ML_TABLE_STEPS + 2];
+
+    static
+    {
+        for (int i = 0; i <= ML_TABLE_STEPS; i++)
+            ML_SIN_TABLE[i] = (int)StrictMath.round(
+                StrictMath.sin((StrictMath.PI * i) / (2 * ML_TABLE_STEPS)) * MlFixed.ML_FIXED_ONE);
+        ML_SIN_TABLE[ML_TABLE_STEPS + 1] = ML_SIN_TABLE[ML_TABLE_STEPS - 1];
+    }
+
+    /**
+     * Convert an angle, in <code>MlAngle</code> units, to an integer angle,
+     * rounding to the nearest value.
+     *
+     * @param a The angle to convert.
+     *
+     * @return The integer angle is returned.
+     */
+    public static final int angleToFixed(float a)
+    {
+        return Math.round(a * ML_FIXED_ANGLE_TWO_PI);
+    }
+
+    /**
+     * Convert an integer angle to an angle, in <code>MlAngle</code> units.
+     *
+     * @param a The integer angle to convert.
+     *
+     * @return The angle is returned.
+     */
+    public static final float fixedToAngle(int a)
+    {
+        return a * (1.0f / ML_FIXED_ANGLE_TWO_PI);
+    }
+
+    // Look up the sine of an angle from 0 to a quarter turn.
+    private static int quarterSin(int u)
+    {
+        int i = u >> 4;
+        int s = ML_SIN_TABLE[i];
+        return s + ((((ML_SIN_TABLE[i + 1] - s) * (u & 15)) + 8) >> 4);
+    }
+
+    /**
+     * Compute the sine of an integer angle.
+     *
+     * @param a The angle.
+     *
+     * @return The sine is returned, in 16.16 fixed point.
+     */
+    public static final int sin(int a)
+    {
+        int u = a & (ML_FIXED_ANGLE_PI_HALF - 1);
+        int q = a >> 14;
+        int s = ((q & 1) == 0) ? quarterSin(u) : quarterSin(ML_FIXED_ANGLE_PI_HALF - u);
+        return ((q & 2) == 0) ? s : -s;
+    }
+
+    /**
+     * Compute the cosine of an integer angle.
+     *
+     * @param a The angle.
+     *
+     * @return The cosine is returned, in 16.16 fixed point.
+     */
+    public static final int cos(int a)
+    {
+        return sin(a + ML_FIXED_ANGLE_PI_HALF);
+    }
+
+    /**
+     * Compute the sine and cosine of an integer angle.
+     *
+     * @param a The angle.
+     * @param sc The array the sine is stored in, at <b>offset</b>, and the
+     * cosine, at <b>offset</b> + 1, in 16.16 fixed point.
+     * @param offset The index of the sine in <b>sc</b>.
+     */
+    public static final void sinCos(int a, int[] sc, int offset)
+    {
+        sc[offset] = sin(a);
+        sc[offset + 1] = sin(a + ML_FIXED_ANGLE_PI_HALF);
+    }
+
+    // Hide the default constructor.
+    private MlFixedAngle() {}
+}
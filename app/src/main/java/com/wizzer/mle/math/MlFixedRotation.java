@@ -0,0 +1,292 @@
+/*
+ * MlFixedRotation.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * A rotation, held as a unit quaternion of 16.16 fixed-point components, as
+ * <code>MlFixed</code> describes, in the order x, y, z, w of
+ * <code>MlRotation</code>.
+ * <p>
+ * The operations use integer arithmetic only, so they give identical results
+ * on every device; angles are <code>MlFixedAngle</code> integer angles.
+ * Products are accumulated in 64 bits and rounded once, and rotations are
+ * renormalized after each product, as <code>MlRotation</code> does.
+ * </p>
+ */
+public class MlFixedRotation
+{
+    // The internal quaternion representation.
+    public int[] mQuat = new int[4];
+
+    /**
+     * The default constructor. The rotation is initialized to the identity.
+     */
+    public MlFixedRotation()
+    {
+        super();
+        mQuat[3] = MlFixed.ML_FIXED_ONE;
+    }
+
+    /**
+     * A constructor given another rotation to initialize from.
+     *
+     * @param q The other rotation.
+     */
+    public MlFixedRotation(MlFixedRotation q)
+    {
+        setValue(q);
+    }
+
+    /**
+     * A constructor given a floating-point rotation to convert.
+     *
+     * @param q The floating-point rotation.
+     */
+    public MlFixedRotation(MlRotation q)
+    {
+        setValue(q);
+    }
+
+    /**
+     * A constructor given a rotation axis and an integer angle.
+     *
+     * @param axis The rotation axis vector.
+     * @param angle The angle, where 0x10000 is a full turn.
+     */
+    public MlFixedRotation(MlFixedVector3 axis, int angle)
+    {
+        setValue(axis, angle);
+    }
+
+    /**
+     * Set the value of the rotation from 4 fixed-point components of a
+     * quaternion, and normalize it.
+     *
+     * @param x The first component.
+     * @param y The second component.
+     * @param z The third component.
+     * @param w The fourth component.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation setValue(int x, int y, int z, int w)
+    {
+        mQuat[0] = x;
+        mQuat[1] = y;
+        mQuat[2] = z;
+        mQuat[3] = w;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Set the value of the rotation from another rotation.
+     *
+     * @param q The other rotation.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation setValue(MlFixedRotation q)
+    {
+        mQuat[0] = q.mQuat[0];
+        mQuat[1] = q.mQuat[1];
+        mQuat[2] = q.mQuat[2];
+        mQuat[3] = q.mQuat[3];
+        return this;
+    }
+
+    /**
+     * Set the value of the rotation from a floating-point rotation, rounding
+     * each component to the nearest fixed-point value.
+     *
+     * @param q The floating-point rotation.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation setValue(MlRotation q)
+    {
+        mQuat[0] = MlFixed.floatToFixed(q.mQuat[0]);
+        mQuat[1] = MlFixed.floatToFixed(q.mQuat[1]);
+        mQuat[2] = MlFixed.floatToFixed(q.mQuat[2]);
+        mQuat[3] = MlFixed.floatToFixed(q.mQuat[3]);
+        return this;
+    }
+
+    /**
+     * Set the value of the rotation from a rotation axis and an integer angle.
+     *
+     * @param axis The rotation axis vector; it need not be unit length.
+     * @param angle The angle, where 0x10000 is a full turn. The half angle
+     * is rounded down to an integer angle.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation setValue(MlFixedVector3 axis, int angle)
+    {
+        int x = axis.mVector[0];
+        int y = axis.mVector[1];
+        int z = axis.mVector[2];
+        int len = axis.length();
+        if (len != 0)
+        {
+            int s = MlFixedAngle.sin(angle >> 1);
+            x = MlFixed.mul(MlFixed.div(x, len), s);
+            y = MlFixed.mul(MlFixed.div(y, len), s);
+            z = MlFixed.mul(MlFixed.div(z, len), s);
+        }
+        mQuat[0] = x;
+        mQuat[1] = y;
+        mQuat[2] = z;
+        mQuat[3] = MlFixedAngle.cos(angle >> 1);
+        return this;
+    }
+
+    /**
+     * Get the value of the rotation as a floating-point rotation.
+     *
+     * @param q The floating-point rotation that is set.
+     */
+    public final void getValue(MlRotation q)
+    {
+        q.setValue(MlFixed.fixedToFloat(mQuat[0]), MlFixed.fixedToFloat(mQuat[1]),
+            MlFixed.fixedToFloat(mQuat[2]), MlFixed.fixedToFloat(mQuat[3]));
+    }
+
+    // Scale the quaternion to unit length, unless it is zero.
+    private void normalize()
+    {
+        long norm = ((long)mQuat[0] * mQuat[0]) + ((long)mQuat[1] * mQuat[1]) +
+            ((long)mQuat[2] * mQuat[2]) + ((long)mQuat[3] * mQuat[3]);
+        int len = (int)MlFixed.sqrt(norm);
+        if ((len != 0) && (len != MlFixed.ML_FIXED_ONE))
+        {
+            mQuat[0] = MlFixed.div(mQuat[0], len);
+            mQuat[1] = MlFixed.div(mQuat[1], len);
+            mQuat[2] = MlFixed.div(mQuat[2], len);
+            mQuat[3] = MlFixed.div(mQuat[3], len);
+        }
+    }
+
+    /**
+     * Changes a rotation to be its inverse.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation invert()
+    {
+        mQuat[0] = -mQuat[0];
+        mQuat[1] = -mQuat[1];
+        mQuat[2] = -mQuat[2];
+        return this;
+    }
+
+    /**
+     * Multiplies this rotation by another rotation;
+     * results in product of rotations, as <code>MlRotation.mul()</code> does.
+     *
+     * @param q The rotation to multiply with.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedRotation mul(MlFixedRotation q)
+    {
+        long x = mQuat[0];
+        long y = mQuat[1];
+        long z = mQuat[2];
+        long w = mQuat[3];
+        int p0 = MlFixed.round((q.mQuat[3] * x) + (q.mQuat[0] * w) +
+                               (q.mQuat[1] * z) - (q.mQuat[2] * y));
+        int p1 = MlFixed.round((q.mQuat[3] * y) + (q.mQuat[1] * w) +
+                               (q.mQuat[2] * x) - (q.mQuat[0] * z));
+        int p2 = MlFixed.round((q.mQuat[3] * z) + (q.mQuat[2] * w) +
+                               (q.mQuat[0] * y) - (q.mQuat[1] * x));
+        int p3 = MlFixed.round((q.mQuat[3] * w) - (q.mQuat[0] * x) -
+                               (q.mQuat[1] * y) - (q.mQuat[2] * z));
+        return setValue(p0, p1, p2, p3);
+    }
+
+    /**
+     * Puts the given vector through this rotation, as
+     * <code>MlRotation.multVec()</code> does.
+     *
+     * @param src The source vector.
+     * @param dst The result of the rotation; it may be <b>src</b>.
+     */
+    public final void multVec(MlFixedVector3 src, MlFixedVector3 dst)
+    {
+        long x = mQuat[0];
+        long y = mQuat[1];
+        long z = mQuat[2];
+        long w = mQuat[3];
+
+        // The rows of the rotation matrix, from the products with 32 bits of
+        // fraction doubled, as MlRotation.getValue(MlTransform) builds them.
+        int m00 = MlFixed.ML_FIXED_ONE - MlFixed.round(2 * ((y * y) + (z * z)));
+        int m01 = MlFixed.round(2 * ((x * y) + (z * w)));
+        int m02 = MlFixed.round(2 * ((z * x) - (y * w)));
+        int m10 = MlFixed.round(2 * ((x * y) - (z * w)));
+        int m11 = MlFixed.ML_FIXED_ONE - MlFixed.round(2 * ((z * z) + (x * x)));
+        int m12 = MlFixed.round(2 * ((y * z) + (x * w)));
+        int m20 = MlFixed.round(2 * ((z * x) + (y * w)));
+        int m21 = MlFixed.round(2 * ((y * z) - (x * w)));
+        int m22 = MlFixed.ML_FIXED_ONE - MlFixed.round(2 * ((y * y) + (x * x)));
+
+        long sx = src.mVector[0];
+        long sy = src.mVector[1];
+        long sz = src.mVector[2];
+        dst.setValue(MlFixed.round((sx * m00) + (sy * m10) + (sz * m20)),
+                     MlFixed.round((sx * m01) + (sy * m11) + (sz * m21)),
+                     MlFixed.round((sx * m02) + (sy * m12) + (sz * m22)));
+    }
+
+    /**
+     * Equality comparison.
+     *
+     * @param q The rotation to compare with.
+     *
+     * @return <b>true</b> is returned if every component is the same.
+     * Otherwise <b>false</b> is returned.
+     */
+    public final boolean equals(MlFixedRotation q)
+    {
+        return ((mQuat[0] == q.mQuat[0]) && (mQuat[1] == q.mQuat[1]) &&
+                (mQuat[2] == q.mQuat[2]) && (mQuat[3] == q.mQuat[3]));
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * MlFixedVector3.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * 3D vector used to represent points or directions.  Each component of
+ * the vector is a 16.16 fixed-point value, as <code>MlFixed</code> describes.
+ * <p>
+ * The operations use integer arithmetic only, so they give identical results
+ * on every device. Products are accumulated in 64 bits and rounded once. The
+ * length and normalization need components of magnitude below 16384.
+ * </p>
+ */
+public class MlFixedVector3
+{
+    // The internal vector representation.
+    public int[] mVector = new int[3];
+
+    /**
+     * The default constructor. All elements in the vector are
+     * initialized to zero.
+     */
+    public MlFixedVector3()
+    {
+        super();
+    }
+
+    /**
+     * A constructor given 3 individual fixed-point components
+     * to initialize from.
+     *
+     * @param x The x element.
+     * @param y The y element.
+     * @param z The z element.
+     */
+    public MlFixedVector3(int x, int y, int z)
+    {
+        mVector[0] = x;
+        mVector[1] = y;
+        mVector[2] = z;
+    }
+
+    /**
+     * A constructor given another vector to
+     * initialize from.
+     *
+     * @param v The other vector.
+     */
+    public MlFixedVector3(MlFixedVector3 v)
+    {
+        mVector[0] = v.mVector[0];
+        mVector[1] = v.mVector[1];
+        mVector[2] = v.mVector[2];
+    }
+
+    /**
+     * A constructor given a floating-point vector to convert.
+     *
+     * @param v The floating-point vector.
+     */
+    public MlFixedVector3(MlVector3 v)
+    {
+        setValue(v);
+    }
+
+    /**
+     * Set the value of the vector from 3 individual fixed-point components.
+     *
+     * @param x The x element.
+     * @param y The y element.
+     * @param z The z element.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 setValue(int x, int y, int z)
+    {
+        mVector[0] = x;
+        mVector[1] = y;
+        mVector[2] = z;
+        return this;
+    }
+
+    /**
+     * Set the value of the vector from another vector.
+     *
+     * @param v The other vector.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 setValue(MlFixedVector3 v)
+    {
+        mVector[0] = v.mVector[0];
+        mVector[1] = v.mVector[1];
+        mVector[2] = v.mVector[2];
+        return this;
+    }
+
+    /**
+     * Set the value of the vector from a floating-point vector, rounding each
+     * component to the nearest fixed-point value.
+     *
+     * @param v The floating-point vector.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 setValue(MlVector3 v)
+    {
+        mVector[0] = MlFixed.floatToFixed(v.mVector[0]);
+        mVector[1] = MlFixed.floatToFixed(v.mVector[1]);
+        mVector[2] = MlFixed.floatToFixed(v.mVector[2]);
+        return this;
+    }
+
+    /**
+     * Get the value of the vector as a floating-point vector.
+     *
+     * @param v The floating-point vector that is set.
+     */
+    public final void getValue(MlVector3 v)
+    {
+        v.setValue(MlFixed.fixedToFloat(mVector[0]),
+            MlFixed.fixedToFloat(mVector[1]),
+            MlFixed.fixedToFloat(mVector[2]));
+    }
+
+    /**
+     * Determine if the vector is set to [0 0 0].
+     *
+     * @return Returns <b>true</b> if all elements are zero.
+     * Otherwise, returns <b>false</b>.
+     */
+    public final boolean isZero()
+    {
+        return ((mVector[0] == 0) &&
+                (mVector[1] == 0) &&
+                (mVector[2] == 0));
+    }
+
+    /**
+     * Calculate the dot product of this vector and the passed argument <b>v</b>.
+     *
+     * @param v The other vector.
+     *
+     * @return The dot product is returned, in fixed point.
+     */
+    public final int dot(MlFixedVector3 v)
+    {
+        return MlFixed.round(((long)mVector[0] * v.mVector[0]) +
+            ((long)mVector[1] * v.mVector[1]) +
+            ((long)mVector[2] * v.mVector[2]));
+    }
+
+    /**
+     * Calculate the right-handed cross product of this vector and the passed
+     * argument <b>v</b>.
+     *
+     * @param v The other vector.
+     * @param result The vector the product is stored in; it may be this
+     * vector or <b>v</b>.
+     *
+     * @return <b>result</b> is returned.
+     */
+    public final MlFixedVector3 cross(MlFixedVector3 v, MlFixedVector3 result)
+    {
+        int x = MlFixed.round(((long)mVector[1] * v.mVector[2]) - ((long)mVector[2] * v.mVector[1]));
+        int y = MlFixed.round(((long)mVector[2] * v.mVector[0]) - ((long)mVector[0] * v.mVector[2]));
+        int z = MlFixed.round(((long)mVector[0] * v.mVector[1]) - ((long)mVector[1] * v.mVector[0]));
+        return result.setValue(x, y, z);
+    }
+
+    /**
+     * Get the length of the vector.
+     *
+     * @return Returns geometric length of vector, in fixed point, truncated.
+     */
+    public final int length()
+    {
+        // The square root of a sum of squares with 32 bits of fraction has 16.
+        return (int)MlFixed.sqrt(((long)mVector[0] * mVector[0]) +
+            ((long)mVector[1] * mVector[1]) +
+            ((long)mVector[2] * mVector[2]));
+    }
+
+    /**
+     * Normalize the vector.
+     * <p>
+     * Changes vector to be unit length, unless it is zero.
+     * </p>
+     *
+     * @return The original length is returned, in fixed point.
+     */
+    public final int normalize()
+    {
+        int len = length();
+        if (len != 0)
+        {
+            mVector[0] = MlFixed.div(mVector[0], len);
+            mVector[1] = MlFixed.div(mVector[1], len);
+            mVector[2] = MlFixed.div(mVector[2], len);
+        }
+        return len;
+    }
+
+    /**
+     * Multiply the vector by a fixed-point value.
+     *
+     * @param d The value.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 mul(int d)
+    {
+        mVector[0] = MlFixed.mul(mVector[0], d);
+        mVector[1] = MlFixed.mul(mVector[1], d);
+        mVector[2] = MlFixed.mul(mVector[2], d);
+        return this;
+    }
+
+    /**
+     * Add a vector to this vector.
+     *
+     * @param v The vector to add.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 add(MlFixedVector3 v)
+    {
+        mVector[0] += v.mVector[0];
+        mVector[1] += v.mVector[1];
+        mVector[2] += v.mVector[2];
+        return this;
+    }
+
+    /**
+     * Subtract a vector from this vector.
+     *
+     * @param v The vector to subtract.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlFixedVector3 sub(MlFixedVector3 v)
+    {
+        mVector[0] -= v.mVector[0];
+        mVector[1] -= v.mVector[1];
+        mVector[2] -= v.mVector[2];
+        return this;
+    }
+
+    /**
+     * Equality comparison.
+     *
+     * @param v The vector to compare with.
+     *
+     * @return <b>true</b> is returned if every component is the same.
+     * Otherwise <b>false</b> is returned.
+     */
+    public final boolean equals(MlFixedVector3 v)
+    {
+        return ((mVector[0] == v.mVector[0]) &&
+                (mVector[1] == v.mVector[1]) &&
+                (mVector[2] == v.mVector[2]));
+    }
+}
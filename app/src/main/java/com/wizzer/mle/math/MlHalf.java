@@ -0,0 +1,746 @@
+/*
+ * MlHalf.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The <code>MlHalf</code> class provides conversions of <code>float</code>s
+ * and the Magic Lantern math data types to and from IEEE 754 half-precision
+ * (binary16) values.
+ * <p>
+ * A half-precision value has an 11-bit significand and a range of
+ * &plusmn;65504, which is enough for normals, texture coordinates and colors,
+ * at half the size of a <code>float</code>. Conversions to half precision
+ * round to the nearest value, ties to even; values too large for half
+ * precision become infinities, and NaNs are kept. The conversions are done
+ * with integer operations, so they do not rely on
+ * <code>Float.floatToFloat16()</code>.
+ * </p><p>
+ * The byte array conversions store each value in 2 bytes, in big-endian
+ * order like those of <code>MlMath</code>. The buffer conversions use the
+ * byte order of the buffer.
+ * </p>
+ */
+public class MlHalf
+{
+    /** The largest finite half-precision value: 65504. */
+    public static final float ML_HALF_MAX = 65504.0f;
+
+    // The value of the least significant bit of a subnormal half: 2^-24.
+    private static final float ML_HALF_MIN_SUBNORMAL = 5.9604645e-8f;
+
+    // The hidden class constructor.
+    private MlHalf()
+    {
+        super();
+    }
+
+    /**
+     * Convert a <code>float</code> to half precision.
+     *
+     * @param f The value to convert.
+     *
+     * @return The nearest half-precision value is returned, as its 16 bits.
+     */
+    static public short floatToHalf(float f)
+    {
+        int bits = Float.floatToRawIntBits(f);
+        int sign = (bits >>> 16) & 0x8000;
+        int abs = bits & 0x7fffffff;
+
+        if (abs >= 0x7f800000)
+        {
+            // Infinity, or NaN keeping the top of its payload.
+            if (abs == 0x7f800000)
+                return (short)(sign | 0x7c00);
+            return (short)(sign | 0x7e00 | ((abs >>> 13) & 0x3ff));
+        }
+        if (abs >= 0x477ff000)
+        {
+            // Rounds to more than ML_HALF_MAX.
+            return (short)(sign | 0x7c00);
+        }
+        if (abs >= 0x38800000)
+        {
+            // Normal: rebias the exponent from 127 to 15 and round off 13 bits.
+            int h = (abs - 0x38000000) >>> 13;
+            int rem = abs & 0x1fff;
+            if ((rem > 0x1000) || ((rem == 0x1000) && ((h & 1) != 0)))
+                h++;
+            return (short)(sign | h);
+        }
+        if (abs <= 0x33000000)
+        {
+            // Rounds to zero; 2^-25 is a tie, rounded to the even zero.
+            return (short)sign;
+        }
+
+        // Subnormal: shift the significand into units of 2^-24.
+        int shift = 126 - (abs >>> 23);
+        int m = (abs & 0x7fffff) | 0x800000;
+        int h = m >>> shift;
+        int rem = m & ((1 << shift) - 1);
+        int half = 1 << (shift - 1);
+        if ((rem > half) || ((rem == half) && ((h & 1) != 0)))
+            h++;
+        return (short)(sign | h);
+    }
+
+    /**
+     * Convert a half-precision value to a <code>float</code>. The conversion
+     * is exact.
+     *
+     * @param h The 16 bits of the half-precision value.
+     *
+     * @return The value is returned.
+     */
+    static public float halfToFloat(short h)
+    {
+        int sign = (h & 0x8000) << 16;
+        int exponent = (h >>> 10) & 0x1f;
+        int mantissa = h & 0x3ff;
+
+        if (exponent == 0x1f)
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        if (exponent != 0)
+            return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+
+        float f = mantissa * ML_HALF_MIN_SUBNORMAL;
+        return (sign != 0) ? -f : f;
+    }
+
+    /**
+     * Convert an array of <code>float</code>s to half precision.
+     *
+     * @param src The values to convert.
+     * @param srcOffset The index of the first value to convert.
+     * @param dst The array the half-precision values are stored in.
+     * @param dstOffset The index to store the first value at.
+     * @param count The number of values to convert.
+     */
+    static public void convertFloatArrayToHalfArray(float[] src, int srcOffset,
+        short[] dst, int dstOffset, int count)
+    {
+        checkArray(src.length, srcOffset, count);
+        checkArray(dst.length, dstOffset, count);
+
+        for (int i = 0; i < count; i++)
+            dst[dstOffset + i] = floatToHalf(src[srcOffset + i]);
+    }
+
+    /**
+     * Convert an array of half-precision values to <code>float</code>s.
+     *
+     * @param src The half-precision values to convert.
+     * @param srcOffset The index of the first value to convert.
+     * @param dst The array the values are stored in.
+     * @param dstOffset The index to store the first value at.
+     * @param count The number of values to convert.
+     */
+    static public void convertHalfArrayToFloatArray(short[] src, int srcOffset,
+        float[] dst, int dstOffset, int count)
+    {
+        checkArray(src.length, srcOffset, count);
+        checkArray(dst.length, dstOffset, count);
+
+        for (int i = 0; i < count; i++)
+            dst[dstOffset + i] = halfToFloat(src[srcOffset + i]);
+    }
+
+    // Check that count elements starting at offset fit in an array.
+    private static void checkArray(int length, int offset, int count)
+    {
+        if ((offset < 0) || (count < 0) || (offset > (length - count)))
+            throw new IndexOutOfBoundsException("Invalid array range.");
+    }
+
+    // Check that the array holds count values of n components starting at
+    // offset.
+    private static void checkLength(byte[] data, int offset, int count, int n)
+        throws IOException
+    {
+        if ((offset < 0) || (count < 0) || ((data.length - offset) < ((long)count * n * 2)))
+            throw new IOException("Invalid data array length.");
+    }
+
+    // Store n values in half precision, most significant byte first.
+    private static void put(byte[] data, int offset, float[] v, int first, int n)
+    {
+        for (int i = first, end = first + n; i < end; i++, offset += 2)
+        {
+            int h = floatToHalf(v[i]);
+            data[offset]     = (byte)(h >>> 8);
+            data[offset + 1] = (byte)h;
+        }
+    }
+
+    // Load n values from half precision, most significant byte first.
+    private static void get(byte[] data, int offset, float[] v, int first, int n)
+    {
+        for (int i = first, end = first + n; i < end; i++, offset += 2)
+            v[i] = halfToFloat((short)((data[offset] << 8) | (data[offset + 1] & 0xff)));
+    }
+
+    /**
+     * Convert a <code>MlVector2</code> into 4 bytes of a byte array.
+     *
+     * @param offset The offset in the array to store the vector at.
+     * @param data The array the vector is stored in.
+     * @param vector The vector to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b>.
+     */
+    static public void convertVector2ToByteArray(int offset, byte[] data, MlVector2 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 2);
+        put(data, offset, vector.mVector, 0, 2);
+    }
+
+    /**
+     * Convert 4 bytes of a byte array into a <code>MlVector2</code>.
+     *
+     * @param offset The offset in the array of the vector.
+     * @param data The array the vector is stored in.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b>.
+     */
+    static public void convertByteArrayToVector2(int offset, byte[] data, MlVector2 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 2);
+        get(data, offset, vector.mVector, 0, 2);
+    }
+
+    /**
+     * Convert a <code>MlVector3</code> into 6 bytes of a byte array.
+     *
+     * @param offset The offset in the array to store the vector at.
+     * @param data The array the vector is stored in.
+     * @param vector The vector to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>6</b>.
+     */
+    static public void convertVector3ToByteArray(int offset, byte[] data, MlVector3 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 3);
+        put(data, offset, vector.mVector, 0, 3);
+    }
+
+    /**
+     * Convert 6 bytes of a byte array into a <code>MlVector3</code>.
+     *
+     * @param offset The offset in the array of the vector.
+     * @param data The array the vector is stored in.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>6</b>.
+     */
+    static public void convertByteArrayToVector3(int offset, byte[] data, MlVector3 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 3);
+        get(data, offset, vector.mVector, 0, 3);
+    }
+
+    /**
+     * Convert a <code>MlVector4</code> into 8 bytes of a byte array.
+     *
+     * @param offset The offset in the array to store the vector at.
+     * @param data The array the vector is stored in.
+     * @param vector The vector to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>8</b>.
+     */
+    static public void convertVector4ToByteArray(int offset, byte[] data, MlVector4 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 4);
+        put(data, offset, vector.mVector, 0, 4);
+    }
+
+    /**
+     * Convert 8 bytes of a byte array into a <code>MlVector4</code>.
+     *
+     * @param offset The offset in the array of the vector.
+     * @param data The array the vector is stored in.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>8</b>.
+     */
+    static public void convertByteArrayToVector4(int offset, byte[] data, MlVector4 vector)
+        throws IOException
+    {
+        checkLength(data, offset, 1, 4);
+        get(data, offset, vector.mVector, 0, 4);
+    }
+
+    /**
+     * Convert an array of <code>float</code>s into a byte array, 2 bytes per value.
+     *
+     * @param offset The offset in the array to store the first value at.
+     * @param data The array the values are stored in.
+     * @param values The values to convert.
+     * @param first The index of the first value to convert.
+     * @param count The number of values to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>2</b> times <b>count</b>.
+     */
+    static public void convertFloatArrayToByteArray(int offset, byte[] data,
+        float[] values, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 1);
+        put(data, offset, values, first, count);
+    }
+
+    /**
+     * Convert a byte array, 2 bytes per value, into an array of <code>float</code>s.
+     *
+     * @param offset The offset in the array of the first value.
+     * @param data The array the values are stored in.
+     * @param values The output array that will contain the results.
+     * @param first The index of the first value to set.
+     * @param count The number of values to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>2</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToFloatArray(int offset, byte[] data,
+        float[] values, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 1);
+        get(data, offset, values, first, count);
+    }
+
+    /**
+     * Convert an array of <code>MlVector2</code>s into a byte array, 4 bytes
+     * per vector.
+     *
+     * @param offset The offset in the array to store the first vector at.
+     * @param data The array the vectors are stored in.
+     * @param vectors The vectors to convert.
+     * @param first The index of the first vector to convert.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b> times <b>count</b>.
+     */
+    static public void convertVector2ArrayToByteArray(int offset, byte[] data,
+        MlVector2[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 2);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 4)
+            put(data, offset, vectors[i].mVector, 0, 2);
+    }
+
+    /**
+     * Convert a byte array, 4 bytes per vector, into an array of
+     * <code>MlVector2</code>s.
+     *
+     * @param offset The offset in the array of the first vector.
+     * @param data The array the vectors are stored in.
+     * @param vectors The output vectors that will contain the results.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToVector2Array(int offset, byte[] data,
+        MlVector2[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 2);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 4)
+            get(data, offset, vectors[i].mVector, 0, 2);
+    }
+
+    /**
+     * Convert an array of <code>MlVector3</code>s into a byte array, 6 bytes
+     * per vector.
+     *
+     * @param offset The offset in the array to store the first vector at.
+     * @param data The array the vectors are stored in.
+     * @param vectors The vectors to convert.
+     * @param first The index of the first vector to convert.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>6</b> times <b>count</b>.
+     */
+    static public void convertVector3ArrayToByteArray(int offset, byte[] data,
+        MlVector3[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 3);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 6)
+            put(data, offset, vectors[i].mVector, 0, 3);
+    }
+
+    /**
+     * Convert a byte array, 6 bytes per vector, into an array of
+     * <code>MlVector3</code>s.
+     *
+     * @param offset The offset in the array of the first vector.
+     * @param data The array the vectors are stored in.
+     * @param vectors The output vectors that will contain the results.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>6</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToVector3Array(int offset, byte[] data,
+        MlVector3[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 3);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 6)
+            get(data, offset, vectors[i].mVector, 0, 3);
+    }
+
+    /**
+     * Convert an array of <code>MlVector4</code>s into a byte array, 8 bytes
+     * per vector.
+     *
+     * @param offset The offset in the array to store the first vector at.
+     * @param data The array the vectors are stored in.
+     * @param vectors The vectors to convert.
+     * @param first The index of the first vector to convert.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>8</b> times <b>count</b>.
+     */
+    static public void convertVector4ArrayToByteArray(int offset, byte[] data,
+        MlVector4[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 4);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 8)
+            put(data, offset, vectors[i].mVector, 0, 4);
+    }
+
+    /**
+     * Convert a byte array, 8 bytes per vector, into an array of
+     * <code>MlVector4</code>s.
+     *
+     * @param offset The offset in the array of the first vector.
+     * @param data The array the vectors are stored in.
+     * @param vectors The output vectors that will contain the results.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>8</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToVector4Array(int offset, byte[] data,
+        MlVector4[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 4);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 8)
+            get(data, offset, vectors[i].mVector, 0, 4);
+    }
+
+    /**
+     * Convert an array of <code>MlTransform</code>s into a byte array, 24
+     * bytes per transform holding its 12 elements in row-major order.
+     * <p>
+     * Half precision keeps about 3 significant digits, so this suits
+     * transforms with small translations, such as those of a skeleton.
+     * </p>
+     *
+     * @param offset The offset in the array to store the first transform at.
+     * @param data The array the transforms are stored in.
+     * @param transforms The transforms to convert.
+     * @param first The index of the first transform to convert.
+     * @param count The number of transforms to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>24</b> times <b>count</b>.
+     */
+    static public void convertTransformArrayToByteArray(int offset, byte[] data,
+        MlTransform[] transforms, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, MlTransform.ML_TRANSFORM_SIZE);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 24)
+        {
+            MlTransform t = transforms[i];
+            t.sync();
+            put(data, offset, t.mData, t.mOffset, MlTransform.ML_TRANSFORM_SIZE);
+        }
+    }
+
+    /**
+     * Convert a byte array, 24 bytes per transform, into an array of
+     * <code>MlTransform</code>s.
+     *
+     * @param offset The offset in the array of the first transform.
+     * @param data The array the transforms are stored in.
+     * @param transforms The output transforms that will contain the results.
+     * @param first The index of the first transform to set.
+     * @param count The number of transforms to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>24</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToTransformArray(int offset, byte[] data,
+        MlTransform[] transforms, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, MlTransform.ML_TRANSFORM_SIZE);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 24)
+        {
+            MlTransform t = transforms[i];
+            get(data, offset, t.mData, t.mOffset, MlTransform.ML_TRANSFORM_SIZE);
+            t.changed();
+        }
+    }
+
+    // Write n values in half precision at the position of the buffer.
+    private static void write(ByteBuffer buffer, float[] v, int first, int n)
+    {
+        if (buffer.remaining() < (n * 2))
+            throw new BufferOverflowException();
+
+        for (int i = first, end = first + n; i < end; i++)
+            buffer.putShort(floatToHalf(v[i]));
+    }
+
+    // Read n values in half precision from the position of the buffer.
+    private static void read(ByteBuffer buffer, float[] v, int first, int n)
+    {
+        if (buffer.remaining() < (n * 2))
+            throw new BufferUnderflowException();
+
+        for (int i = first, end = first + n; i < end; i++)
+            v[i] = halfToFloat(buffer.getShort());
+    }
+
+    /**
+     * Write a <code>MlVector2</code> in half precision at the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>4</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector2(ByteBuffer buffer, MlVector2 vector)
+    {
+        write(buffer, vector.mVector, 0, 2);
+    }
+
+    /**
+     * Read a <code>MlVector2</code> in half precision from the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>4</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector2(ByteBuffer buffer, MlVector2 vector)
+    {
+        read(buffer, vector.mVector, 0, 2);
+    }
+
+    /**
+     * Write a <code>MlVector3</code> in half precision at the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>6</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector3(ByteBuffer buffer, MlVector3 vector)
+    {
+        write(buffer, vector.mVector, 0, 3);
+    }
+
+    /**
+     * Read a <code>MlVector3</code> in half precision from the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>6</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector3(ByteBuffer buffer, MlVector3 vector)
+    {
+        read(buffer, vector.mVector, 0, 3);
+    }
+
+    /**
+     * Write a <code>MlVector4</code> in half precision at the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>8</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector4(ByteBuffer buffer, MlVector4 vector)
+    {
+        write(buffer, vector.mVector, 0, 4);
+    }
+
+    /**
+     * Read a <code>MlVector4</code> in half precision from the current position
+     * of a buffer, in the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>8</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector4(ByteBuffer buffer, MlVector4 vector)
+    {
+        read(buffer, vector.mVector, 0, 4);
+    }
+
+    /**
+     * Write an array of <code>float</code>s in half precision at the current
+     * position of a buffer, in the byte order of the buffer, and advance the
+     * position.
+     *
+     * @param buffer The buffer to write to.
+     * @param values The values to write.
+     * @param first The index of the first value to write.
+     * @param count The number of values to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>2</b> times <b>count</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeFloatArray(ByteBuffer buffer, float[] values, int first, int count)
+    {
+        checkArray(values.length, first, count);
+        write(buffer, values, first, count);
+    }
+
+    /**
+     * Read an array of <code>float</code>s in half precision from the current
+     * position of a buffer, in the byte order of the buffer, and advance the
+     * position.
+     *
+     * @param buffer The buffer to read from.
+     * @param values The output array that will contain the results.
+     * @param first The index of the first value to set.
+     * @param count The number of values to read.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>2</b> times <b>count</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readFloatArray(ByteBuffer buffer, float[] values, int first, int count)
+    {
+        checkArray(values.length, first, count);
+        read(buffer, values, first, count);
+    }
+
+    /**
+     * Write a <code>MlTransform</code> in half precision at the current
+     * position of a buffer, in the byte order of the buffer, and advance the
+     * position. The 12 elements of the transform are written in row-major order.
+     *
+     * @param buffer The buffer to write to.
+     * @param transform The transform to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>24</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeTransform(ByteBuffer buffer, MlTransform transform)
+    {
+        transform.sync();
+        write(buffer, transform.mData, transform.mOffset, MlTransform.ML_TRANSFORM_SIZE);
+    }
+
+    /**
+     * Read a <code>MlTransform</code> in half precision from the current
+     * position of a buffer, in the byte order of the buffer, and advance the
+     * position.
+     *
+     * @param buffer The buffer to read from.
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>24</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readTransform(ByteBuffer buffer, MlTransform transform)
+    {
+        read(buffer, transform.mData, transform.mOffset, MlTransform.ML_TRANSFORM_SIZE);
+        transform.changed();
+    }
+}
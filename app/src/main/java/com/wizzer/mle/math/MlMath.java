@@ -41,6 +41,8 @@ package com.wizzer.mle.math;
 
 // Import Java packages.
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
@@ -50,6 +52,52 @@ import java.nio.ByteOrder;
  */
 public class MlMath
 {
+    // Check that n bytes starting at offset fit in the array.
+    private static void checkRange(byte[] b, int offset, int n)
+    {
+        if ((offset < 0) || (offset > (b.length - n)))
+            throw new IndexOutOfBoundsException("Invalid offset " + offset + ".");
+    }
+
+    // Store an int in 4 bytes, most significant byte first.
+    private static void putInt(byte[] b, int offset, int i)
+    {
+        b[offset]     = (byte)(i >>> 24);
+        b[offset + 1] = (byte)(i >>> 16);
+        b[offset + 2] = (byte)(i >>> 8);
+        b[offset + 3] = (byte)i;
+    }
+
+    // Load an int from 4 bytes, most significant byte first.
+    private static int getInt(byte[] b, int offset)
+    {
+        return (b[offset] << 24) |
+               ((b[offset + 1] & 0xff) << 16) |
+               ((b[offset + 2] & 0xff) << 8) |
+               (b[offset + 3] & 0xff);
+    }
+
+    // Store a float in 4 bytes, in big-endian order.
+    private static void putFloat(byte[] b, int offset, float f)
+    {
+        putInt(b, offset, Float.floatToRawIntBits(f));
+    }
+
+    // Load a float from 4 bytes, in big-endian order.
+    private static float getFloat(byte[] b, int offset)
+    {
+        return Float.intBitsToFloat(getInt(b, offset));
+    }
+
+    // Check that the array holds count elements of the specified size
+    // starting at offset.
+    private static void checkLength(byte[] data, int offset, int count, int size)
+        throws IOException
+    {
+        if ((count < 0) || ((data.length - offset) < ((long)count * size)))
+            throw new IOException("Invalid data array length.");
+    }
+
     /**
      * Convert an <code>integer</code> into a byte array.
      *
@@ -61,7 +109,8 @@ public class MlMath
      * or <code>LITTLE_ENDIAN</code>.
      */
     static public void convertIntegerToByteArray(int i, byte[] b, int offset, ByteOrder type) {
-        ByteBuffer.wrap(b, offset, 4).order(type).putInt(i);
+        checkRange(b, offset, 4);
+        putInt(b, offset, (type == ByteOrder.BIG_ENDIAN) ? i : Integer.reverseBytes(i));
     }
 
     /**
@@ -76,7 +125,9 @@ public class MlMath
      * @return An <code>integer</code> will be returned.
      */
     static public int convertByteArrayToInteger(byte[] b, int offset, ByteOrder type) {
-        return ByteBuffer.wrap(b, offset, 4).order(type).getInt();
+        checkRange(b, offset, 4);
+        int i = getInt(b, offset);
+        return (type == ByteOrder.BIG_ENDIAN) ? i : Integer.reverseBytes(i);
     }
 
     /**
@@ -90,7 +141,7 @@ public class MlMath
      * or <code>LITTLE_ENDIAN</code>.
      */
     static public void convertFloatToByteArray(float f, byte[] b, int offset, ByteOrder type) {
-        ByteBuffer.wrap(b, offset, 4).order(type).putFloat(f);
+        convertIntegerToByteArray(Float.floatToRawIntBits(f), b, offset, type);
     }
 
     /**
@@ -105,7 +156,7 @@ public class MlMath
      * @return A <code>float</code> will be returned.
      */
     static public float convertByteArrayToFloat(byte[] b, int offset, ByteOrder type) {
-        return ByteBuffer.wrap(b, offset, 4).order(type).getFloat();
+        return Float.intBitsToFloat(convertByteArrayToInteger(b, offset, type));
     }
 
     /**
@@ -119,7 +170,12 @@ public class MlMath
      * or <code>LITTLE_ENDIAN</code>.
      */
     static public void convertDoubleToByteArray(double d, byte[] b, int offset, ByteOrder type) {
-        ByteBuffer.wrap(b, offset, 8).order(type).putDouble(d);
+        checkRange(b, offset, 8);
+        long l = Double.doubleToRawLongBits(d);
+        if (type != ByteOrder.BIG_ENDIAN)
+            l = Long.reverseBytes(l);
+        putInt(b, offset, (int)(l >>> 32));
+        putInt(b, offset + 4, (int)l);
     }
 
     /**
@@ -134,7 +190,11 @@ public class MlMath
      * @return A <code>double</code> will be returned.
      */
     static public double convertByteArrayToDouble(byte[] b, int offset, ByteOrder type) {
-        return ByteBuffer.wrap(b, offset, 8).order(type).getDouble();
+        checkRange(b, offset, 8);
+        long l = ((long)getInt(b, offset) << 32) | (getInt(b, offset + 4) & 0xffffffffL);
+        if (type != ByteOrder.BIG_ENDIAN)
+            l = Long.reverseBytes(l);
+        return Double.longBitsToDouble(l);
     }
 
     /**
@@ -155,8 +215,8 @@ public class MlMath
             throw new IOException("Invalid data array length.");
 
         float v[] = vector.mVector;
-        convertFloatToByteArray(v[0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1], data, offset, ByteOrder.BIG_ENDIAN);
+        putFloat(data, offset, v[0]); offset += 4;
+        putFloat(data, offset, v[1]);
     }
 
     /**
@@ -176,8 +236,8 @@ public class MlMath
         if ((data.length - offset) < 8)
             throw new IOException("Invalid data array length.");
 
-        float x = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float y = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN);
+        float x = getFloat(data, offset); offset += 4;
+        float y = getFloat(data, offset);
         vector.setValue(x, y);
     }
 
@@ -199,9 +259,9 @@ public class MlMath
             throw new IOException("Invalid data array length.");
 
         float v[] = vector.mVector;
-        convertFloatToByteArray(v[0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2], data, offset, ByteOrder.BIG_ENDIAN);
+        putFloat(data, offset, v[0]); offset += 4;
+        putFloat(data, offset, v[1]); offset += 4;
+        putFloat(data, offset, v[2]);
     }
 
     /**
@@ -221,9 +281,9 @@ public class MlMath
         if ((data.length - offset) < 12)
             throw new IOException("Invalid data array length.");
 
-        float x = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float y = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float z = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN);
+        float x = getFloat(data, offset); offset += 4;
+        float y = getFloat(data, offset); offset += 4;
+        float z = getFloat(data, offset);
         vector.setValue(x, y, z);
     }
 
@@ -245,10 +305,10 @@ public class MlMath
             throw new IOException("Invalid data array length.");
 
         float v[] = vector.mVector;
-        convertFloatToByteArray(v[0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[3], data, offset, ByteOrder.BIG_ENDIAN);
+        putFloat(data, offset, v[0]); offset += 4;
+        putFloat(data, offset, v[1]); offset += 4;
+        putFloat(data, offset, v[2]); offset += 4;
+        putFloat(data, offset, v[3]);
     }
 
     /**
@@ -268,10 +328,10 @@ public class MlMath
         if ((data.length - offset) < 16)
             throw new IOException("Invalid data array length.");
 
-        float x = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float y = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float z = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        float w = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN);
+        float x = getFloat(data, offset); offset += 4;
+        float y = getFloat(data, offset); offset += 4;
+        float z = getFloat(data, offset); offset += 4;
+        float w = getFloat(data, offset);
         vector.setValue(x, y, z, w);
     }
 
@@ -292,19 +352,11 @@ public class MlMath
         if ((data.length - offset) < 48)
             throw new IOException("Invalid data array length.");
 
-        float v[][] = transform.mMatrix;
-        convertFloatToByteArray(v[0][0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[0][1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[0][2], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1][0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1][1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1][2], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2][0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2][1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2][2], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[3][0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[3][1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[3][2], data, offset, ByteOrder.BIG_ENDIAN);
+        transform.sync();
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++, offset += 4)
+            putFloat(data, offset, m[o + i]);
     }
 
     /**
@@ -324,20 +376,11 @@ public class MlMath
         if ((data.length - offset) < 48)
             throw new IOException("Invalid data array length.");
 
-        float v[][] = new float[4][3];
-        v[0][0] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[0][1] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[0][2] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[1][0] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[1][1] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[1][2] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[2][0] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[2][1] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[2][2] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[3][0] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[3][1] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[3][2] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN);
-        transform.setValue(v);
+        transform.setValue(
+            getFloat(data, offset),      getFloat(data, offset + 4),  getFloat(data, offset + 8),
+            getFloat(data, offset + 12), getFloat(data, offset + 16), getFloat(data, offset + 20),
+            getFloat(data, offset + 24), getFloat(data, offset + 28), getFloat(data, offset + 32),
+            getFloat(data, offset + 36), getFloat(data, offset + 40), getFloat(data, offset + 44));
     }
 
     /**
@@ -358,10 +401,10 @@ public class MlMath
             throw new IOException("Invalid data array length.");
 
         float v[] = rotation.mQuat;
-        convertFloatToByteArray(v[0], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[1], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[2], data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        convertFloatToByteArray(v[3], data, offset, ByteOrder.BIG_ENDIAN);
+        putFloat(data, offset, v[0]); offset += 4;
+        putFloat(data, offset, v[1]); offset += 4;
+        putFloat(data, offset, v[2]); offset += 4;
+        putFloat(data, offset, v[3]);
     }
 
     /**
@@ -381,12 +424,563 @@ public class MlMath
         if ((data.length - offset) < 16)
             throw new IOException("Invalid data array length.");
 
-        float v[] = new float[4];
-        v[0] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[1] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[2] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN); offset += 4;
-        v[3] = convertByteArrayToFloat(data, offset, ByteOrder.BIG_ENDIAN);
-        rotation.setValue(v);
+        float x = getFloat(data, offset); offset += 4;
+        float y = getFloat(data, offset); offset += 4;
+        float z = getFloat(data, offset); offset += 4;
+        float w = getFloat(data, offset);
+        rotation.setValue(x, y, z, w);
+    }
+
+    /**
+     * Convert an array of <code>float</code>s into a byte array, in big-endian order.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The array the values are stored in.
+     * @param values The values to convert.
+     * @param first The index of the first value to convert.
+     * @param count The number of values to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b> times <b>count</b>.
+     */
+    static public void convertFloatArrayToByteArray(int offset, byte[] data,
+        float[] values, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 4);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 4)
+            putFloat(data, offset, values[i]);
+    }
+
+    /**
+     * Convert a byte array, in big-endian order, into an array of <code>float</code>s.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param values The output array that will contain the results.
+     * @param first The index of the first value to store.
+     * @param count The number of values to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>4</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToFloatArray(int offset, byte[] data,
+        float[] values, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 4);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 4)
+            values[i] = getFloat(data, offset);
+    }
+
+    /**
+     * Convert an array of <code>MlVector3</code>s into a byte array. Each vector
+     * is stored as by <code>convertVector3ToByteArray()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The array the vectors are stored in.
+     * @param vectors The vectors to convert.
+     * @param first The index of the first vector to convert.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>12</b> times <b>count</b>.
+     */
+    static public void convertVector3ArrayToByteArray(int offset, byte[] data,
+        MlVector3[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 12);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 12)
+        {
+            float v[] = vectors[i].mVector;
+            putFloat(data, offset, v[0]);
+            putFloat(data, offset + 4, v[1]);
+            putFloat(data, offset + 8, v[2]);
+        }
+    }
+
+    /**
+     * Convert a byte array into an array of <code>MlVector3</code>s. Each vector
+     * is read as by <code>convertByteArrayToVector3()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param vectors The output vectors that will contain the results.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>12</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToVector3Array(int offset, byte[] data,
+        MlVector3[] vectors, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 12);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 12)
+        {
+            vectors[i].setValue(getFloat(data, offset),
+                getFloat(data, offset + 4), getFloat(data, offset + 8));
+        }
+    }
+
+    /**
+     * Convert an array of <code>MlRotation</code>s into a byte array. Each
+     * rotation is stored as by <code>convertRotationToByteArray()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The array the rotations are stored in.
+     * @param rotations The rotations to convert.
+     * @param first The index of the first rotation to convert.
+     * @param count The number of rotations to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>16</b> times <b>count</b>.
+     */
+    static public void convertRotationArrayToByteArray(int offset, byte[] data,
+        MlRotation[] rotations, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 16);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 16)
+        {
+            float q[] = rotations[i].mQuat;
+            putFloat(data, offset, q[0]);
+            putFloat(data, offset + 4, q[1]);
+            putFloat(data, offset + 8, q[2]);
+            putFloat(data, offset + 12, q[3]);
+        }
+    }
+
+    /**
+     * Convert a byte array into an array of <code>MlRotation</code>s. Each
+     * rotation is read as by <code>convertByteArrayToRotation()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param rotations The output rotations that will contain the results.
+     * @param first The index of the first rotation to set.
+     * @param count The number of rotations to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>16</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToRotationArray(int offset, byte[] data,
+        MlRotation[] rotations, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 16);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 16)
+        {
+            rotations[i].setValue(getFloat(data, offset), getFloat(data, offset + 4),
+                getFloat(data, offset + 8), getFloat(data, offset + 12));
+        }
+    }
+
+    /**
+     * Convert an array of <code>MlTransform</code>s into a byte array. Each
+     * transform is stored as by <code>convertTransforrmToByteArray()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The array the transforms are stored in.
+     * @param transforms The transforms to convert.
+     * @param first The index of the first transform to convert.
+     * @param count The number of transforms to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>48</b> times <b>count</b>.
+     */
+    static public void convertTransformArrayToByteArray(int offset, byte[] data,
+        MlTransform[] transforms, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 48);
+
+        for (int i = first, n = first + count; i < n; i++)
+        {
+            transforms[i].sync();
+            float m[] = transforms[i].mData;
+            int o = transforms[i].mOffset;
+            for (int j = 0; j < MlTransform.ML_TRANSFORM_SIZE; j++, offset += 4)
+                putFloat(data, offset, m[o + j]);
+        }
+    }
+
+    /**
+     * Convert a byte array into an array of <code>MlTransform</code>s. Each
+     * transform is read as by <code>convertByteArrayToTransform()</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param transforms The output transforms that will contain the results.
+     * @param first The index of the first transform to set.
+     * @param count The number of transforms to convert.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>48</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToTransformArray(int offset, byte[] data,
+        MlTransform[] transforms, int first, int count)
+            throws IOException
+    {
+        checkLength(data, offset, count, 48);
+
+        for (int i = first, n = first + count; i < n; i++, offset += 48)
+            convertByteArrayToTransform(offset, data, transforms[i]);
+    }
+
+    // Load a float from 4 bytes, in the specified byte order.
+    private static float getFloat(byte[] b, int offset, boolean littleEndian)
+    {
+        int i = getInt(b, offset);
+        return Float.intBitsToFloat(littleEndian ? Integer.reverseBytes(i) : i);
+    }
+
+    /**
+     * Convert a byte array of <code>MlVector3</code> records, each 3
+     * <code>float</code>s, directly into separate arrays of their components,
+     * such as those of a <code>MlVector3Array</code>.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param x The array that will contain the x components.
+     * @param y The array that will contain the y components.
+     * @param z The array that will contain the z components.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to convert.
+     * @param type The byte order of the data. It must be either
+     * <code>BIG_ENDIAN</code> or <code>LITTLE_ENDIAN</code>.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>12</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToVector3Array(int offset, byte[] data,
+        float[] x, float[] y, float[] z, int first, int count, ByteOrder type)
+            throws IOException
+    {
+        checkLength(data, offset, count, 12);
+
+        boolean little = (type == ByteOrder.LITTLE_ENDIAN);
+        for (int i = first, n = first + count; i < n; i++, offset += 12)
+        {
+            x[i] = getFloat(data, offset, little);
+            y[i] = getFloat(data, offset + 4, little);
+            z[i] = getFloat(data, offset + 8, little);
+        }
+    }
+
+    /**
+     * Convert a byte array of <code>MlTransform</code> records, each 12
+     * <code>float</code>s in row-major order, directly into a packed array of
+     * transform elements, 12 per transform.
+     *
+     * @param offset The offset of the subarray to be used; must be non-negative
+     * and no larger than array.length.
+     * @param data The data buffer to convert.
+     * @param m The array that will contain the transform elements.
+     * @param first The index of the first transform to set; its elements start
+     * at <b>12</b> times <b>first</b>.
+     * @param count The number of transforms to convert.
+     * @param type The byte order of the data. It must be either
+     * <code>BIG_ENDIAN</code> or <code>LITTLE_ENDIAN</code>.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i> minus the
+     * <i>offset</i> is less than <b>48</b> times <b>count</b>.
+     */
+    static public void convertByteArrayToTransformArray(int offset, byte[] data,
+        float[] m, int first, int count, ByteOrder type)
+            throws IOException
+    {
+        checkLength(data, offset, count, 48);
+
+        boolean little = (type == ByteOrder.LITTLE_ENDIAN);
+        for (int i = first * MlTransform.ML_TRANSFORM_SIZE,
+             n = i + (count * MlTransform.ML_TRANSFORM_SIZE); i < n; i++, offset += 4)
+            m[i] = getFloat(data, offset, little);
+    }
+
+    // Check that the buffer has n bytes remaining for writing.
+    private static void checkWrite(ByteBuffer buffer, int n)
+    {
+        if (buffer.remaining() < n)
+            throw new BufferOverflowException();
+    }
+
+    // Check that the buffer has n bytes remaining for reading.
+    private static void checkRead(ByteBuffer buffer, int n)
+    {
+        if (buffer.remaining() < n)
+            throw new BufferUnderflowException();
+    }
+
+    /**
+     * Write a <code>MlVector2</code> at the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>8</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector2(ByteBuffer buffer, MlVector2 vector)
+    {
+        checkWrite(buffer, 8);
+
+        float v[] = vector.mVector;
+        buffer.putFloat(v[0]).putFloat(v[1]);
+    }
+
+    /**
+     * Read a <code>MlVector2</code> from the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>8</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector2(ByteBuffer buffer, MlVector2 vector)
+    {
+        checkRead(buffer, 8);
+
+        float x = buffer.getFloat();
+        float y = buffer.getFloat();
+        vector.setValue(x, y);
+    }
+
+    /**
+     * Write a <code>MlVector3</code> at the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>12</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector3(ByteBuffer buffer, MlVector3 vector)
+    {
+        checkWrite(buffer, 12);
+
+        float v[] = vector.mVector;
+        buffer.putFloat(v[0]).putFloat(v[1]).putFloat(v[2]);
+    }
+
+    /**
+     * Read a <code>MlVector3</code> from the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>12</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector3(ByteBuffer buffer, MlVector3 vector)
+    {
+        checkRead(buffer, 12);
+
+        float x = buffer.getFloat();
+        float y = buffer.getFloat();
+        float z = buffer.getFloat();
+        vector.setValue(x, y, z);
+    }
+
+    /**
+     * Write a <code>MlVector4</code> at the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param vector The vector to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>16</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeVector4(ByteBuffer buffer, MlVector4 vector)
+    {
+        checkWrite(buffer, 16);
+
+        float v[] = vector.mVector;
+        buffer.putFloat(v[0]).putFloat(v[1]).putFloat(v[2]).putFloat(v[3]);
+    }
+
+    /**
+     * Read a <code>MlVector4</code> from the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>16</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector4(ByteBuffer buffer, MlVector4 vector)
+    {
+        checkRead(buffer, 16);
+
+        float x = buffer.getFloat();
+        float y = buffer.getFloat();
+        float z = buffer.getFloat();
+        float w = buffer.getFloat();
+        vector.setValue(x, y, z, w);
+    }
+
+    /**
+     * Write a <code>MlRotation</code> at the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param rotation The rotation to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>16</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeRotation(ByteBuffer buffer, MlRotation rotation)
+    {
+        checkWrite(buffer, 16);
+
+        float q[] = rotation.mQuat;
+        buffer.putFloat(q[0]).putFloat(q[1]).putFloat(q[2]).putFloat(q[3]);
+    }
+
+    /**
+     * Read a <code>MlRotation</code> from the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param rotation The output rotation that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>16</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readRotation(ByteBuffer buffer, MlRotation rotation)
+    {
+        checkRead(buffer, 16);
+
+        float x = buffer.getFloat();
+        float y = buffer.getFloat();
+        float z = buffer.getFloat();
+        float w = buffer.getFloat();
+        rotation.setValue(x, y, z, w);
+    }
+
+    /**
+     * Write a <code>MlTransform</code> at the current position of a buffer, in
+     * the byte order of the buffer, and advance the position. The 12 elements
+     * are written in row-major order.
+     *
+     * @param buffer The buffer to write to.
+     * @param transform The transform to write.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <b>48</b> bytes remain in the buffer; nothing is written.
+     */
+    static public void writeTransform(ByteBuffer buffer, MlTransform transform)
+    {
+        checkWrite(buffer, 48);
+
+        transform.sync();
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            buffer.putFloat(m[o + i]);
+    }
+
+    /**
+     * Read a <code>MlTransform</code> from the current position of a buffer, in
+     * the byte order of the buffer, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>48</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readTransform(ByteBuffer buffer, MlTransform transform)
+    {
+        checkRead(buffer, 48);
+
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            m[o + i] = buffer.getFloat();
+        transform.changed();
+    }
+
+    /**
+     * Read <code>MlVector3</code> records, each 3 <code>float</code>s, from the
+     * current position of a buffer, such as a mapped file, in the byte order of
+     * the buffer, directly into separate arrays of their components, and
+     * advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param x The array that will contain the x components.
+     * @param y The array that will contain the y components.
+     * @param z The array that will contain the z components.
+     * @param first The index of the first vector to set.
+     * @param count The number of vectors to read.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>12</b> times <b>count</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readVector3Array(ByteBuffer buffer,
+        float[] x, float[] y, float[] z, int first, int count)
+    {
+        if ((count < 0) || (buffer.remaining() < ((long)count * 12)))
+            throw new BufferUnderflowException();
+
+        int p = buffer.position();
+        for (int i = first, n = first + count; i < n; i++, p += 12)
+        {
+            x[i] = buffer.getFloat(p);
+            y[i] = buffer.getFloat(p + 4);
+            z[i] = buffer.getFloat(p + 8);
+        }
+        buffer.position(p);
+    }
+
+    /**
+     * Read <code>MlTransform</code> records, each 12 <code>float</code>s in
+     * row-major order, from the current position of a buffer, such as a mapped
+     * file, in the byte order of the buffer, directly into a packed array of
+     * transform elements, 12 per transform, and advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param m The array that will contain the transform elements.
+     * @param first The index of the first transform to set; its elements start
+     * at <b>12</b> times <b>first</b>.
+     * @param count The number of transforms to read.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <b>48</b> times <b>count</b> bytes remain in the buffer; nothing is read.
+     */
+    static public void readTransformArray(ByteBuffer buffer, float[] m, int first, int count)
+    {
+        if ((count < 0) || (buffer.remaining() < ((long)count * 48)))
+            throw new BufferUnderflowException();
+
+        // A bulk get from a float view copies, and swaps bytes, in one pass.
+        int n = count * MlTransform.ML_TRANSFORM_SIZE;
+        buffer.asFloatBuffer().get(m, first * MlTransform.ML_TRANSFORM_SIZE, n);
+        buffer.position(buffer.position() + (n * 4));
     }
 
     /**
@@ -413,6 +1007,98 @@ public class MlMath
         return (float)Math.cos(MlAngle.angleToRadians(x));
     }
 
+    /**
+     * Obtain the sine value of the specified angle, at a precision tier.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return The sine value of the angle is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public float mlSin(float x, int precision)
+    {
+        return MlTrig.getInstance(precision).sin(x);
+    }
+
+    /**
+     * Obtain the cosine value of the specified angle, at a precision tier.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return The cosine value of the angle is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public float mlCos(float x, int precision)
+    {
+        return MlTrig.getInstance(precision).cos(x);
+    }
+
+    /**
+     * Obtain the sine and cosine values of the specified angle, converting it
+     * to radians once.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     * @param sc The array the sine is stored in, at <b>offset</b>, and the
+     * cosine, at <b>offset</b> + 1.
+     * @param offset The index of the sine in <b>sc</b>.
+     */
+    static public void mlSinCos(float x, float[] sc, int offset)
+    {
+        MlTrig.getInstance(MlTrig.ML_PRECISION_EXACT).sinCos(x, sc, offset);
+    }
+
+    /**
+     * Obtain the sine and cosine values of the specified angle, at a precision
+     * tier, reducing the angle once.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     * @param sc The array the sine is stored in, at <b>offset</b>, and the
+     * cosine, at <b>offset</b> + 1.
+     * @param offset The index of the sine in <b>sc</b>.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public void mlSinCos(float x, float[] sc, int offset, int precision)
+    {
+        MlTrig.getInstance(precision).sinCos(x, sc, offset);
+    }
+
+    /**
+     * Obtain the sine value of the specified angle, from the shared
+     * <code>MlSinTable</code>. This is faster than <code>mlSin()</code>, with an
+     * error of at most <code>MlSinTable.getDefault().getMaxError()</code>.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     *
+     * @return The sine value of the angle is returned.
+     */
+    static public float mlFastSin(float x)
+    {
+        return MlSinTable.getDefault().sin(x);
+    }
+
+    /**
+     * Obtain the cosine value of the specified angle, from the shared
+     * <code>MlSinTable</code>. This is faster than <code>mlCos()</code>, with an
+     * error of at most <code>MlSinTable.getDefault().getMaxError()</code>.
+     *
+     * @param x The angle, in <code>MlAngle</code> units.
+     *
+     * @return The cosine value of the angle is returned.
+     */
+    static public float mlFastCos(float x)
+    {
+        return MlSinTable.getDefault().cos(x);
+    }
+
     /**
      * Obtain the arc sine value of the specified angle.
      *
@@ -450,6 +1136,103 @@ public class MlMath
         return MlAngle.radiansToAngle((float)Math.atan2(x,y));
     }
 
+    /**
+     * Obtain the arc sine value of the specified value, in single precision,
+     * with the polynomial of the <code>MlTrig.ML_PRECISION_FAST</code> tier.
+     * There are no branches, and the error is at most
+     * <code>MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).getMaxAngleError()</code>.
+     *
+     * @param x The value, from -1 to 1.
+     *
+     * @return The arc sine value is returned, in <code>MlAngle</code> units.
+     */
+    static public float mlFastAsin(float x)
+    {
+        return MlTrig.fastAsin(x);
+    }
+
+    /**
+     * Obtain the arc cosine value of the specified value, in single precision,
+     * with the polynomial of the <code>MlTrig.ML_PRECISION_FAST</code> tier.
+     * There are no branches but the select of the sign, and the error is at
+     * most <code>MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).getMaxAngleError()</code>.
+     *
+     * @param x The value, from -1 to 1.
+     *
+     * @return The arc cosine value is returned, in <code>MlAngle</code> units.
+     */
+    static public float mlFastAcos(float x)
+    {
+        return MlTrig.fastAcos(x);
+    }
+
+    /**
+     * Obtain the arc tangent value of the specified coordinates, in single
+     * precision, with the polynomial of the <code>MlTrig.ML_PRECISION_FAST</code>
+     * tier. The arguments are in the order of <code>mlAtan2()</code>. There are
+     * no branches but the selects of the octant, and the error is at most
+     * <code>MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).getMaxAngleError()</code>.
+     *
+     * @param x The y coordinate.
+     * @param y The x coordinate.
+     *
+     * @return The arc tangent value is returned, in <code>MlAngle</code> units.
+     */
+    static public float mlFastAtan2(float x, float y)
+    {
+        return MlTrig.fastAtan2(x, y);
+    }
+
+    /**
+     * Obtain the arc sine value of the specified value, at a precision tier.
+     *
+     * @param x The value, from -1 to 1.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return The arc sine value is returned, in <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public float mlAsin(float x, int precision)
+    {
+        return MlTrig.getInstance(precision).asin(x);
+    }
+
+    /**
+     * Obtain the arc cosine value of the specified value, at a precision tier.
+     *
+     * @param x The value, from -1 to 1.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return The arc cosine value is returned, in <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public float mlAcos(float x, int precision)
+    {
+        return MlTrig.getInstance(precision).acos(x);
+    }
+
+    /**
+     * Obtain the arc tangent value of the specified coordinates, at a
+     * precision tier. The arguments are in the order of <code>mlAtan2()</code>.
+     *
+     * @param x The y coordinate.
+     * @param y The x coordinate.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return The arc tangent value is returned, in <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public float mlAtan2(float x, float y, int precision)
+    {
+        return MlTrig.getInstance(precision).atan2(x, y);
+    }
+
     // Hide the default constructor.
     private MlMath() {}
 }
@@ -0,0 +1,315 @@
+/*
+ * MlParallelTransformer.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Transforms large batches of points, directions and normals packed in arrays
+ * by splitting them into chunks that are transformed in parallel on a
+ * <code>ForkJoinPool</code>.
+ * <p>
+ * The type of the transform is taken once, on the calling thread, and each
+ * chunk is transformed by the batch kernel of <code>MlTransform</code> for
+ * that type, so every vector is computed exactly as it would be sequentially
+ * and the results do not depend on the number of threads or on how the batch
+ * was split.
+ * Batches of no more than the sequential threshold are transformed on the calling
+ * thread.
+ * </p><p>
+ * The transform must not be modified while a batch is being transformed.
+ * </p>
+ */
+public class MlParallelTransformer
+{
+    /**
+     * The default sequential threshold, in vectors. A chunk of this many packed
+     * points fits comfortably in a per-core cache.
+     */
+    public static final int ML_DEFAULT_THRESHOLD = 8192;
+
+    // The pool the chunks are transformed on.
+    private final ForkJoinPool mPool;
+    // The number of vectors below which a batch is not split.
+    private int mThreshold;
+
+    // Holds the pool shared by transformers that are not given one.
+    private static class DefaultPool
+    {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+
+    // A range of vectors to transform.
+    private static class BatchTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final float[] mMatrix;
+        private final int mMatrixOffset;
+        private final int mType;
+        private final boolean mPoints;
+        private final float[] mSrc;
+        private final int mSrcOffset;
+        private final int mSrcStride;
+        private final float[] mDst;
+        private final int mDstOffset;
+        private final int mDstStride;
+        private final int mCount;
+        private final int mThreshold;
+
+        BatchTask(float[] matrix, int matrixOffset, int type, boolean points,
+            float[] src, int srcOffset, int srcStride,
+            float[] dst, int dstOffset, int dstStride,
+            int count, int threshold)
+        {
+            mMatrix = matrix;
+            mMatrixOffset = matrixOffset;
+            mType = type;
+            mPoints = points;
+            mSrc = src;
+            mSrcOffset = srcOffset;
+            mSrcStride = srcStride;
+            mDst = dst;
+            mDstOffset = dstOffset;
+            mDstStride = dstStride;
+            mCount = count;
+            mThreshold = threshold;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (mCount <= mThreshold)
+            {
+                if (mPoints)
+                    MlTransform.transformPoints(mMatrix, mMatrixOffset, mType,
+                        mSrc, mSrcOffset, mSrcStride, mDst, mDstOffset, mDstStride, mCount);
+                else
+                    MlTransform.transformDirections(mMatrix, mMatrixOffset, mType,
+                        mSrc, mSrcOffset, mSrcStride, mDst, mDstOffset, mDstStride, mCount);
+                return;
+            }
+
+            int half = mCount >>> 1;
+            invokeAll(
+                new BatchTask(mMatrix, mMatrixOffset, mType, mPoints,
+                    mSrc, mSrcOffset, mSrcStride,
+                    mDst, mDstOffset, mDstStride,
+                    half, mThreshold),
+                new BatchTask(mMatrix, mMatrixOffset, mType, mPoints,
+                    mSrc, mSrcOffset + (half * mSrcStride), mSrcStride,
+                    mDst, mDstOffset + (half * mDstStride), mDstStride,
+                    mCount - half, mThreshold));
+        }
+    }
+
+    /**
+     * A constructor that uses a pool shared by all transformers created
+     * without one, and the default sequential threshold.
+     */
+    public MlParallelTransformer()
+    {
+        this(DefaultPool.POOL, ML_DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * A constructor given the pool to use, with the default sequential threshold.
+     *
+     * @param pool The pool the chunks are transformed on.
+     */
+    public MlParallelTransformer(ForkJoinPool pool)
+    {
+        this(pool, ML_DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * A constructor given the pool to use and the sequential threshold.
+     *
+     * @param pool The pool the chunks are transformed on.
+     * @param threshold The number of vectors below which a batch is not split.
+     *
+     * @throws IllegalArgumentException This exception is thrown if <b>threshold</b>
+     * is less than 1.
+     */
+    public MlParallelTransformer(ForkJoinPool pool, int threshold)
+    {
+        super();
+        mPool = pool;
+        setThreshold(threshold);
+    }
+
+    /**
+     * Get the pool the chunks are transformed on.
+     *
+     * @return The pool is returned.
+     */
+    public final ForkJoinPool getPool()
+    {
+        return mPool;
+    }
+
+    /**
+     * Get the sequential threshold.
+     *
+     * @return The number of vectors below which a batch is not split is returned.
+     */
+    public final int getThreshold()
+    {
+        return mThreshold;
+    }
+
+    /**
+     * Set the sequential threshold.
+     *
+     * @param threshold The number of vectors below which a batch is not split.
+     *
+     * @throws IllegalArgumentException This exception is thrown if <b>threshold</b>
+     * is less than 1.
+     */
+    public final void setThreshold(int threshold)
+    {
+        if (threshold < 1)
+            throw new IllegalArgumentException("Invalid threshold " + threshold + ".");
+        mThreshold = threshold;
+    }
+
+    // Transform the batch, in parallel if it is above the threshold.
+    private void transform(MlTransform transform, boolean points,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        MlTransform.checkBatch(src, srcOffset, srcStride, count);
+        MlTransform.checkBatch(dst, dstOffset, dstStride, count);
+
+        // Classify the transform on the calling thread; the chunks only read its
+        // elements, and all of them take the kernel for this type.
+        int type = transform.getType();
+
+        BatchTask task = new BatchTask(transform.getData(), transform.getOffset(), type, points,
+            src, srcOffset, srcStride, dst, dstOffset, dstStride, count, mThreshold);
+        if (count <= mThreshold)
+            task.compute();
+        else
+            mPool.invoke(task);
+    }
+
+    /**
+     * Multiplies a batch of row vectors, points packed in an array, by the
+     * specified transform, as <code>MlTransform.mulVecMatrix(float[], int, int,
+     * float[], int, int, int)</code> does.
+     *
+     * @param transform The transform.
+     * @param src The array holding the points.
+     * @param srcOffset The index of the first point in <b>src</b>.
+     * @param srcStride The number of elements from one point to the next in <b>src</b>.
+     * @param dst The array the transformed points are stored in.
+     * @param dstOffset The index of the first point in <b>dst</b>.
+     * @param dstStride The number of elements from one point to the next in <b>dst</b>.
+     * @param count The number of points.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> points.
+     */
+    public final void mulVecMatrix(MlTransform transform,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        transform(transform, true, src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+    }
+
+    /**
+     * Multiplies a batch of row vectors, directions packed in an array, by the
+     * specified transform, as <code>MlTransform.mulDirMatrix(float[], int, int,
+     * float[], int, int, int)</code> does.
+     *
+     * @param transform The transform.
+     * @param src The array holding the directions.
+     * @param srcOffset The index of the first direction in <b>src</b>.
+     * @param srcStride The number of elements from one direction to the next in <b>src</b>.
+     * @param dst The array the transformed directions are stored in.
+     * @param dstOffset The index of the first direction in <b>dst</b>.
+     * @param dstStride The number of elements from one direction to the next in <b>dst</b>.
+     * @param count The number of directions.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> directions.
+     */
+    public final void mulDirMatrix(MlTransform transform,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        transform(transform, false, src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+    }
+
+    /**
+     * Multiplies a batch of row vectors, surface normals packed in an array, by
+     * the normal matrix of the specified transform, as
+     * <code>MlTransform.mulNormalMatrix(float[], int, int, float[], int, int, int)</code>
+     * does.
+     *
+     * @param transform The transform.
+     * @param src The array holding the normals.
+     * @param srcOffset The index of the first normal in <b>src</b>.
+     * @param srcStride The number of elements from one normal to the next in <b>src</b>.
+     * @param dst The array the transformed normals are stored in.
+     * @param dstOffset The index of the first normal in <b>dst</b>.
+     * @param dstStride The number of elements from one normal to the next in <b>dst</b>.
+     * @param count The number of normals.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> normals.
+     */
+    public final void mulNormalMatrix(MlTransform transform,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        transform(transform.getNormalMatrix(), false,
+            src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+    }
+}
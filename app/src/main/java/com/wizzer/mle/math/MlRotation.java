@@ -138,6 +138,23 @@ public class MlRotation
      */
     public final void getValue(MlVector3 axis, float[] radians)
     {
+        getValue(axis, radians, MlTrig.ML_PRECISION_EXACT);
+    }
+
+    /**
+     * Returns corresponding 3D rotation axis vector and angle in radians,
+     * computing the angle at a precision tier.
+     * 
+     * @param axis The rotation axis vector.
+     * @param radians The angle, in radians.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    public final void getValue(MlVector3 axis, float[] radians, int precision)
+    {
+        MlTrig trig = MlTrig.getInstance(precision);
         float len;
         MlVector3 q = new MlVector3();
 
@@ -148,7 +165,7 @@ public class MlRotation
         if ((len = q.length()) > 0.00001f)
         {
             axis = q.mul(1 / len);
-            radians[0] = MlAngle.angleToRadians(2 * (float)MlMath.mlAcos(mQuat[3]));
+            radians[0] = MlAngle.angleToRadians(2 * trig.acos(mQuat[3]));
         } else
         {
             axis.setValue(MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ONE);
@@ -163,28 +180,22 @@ public class MlRotation
      */
     public final void getValue(MlTransform matrix)
     {
-        MlTransform m = new MlTransform();
-
-        m.mMatrix[0][0] = MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[1] * mQuat[1]) + (mQuat[2] * mQuat[2]));
-        m.mMatrix[0][1] = 2 * ((mQuat[0] * mQuat[1]) + (mQuat[2] * mQuat[3]));
-        m.mMatrix[0][2] = 2 * ((mQuat[2] * mQuat[0]) - (mQuat[1] * mQuat[3]));
-
-        m.mMatrix[1][0] = 2 * ((mQuat[0] * mQuat[1]) - (mQuat[2] * mQuat[3]));
-        m.mMatrix[1][1] = MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[2] * mQuat[2]) + (mQuat[0] * mQuat[0]));
-        m.mMatrix[1][2] = 2 * ((mQuat[1] * mQuat[2]) + (mQuat[0] * mQuat[3]));
-
-        m.mMatrix[2][0] = 2 * ((mQuat[2] * mQuat[0]) + (mQuat[1] * mQuat[3]));
-        m.mMatrix[2][1] = 2 * ((mQuat[1] * mQuat[2]) - (mQuat[0] * mQuat[3]));
-        m.mMatrix[2][2] = MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[1] * mQuat[1]) + (mQuat[0] * mQuat[0]));
-
-        m.mMatrix[3][0] = MlScalar.ML_SCALAR_ZERO;
-        m.mMatrix[3][1] = MlScalar.ML_SCALAR_ZERO;
-        m.mMatrix[3][2] = MlScalar.ML_SCALAR_ZERO;
-
-        //matrix = m;
-        for (int i = 0; i < 4; i ++)
-            for (int j = 0; j < 3; j++)
-                matrix.mMatrix[i][j] = m.mMatrix[i][j];
+        matrix.setValue(
+            MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[1] * mQuat[1]) + (mQuat[2] * mQuat[2])),
+            2 * ((mQuat[0] * mQuat[1]) + (mQuat[2] * mQuat[3])),
+            2 * ((mQuat[2] * mQuat[0]) - (mQuat[1] * mQuat[3])),
+
+            2 * ((mQuat[0] * mQuat[1]) - (mQuat[2] * mQuat[3])),
+            MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[2] * mQuat[2]) + (mQuat[0] * mQuat[0])),
+            2 * ((mQuat[1] * mQuat[2]) + (mQuat[0] * mQuat[3])),
+
+            2 * ((mQuat[2] * mQuat[0]) + (mQuat[1] * mQuat[3])),
+            2 * ((mQuat[1] * mQuat[2]) - (mQuat[0] * mQuat[3])),
+            MlScalar.ML_SCALAR_ONE - 2 * ((mQuat[1] * mQuat[1]) + (mQuat[0] * mQuat[0])),
+
+            MlScalar.ML_SCALAR_ZERO,
+            MlScalar.ML_SCALAR_ZERO,
+            MlScalar.ML_SCALAR_ZERO);
     }
     
 	/**
@@ -252,42 +263,42 @@ public class MlRotation
 	        return this;
 	    }
 
-	    if (m.mMatrix[0][0] > m.mMatrix[1][1])
+	    if (m.get(0, 0) > m.get(1, 1))
 	    { 
-	        if (m.mMatrix[0][0] > m.mMatrix[2][2])
+	        if (m.get(0, 0) > m.get(2, 2))
 	            i = 0;
 	        else i = 2;
 	    } else
 	    {
-	        if (m.mMatrix[1][1] > m.mMatrix[2][2])
+	        if (m.get(1, 1) > m.get(2, 2))
 	            i = 1;
 	        else i = 2;
 	    }
 
-	    if (m.mMatrix[0][0] + m.mMatrix[1][1] + m.mMatrix[2][2] > m.mMatrix[i][i])
+	    if (m.get(0, 0) + m.get(1, 1) + m.get(2, 2) > m.get(i, i))
 	    {
 	        // Compute w first:
-	        mQuat[3] = ((float)Math.sqrt(m.mMatrix[0][0] + m.mMatrix[1][1] +
-	        	m.mMatrix[2][2] + MlScalar.ML_SCALAR_ONE) * MlScalar.ML_SCALAR_HALF);
+	        mQuat[3] = ((float)Math.sqrt(m.get(0, 0) + m.get(1, 1) +
+	        	m.get(2, 2) + MlScalar.ML_SCALAR_ONE) * MlScalar.ML_SCALAR_HALF);
 
 	        // And compute other values:
-	        mQuat[0] = ((m.mMatrix[1][2] - m.mMatrix[2][1]) / (4 * mQuat[3]));
-	        mQuat[1] = ((m.mMatrix[2][0] - m.mMatrix[0][2]) / (4 * mQuat[3]));
-	        mQuat[2] = ((m.mMatrix[0][1] - m.mMatrix[1][0]) / (4 * mQuat[3]));
+	        mQuat[0] = ((m.get(1, 2) - m.get(2, 1)) / (4 * mQuat[3]));
+	        mQuat[1] = ((m.get(2, 0) - m.get(0, 2)) / (4 * mQuat[3]));
+	        mQuat[2] = ((m.get(0, 1) - m.get(1, 0)) / (4 * mQuat[3]));
 	    } else
 	    {
 	        // Compute x, y, or z first:
 	        j = (i+1) % 3; k = (i+2) % 3;
 	    
 	        // Compute first value:
-	        mQuat[i] = ((float)Math.sqrt(m.mMatrix[i][i] - m.mMatrix[j][j] -
-	        	m.mMatrix[k][k] + MlScalar.ML_SCALAR_ONE) * MlScalar.ML_SCALAR_HALF);
+	        mQuat[i] = ((float)Math.sqrt(m.get(i, i) - m.get(j, j) -
+	        	m.get(k, k) + MlScalar.ML_SCALAR_ONE) * MlScalar.ML_SCALAR_HALF);
 	       
 	        // And the others:
-	        mQuat[j] = ((m.mMatrix[i][j] + m.mMatrix[j][i]) / (4 * mQuat[i]));
-	        mQuat[k] = ((m.mMatrix[i][k] + m.mMatrix[k][i]) / (4 * mQuat[i]));
+	        mQuat[j] = ((m.get(i, j) + m.get(j, i)) / (4 * mQuat[i]));
+	        mQuat[k] = ((m.get(i, k) + m.get(k, i)) / (4 * mQuat[i]));
 
-	        mQuat[3] = ((m.mMatrix[j][k] - m.mMatrix[k][j]) / (4 * mQuat[i]));
+	        mQuat[3] = ((m.get(j, k) - m.get(k, j)) / (4 * mQuat[i]));
 	    }
 	    
 	    return this;
@@ -304,17 +315,19 @@ public class MlRotation
     public final MlRotation setValue(MlVector3 axis, float radians)
     {
         MlVector3 q = new MlVector3();
+        float[] sc = new float[2];
 
         q.setValue(axis);
         q.normalize();
 
-        q.mul((float)MlMath.mlSin(MlAngle.radiansToAngle((radians * MlScalar.ML_SCALAR_HALF))));
+        MlMath.mlSinCos(MlAngle.radiansToAngle((radians * MlScalar.ML_SCALAR_HALF)), sc, 0);
+        q.mul(sc[0]);
 
         mQuat[0] = q.mVector[0];
         mQuat[1] = q.mVector[1];
         mQuat[2] = q.mVector[2];
 
-        mQuat[3] = (float)MlMath.mlCos(MlAngle.radiansToAngle((radians * MlScalar.ML_SCALAR_HALF)));
+        mQuat[3] = sc[1];
 
         return this;
     }
@@ -545,6 +558,26 @@ public class MlRotation
 	 */
     public final MlRotation slerp(MlRotation rot0, MlRotation rot1, float t)
     {
+        return slerp(rot0, rot1, t, MlTrig.ML_PRECISION_EXACT);
+    }
+
+    /**
+     * Spherical linear interpolation, computing the angle between the
+     * rotations and the interpolating coefficients at a precision tier.
+     *
+     * @param rot0 The rotation at <b>t</b> = 0.
+     * @param rot1 The rotation at <b>t</b> = 1.
+     * @param t The interpolation parameter, from 0 to 1.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @return A new rotation is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    public final MlRotation slerp(MlRotation rot0, MlRotation rot1, float t, int precision)
+    {
+        MlTrig trig = MlTrig.getInstance(precision);
         float[] r1q = new float[4];
         rot1.getValue(r1q);
 
@@ -573,11 +606,17 @@ public class MlRotation
         // Calculate interpolating coeffs.
         if ( (MlScalar.ML_SCALAR_ONE - cosom) > 0.00001f )
         {
-            // standard case.
-            omega = (float)MlMath.mlAcos(cosom);
-            sinom = (float)MlMath.mlSin(omega);
-            scalerot0 = (float)(MlMath.mlSin(((MlScalar.ML_SCALAR_ONE - t) * omega)) / sinom);
-            scalerot1 = (float)(MlMath.mlSin((t * omega)) / sinom);
+            // standard case. sin((1 - t) * omega) is expanded as
+            // sin(omega) * cos(t * omega) - cos(omega) * sin(t * omega), so
+            // one sine and cosine pair serves both coefficients.
+            float[] sc = new float[2];
+            omega = trig.acos(cosom);
+            // 1 - cos^2 is computed in double, as it cancels badly in float
+            // when the cosine is near 1.
+            sinom = (float)Math.sqrt(1.0 - ((double)cosom * cosom));
+            trig.sinCos(t * omega, sc, 0);
+            scalerot1 = sc[0] / sinom;
+            scalerot0 = sc[1] - (cosom * scalerot1);
         } else
         {        
             // rot0 and rot1 very close - just do linear interp.
@@ -620,7 +659,12 @@ public class MlRotation
 	 */
 	public final boolean equals(MlRotation q, float tolerance)
     {
-	    return new MlVector4(mQuat).equals(new MlVector4(q.mQuat), tolerance);
+	    float d0 = mQuat[0] - q.mQuat[0];
+	    float d1 = mQuat[1] - q.mQuat[1];
+	    float d2 = mQuat[2] - q.mQuat[2];
+	    float d3 = mQuat[3] - q.mQuat[3];
+
+	    return ((d0 * d0) + (d1 * d1) + (d2 * d2) + (d3 * d3)) <= tolerance;
     }
 
 }
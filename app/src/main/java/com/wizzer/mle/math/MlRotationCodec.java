@@ -0,0 +1,385 @@
+/*
+ * MlRotationCodec.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes <code>MlRotation</code>s in a fixed number of bits, using the
+ * "smallest three" quantization of the quaternion.
+ * <p>
+ * The largest component of a unit quaternion is at least 1/2 in magnitude,
+ * and the other three lie within &plusmn;1/&radic;2. Since <i>q</i> and
+ * <i>-q</i> are the same rotation, the quaternion is negated if needed to make
+ * the largest component positive, which is then dropped and rebuilt from the
+ * other three when decoding. The encoding holds the 2-bit index of the largest
+ * component, followed by the other three, in index order, each quantized to
+ * <code>(bits - 2) / 3</code> bits:
+ * </p>
+ * <table border="1">
+ * <tr><th>Bits</th><th>Bits per component</th><th>Maximum error</th></tr>
+ * <tr><td>32</td><td>10</td><td>0.27&deg;</td></tr>
+ * <tr><td>48</td><td>15</td><td>0.0086&deg;</td></tr>
+ * <tr><td>64</td><td>20</td><td>0.00027&deg;</td></tr>
+ * </table>
+ * <p>
+ * The maximum error, as returned by <code>getMaxError()</code>, bounds the
+ * angle of the rotation between an input rotation and its decoded value.
+ * Encoded rotations are stored in big-endian order, most significant byte
+ * first.
+ * </p>
+ */
+public class MlRotationCodec
+{
+    /** The smallest number of bits of an encoded rotation. */
+    public static final int ML_ROTATION_MIN_BITS = 16;
+    /** The largest number of bits of an encoded rotation. */
+    public static final int ML_ROTATION_MAX_BITS = 64;
+
+    // The range of the smallest three components, 1/sqrt(2).
+    private static final float ML_ROTATION_RANGE = 0.70710678118654752f;
+
+    // The number of bits of an encoded rotation.
+    private final int mBits;
+    // The number of bytes of an encoded rotation.
+    private final int mSize;
+    // The number of bits per component.
+    private final int mComponentBits;
+    // The largest quantized component value.
+    private final int mMaxValue;
+    // The scale from a component to a quantized value.
+    private final float mEncodeScale;
+    // The scale from a quantized value to a component.
+    private final float mDecodeScale;
+
+    /**
+     * A constructor given the number of bits of an encoded rotation.
+     *
+     * @param bits The number of bits, a multiple of 8 from
+     * <code>ML_ROTATION_MIN_BITS</code> to <code>ML_ROTATION_MAX_BITS</code>.
+     * 32 and 48 bits are typical.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the number
+     * of bits is not valid.
+     */
+    public MlRotationCodec(int bits)
+    {
+        super();
+        if ((bits < ML_ROTATION_MIN_BITS) || (bits > ML_ROTATION_MAX_BITS) || ((bits & 7) != 0))
+            throw new IllegalArgumentException("Invalid number of bits " + bits + ".");
+
+        mBits = bits;
+        mSize = bits >> 3;
+        mComponentBits = (bits - 2) / 3;
+        mMaxValue = (1 << mComponentBits) - 1;
+        mEncodeScale = mMaxValue / (2 * ML_ROTATION_RANGE);
+        mDecodeScale = (2 * ML_ROTATION_RANGE) / mMaxValue;
+    }
+
+    /**
+     * Get the number of bits of an encoded rotation.
+     *
+     * @return The number of bits is returned.
+     */
+    public final int getBits()
+    {
+        return mBits;
+    }
+
+    /**
+     * Get the number of bytes of an encoded rotation.
+     *
+     * @return The number of bytes is returned.
+     */
+    public final int getSize()
+    {
+        return mSize;
+    }
+
+    /**
+     * Get the maximum angle between a rotation and its decoded value.
+     * <p>
+     * Each of the three encoded components is off by at most half a
+     * quantization step, <i>e</i>, and the rebuilt largest component by at
+     * most &radic;3 times their combined error, so the decoded quaternion is
+     * within 2&radic;3<i>e</i> of the input and the angle between the two
+     * rotations at most 4 asin(&radic;3<i>e</i>).
+     * </p>
+     *
+     * @return The maximum error is returned, in radians.
+     */
+    public final float getMaxError()
+    {
+        double e = ML_ROTATION_RANGE / mMaxValue;
+        return (float)(4 * Math.asin(Math.min(1, Math.sqrt(3) * e)));
+    }
+
+    // Quantize a component of the rotation.
+    private long quantize(float c)
+    {
+        int v = (int)(((c + ML_ROTATION_RANGE) * mEncodeScale) + MlScalar.ML_SCALAR_HALF);
+        if (v < 0)
+            v = 0;
+        else if (v > mMaxValue)
+            v = mMaxValue;
+        return v;
+    }
+
+    /**
+     * Encode a rotation.
+     *
+     * @param rotation The rotation to encode.
+     *
+     * @return The encoded rotation is returned in the low <code>getBits()</code>
+     * bits.
+     */
+    public final long encode(MlRotation rotation)
+    {
+        float q[] = rotation.mQuat;
+
+        int largest = 0;
+        float max = Math.abs(q[0]);
+        for (int i = 1; i < 4; i++)
+        {
+            float a = Math.abs(q[i]);
+            if (a > max)
+            {
+                largest = i;
+                max = a;
+            }
+        }
+
+        long packed = largest;
+        for (int i = 0; i < 4; i++)
+        {
+            if (i != largest)
+                packed = (packed << mComponentBits) |
+                    quantize((q[largest] < 0) ? -q[i] : q[i]);
+        }
+        return packed;
+    }
+
+    /**
+     * Decode a rotation.
+     *
+     * @param packed The encoded rotation, as returned by <code>encode()</code>.
+     * @param rotation The output rotation that will contain the results.
+     */
+    public final void decode(long packed, MlRotation rotation)
+    {
+        float q[] = rotation.mQuat;
+        int shift = 3 * mComponentBits;
+        int largest = (int)(packed >>> shift) & 3;
+
+        float sum = 0;
+        for (int i = 0; i < 4; i++)
+        {
+            if (i != largest)
+            {
+                shift -= mComponentBits;
+                float c = (((packed >>> shift) & mMaxValue) * mDecodeScale) - ML_ROTATION_RANGE;
+                q[i] = c;
+                sum += c * c;
+            }
+        }
+
+        if (sum < MlScalar.ML_SCALAR_ONE)
+        {
+            q[largest] = (float)Math.sqrt(MlScalar.ML_SCALAR_ONE - sum);
+        } else
+        {
+            // Rounding pushed the smallest three off the unit sphere.
+            float scale = (float)(1 / Math.sqrt(sum));
+            for (int i = 0; i < 4; i++)
+                q[i] *= scale;
+            q[largest] = MlScalar.ML_SCALAR_ZERO;
+        }
+    }
+
+    /**
+     * Encode a rotation into a byte array.
+     *
+     * @param offset The offset in the array to store the rotation at.
+     * @param data The array the rotation is stored in.
+     * @param rotation The rotation to encode.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i>
+     * minus the <i>offset</i> is less than <code>getSize()</code>.
+     */
+    public final void encode(int offset, byte[] data, MlRotation rotation)
+        throws IOException
+    {
+        checkLength(data, offset, 1);
+        put(data, offset, encode(rotation));
+    }
+
+    /**
+     * Decode a rotation from a byte array.
+     *
+     * @param offset The offset in the array of the rotation.
+     * @param data The array the rotation is stored in.
+     * @param rotation The output rotation that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i>
+     * minus the <i>offset</i> is less than <code>getSize()</code>.
+     */
+    public final void decode(int offset, byte[] data, MlRotation rotation)
+        throws IOException
+    {
+        checkLength(data, offset, 1);
+        decode(get(data, offset), rotation);
+    }
+
+    /**
+     * Encode an array of rotations into a byte array, each taking
+     * <code>getSize()</code> bytes.
+     *
+     * @param offset The offset in the array to store the first rotation at.
+     * @param data The array the rotations are stored in.
+     * @param rotations The rotations to encode.
+     * @param first The index of the first rotation to encode.
+     * @param count The number of rotations to encode.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i>
+     * minus the <i>offset</i> is less than <code>getSize()</code> times
+     * <b>count</b>.
+     */
+    public final void encode(int offset, byte[] data, MlRotation[] rotations, int first, int count)
+        throws IOException
+    {
+        checkLength(data, offset, count);
+
+        for (int i = first, n = first + count; i < n; i++, offset += mSize)
+            put(data, offset, encode(rotations[i]));
+    }
+
+    /**
+     * Decode an array of rotations from a byte array, each taking
+     * <code>getSize()</code> bytes.
+     *
+     * @param offset The offset in the array of the first rotation.
+     * @param data The array the rotations are stored in.
+     * @param rotations The output rotations that will contain the results.
+     * @param first The index of the first rotation to set.
+     * @param count The number of rotations to decode.
+     *
+     * @throws IOException This exception is thrown if the <i>data.length</i>
+     * minus the <i>offset</i> is less than <code>getSize()</code> times
+     * <b>count</b>.
+     */
+    public final void decode(int offset, byte[] data, MlRotation[] rotations, int first, int count)
+        throws IOException
+    {
+        checkLength(data, offset, count);
+
+        for (int i = first, n = first + count; i < n; i++, offset += mSize)
+            decode(get(data, offset), rotations[i]);
+    }
+
+    /**
+     * Encode a rotation at the current position of a buffer, and advance the
+     * position.
+     *
+     * @param buffer The buffer to write to.
+     * @param rotation The rotation to encode.
+     *
+     * @throws BufferOverflowException This exception is thrown if fewer than
+     * <code>getSize()</code> bytes remain in the buffer; nothing is written.
+     */
+    public final void write(ByteBuffer buffer, MlRotation rotation)
+    {
+        if (buffer.remaining() < mSize)
+            throw new BufferOverflowException();
+
+        long packed = encode(rotation);
+        for (int shift = mBits - 8; shift >= 0; shift -= 8)
+            buffer.put((byte)(packed >>> shift));
+    }
+
+    /**
+     * Decode a rotation from the current position of a buffer, and advance
+     * the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param rotation The output rotation that will contain the results.
+     *
+     * @throws BufferUnderflowException This exception is thrown if fewer than
+     * <code>getSize()</code> bytes remain in the buffer; nothing is read.
+     */
+    public final void read(ByteBuffer buffer, MlRotation rotation)
+    {
+        if (buffer.remaining() < mSize)
+            throw new BufferUnderflowException();
+
+        long packed = 0;
+        for (int i = 0; i < mSize; i++)
+            packed = (packed << 8) | (buffer.get() & 0xff);
+        decode(packed, rotation);
+    }
+
+    // Check that the array holds count encoded rotations starting at offset.
+    private void checkLength(byte[] data, int offset, int count)
+        throws IOException
+    {
+        if ((count < 0) || (offset < 0) || ((data.length - offset) < ((long)count * mSize)))
+            throw new IOException("Invalid data array length.");
+    }
+
+    // Store an encoded rotation, most significant byte first.
+    private void put(byte[] data, int offset, long packed)
+    {
+        for (int shift = mBits - 8; shift >= 0; shift -= 8)
+            data[offset++] = (byte)(packed >>> shift);
+    }
+
+    // Load an encoded rotation, most significant byte first.
+    private long get(byte[] data, int offset)
+    {
+        long packed = 0;
+        for (int i = 0; i < mSize; i++)
+            packed = (packed << 8) | (data[offset + i] & 0xff);
+        return packed;
+    }
+}
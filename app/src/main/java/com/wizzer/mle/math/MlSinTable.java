@@ -0,0 +1,215 @@
+/*
+ * MlSinTable.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * A lookup table of sine values for computing the sine and cosine of angles
+ * in <code>MlAngle</code> units, where 1 is a full turn, in single precision.
+ * <p>
+ * The table holds the sine of <i>n</i> angles evenly spaced over a turn, so
+ * an angle is reduced to the table by scaling and masking, with no division
+ * or call to <code>Math.sin()</code>. Between entries, the value is
+ * interpolated:
+ * </p>
+ * <ul>
+ * <li><code>ML_INTERPOLATE_LINEAR</code>: linearly between the two nearest
+ * entries. The error is at most <i>h</i>&sup2;/8, where <i>h</i> = 2&pi;/<i>n</i>
+ * is the spacing of the entries in radians: 2.9e-7 for the default size of
+ * 4096.</li>
+ * <li><code>ML_INTERPOLATE_QUADRATIC</code>: with the second-order Taylor
+ * expansion from the entry below, using the sine and cosine read from the
+ * table. The error is at most <i>h</i>&sup3;/6: 6.1e-10 for the default size,
+ * below the precision of a <code>float</code>, and 2.5e-6 for a table of only
+ * 256 entries.</li>
+ * </ul>
+ * <p>
+ * Rounding adds up to a few units in the last place; <code>getMaxError()</code>
+ * includes it. Angles are accurate while their magnitude is well below
+ * 2<sup>24</sup>/<i>n</i> turns. <code>getDefault()</code> returns a shared
+ * table, built on first use, which <code>MlMath.mlFastSin()</code> and
+ * <code>MlMath.mlFastCos()</code> use.
+ * </p>
+ */
+public class MlSinTable
+{
+    /** Interpolate linearly between entries. */
+    public static final int ML_INTERPOLATE_LINEAR = 1;
+    /** Interpolate quadratically from the entry below. */
+    public static final int ML_INTERPOLATE_QUADRATIC = 2;
+    /** The default number of entries. */
+    public static final int ML_DEFAULT_SIZE = 4096;
+
+    // The bound on the error from rounding, 4 units in the last place of 1.
+    private static final float ML_ROUNDING_ERROR = 4.0f / (1 << 24);
+
+    // The sine of each entry.
+    private final float[] mTable;
+    // The number of entries minus one, to mask an index.
+    private final int mMask;
+    // The index offset of a quarter turn.
+    private final int mQuarter;
+    // The number of entries, as a float.
+    private final float mSize;
+    // The spacing of the entries, in radians.
+    private final float mStep;
+    // The interpolation.
+    private final int mInterpolation;
+
+    // Holds the shared table, which is built when first used.
+    private static class DefaultTable
+    {
+        static final MlSinTable TABLE = new MlSinTable(ML_DEFAULT_SIZE, ML_INTERPOLATE_QUADRATIC);
+    }
+
+    /**
+     * A constructor given the number of entries and the interpolation.
+     *
+     * @param size The number of entries; a power of two, at least 16.
+     * @param interpolation One of <code>ML_INTERPOLATE_LINEAR</code> or
+     * <code>ML_INTERPOLATE_QUADRATIC</code>.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the size
+     * or interpolation is not valid.
+     */
+    public MlSinTable(int size, int interpolation)
+    {
+        super();
+        if ((size < 16) || (Integer.bitCount(size) != 1))
+            throw new IllegalArgumentException("Invalid table size " + size + ".");
+        if ((interpolation != ML_INTERPOLATE_LINEAR) && (interpolation != ML_INTERPOLATE_QUADRATIC))
+            throw new IllegalArgumentException("Invalid interpolation " + interpolation + ".");
+
+        mTable = new float[size];
+        for (int i = 0; i < size; i++)
+            mTable[i] = (float)Math.sin((2 * Math.PI * i) / size);
+        mMask = size - 1;
+        mQuarter = size >> 2;
+        mSize = size;
+        mStep = (float)((2 * Math.PI) / size);
+        mInterpolation = interpolation;
+    }
+
+    /**
+     * Get the shared table, with the default size and quadratic interpolation.
+     *
+     * @return The table is returned.
+     */
+    static public MlSinTable getDefault()
+    {
+        return DefaultTable.TABLE;
+    }
+
+    /**
+     * Get the number of entries.
+     *
+     * @return The number of entries is returned.
+     */
+    public final int getSize()
+    {
+        return mTable.length;
+    }
+
+    /**
+     * Get the interpolation.
+     *
+     * @return <code>ML_INTERPOLATE_LINEAR</code> or
+     * <code>ML_INTERPOLATE_QUADRATIC</code> is returned.
+     */
+    public final int getInterpolation()
+    {
+        return mInterpolation;
+    }
+
+    /**
+     * Get the largest error of the sine or cosine of an angle.
+     *
+     * @return The error bound is returned.
+     */
+    public final float getMaxError()
+    {
+        double h = mStep;
+        double error = (mInterpolation == ML_INTERPOLATE_LINEAR) ? ((h * h) / 8) : ((h * h * h) / 6);
+        return (float)error + ML_ROUNDING_ERROR;
+    }
+
+    // Look up the sine of an angle offset by a number of entries.
+    private float lookup(float a, int offset)
+    {
+        float t = a * mSize;
+        int i = (int)t;
+        if (t < i)
+            i--;
+        float f = t - i;
+        i += offset;
+
+        float s = mTable[i & mMask];
+        if (mInterpolation == ML_INTERPOLATE_LINEAR)
+            return s + (f * (mTable[(i + 1) & mMask] - s));
+
+        float c = mTable[(i + mQuarter) & mMask];
+        float h = f * mStep;
+        return s + (h * (c - (MlScalar.ML_SCALAR_HALF * h * s)));
+    }
+
+    /**
+     * Compute the sine of an angle.
+     *
+     * @param a The angle, in <code>MlAngle</code> units.
+     *
+     * @return The sine of the angle is returned.
+     */
+    public final float sin(float a)
+    {
+        return lookup(a, 0);
+    }
+
+    /**
+     * Compute the cosine of an angle.
+     *
+     * @param a The angle, in <code>MlAngle</code> units.
+     *
+     * @return The cosine of the angle is returned.
+     */
+    public final float cos(float a)
+    {
+        return lookup(a, mQuarter);
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * MlSnapshotReader.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads the snapshots written by <code>MlSnapshotWriter</code>.
+ * <p>
+ * Opening a snapshot reads only its header and section table; records are
+ * decoded when they are accessed. A record can be decoded into an object of
+ * the caller's each time it is accessed, or decoded once, on first access, into
+ * an object held by the reader. A snapshot file is memory-mapped, so only the
+ * pages holding records that are accessed are read; it is limited to 2 GiB.
+ * </p><p>
+ * A reader is not safe for use by multiple threads.
+ * </p>
+ */
+public class MlSnapshotReader
+{
+    // The snapshot.
+    private final ByteBuffer mBuffer;
+    // The version of the snapshot.
+    private final int mVersion;
+    // The record type of each section.
+    private final int[] mTypes;
+    // The number of records in each section.
+    private final int[] mCounts;
+    // The offset of the first record of each section.
+    private final int[] mOffsets;
+    // The records of each section decoded on first access, or null.
+    private final Object[][] mRecords;
+
+    /**
+     * A constructor given a snapshot file, which is memory-mapped.
+     *
+     * @param file The snapshot file.
+     *
+     * @throws IOException This exception is thrown if the file cannot be read,
+     * or is not a valid snapshot.
+     */
+    public MlSnapshotReader(File file) throws IOException
+    {
+        this(map(file));
+    }
+
+    /**
+     * A constructor given a buffer holding a snapshot, from its position to its
+     * limit. The buffer is used in place; its position, limit and byte order
+     * are not changed.
+     *
+     * @param buffer The buffer holding the snapshot.
+     *
+     * @throws IOException This exception is thrown if the buffer does not
+     * hold a valid snapshot.
+     */
+    public MlSnapshotReader(ByteBuffer buffer) throws IOException
+    {
+        super();
+        mBuffer = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+
+        int size = mBuffer.limit();
+        if ((size < MlSnapshotWriter.ML_SNAPSHOT_HEADER_SIZE) ||
+            (mBuffer.getInt(0) != MlSnapshotWriter.ML_SNAPSHOT_MAGIC))
+            throw new IOException("Invalid snapshot.");
+        mVersion = mBuffer.getInt(4);
+        if ((mVersion < 1) || (mVersion > MlSnapshotWriter.ML_SNAPSHOT_VERSION))
+            throw new IOException("Unsupported snapshot version " + mVersion + ".");
+
+        int count = mBuffer.getInt(8);
+        if ((count < 0) || (count > ((size - MlSnapshotWriter.ML_SNAPSHOT_HEADER_SIZE) /
+                                     MlSnapshotWriter.ML_SNAPSHOT_SECTION_SIZE)))
+            throw new IOException("Invalid snapshot.");
+
+        mTypes = new int[count];
+        mCounts = new int[count];
+        mOffsets = new int[count];
+        mRecords = new Object[count][];
+        int p = MlSnapshotWriter.ML_SNAPSHOT_HEADER_SIZE;
+        for (int i = 0; i < count; i++, p += MlSnapshotWriter.ML_SNAPSHOT_SECTION_SIZE)
+        {
+            int type = mBuffer.getInt(p);
+            int records = mBuffer.getInt(p + 4);
+            long offset = mBuffer.getLong(p + 8);
+            int recordSize = MlSnapshotWriter.recordSize(type);
+            if ((recordSize < 0) || (records < 0) || (offset < 0) || (offset > size) ||
+                (records > ((size - offset) / recordSize)))
+                throw new IOException("Invalid snapshot.");
+
+            mTypes[i] = type;
+            mCounts[i] = records;
+            mOffsets[i] = (int)offset;
+        }
+    }
+
+    // Map a snapshot file.
+    private static ByteBuffer map(File file) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            FileChannel channel = raf.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally
+        {
+            // The mapping remains valid after the file is closed.
+            raf.close();
+        }
+    }
+
+    /**
+     * Get the version of the snapshot format.
+     *
+     * @return The version is returned.
+     */
+    public final int getVersion()
+    {
+        return mVersion;
+    }
+
+    /**
+     * Get the number of sections in the snapshot.
+     *
+     * @return The number of sections is returned.
+     */
+    public final int getSectionCount()
+    {
+        return mTypes.length;
+    }
+
+    /**
+     * Get the type of the records of a section.
+     *
+     * @param section The index of the section.
+     *
+     * @return The type is returned, one of the
+     * <code>MlStreamWriter.ML_RECORD_</code> types.
+     */
+    public final int getSectionType(int section)
+    {
+        return mTypes[section];
+    }
+
+    /**
+     * Get the number of records in a section.
+     *
+     * @param section The index of the section.
+     *
+     * @return The number of records is returned.
+     */
+    public final int getRecordCount(int section)
+    {
+        return mCounts[section];
+    }
+
+    // Get the position of a record, checking the type of its section.
+    private int position(int section, int index, int type)
+    {
+        if (mTypes[section] != type)
+            throw new IllegalArgumentException("Section " + section + " has record type " +
+                mTypes[section] + ", not " + type + ".");
+        if ((index < 0) || (index >= mCounts[section]))
+            throw new IndexOutOfBoundsException("Invalid record " + index + " in section " + section + ".");
+
+        return mOffsets[section] + (index * MlSnapshotWriter.recordSize(type));
+    }
+
+    // Get the decoded records of a section, creating the array on first access.
+    private Object[] records(int section)
+    {
+        Object[] records = mRecords[section];
+        if (records == null)
+        {
+            records = new Object[mCounts[section]];
+            mRecords[section] = records;
+        }
+        return records;
+    }
+
+    /**
+     * Decode a vector.
+     *
+     * @param section The index of a section of vectors.
+     * @param index The index of the vector in the section.
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold vectors.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final void getVector3(int section, int index, MlVector3 vector)
+    {
+        int p = position(section, index, MlStreamWriter.ML_RECORD_VECTOR3);
+        vector.setValue(mBuffer.getFloat(p), mBuffer.getFloat(p + 4), mBuffer.getFloat(p + 8));
+    }
+
+    /**
+     * Get a vector, decoding it on first access.
+     *
+     * @param section The index of a section of vectors.
+     * @param index The index of the vector in the section.
+     *
+     * @return The vector is returned. The same vector, held by the reader, is
+     * returned each time; it should not be modified.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold vectors.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final MlVector3 getVector3(int section, int index)
+    {
+        position(section, index, MlStreamWriter.ML_RECORD_VECTOR3);
+        Object[] records = records(section);
+        if (records[index] == null)
+        {
+            MlVector3 vector = new MlVector3();
+            getVector3(section, index, vector);
+            records[index] = vector;
+        }
+        return (MlVector3)records[index];
+    }
+
+    /**
+     * Decode a rotation.
+     *
+     * @param section The index of a section of rotations.
+     * @param index The index of the rotation in the section.
+     * @param rotation The output rotation that will contain the results.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold rotations.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final void getRotation(int section, int index, MlRotation rotation)
+    {
+        int p = position(section, index, MlStreamWriter.ML_RECORD_ROTATION);
+        rotation.setValue(mBuffer.getFloat(p), mBuffer.getFloat(p + 4),
+            mBuffer.getFloat(p + 8), mBuffer.getFloat(p + 12));
+    }
+
+    /**
+     * Get a rotation, decoding it on first access.
+     *
+     * @param section The index of a section of rotations.
+     * @param index The index of the rotation in the section.
+     *
+     * @return The rotation is returned. The same rotation, held by the reader,
+     * is returned each time; it should not be modified.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold rotations.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final MlRotation getRotation(int section, int index)
+    {
+        position(section, index, MlStreamWriter.ML_RECORD_ROTATION);
+        Object[] records = records(section);
+        if (records[index] == null)
+        {
+            MlRotation rotation = new MlRotation();
+            getRotation(section, index, rotation);
+            records[index] = rotation;
+        }
+        return (MlRotation)records[index];
+    }
+
+    /**
+     * Decode a transform.
+     *
+     * @param section The index of a section of transforms.
+     * @param index The index of the transform in the section.
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold transforms.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final void getTransform(int section, int index, MlTransform transform)
+    {
+        int p = position(section, index, MlStreamWriter.ML_RECORD_TRANSFORM);
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++, p += 4)
+            m[o + i] = mBuffer.getFloat(p);
+        transform.changed();
+    }
+
+    /**
+     * Get a transform, decoding it on first access.
+     *
+     * @param section The index of a section of transforms.
+     * @param index The index of the transform in the section.
+     *
+     * @return The transform is returned. The same transform, held by the
+     * reader, is returned each time; it should not be modified.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the section
+     * does not hold transforms.
+     * @throws IndexOutOfBoundsException This exception is thrown if the record
+     * does not exist.
+     */
+    public final MlTransform getTransform(int section, int index)
+    {
+        position(section, index, MlStreamWriter.ML_RECORD_TRANSFORM);
+        Object[] records = records(section);
+        if (records[index] == null)
+        {
+            MlTransform transform = new MlTransform();
+            getTransform(section, index, transform);
+            records[index] = transform;
+        }
+        return (MlTransform)records[index];
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * MlSnapshotWriter.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+
+/**
+ * Writes a snapshot of sets of <code>MlVector3</code>s, <code>MlRotation</code>s
+ * and <code>MlTransform</code>s, such as the state of a world, which
+ * <code>MlSnapshotReader</code> can open without decoding it.
+ * <p>
+ * A snapshot is made of sections, each holding records of a single type. The
+ * records of a section have a fixed size, so the section table is the index
+ * of every record. All values are little-endian. The snapshot is laid out as:
+ * </p>
+ * <pre>
+ *     int    ML_SNAPSHOT_MAGIC
+ *     int    ML_SNAPSHOT_VERSION
+ *     int    number of sections
+ *     int    reserved, 0
+ *     ...    for each section:
+ *                int    record type, one of the MlStreamWriter.ML_RECORD_ types
+ *                int    number of records
+ *                long   offset of the first record from the start of the snapshot
+ *     ...    the records of each section: 3 floats for a vector, 4 for a
+ *            rotation, and the 12 elements of a transform in row-major order
+ * </pre>
+ * <p>
+ * Sections are added with the <code>add()</code> methods, which keep a
+ * reference to the arrays; they are encoded by <code>write()</code>.
+ * </p>
+ */
+public class MlSnapshotWriter
+{
+    /** The word that starts a snapshot. */
+    public static final int ML_SNAPSHOT_MAGIC = 0x4D4C534E;
+    /** The version of the snapshot format. */
+    public static final int ML_SNAPSHOT_VERSION = 1;
+
+    // The size of the snapshot header.
+    static final int ML_SNAPSHOT_HEADER_SIZE = 16;
+    // The size of an entry in the section table.
+    static final int ML_SNAPSHOT_SECTION_SIZE = 16;
+
+    // A section to be written.
+    private static class Section
+    {
+        final int mType;
+        final Object[] mRecords;
+        final int mFirst;
+        final int mCount;
+
+        Section(int type, Object[] records, int first, int count)
+        {
+            if ((first < 0) || (count < 0) || (first > (records.length - count)))
+                throw new IndexOutOfBoundsException("Invalid record range.");
+
+            mType = type;
+            mRecords = records;
+            mFirst = first;
+            mCount = count;
+        }
+    }
+
+    // The sections to be written.
+    private final ArrayList<Section> mSections = new ArrayList<Section>();
+
+    /**
+     * The default constructor.
+     */
+    public MlSnapshotWriter()
+    {
+        super();
+    }
+
+    // Get the size of a record of the specified type.
+    static int recordSize(int type)
+    {
+        switch (type)
+        {
+            case MlStreamWriter.ML_RECORD_VECTOR3:
+                return 12;
+            case MlStreamWriter.ML_RECORD_ROTATION:
+                return 16;
+            case MlStreamWriter.ML_RECORD_TRANSFORM:
+                return 48;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Add a section of vectors.
+     *
+     * @param vectors The vectors.
+     * @param first The index of the first vector of the section.
+     * @param count The number of vectors in the section.
+     *
+     * @return The index of the section is returned.
+     */
+    public final int add(MlVector3[] vectors, int first, int count)
+    {
+        mSections.add(new Section(MlStreamWriter.ML_RECORD_VECTOR3, vectors, first, count));
+        return mSections.size() - 1;
+    }
+
+    /**
+     * Add a section of rotations.
+     *
+     * @param rotations The rotations.
+     * @param first The index of the first rotation of the section.
+     * @param count The number of rotations in the section.
+     *
+     * @return The index of the section is returned.
+     */
+    public final int add(MlRotation[] rotations, int first, int count)
+    {
+        mSections.add(new Section(MlStreamWriter.ML_RECORD_ROTATION, rotations, first, count));
+        return mSections.size() - 1;
+    }
+
+    /**
+     * Add a section of transforms.
+     *
+     * @param transforms The transforms.
+     * @param first The index of the first transform of the section.
+     * @param count The number of transforms in the section.
+     *
+     * @return The index of the section is returned.
+     */
+    public final int add(MlTransform[] transforms, int first, int count)
+    {
+        mSections.add(new Section(MlStreamWriter.ML_RECORD_TRANSFORM, transforms, first, count));
+        return mSections.size() - 1;
+    }
+
+    /**
+     * Get the size of the snapshot.
+     *
+     * @return The number of bytes <code>write()</code> will write is returned.
+     */
+    public final long getSize()
+    {
+        long size = ML_SNAPSHOT_HEADER_SIZE + ((long)mSections.size() * ML_SNAPSHOT_SECTION_SIZE);
+        for (int i = 0; i < mSections.size(); i++)
+        {
+            Section s = mSections.get(i);
+            size += (long)s.mCount * recordSize(s.mType);
+        }
+        return size;
+    }
+
+    // Write the buffer to the channel, and clear it.
+    private static void drain(ByteBuffer buffer, WritableByteChannel channel) throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Encode the snapshot and write it to a channel. The channel is not closed.
+     *
+     * @param channel The channel to write to; it is expected to be in
+     * blocking mode.
+     *
+     * @throws IOException This exception is thrown if the snapshot cannot be
+     * written.
+     */
+    public final void write(WritableByteChannel channel) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MlStreamWriter.ML_DEFAULT_BUFFER_SIZE);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(ML_SNAPSHOT_MAGIC);
+        buffer.putInt(ML_SNAPSHOT_VERSION);
+        buffer.putInt(mSections.size());
+        buffer.putInt(0);
+
+        long offset = ML_SNAPSHOT_HEADER_SIZE + ((long)mSections.size() * ML_SNAPSHOT_SECTION_SIZE);
+        for (int i = 0; i < mSections.size(); i++)
+        {
+            Section s = mSections.get(i);
+            if (buffer.remaining() < ML_SNAPSHOT_SECTION_SIZE)
+                drain(buffer, channel);
+            buffer.putInt(s.mType);
+            buffer.putInt(s.mCount);
+            buffer.putLong(offset);
+            offset += (long)s.mCount * recordSize(s.mType);
+        }
+
+        for (int i = 0; i < mSections.size(); i++)
+        {
+            Section s = mSections.get(i);
+            int size = recordSize(s.mType);
+            for (int r = s.mFirst, n = s.mFirst + s.mCount; r < n; r++)
+            {
+                if (buffer.remaining() < size)
+                    drain(buffer, channel);
+                switch (s.mType)
+                {
+                    case MlStreamWriter.ML_RECORD_VECTOR3:
+                        MlMath.writeVector3(buffer, (MlVector3)s.mRecords[r]);
+                        break;
+                    case MlStreamWriter.ML_RECORD_ROTATION:
+                        MlMath.writeRotation(buffer, (MlRotation)s.mRecords[r]);
+                        break;
+                    default:
+                        MlMath.writeTransform(buffer, (MlTransform)s.mRecords[r]);
+                        break;
+                }
+            }
+        }
+        drain(buffer, channel);
+    }
+}
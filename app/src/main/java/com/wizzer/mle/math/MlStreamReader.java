@@ -0,0 +1,326 @@
+/*
+ * MlStreamReader.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Reads the frames written by <code>MlStreamWriter</code> from a channel.
+ * <p>
+ * The channel is read through a reusable direct buffer, which must be at least
+ * as large as the buffer the stream was written with. Frames are read one at a
+ * time with <code>nextFrame()</code>, and the records of the current frame with
+ * <code>nextRecord()</code> followed by the <code>read()</code> method for
+ * the record type.
+ * </p><p>
+ * The reader may start in the middle of a stream: bytes that do not belong to
+ * a complete frame with a valid checksum, such as a partial frame or a damaged
+ * one, are skipped until the next frame is found. The channel is expected to
+ * be in blocking mode.
+ * </p>
+ */
+public class MlStreamReader
+{
+    /** The value returned by <code>nextRecord()</code> at the end of a frame. */
+    public static final int ML_RECORD_END = 0;
+
+    // The channel the frames are read from.
+    private final ReadableByteChannel mChannel;
+    // The buffer holding the bytes read from the channel, between its position
+    // and limit.
+    private final ByteBuffer mBuffer;
+    // The position of the checksum of the current frame, or -1 between frames.
+    private int mFrameEnd = -1;
+    // The type of the record about to be read, or ML_RECORD_END.
+    private int mRecordType = ML_RECORD_END;
+    // The sequence number of the current frame.
+    private int mSequence;
+    // The number of bytes skipped while looking for frames.
+    private long mSkipped;
+
+    /**
+     * A constructor given the channel to read from, using a buffer of the
+     * default size.
+     *
+     * @param channel The channel the frames are read from.
+     */
+    public MlStreamReader(ReadableByteChannel channel)
+    {
+        this(channel, MlStreamWriter.ML_DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * A constructor given the channel to read from and the size of the buffer.
+     *
+     * @param channel The channel the frames are read from.
+     * @param bufferSize The size of the buffer, in bytes. Frames larger than
+     * the buffer are skipped.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the buffer
+     * cannot hold a frame with a single transform.
+     */
+    public MlStreamReader(ReadableByteChannel channel, int bufferSize)
+    {
+        super();
+        if (bufferSize < (MlStreamWriter.ML_FRAME_HEADER_SIZE + 1 + 48 +
+                          MlStreamWriter.ML_FRAME_TRAILER_SIZE))
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize + ".");
+
+        mChannel = channel;
+        mBuffer = ByteBuffer.allocateDirect(bufferSize);
+        mBuffer.limit(0);
+    }
+
+    // Make n bytes available from the position of the buffer, reading from
+    // the channel as needed. Returns false at the end of the stream.
+    private boolean fill(int n) throws IOException
+    {
+        if (mBuffer.remaining() >= n)
+            return true;
+
+        mBuffer.compact();
+        while (mBuffer.position() < n)
+        {
+            if (mChannel.read(mBuffer) < 0)
+                break;
+        }
+        mBuffer.flip();
+
+        return (mBuffer.remaining() >= n);
+    }
+
+    /**
+     * Advance to the next complete frame. Any records of the current frame
+     * that have not been read are skipped.
+     *
+     * @return <b>true</b> is returned if a frame was found. <b>false</b> is
+     * returned at the end of the stream.
+     *
+     * @throws IOException This exception is thrown if the channel cannot be read.
+     */
+    public final boolean nextFrame() throws IOException
+    {
+        final int header = MlStreamWriter.ML_FRAME_HEADER_SIZE;
+        final int overhead = header + MlStreamWriter.ML_FRAME_TRAILER_SIZE;
+
+        if (mFrameEnd >= 0)
+        {
+            mBuffer.position(mFrameEnd + MlStreamWriter.ML_FRAME_TRAILER_SIZE);
+            mFrameEnd = -1;
+            mRecordType = ML_RECORD_END;
+        }
+
+        while (fill(header))
+        {
+            int p = mBuffer.position();
+            if (mBuffer.getInt(p) == MlStreamWriter.ML_FRAME_SYNC)
+            {
+                int length = mBuffer.getInt(p + 8);
+                if ((length >= 0) && (length <= (mBuffer.capacity() - overhead)) &&
+                    fill(length + overhead))
+                {
+                    // Filling the buffer may have moved the frame.
+                    p = mBuffer.position();
+                    int start = p + header;
+                    if (MlStreamWriter.checksum(mBuffer, start, length) ==
+                        mBuffer.getInt(start + length))
+                    {
+                        mSequence = mBuffer.getInt(p + 4);
+                        mBuffer.position(start);
+                        mFrameEnd = start + length;
+                        return true;
+                    }
+                }
+            }
+
+            // Not the start of a valid frame; look from the next byte.
+            mBuffer.position(mBuffer.position() + 1);
+            mSkipped++;
+        }
+
+        mSkipped += mBuffer.remaining();
+        mBuffer.position(mBuffer.limit());
+
+        return false;
+    }
+
+    /**
+     * Get the sequence number of the current frame.
+     *
+     * @return The sequence number is returned.
+     */
+    public final int getSequence()
+    {
+        return mSequence;
+    }
+
+    /**
+     * Get the number of bytes skipped because they did not belong to a
+     * complete, valid frame.
+     *
+     * @return The number of bytes is returned.
+     */
+    public final long getSkippedBytes()
+    {
+        return mSkipped;
+    }
+
+    /**
+     * Advance to the next record of the current frame.
+     *
+     * @return The type of the record is returned, one of the
+     * <code>MlStreamWriter.ML_RECORD_</code> types, or <code>ML_RECORD_END</code>
+     * if there are no more records in the frame.
+     *
+     * @throws IOException This exception is thrown if the frame holds an
+     * unknown record type.
+     * @throws IllegalStateException This exception is thrown if there is
+     * no current frame.
+     */
+    public final int nextRecord() throws IOException
+    {
+        if (mFrameEnd < 0)
+            throw new IllegalStateException("No current frame.");
+
+        if (mRecordType != ML_RECORD_END)
+        {
+            // Skip the record that was not read.
+            mBuffer.position(mBuffer.position() + recordSize(mRecordType));
+        }
+
+        if (mBuffer.position() >= mFrameEnd)
+        {
+            mRecordType = ML_RECORD_END;
+            return ML_RECORD_END;
+        }
+
+        mRecordType = mBuffer.get() & 0xff;
+        int size = recordSize(mRecordType);
+        if ((size < 0) || ((mBuffer.position() + size) > mFrameEnd))
+        {
+            mRecordType = ML_RECORD_END;
+            mBuffer.position(mFrameEnd);
+            throw new IOException("Invalid record in frame " + mSequence + ".");
+        }
+
+        return mRecordType;
+    }
+
+    // Returns the size of the elements of a record, or -1 for an unknown type.
+    private static int recordSize(int type)
+    {
+        switch (type)
+        {
+            case MlStreamWriter.ML_RECORD_VECTOR3:
+                return 12;
+            case MlStreamWriter.ML_RECORD_ROTATION:
+                return 16;
+            case MlStreamWriter.ML_RECORD_TRANSFORM:
+                return 48;
+            default:
+                return -1;
+        }
+    }
+
+    // Check that the current record has the specified type.
+    private void checkRecord(int type) throws IOException
+    {
+        if (mRecordType != type)
+            throw new IOException("Expected record type " + type + ", found " + mRecordType + ".");
+        mRecordType = ML_RECORD_END;
+    }
+
+    /**
+     * Read the current record, a vector.
+     *
+     * @param vector The output vector that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the current record is
+     * not a vector.
+     */
+    public final void read(MlVector3 vector) throws IOException
+    {
+        checkRecord(MlStreamWriter.ML_RECORD_VECTOR3);
+        MlMath.readVector3(mBuffer, vector);
+    }
+
+    /**
+     * Read the current record, a rotation.
+     *
+     * @param rotation The output rotation that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the current record is
+     * not a rotation.
+     */
+    public final void read(MlRotation rotation) throws IOException
+    {
+        checkRecord(MlStreamWriter.ML_RECORD_ROTATION);
+        MlMath.readRotation(mBuffer, rotation);
+    }
+
+    /**
+     * Read the current record, a transform.
+     *
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the current record is
+     * not a transform.
+     */
+    public final void read(MlTransform transform) throws IOException
+    {
+        checkRecord(MlStreamWriter.ML_RECORD_TRANSFORM);
+        MlMath.readTransform(mBuffer, transform);
+    }
+
+    /**
+     * Close the channel.
+     *
+     * @throws IOException This exception is thrown if the channel cannot be closed.
+     */
+    public final void close() throws IOException
+    {
+        mFrameEnd = -1;
+        mChannel.close();
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * MlStreamWriter.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a stream of frames, each holding a sequence of <code>MlVector3</code>,
+ * <code>MlRotation</code> and <code>MlTransform</code> records, to a channel.
+ * <p>
+ * Records are encoded into a reusable direct buffer, which is written to the
+ * channel as it fills up, so streams of any length can be written without
+ * holding them in memory. A frame is laid out as:
+ * </p>
+ * <pre>
+ *     int    ML_FRAME_SYNC
+ *     int    sequence number, counting from 0
+ *     int    length of the records, in bytes
+ *     ...    records: a type byte followed by the big-endian elements
+ *     int    checksum of the records
+ * </pre>
+ * <p>
+ * The sync word and checksum let <code>MlStreamReader</code> find the next
+ * complete frame when it starts reading in the middle of a stream, or after
+ * a damaged frame. The channel is expected to be in blocking mode.
+ * </p>
+ */
+public class MlStreamWriter
+{
+    /** The word that starts every frame. */
+    public static final int ML_FRAME_SYNC = 0x4D4C4D46;
+    /** The type of a <code>MlVector3</code> record. */
+    public static final int ML_RECORD_VECTOR3 = 1;
+    /** The type of a <code>MlRotation</code> record. */
+    public static final int ML_RECORD_ROTATION = 2;
+    /** The type of a <code>MlTransform</code> record. */
+    public static final int ML_RECORD_TRANSFORM = 3;
+    /** The default size of the buffer, in bytes. */
+    public static final int ML_DEFAULT_BUFFER_SIZE = 65536;
+
+    // The size of the frame header: sync word, sequence number and length.
+    static final int ML_FRAME_HEADER_SIZE = 12;
+    // The size of the frame trailer: the checksum.
+    static final int ML_FRAME_TRAILER_SIZE = 4;
+
+    // The channel the frames are written to.
+    private final WritableByteChannel mChannel;
+    // The buffer the frames are encoded into.
+    private final ByteBuffer mBuffer;
+    // The position of the header of the current frame, or -1 between frames.
+    private int mFrameStart = -1;
+    // The sequence number of the next frame.
+    private int mSequence;
+
+    /**
+     * A constructor given the channel to write to, using a buffer of the
+     * default size.
+     *
+     * @param channel The channel the frames are written to.
+     */
+    public MlStreamWriter(WritableByteChannel channel)
+    {
+        this(channel, ML_DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * A constructor given the channel to write to and the size of the buffer.
+     * The buffer size limits the size of a frame.
+     *
+     * @param channel The channel the frames are written to.
+     * @param bufferSize The size of the buffer, in bytes.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the buffer
+     * cannot hold a frame with a single transform.
+     */
+    public MlStreamWriter(WritableByteChannel channel, int bufferSize)
+    {
+        super();
+        if (bufferSize < (ML_FRAME_HEADER_SIZE + 1 + 48 + ML_FRAME_TRAILER_SIZE))
+            throw new IllegalArgumentException("Invalid buffer size " + bufferSize + ".");
+
+        mChannel = channel;
+        mBuffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    // Compute the checksum of length bytes of the buffer, starting at offset.
+    // This is the 32-bit FNV-1a hash.
+    static int checksum(ByteBuffer buffer, int offset, int length)
+    {
+        int hash = 0x811c9dc5;
+        for (int i = offset, n = offset + length; i < n; i++)
+        {
+            hash ^= buffer.get(i) & 0xff;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    // Write the completed frames in the buffer to the channel, and move any
+    // frame in progress to the start of the buffer.
+    private void drain() throws IOException
+    {
+        int end = mBuffer.position();
+        int keep = (mFrameStart >= 0) ? mFrameStart : end;
+
+        mBuffer.position(0);
+        mBuffer.limit(keep);
+        while (mBuffer.hasRemaining())
+            mChannel.write(mBuffer);
+
+        mBuffer.limit(end);
+        mBuffer.compact();
+        if (mFrameStart >= 0)
+            mFrameStart = 0;
+    }
+
+    // Make room in the buffer for n more bytes.
+    private void reserve(int n) throws IOException
+    {
+        if (mBuffer.remaining() < n)
+        {
+            drain();
+            if (mBuffer.remaining() < n)
+                throw new IOException("Frame exceeds the buffer size.");
+        }
+    }
+
+    // Check that a frame has been begun, and make room for a record.
+    private void beginRecord(int type, int size) throws IOException
+    {
+        if (mFrameStart < 0)
+            throw new IllegalStateException("No frame has been begun.");
+
+        reserve(1 + size);
+        mBuffer.put((byte)type);
+    }
+
+    /**
+     * Begin a new frame.
+     *
+     * @throws IOException This exception is thrown if the buffered frames
+     * cannot be written to the channel.
+     * @throws IllegalStateException This exception is thrown if the previous
+     * frame has not been ended.
+     */
+    public final void beginFrame() throws IOException
+    {
+        if (mFrameStart >= 0)
+            throw new IllegalStateException("The previous frame has not been ended.");
+
+        reserve(ML_FRAME_HEADER_SIZE);
+        mFrameStart = mBuffer.position();
+        mBuffer.putInt(ML_FRAME_SYNC);
+        mBuffer.putInt(mSequence);
+        mBuffer.putInt(0);
+    }
+
+    /**
+     * Add a vector to the current frame.
+     *
+     * @param vector The vector to write.
+     *
+     * @throws IOException This exception is thrown if the buffered frames
+     * cannot be written to the channel, or the frame exceeds the buffer size.
+     * @throws IllegalStateException This exception is thrown if no frame has
+     * been begun.
+     */
+    public final void write(MlVector3 vector) throws IOException
+    {
+        beginRecord(ML_RECORD_VECTOR3, 12);
+        MlMath.writeVector3(mBuffer, vector);
+    }
+
+    /**
+     * Add a rotation to the current frame.
+     *
+     * @param rotation The rotation to write.
+     *
+     * @throws IOException This exception is thrown if the buffered frames
+     * cannot be written to the channel, or the frame exceeds the buffer size.
+     * @throws IllegalStateException This exception is thrown if no frame has
+     * been begun.
+     */
+    public final void write(MlRotation rotation) throws IOException
+    {
+        beginRecord(ML_RECORD_ROTATION, 16);
+        MlMath.writeRotation(mBuffer, rotation);
+    }
+
+    /**
+     * Add a transform to the current frame.
+     *
+     * @param transform The transform to write.
+     *
+     * @throws IOException This exception is thrown if the buffered frames
+     * cannot be written to the channel, or the frame exceeds the buffer size.
+     * @throws IllegalStateException This exception is thrown if no frame has
+     * been begun.
+     */
+    public final void write(MlTransform transform) throws IOException
+    {
+        beginRecord(ML_RECORD_TRANSFORM, 48);
+        MlMath.writeTransform(mBuffer, transform);
+    }
+
+    /**
+     * End the current frame. The frame is written to the channel when the
+     * buffer fills up, or by <code>flush()</code>.
+     *
+     * @throws IOException This exception is thrown if the buffered frames
+     * cannot be written to the channel, or the frame exceeds the buffer size.
+     * @throws IllegalStateException This exception is thrown if no frame has
+     * been begun.
+     */
+    public final void endFrame() throws IOException
+    {
+        if (mFrameStart < 0)
+            throw new IllegalStateException("No frame has been begun.");
+
+        reserve(ML_FRAME_TRAILER_SIZE);
+        int start = mFrameStart + ML_FRAME_HEADER_SIZE;
+        int length = mBuffer.position() - start;
+        mBuffer.putInt(mFrameStart + 8, length);
+        mBuffer.putInt(checksum(mBuffer, start, length));
+
+        mFrameStart = -1;
+        mSequence++;
+    }
+
+    /**
+     * Get the sequence number of the next frame, which is also the number
+     * of frames begun so far.
+     *
+     * @return The sequence number is returned.
+     */
+    public final int getSequence()
+    {
+        return mSequence;
+    }
+
+    /**
+     * Write the completed frames to the channel. A frame in progress is kept
+     * in the buffer.
+     *
+     * @throws IOException This exception is thrown if the frames cannot be
+     * written to the channel.
+     */
+    public final void flush() throws IOException
+    {
+        drain();
+    }
+
+    /**
+     * Write the completed frames to the channel and close it. A frame in
+     * progress is discarded.
+     *
+     * @throws IOException This exception is thrown if the frames cannot be
+     * written to the channel, or the channel cannot be closed.
+     */
+    public final void close() throws IOException
+    {
+        try
+        {
+            drain();
+        } finally
+        {
+            mFrameStart = -1;
+            mChannel.close();
+        }
+    }
+}
@@ -42,24 +42,85 @@ package com.wizzer.mle.math;
 
 /**
  * This class implements a 4x3 affine matrix of floating-point elements.
+ * <p>
+ * The elements are stored in a flat, row-major array of 12 floats; element
+ * (row, column) lives at <code>getData()[getOffset() + (row * 3) + column]</code>.
+ * A transform either owns its storage or is bound to a slice of a larger
+ * array that is shared with other transforms (see
+ * <code>MlTransform(float[], int)</code> and <code>bind()</code>), which avoids
+ * the per-object overhead of a nested array when many transforms are kept together.
+ * </p>
  */
 public class MlTransform
 {
-    // The internal matrix.
-    public float[][] mMatrix = new float[4][3];
-    
+    /** The number of elements in the flat storage of a transform. */
+    public static final int ML_TRANSFORM_SIZE = 12;
+
+    /** Type mask of a transform that is the identity. */
+    public static final int ML_TRANSFORM_IDENTITY      = 0x00;
+    /** Type mask bit set when the transform may have a translation. */
+    public static final int ML_TRANSFORM_TRANSLATE     = 0x01;
+    /** Type mask bit set when the upper-left 3x3 matrix may have a rotation. */
+    public static final int ML_TRANSFORM_ROTATE        = 0x02;
+    /** Type mask bit set when the upper-left 3x3 matrix may have a uniform scale. */
+    public static final int ML_TRANSFORM_UNIFORM_SCALE = 0x04;
+    /** Type mask bit set when the upper-left 3x3 matrix is a general linear transform. */
+    public static final int ML_TRANSFORM_AFFINE        = 0x08;
+
+    // The type of a transform that has not been classified yet.
+    private static final int ML_TRANSFORM_UNKNOWN = 0x80;
+    // The mask of the bits describing the upper-left 3x3 matrix.
+    private static final int ML_TRANSFORM_LINEAR_MASK =
+        ML_TRANSFORM_ROTATE | ML_TRANSFORM_UNIFORM_SCALE | ML_TRANSFORM_AFFINE;
+    // The tolerance, relative to the squared length of the rows, within which
+    // they are taken to be exactly orthogonal and of unit or equal length. It
+    // covers the rounding of a rotation built from a quaternion or from sines
+    // and cosines, which is at most a few units in the last place.
+    private static final float ML_TRANSFORM_ROUNDING_TOLERANCE = 32 * Math.ulp(1f);
+
+    // The flat, row-major storage of the matrix.
+    float[] mData;
+    // The offset of the first element of the matrix in mData.
+    int mOffset;
+    // The cached type mask, or ML_TRANSFORM_UNKNOWN.
+    private int mType = ML_TRANSFORM_UNKNOWN;
+    // Whether the storage is bound to an array that may be shared.
+    private boolean mBound;
+    // The modification count.
+    private int mVersion;
+    // Whether the inverse and normal matrix are cached.
+    private boolean mCaching;
+    // The cached inverse, and the modification count it was computed at.
+    private MlTransform mInverse;
+    private int mInverseVersion;
+    // The cached normal matrix, and the modification count it was computed at.
+    private MlTransform mNormal;
+    private int mNormalVersion;
+    /**
+     * The compatibility view of the matrix, indexed as [row][column].
+     * <p>
+     * For a transform that owns its storage the view is live: every method that
+     * modifies the transform updates it, and elements written through it are
+     * picked up by the next method that uses the transform. It is <b>null</b>
+     * for a transform bound to a shared array (see <code>bind()</code>) and for
+     * one that has dropped it (see <code>setMatrixView()</code>).
+     * </p>
+     */
+    public float[][] mMatrix;
+
     /**
      * The default constructor.
      */
     public MlTransform()
     {
         super();
+        allocate();
         setZero();
     }
 
     /**
      * A constructor given all 12 elements in row-major order.
-     * 
+     *
      * @param a11 Element for row 0, column 0.
      * @param a12 Element for row 0, column 1.
      * @param a13 Element for row 0, column 2.
@@ -75,86 +136,424 @@ public class MlTransform
      */
     public MlTransform(
         float a11, float a12, float a13,
-    	float a21, float a22, float a23,  
-    	float a31, float a32, float a33,  
+    	float a21, float a22, float a23,
+    	float a31, float a32, float a33,
     	float a41, float a42, float a43)
     {
         super();
-        mMatrix[0][0] = a11; mMatrix[0][1] = a12; mMatrix[0][2] = a13;
-        mMatrix[1][0] = a21; mMatrix[1][1] = a22; mMatrix[1][2] = a23;
-        mMatrix[2][0] = a31; mMatrix[2][1] = a32; mMatrix[2][2] = a33;
-        mMatrix[3][0] = a41; mMatrix[3][1] = a42; mMatrix[3][2] = a43;
+        allocate();
+        setValue(a11, a12, a13, a21, a22, a23, a31, a32, a33, a41, a42, a43);
     }
 
     /**
      * A constructor given an array of 4x3 floating-point
      * values.
-     * 
+     *
      * @param m The array of elements.
      */
     public MlTransform(float m[][])
     {
         super();
+        allocate();
+        setValue(m);
+    }
+
+    /**
+     * A constructor given another transform to initialize from.
+     *
+     * @param m The other transform.
+     */
+    public MlTransform(MlTransform m)
+    {
+        super();
+        allocate();
         setValue(m);
     }
 
+    /**
+     * A constructor that binds the transform to 12 consecutive elements of
+     * the specified array, in row-major order.
+     * <p>
+     * The array is used in place and may be shared with other transforms.
+     * The elements are not modified. A bound transform has no
+     * <code>mMatrix</code> compatibility view.
+     * </p>
+     *
+     * @param data The array holding the elements.
+     * @param offset The index of the first element in <b>data</b>.
+     *
+     * @throws IndexOutOfBoundsException This exception is thrown if <b>data</b>
+     * does not hold 12 elements starting at <b>offset</b>.
+     */
+    public MlTransform(float[] data, int offset)
+    {
+        super();
+        bind(data, offset);
+    }
+
+    // A zero transform that owns its storage but has no compatibility view.
+    private MlTransform(boolean view)
+    {
+        super();
+        mData = new float[ML_TRANSFORM_SIZE];
+        mOffset = 0;
+        mBound = false;
+        if (view)
+            mMatrix = new float[4][3];
+    }
+
+    // Create a zero transform without the compatibility view, for scratch and
+    // cached transforms that are never exposed through mMatrix.
+    static MlTransform createFlat()
+    {
+        return new MlTransform(false);
+    }
+
+    // Allocate private storage along with the compatibility view.
+    private void allocate()
+    {
+        mData = new float[ML_TRANSFORM_SIZE];
+        mOffset = 0;
+        mBound = false;
+        mMatrix = new float[4][3];
+    }
+
+    // Called by every method that modifies the elements of the transform.
+    void changed()
+    {
+        invalidate();
+        if (mMatrix != null)
+            mirror();
+    }
+
+    // Forget the type and bump the modification count.
+    private void invalidate()
+    {
+        mType = ML_TRANSFORM_UNKNOWN;
+        mVersion++;
+    }
+
+    // Copy the storage into the compatibility view.
+    private void mirror()
+    {
+        float[] m = mData;
+        int o = mOffset;
+        float[] row;
+        row = mMatrix[0]; row[0] = m[o];     row[1] = m[o + 1];  row[2] = m[o + 2];
+        row = mMatrix[1]; row[0] = m[o + 3]; row[1] = m[o + 4];  row[2] = m[o + 5];
+        row = mMatrix[2]; row[0] = m[o + 6]; row[1] = m[o + 7];  row[2] = m[o + 8];
+        row = mMatrix[3]; row[0] = m[o + 9]; row[1] = m[o + 10]; row[2] = m[o + 11];
+    }
+
+    // Called by every method that uses the elements of the transform. Copies
+    // the elements written through the compatibility view into the storage.
+    final void sync()
+    {
+        float[][] view = mMatrix;
+        if (view == null)
+            return;
+
+        float[] m = mData;
+        int o = mOffset;
+        boolean written = false;
+        for (int i = 0; i < 4; i++)
+        {
+            float[] row = view[i];
+            for (int j = 0; j < 3; j++, o++)
+            {
+                if (Float.floatToRawIntBits(row[j]) != Float.floatToRawIntBits(m[o]))
+                {
+                    m[o] = row[j];
+                    written = true;
+                }
+            }
+        }
+        if (written)
+            invalidate();
+    }
+
+    /**
+     * Keep or drop the <code>mMatrix</code> compatibility view of a transform
+     * that owns its storage.
+     * <p>
+     * Keeping the view in step costs a copy of the elements on every
+     * modification and a comparison on every use, so a transform that is only
+     * accessed through its methods or <code>getData()</code> may drop it.
+     * Dropping the view first picks up the elements written through it.
+     * A transform without the view may still cache (see <code>setCaching()</code>).
+     * </p>
+     *
+     * @param enable <b>true</b> to keep the view, <b>false</b> to drop it.
+     *
+     * @throws IllegalStateException This exception is thrown if the view is
+     * enabled on a bound transform.
+     */
+    public final void setMatrixView(boolean enable)
+    {
+        if (enable)
+        {
+            if (mBound)
+                throw new IllegalStateException("A bound transform has no matrix view.");
+            if (mMatrix == null)
+            {
+                mMatrix = new float[4][3];
+                mirror();
+            }
+        }
+        else
+        {
+            sync();
+            mMatrix = null;
+        }
+    }
+
+    /**
+     * Returns whether the transform has the <code>mMatrix</code> compatibility view.
+     *
+     * @return <b>true</b> is returned if <code>mMatrix</code> is live. Otherwise,
+     * <b>false</b> will be returned.
+     */
+    public final boolean hasMatrixView()
+    {
+        return mMatrix != null;
+    }
+
+    /**
+     * Bind the transform to 12 consecutive elements of the specified array,
+     * in row-major order.
+     * <p>
+     * The array is used in place and may be shared with other transforms, so a
+     * single instance may be rebound to walk over the transforms packed in a large
+     * array. The elements are not modified. Any <code>mMatrix</code> compatibility
+     * view is dropped, and caching is disabled (see <code>setCaching()</code>).
+     * </p>
+     *
+     * @param data The array holding the elements.
+     * @param offset The index of the first element in <b>data</b>.
+     *
+     * @return <b>this</b> is returned.
+     *
+     * @throws IndexOutOfBoundsException This exception is thrown if <b>data</b>
+     * does not hold 12 elements starting at <b>offset</b>.
+     */
+    public final MlTransform bind(float[] data, int offset)
+    {
+        if ((offset < 0) || (offset > (data.length - ML_TRANSFORM_SIZE)))
+            throw new IndexOutOfBoundsException("Invalid transform offset " + offset + ".");
+
+        mData = data;
+        mOffset = offset;
+        mBound = true;
+        mMatrix = null;
+        setCaching(false);
+        changed();
+
+        return this;
+    }
+
+    /**
+     * Determine whether the transform is bound to an array (see <code>bind()</code>).
+     *
+     * @return <b>true</b> is returned if the transform is bound. Otherwise,
+     * <b>false</b> will be returned for a transform that owns its storage.
+     */
+    public final boolean isBound()
+    {
+        return mBound;
+    }
+
+    /**
+     * Get the array backing the transform.
+     * <p>
+     * The array of a transform that owns its storage is only for reading; its
+     * elements are written through the <code>mMatrix</code> view or the methods
+     * of the transform.
+     * </p>
+     *
+     * @return The flat, row-major storage is returned.
+     */
+    public final float[] getData()
+    {
+        sync();
+        return mData;
+    }
+
+    /**
+     * Get the index of the first element of the transform in the array
+     * returned by <code>getData()</code>.
+     *
+     * @return The offset is returned.
+     */
+    public final int getOffset()
+    {
+        return mOffset;
+    }
+
+    /**
+     * Tell the transform that its elements were written without going through it.
+     * <p>
+     * This must be called after writing directly into the array returned by
+     * <code>getData()</code> of a transform bound to it, or through another
+     * transform bound to the same elements, so that the cached type of <b>this</b>
+     * transform is discarded. Elements written through the <code>mMatrix</code>
+     * view are picked up without it.
+     * </p>
+     */
+    public final void commitMatrix()
+    {
+        sync();
+        changed();
+    }
+
+    /**
+     * Get a single element of the transform.
+     *
+     * @param row The row, 0 through 3.
+     * @param column The column, 0 through 2.
+     *
+     * @return The element is returned.
+     */
+    public final float get(int row, int column)
+    {
+        if (mMatrix != null)
+            return mMatrix[row][column];
+        return mData[mOffset + (row * 3) + column];
+    }
+
+    /**
+     * Set a single element of the transform.
+     *
+     * @param row The row, 0 through 3.
+     * @param column The column, 0 through 2.
+     * @param value The element to set.
+     */
+    public final void set(int row, int column, float value)
+    {
+        sync();
+        mData[mOffset + (row * 3) + column] = value;
+        if (mMatrix != null)
+            mMatrix[row][column] = value;
+        invalidate();
+    }
+
+    /**
+     * Set the value of the transform given all 12 elements in row-major order.
+     *
+     * @param a11 Element for row 0, column 0.
+     * @param a12 Element for row 0, column 1.
+     * @param a13 Element for row 0, column 2.
+     * @param a21 Element for row 1, column 0.
+     * @param a22 Element for row 1, column 1.
+     * @param a23 Element for row 1, column 2.
+     * @param a31 Element for row 2, column 0.
+     * @param a32 Element for row 2, column 1.
+     * @param a33 Element for row 2, column 2.
+     * @param a41 Element for row 3, column 0.
+     * @param a42 Element for row 3, column 1.
+     * @param a43 Element for row 3, column 2.
+     */
+    public final void setValue(
+        float a11, float a12, float a13,
+        float a21, float a22, float a23,
+        float a31, float a32, float a33,
+        float a41, float a42, float a43)
+    {
+        float[] m = mData;
+        int o = mOffset;
+        m[o]     = a11; m[o + 1]  = a12; m[o + 2]  = a13;
+        m[o + 3] = a21; m[o + 4]  = a22; m[o + 5]  = a23;
+        m[o + 6] = a31; m[o + 7]  = a32; m[o + 8]  = a33;
+        m[o + 9] = a41; m[o + 10] = a42; m[o + 11] = a43;
+        changed();
+    }
+
     /**
      * Set the value of the transform based on an array of
      * 4 x 3 floating-point values.
-     * 
+     *
      * @param m The array of elements to set.
      */
     public final void setValue(float m[][])
     {
-        mMatrix[0][0] = m[0][0]; mMatrix[0][1] = m[0][1]; mMatrix[0][2] = m[0][2];
-        mMatrix[1][0] = m[1][0]; mMatrix[1][1] = m[1][1]; mMatrix[1][2] = m[1][2];
-        mMatrix[2][0] = m[2][0]; mMatrix[2][1] = m[2][1]; mMatrix[2][2] = m[2][2];
-        mMatrix[3][0] = m[3][0]; mMatrix[3][1] = m[3][1]; mMatrix[3][2] = m[3][2];
+        setValue(m[0][0], m[0][1], m[0][2],
+                 m[1][0], m[1][1], m[1][2],
+                 m[2][0], m[2][1], m[2][2],
+                 m[3][0], m[3][1], m[3][2]);
     }
-    
+
+    /**
+     * Set the value of the transform from 12 consecutive elements of the
+     * specified array, in row-major order.
+     *
+     * @param m The array of elements to set.
+     * @param offset The index of the first element in <b>m</b>.
+     */
+    public final void setValue(float[] m, int offset)
+    {
+        System.arraycopy(m, offset, mData, mOffset, ML_TRANSFORM_SIZE);
+        changed();
+    }
+
     /**
      * Set the value of the transform based on the specified <code>MlTransform</code>.
-     * 
+     *
      * @param m The tranform to use to set <b>this</b>'s value.
      */
     public final void setValue(MlTransform m)
     {
-        mMatrix[0][0] = m.mMatrix[0][0]; mMatrix[0][1] = m.mMatrix[0][1]; mMatrix[0][2] = m.mMatrix[0][2];
-        mMatrix[1][0] = m.mMatrix[1][0]; mMatrix[1][1] = m.mMatrix[1][1]; mMatrix[1][2] = m.mMatrix[1][2];
-        mMatrix[2][0] = m.mMatrix[2][0]; mMatrix[2][1] = m.mMatrix[2][1]; mMatrix[2][2] = m.mMatrix[2][2];
-        mMatrix[3][0] = m.mMatrix[3][0]; mMatrix[3][1] = m.mMatrix[3][1]; mMatrix[3][2] = m.mMatrix[3][2];
+        int type = m.peekType();
+        System.arraycopy(m.mData, m.mOffset, mData, mOffset, ML_TRANSFORM_SIZE);
+        changed();
+        mType = type;
     }
-    
+
     /**
      * Get the value of the tranform.
-     * 
+     *
      * @return The value is returned as an array of
      * 4 x 3 floating-point values.
      */
     public final float[][] getValue()
     {
+        sync();
+        float[] d = mData;
+        int o = mOffset;
         float[][] m = new float[4][3];
-        m[0][0] = mMatrix[0][0]; m[0][1] = mMatrix[0][1]; m[0][2] = mMatrix[0][2];
-        m[1][0] = mMatrix[1][0]; m[1][1] = mMatrix[1][1]; m[1][2] = mMatrix[1][2];
-        m[2][0] = mMatrix[2][0]; m[2][1] = mMatrix[2][1]; m[2][2] = mMatrix[2][2];
-        m[3][0] = mMatrix[3][0]; m[3][1] = mMatrix[3][1]; m[3][2] = mMatrix[3][2];
+        m[0][0] = d[o];     m[0][1] = d[o + 1];  m[0][2] = d[o + 2];
+        m[1][0] = d[o + 3]; m[1][1] = d[o + 4];  m[1][2] = d[o + 5];
+        m[2][0] = d[o + 6]; m[2][1] = d[o + 7];  m[2][2] = d[o + 8];
+        m[3][0] = d[o + 9]; m[3][1] = d[o + 10]; m[3][2] = d[o + 11];
         return m;
     }
-    
+
+    /**
+     * Get the value of the transform into 12 consecutive elements of the
+     * specified array, in row-major order.
+     *
+     * @param m The array the elements will be returned in.
+     * @param offset The index of the first element in <b>m</b>.
+     */
+    public final void getValue(float[] m, int offset)
+    {
+        sync();
+        System.arraycopy(mData, mOffset, m, offset, ML_TRANSFORM_SIZE);
+    }
+
     /**
      * Sets matrix to be identity.
      */
     public final void makeIdentity()
     {
-        mMatrix[0][0] = 1f; mMatrix[0][1] = 0f; mMatrix[0][2] = 0f;
-        mMatrix[1][0] = 0f; mMatrix[1][1] = 1f; mMatrix[1][2] = 0f;
-        mMatrix[2][0] = 0f; mMatrix[2][1] = 0f; mMatrix[2][2] = 1f;
-        mMatrix[3][0] = 0f; mMatrix[3][1] = 0f; mMatrix[3][2] = 0f;
+        setValue(1f, 0f, 0f,
+                 0f, 1f, 0f,
+                 0f, 0f, 1f,
+                 0f, 0f, 0f);
+        mType = ML_TRANSFORM_IDENTITY;
     }
-    
+
     /**
      * Create an identity transform.
-     * 
+     *
      * @return Returns an identity matrix.
      */
     static public final MlTransform identity()
@@ -163,74 +562,221 @@ public class MlTransform
         trans.makeIdentity();
         return trans;
     }
-    
-    // Check matrix m for identity.
-    private boolean checkIdentity(float[][] m)
+
+    // Check the matrix starting at m[o] for identity.
+    private static boolean checkIdentity(float[] m, int o)
     {
-        if ((m[0][0] == 1) && (m[0][1] == 0) && (m[0][2] == 0) &&
-            (m[1][0] == 0) && (m[1][1] == 1) && (m[1][2] == 0) &&
-            (m[2][0] == 0) && (m[2][1] == 0) && (m[2][2] == 1) &&
-            (m[3][0] == 0) && (m[3][1] == 0) && (m[3][2] == 0))
+        if ((m[o]     == 1) && (m[o + 1]  == 0) && (m[o + 2]  == 0) &&
+            (m[o + 3] == 0) && (m[o + 4]  == 1) && (m[o + 5]  == 0) &&
+            (m[o + 6] == 0) && (m[o + 7]  == 0) && (m[o + 8]  == 1) &&
+            (m[o + 9] == 0) && (m[o + 10] == 0) && (m[o + 11] == 0))
             return true;
         else
-            return false;    
+            return false;
     }
-    
+
+    // Check the upper-left 3x3 matrix starting at m[o] for identity.
+    private static boolean checkLinearIdentity(float[] m, int o)
+    {
+        if ((m[o]     == 1) && (m[o + 1]  == 0) && (m[o + 2]  == 0) &&
+            (m[o + 3] == 0) && (m[o + 4]  == 1) && (m[o + 5]  == 0) &&
+            (m[o + 6] == 0) && (m[o + 7]  == 0) && (m[o + 8]  == 1))
+            return true;
+        else
+            return false;
+    }
+
+    // Returns the cached type, or classifies the transform as far as a check of
+    // the upper-left 3x3 matrix for identity goes. ML_TRANSFORM_UNKNOWN is
+    // returned for anything other than an identity or a pure translation.
+    private int peekType()
+    {
+        sync();
+        if (mType == ML_TRANSFORM_UNKNOWN)
+        {
+            float[] m = mData;
+            int o = mOffset;
+            if (checkLinearIdentity(m, o))
+            {
+                if ((m[o + 9] == 0) && (m[o + 10] == 0) && (m[o + 11] == 0))
+                    mType = ML_TRANSFORM_IDENTITY;
+                else
+                    mType = ML_TRANSFORM_TRANSLATE;
+            }
+        }
+        return mType;
+    }
+
+    // Combines the types of two transforms into the type of their product. A
+    // product that multiplies two rotations or uniform scales is rounded, and
+    // the rounding accumulates over a chain of products, so it is left to be
+    // classified again rather than assumed to be a rotation or uniform scale.
+    private static int combineTypes(int a, int b)
+    {
+        if ((a == ML_TRANSFORM_UNKNOWN) || (b == ML_TRANSFORM_UNKNOWN))
+            return ML_TRANSFORM_UNKNOWN;
+
+        int type = a | b;
+        if ((type & ML_TRANSFORM_AFFINE) != 0)
+            type = ML_TRANSFORM_AFFINE | (type & ML_TRANSFORM_TRANSLATE);
+        else if (((a & ML_TRANSFORM_LINEAR_MASK) != 0) && ((b & ML_TRANSFORM_LINEAR_MASK) != 0))
+            type = ML_TRANSFORM_UNKNOWN;
+        return type;
+    }
+
+    /**
+     * Get the type of the transform.
+     * <p>
+     * The type is a mask of the <code>ML_TRANSFORM_TRANSLATE</code>,
+     * <code>ML_TRANSFORM_ROTATE</code>, <code>ML_TRANSFORM_UNIFORM_SCALE</code>
+     * and <code>ML_TRANSFORM_AFFINE</code> bits; <code>ML_TRANSFORM_IDENTITY</code>
+     * has none of them set. A bit may be set for a component the transform does
+     * not actually have (e.g. the product of a rotation and its inverse), but a
+     * component the transform has is never missing from the mask.
+     * <code>ML_TRANSFORM_ROTATE</code> and <code>ML_TRANSFORM_UNIFORM_SCALE</code>
+     * are reported only when the rows of the upper-left 3x3 matrix are orthogonal
+     * and of equal length within rounding, a few units in the last place; a
+     * matrix that is only close to a rotation, such as the product of a long
+     * chain of rotations, is reported as <code>ML_TRANSFORM_AFFINE</code>.
+     * </p><p>
+     * The type is computed when first needed and is kept up to date by the
+     * methods that modify the transform. Elements written into the array of a
+     * transform bound to it (see <code>bind()</code>) without going through the
+     * transform, directly or through another transform bound to the same
+     * elements, are only seen once <code>commitMatrix()</code> is called.
+     * </p><p>
+     * Methods such as <code>mulRight()</code>, <code>inverse()</code> and
+     * <code>mulVecMatrix()</code> take shortcuts based on the type. For finite
+     * elements their results equal those of the general computation, except
+     * that the sign of a zero may differ and that the inverse of a rotation is
+     * its transpose, which differs from the general inverse by rounding only.
+     * Infinite and NaN elements may not propagate as they would through the
+     * general computation.
+     * </p>
+     *
+     * @return The type mask is returned.
+     */
+    public final int getType()
+    {
+        return classify();
+    }
+
+    // Returns the cached type, classifying the transform first if needed.
+    private int classify()
+    {
+        int known = peekType();
+        if (known != ML_TRANSFORM_UNKNOWN)
+            return known;
+
+        float[] m = mData;
+        int o = mOffset;
+        float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+        float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+        float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+        int type;
+
+        if ((m[o + 9] == 0) && (m[o + 10] == 0) && (m[o + 11] == 0))
+            type = ML_TRANSFORM_IDENTITY;
+        else
+            type = ML_TRANSFORM_TRANSLATE;
+
+        if ((m01 == 0) && (m02 == 0) && (m10 == 0) &&
+            (m12 == 0) && (m20 == 0) && (m21 == 0) &&
+            (m00 == m11) && (m00 == m22) && (m00 != 0))
+        {
+            // Diagonal with equal, non-zero elements.
+            type |= ML_TRANSFORM_UNIFORM_SCALE;
+        } else
+        {
+            // The rows of a rotation, possibly scaled uniformly, are orthogonal
+            // and have equal length.
+            float k = (m00 * m00) + (m01 * m01) + (m02 * m02);
+            float tolerance = k * ML_TRANSFORM_ROUNDING_TOLERANCE;
+            float k1 = (m10 * m10) + (m11 * m11) + (m12 * m12) - k;
+            float k2 = (m20 * m20) + (m21 * m21) + (m22 * m22) - k;
+            float d01 = (m00 * m10) + (m01 * m11) + (m02 * m12);
+            float d02 = (m00 * m20) + (m01 * m21) + (m02 * m22);
+            float d12 = (m10 * m20) + (m11 * m21) + (m12 * m22);
+            if ((k >= Float.MIN_NORMAL) &&
+                (Math.abs(k1) <= tolerance) && (Math.abs(k2) <= tolerance) &&
+                (Math.abs(d01) <= tolerance) && (Math.abs(d02) <= tolerance) &&
+                (Math.abs(d12) <= tolerance))
+            {
+                type |= ML_TRANSFORM_ROTATE;
+                if (Math.abs(k - 1) > ML_TRANSFORM_ROUNDING_TOLERANCE)
+                    type |= ML_TRANSFORM_UNIFORM_SCALE;
+            } else
+                type |= ML_TRANSFORM_AFFINE;
+        }
+
+        mType = type;
+        return type;
+    }
+
     /**
      * Returns whether matrix is identity.
-     * 
+     *
      * @return <b>true</b> is returned if <b>this</b> is an identity
      * matrix. Otherwise, <b>false</b> will be returned.
      */
     public final boolean isIdentity()
     {
-        return checkIdentity(mMatrix);
+        sync();
+        return checkIdentity(mData, mOffset);
     }
-    
+
     /**
      * Set all components to zero.
      */
     public final void setZero()
     {
-        mMatrix[0][0] = 0f; mMatrix[0][1] = 0f; mMatrix[0][2] = 0f;
-        mMatrix[1][0] = 0f; mMatrix[1][1] = 0f; mMatrix[1][2] = 0f;
-        mMatrix[2][0] = 0f; mMatrix[2][1] = 0f; mMatrix[2][2] = 0f;
-        mMatrix[3][0] = 0f; mMatrix[3][1] = 0f; mMatrix[3][2] = 0f;
+        setValue(0f, 0f, 0f,
+                 0f, 0f, 0f,
+                 0f, 0f, 0f,
+                 0f, 0f, 0f);
     }
-    
+
     /**
      * Returns whether matrix is all zeros.
-     * 
+     *
      * @return <b>true</b> is returned if <b>this</b> is a zero-ed out
      * matrix. Otherwise, <b>false</b> will be returned.
      */
     public final boolean isZero()
     {
-        if ((mMatrix[0][0] == 0) && (mMatrix[0][1] == 0) && (mMatrix[0][2] == 0) &&
-            (mMatrix[1][0] == 0) && (mMatrix[1][1] == 0) && (mMatrix[1][2] == 0) &&
-            (mMatrix[2][0] == 0) && (mMatrix[2][1] == 0) && (mMatrix[2][2] == 0) &&
-            (mMatrix[3][0] == 0) && (mMatrix[3][1] == 0) && (mMatrix[3][2] == 0))
+        sync();
+        float[] m = mData;
+        int o = mOffset;
+        if ((m[o]     == 0) && (m[o + 1]  == 0) && (m[o + 2]  == 0) &&
+            (m[o + 3] == 0) && (m[o + 4]  == 0) && (m[o + 5]  == 0) &&
+            (m[o + 6] == 0) && (m[o + 7]  == 0) && (m[o + 8]  == 0) &&
+            (m[o + 9] == 0) && (m[o + 10] == 0) && (m[o + 11] == 0))
             return true;
         else
             return false;
     }
-    
+
     // Returns determinant of 3x3 submatrix composed of given row indices (0-3).
     private float det3(int r1, int r2, int r3)
     {
-        return (((mMatrix[r1][0] * mMatrix[r2][1]) * mMatrix[r3][2])
-             +  ((mMatrix[r1][1] * mMatrix[r2][2]) * mMatrix[r3][0])
-             +  ((mMatrix[r1][2] * mMatrix[r2][0]) * mMatrix[r3][1])
-             -  ((mMatrix[r1][0] * mMatrix[r2][2]) * mMatrix[r3][1])
-             -  ((mMatrix[r1][1] * mMatrix[r2][0]) * mMatrix[r3][2])
-             -  ((mMatrix[r1][2] * mMatrix[r2][1]) * mMatrix[r3][0]));
+        sync();
+        float[] m = mData;
+        int a = mOffset + (r1 * 3);
+        int b = mOffset + (r2 * 3);
+        int c = mOffset + (r3 * 3);
+        return (((m[a]     * m[b + 1]) * m[c + 2])
+             +  ((m[a + 1] * m[b + 2]) * m[c])
+             +  ((m[a + 2] * m[b])     * m[c + 1])
+             -  ((m[a]     * m[b + 2]) * m[c + 1])
+             -  ((m[a + 1] * m[b])     * m[c + 2])
+             -  ((m[a + 2] * m[b + 1]) * m[c]));
     }
-    
+
     /**
      * Returns determinant of upper-left 3x3 matrix.
-     * 
+     *
      * @return The dterminant is returned.
-     */ 
+     */
     public final float determinant()
     {
         return (det3(0, 1, 2));
@@ -241,19 +787,46 @@ public class MlTransform
      * means transpose of r, and r and u are rotations, s is a scale,
      * and t is a translation. Any projection information is returned
      * in proj.
-     * 
+     *
      * @param r The rotation of the transform.
      * @param s The scale of the transform.
      * @param u The rotation of the transform.
      * @param t The translation of the transform.
      * @param proj The projection of the transform.
-     * 
+     *
      * @return <b>true</b> is returned if <b>this</b> tranform was successfully
      * factored. Otherwise <b>false<>/b will be returned upon failer.
      */
     public final boolean factor(MlTransform r, MlVector3 s, MlTransform u,
 	       MlVector3 t, MlTransform proj)
     {
+        return factor(r, s, u, t, proj, new MlTransformWorkspace());
+    }
+
+    /**
+     * Factors a matrix m into 5 pieces: m = r s r^ u t, where r^
+     * means transpose of r, and r and u are rotations, s is a scale,
+     * and t is a translation. Any projection information is returned
+     * in proj.
+     * <p>
+     * All intermediate results are kept in the specified workspace, so
+     * no memory is allocated.
+     * </p>
+     *
+     * @param r The rotation of the transform.
+     * @param s The scale of the transform.
+     * @param u The rotation of the transform.
+     * @param t The translation of the transform.
+     * @param proj The projection of the transform.
+     * @param ws The workspace holding the intermediate results.
+     *
+     * @return <b>true</b> is returned if <b>this</b> tranform was successfully
+     * factored. Otherwise <b>false</b> will be returned upon failure.
+     */
+    public final boolean factor(MlTransform r, MlVector3 s, MlTransform u,
+           MlVector3 t, MlTransform proj, MlTransformWorkspace ws)
+    {
+        sync();
         /*
          * Variable declarations from the original source:
          *
@@ -271,65 +844,71 @@ public class MlTransform
          */
         float       det;        /* Determinant of matrix A */
         float       det_sign;   /* -1 if det < 0, 1 if det > 0 */
-        float       scratch;
-        int         i, j;
-        int[]       junk = new int[0];
-        MlTransform a = new MlTransform();
-        MlTransform b = new MlTransform();
-        MlTransform si = new MlTransform();
-        float[]     evalues = new float[3];
-        MlVector3[] evectors = new MlVector3[3];
-        
-        a.setValue(this);
+        int         i;
+        MlTransform a = ws.mA;
+        MlTransform b = ws.mB;
+        MlTransform si = ws.mSi;
+        MlTransform tmp = ws.mTmp;
+        float[]     evalues = ws.mEvalues;
+        MlVector3[] evectors = ws.mEvectors;
+        float[]     m = mData;
+        int         o = mOffset;
+
         proj.makeIdentity();
-        scratch = MlScalar.ML_SCALAR_ONE;
-        
-        for (i = 0; i < 3; i++)
-        {
-            for (j = 0; j < 3; j++)
-            {
-                a.mMatrix[i][j] = a.mMatrix[i][j] * scratch;
-            }
-            t.mVector[i] = (mMatrix[3][i] * scratch);
-            a.mMatrix[3][i] = MlScalar.ML_SCALAR_ZERO;
-        }
-        
+
+        /* (1) A is the upper-left 3x3 of this matrix, (2) t is its translation. */
+        a.setValue(m[o],     m[o + 1], m[o + 2],
+                   m[o + 3], m[o + 4], m[o + 5],
+                   m[o + 6], m[o + 7], m[o + 8],
+                   MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
+        t.setValue(m[o + 9], m[o + 10], m[o + 11]);
+
         /* (3) Compute det A. If negative, set sign = -1, else sign = 1 */
         det = a.determinant();
         det_sign = (det < MlScalar.ML_SCALAR_ZERO ? -MlScalar.ML_SCALAR_ONE : MlScalar.ML_SCALAR_ONE);
         if ((det_sign * det) < 1e-12)
             return false;  // Singular.
-        
+
         /* (4) B = A * A^  (here A^ means A transpose) */
-        b.setValue(a.mul(a.transpose()));
-        
-        b.jacobi3(evalues, evectors, junk);
+        a.transpose(tmp);
+        multiply(a.mData, a.mOffset, tmp.mData, tmp.mOffset, b.mData, b.mOffset);
+        b.changed();
+
+        b.jacobi3(evalues, evectors, ws.mRots, ws);
 
         // Find min / max eigenvalues and do ratio test to determine singularity.
-        
-        r.setValue(new MlTransform(
+
+        r.setValue(
             evectors[0].mVector[0], evectors[0].mVector[1], evectors[0].mVector[2],
         	evectors[1].mVector[0], evectors[1].mVector[1], evectors[1].mVector[2],
         	evectors[2].mVector[0], evectors[2].mVector[1], evectors[2].mVector[2],
-        	MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO));
-        
+        	MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
+
         /* Compute s = sqrt(evalues), with sign. Set si = s-inverse */
-        si.makeIdentity();
-        for (i = 0; i < 3; i++)
-        {
-            s.mVector[i] = (det_sign * (float)Math.sqrt(evalues[i]));
-            si.mMatrix[i][i] = (1 / s.mVector[i]);
-        }
-        
-        /* (5) Compute U = R^ S! R A. */
-        //u.setValue(r.mul(si.mul(r.transpose().mul(a))));
-        u.setValue(((r.mul(si)).mul(r.transpose()).mul(a)));
-        
+        s.setValue(det_sign * (float)Math.sqrt(evalues[0]),
+                   det_sign * (float)Math.sqrt(evalues[1]),
+                   det_sign * (float)Math.sqrt(evalues[2]));
+        si.setValue(1 / s.mVector[0], MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO,
+                    MlScalar.ML_SCALAR_ZERO, 1 / s.mVector[1], MlScalar.ML_SCALAR_ZERO,
+                    MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, 1 / s.mVector[2],
+                    MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
+
+        /* (5) Compute U = R S! R^ A. */
+        float[] d = b.mData;
+        int dO = b.mOffset;
+        multiply(r.mData, r.mOffset, si.mData, si.mOffset, d, dO);
+        r.transpose(tmp);
+        multiply(d, dO, tmp.mData, tmp.mOffset, d, dO);
+        multiply(d, dO, a.mData, a.mOffset, d, dO);
+        b.changed();
+        u.setValue(b);
+
         return true;
     }
 
 	// Diagonalizes 3x3 matrix. See comment for factor().
-    private void jacobi3(float evalues[], MlVector3 evectors[], int[] rots)
+    private void jacobi3(float evalues[], MlVector3 evectors[], int[] rots,
+        MlTransformWorkspace ws)
     {
 		float     sm;                // smallest entry
 		float     theta;             // angle for Jacobi rotation
@@ -337,24 +916,24 @@ public class MlTransform
 		float     tau;               // sine / (1 + cos)
 		float     h, g;              // two scrap values
 		float     thresh;            // threshold below which no rotation done
-		float[]   b = new float[3];  // more scratch
-		float[]   z = new float[3];  // more scratch
+		float[]   b = ws.mJacobiB;   // more scratch
+		float[]   z = ws.mJacobiZ;   // more scratch
 		int       p, q, i, j;
-		float[][] a = new float[3][3];
-		
+		float[]   a = ws.mJacobiA;   // a[(row * 3) + column]
+
 		// Initializations.
 		for (i = 0; i < 3; i++)
 		{
-		  b[i] = evalues[i] = mMatrix[i][i];
+		  b[i] = evalues[i] = get(i, i);
 		  z[i] = MlScalar.ML_SCALAR_ZERO;
 		  for (j = 0; j < 3; j++) {
 		      evectors[i].mVector[j] = (i == j) ? MlScalar.ML_SCALAR_ONE : MlScalar.ML_SCALAR_ZERO;
-		      a[i][j] = mMatrix[i][j];
+		      a[(i * 3) + j] = get(i, j);
 		  }
 		}
-		
+
 		rots[0] = 0;
-		
+
 		// Why 50? I don't know--it's the way the folks who wrote the
 		// algorithm did it:
 		for (i = 0; i < 50; i++)
@@ -362,73 +941,74 @@ public class MlTransform
 		  sm = MlScalar.ML_SCALAR_ZERO;
 		  for (p = 0; p < 3 - 1; p++)
 		      for (q = p+1; q < 3; q++)
-		          sm += Math.abs(a[p][q]);
-		
+		          sm += Math.abs(a[(p * 3) + q]);
+
 		  if (sm == MlScalar.ML_SCALAR_ZERO)
 		      return;
-		
+
 		  thresh = (i < 3 ?
 		            (sm * 0.022222222222f ) :
 		            MlScalar.ML_SCALAR_ZERO);
-		
+
 		  for (p = 0; p < 3 - 1; p++)
 		  {
 		      for (q = p+1; q < 3; q++)
 		      {
-		  
-		          g = (float)(100.0 * (Math.abs(a[p][q])));
-		  
+		          int pq = (p * 3) + q;
+
+		          g = (float)(100.0 * (Math.abs(a[pq])));
+
 		          if (i > 3 && (Math.abs(evalues[p]) + g == Math.abs(evalues[p])) &&
 		                       (Math.abs(evalues[q]) + g == Math.abs(evalues[q])))
-		              a[p][q] = MlScalar.ML_SCALAR_ZERO;
-		  
-		          else if (Math.abs(a[p][q]) > thresh)
+		              a[pq] = MlScalar.ML_SCALAR_ZERO;
+
+		          else if (Math.abs(a[pq]) > thresh)
 		          {
 		              h = evalues[q] - evalues[p];
-		      
+
 		              if (Math.abs(h) + g == Math.abs(h))
-		                  t = (a[p][q] / h);
+		                  t = (a[pq] / h);
 		              else {
-		                  theta = (MlScalar.ML_SCALAR_HALF * h / a[p][q]);
+		                  theta = (MlScalar.ML_SCALAR_HALF * h / a[pq]);
 		                  t = (float)(1 / (Math.abs(theta) + Math.sqrt(MlScalar.ML_SCALAR_ONE + (theta * theta))));
 		                  if (theta < MlScalar.ML_SCALAR_ZERO)  t = -t;
 		              }
 		              // End of computing tangent of rotation angle
-		      
+
 		              c = (float)(1 / (Math.sqrt(MlScalar.ML_SCALAR_ONE + (t * t))));
 		              s = (t * c);
 		              tau = (s / (MlScalar.ML_SCALAR_ONE + c));
-		              h = (t * a[p][q]);
+		              h = (t * a[pq]);
 		              z[p]    -= h;
 		              z[q]    += h;
 		              evalues[p] -= h;
 		              evalues[q] += h;
-		              a[p][q] = MlScalar.ML_SCALAR_ZERO;
-		      
+		              a[pq] = MlScalar.ML_SCALAR_ZERO;
+
 		              for (j = 0; j < p; j++)
 		              {
-		                  g = a[j][p];
-		                  h = a[j][q];
-		                  a[j][p] = g - (s * (h + (g * tau)));
-		                  a[j][q] = h + (s * (g - (h * tau)));
+		                  g = a[(j * 3) + p];
+		                  h = a[(j * 3) + q];
+		                  a[(j * 3) + p] = g - (s * (h + (g * tau)));
+		                  a[(j * 3) + q] = h + (s * (g - (h * tau)));
 		              }
-		      
+
 		              for (j = p+1; j < q; j++)
 		              {
-		                  g = a[p][j];
-		                  h = a[j][q];
-		                  a[p][j] = g - (s * (h + (g * tau)));
-		                  a[j][q] = h + (s * (g - (h * tau)));
+		                  g = a[(p * 3) + j];
+		                  h = a[(j * 3) + q];
+		                  a[(p * 3) + j] = g - (s * (h + (g * tau)));
+		                  a[(j * 3) + q] = h + (s * (g - (h * tau)));
 		              }
-		      
+
 		              for (j = q+1; j < 3; j++)
 		              {
-		                  g = a[p][j];
-		                  h = a[q][j];
-		                  a[p][j] = g - (s * (h + (g * tau)));
-		                  a[q][j] = h + (s * (g - (h * tau)));
+		                  g = a[(p * 3) + j];
+		                  h = a[(q * 3) + j];
+		                  a[(p * 3) + j] = g - (s * (h + (g * tau)));
+		                  a[(q * 3) + j] = h + (s * (g - (h * tau)));
 		              }
-		      
+
 		              for (j = 0; j < 3; j++)
 		              {
 		                  g = evectors[j].mVector[p];
@@ -440,7 +1020,7 @@ public class MlTransform
 		          rots[0]++;
 		      }
 		  }
-		  
+
 		  for (p = 0; p < 3; p++)
 		  {
 		      evalues[p] = b[p] += z[p];
@@ -478,220 +1058,851 @@ public class MlTransform
 	 * Returned Value:
 	 *    inverse matrix if input matrix is nonsingular and affine
 	 *    unchanged otherwise
+	 * <p>
+	 * A new transform is always returned, which the caller owns. With caching
+	 * enabled it is a copy of the cached inverse, so the inverse is not
+	 * computed again, but the copy is still allocated; use
+	 * <code>getInverse()</code> to reuse the cached transform itself, or
+	 * <code>inverse(MlTransform)</code> to fill in a transform of the caller's.
+	 * </p>
 	 * 
 	 * @return A new tranform is returned.
 	 */
     public final MlTransform inverse()
     {
-	    // Trivial case
-	    if (checkIdentity(mMatrix))
-	        return MlTransform.identity();
-	
-	    float[][] result = new float[4][3];
-	
-	    // Calculate the determinant of submatrix A and determine if the matrix
-	    // is singular as limited by the double precision floating 
-	    // point data representation.
-	
-	    float det_1;
-	    float pos, neg, temp;
-	
-	    pos = neg = MlScalar.ML_SCALAR_ZERO;
-	    temp =  ((mMatrix[0][0] * mMatrix[1][1]) * mMatrix[2][2]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
-	
-	    temp =  ((mMatrix[0][1] * mMatrix[1][2]) * mMatrix[2][0]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
+        if (mCaching)
+            return new MlTransform(getInverse());
+
+        return inverse(new MlTransform());
+    }
+
+    /**
+     * Find the inverse of <b>this</b> affine matrix, as <code>inverse()</code>
+     * does, without allocating a new transform.
+     *
+     * @param result The transform the inverse is stored in; it may be <b>this</b>.
+     *
+     * @return <b>result</b> is returned.
+     */
+    public final MlTransform inverse(MlTransform result)
+    {
+	    int type = classify();
+
+	    // Trivial case
+	    if (type == ML_TRANSFORM_IDENTITY)
+	    {
+	        result.makeIdentity();
+	        return result;
+	    }
+
+	    float[] m = mData;
+	    int o = mOffset;
+	    float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+	    float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+	    float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+	    float m30 = m[o + 9], m31 = m[o + 10], m32 = m[o + 11];
+
+	    if (type == ML_TRANSFORM_TRANSLATE)
+	    {
+	        // The inverse of a translation is the opposite translation.
+	        result.setValue(1f, 0f, 0f,
+	                        0f, 1f, 0f,
+	                        0f, 0f, 1f,
+	                        -m30, -m31, -m32);
+	        result.mType = type;
+	        return result;
+	    } else if ((type & ML_TRANSFORM_AFFINE) == 0)
+	    {
+	        // The upper-left 3x3 matrix is a rotation, scaled uniformly by
+	        // sqrt(k), within rounding; its inverse is its transpose divided by k.
+	        float r00 = m00, r01 = m10, r02 = m20;
+	        float r10 = m01, r11 = m11, r12 = m21;
+	        float r20 = m02, r21 = m12, r22 = m22;
+	        if ((type & ML_TRANSFORM_UNIFORM_SCALE) != 0)
+	        {
+	            float k_1 = 1 / ((m00 * m00) + (m01 * m01) + (m02 * m02));
+	            r00 *= k_1; r01 *= k_1; r02 *= k_1;
+	            r10 *= k_1; r11 *= k_1; r12 *= k_1;
+	            r20 *= k_1; r21 *= k_1; r22 *= k_1;
+	        }
+
+	        result.setValue(r00, r01, r02,
+	                        r10, r11, r12,
+	                        r20, r21, r22,
+	                        -((m30 * r00) + (m31 * r10) + (m32 * r20)),
+	                        -((m30 * r01) + (m31 * r11) + (m32 * r21)),
+	                        -((m30 * r02) + (m31 * r12) + (m32 * r22)));
+	        result.mType = type;
+	        return result;
+	    }
+
+	    // Calculate the determinant of submatrix A and determine if the matrix
+	    // is singular as limited by the double precision floating
+	    // point data representation.
+
+	    float det_1;
+	    float pos, neg, temp;
+
+	    pos = neg = MlScalar.ML_SCALAR_ZERO;
+	    temp =  ((m00 * m11) * m22);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    temp =  ((m01 * m12) * m20);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    temp =  ((m02 * m10) * m21);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    temp = -((m02 * m11) * m20);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    temp = -((m01 * m10) * m22);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    temp = -((m00 * m12) * m21);
+		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
+		else neg += temp;
+
+	    det_1 = pos + neg;
+
+	    // XXX - May want to make this a variable.
+		float PRECISION_LIMIT = (float)1.0e-15;
+
+	    // Is the submatrix A singular?
+	    temp = det_1 / (pos - neg);
+	    if (Math.abs(temp) < PRECISION_LIMIT)
+	    {
+	        result.setValue(this);
+	        return result;
+	    }
+
+	    // Calculate inverse(A) = adj(A) / det(A)
+	    det_1 = 1 / det_1;
+	    float r00 =  ((m11 * m22) - (m12 * m21)) * det_1;
+	    float r10 = -((m10 * m22) - (m12 * m20)) * det_1;
+	    float r20 =  ((m10 * m21) - (m11 * m20)) * det_1;
+	    float r01 = -((m01 * m22) - (m02 * m21)) * det_1;
+	    float r11 =  ((m00 * m22) - (m02 * m20)) * det_1;
+	    float r21 = -((m00 * m21) - (m01 * m20)) * det_1;
+	    float r02 =  ((m01 * m12) - (m02 * m11)) * det_1;
+	    float r12 = -((m00 * m12) - (m02 * m10)) * det_1;
+	    float r22 =  ((m00 * m11) - (m01 * m10)) * det_1;
+
+	    // Calculate -C * inverse(A)
+	    float r30 = -( (m30 * r00) +
+	                   (m31 * r10) +
+	                   (m32 * r20) );
+	    float r31 = -( (m30 * r01) +
+	                   (m31 * r11) +
+	                   (m32 * r21) );
+	    float r32 = -( (m30 * r02) +
+	                   (m31 * r12) +
+	                   (m32 * r22) );
+
+	    result.setValue(r00, r01, r02,
+	                    r10, r11, r12,
+	                    r20, r21, r22,
+	                    r30, r31, r32);
+	    result.mType = type;
+	    return result;
+	}
+
+    /**
+     * Enable or disable caching of the inverse and normal matrix of <b>this</b>
+     * transform.
+     * <p>
+     * While caching is enabled, <code>getInverse()</code> and
+     * <code>getNormalMatrix()</code> compute their result only when the
+     * transform has been modified since the previous call, as recorded by
+     * <code>getVersion()</code>. Caching is disabled by default.
+     * </p><p>
+     * A transform bound to an array (see <code>bind()</code>) cannot cache, since
+     * its elements may be written without going through the transform and so
+     * without changing its modification count. Binding a transform disables
+     * caching.
+     * </p>
+     *
+     * @param enable <b>true</b> to enable caching, <b>false</b> to disable it
+     * and release the cached transforms.
+     *
+     * @throws IllegalStateException This exception is thrown if caching is
+     * enabled on a bound transform.
+     */
+    public final void setCaching(boolean enable)
+    {
+        if (enable && mBound)
+            throw new IllegalStateException("Caching is not supported by a bound transform.");
+
+        mCaching = enable;
+        if (! enable)
+        {
+            mInverse = null;
+            mNormal = null;
+        }
+    }
+
+    /**
+     * Returns whether the inverse and normal matrix of <b>this</b> transform
+     * are cached.
+     *
+     * @return <b>true</b> is returned if caching is enabled. Otherwise,
+     * <b>false</b> will be returned.
+     */
+    public final boolean isCaching()
+    {
+        return mCaching;
+    }
+
+    /**
+     * Get the modification count of the transform.
+     * <p>
+     * The count is incremented by every method that modifies the transform,
+     * so two equal counts read from the same transform mean it has not been
+     * modified in between.
+     * </p>
+     *
+     * @return The modification count is returned.
+     */
+    public final int getVersion()
+    {
+        sync();
+        return mVersion;
+    }
+
+    /**
+     * Get the inverse of <b>this</b> transform.
+     * <p>
+     * If caching is enabled, the returned transform is owned by <b>this</b>
+     * transform and is reused by later calls; it must not be modified. Otherwise,
+     * a new transform is returned.
+     * </p>
+     *
+     * @return The inverse is returned.
+     */
+    public final MlTransform getInverse()
+    {
+        sync();
+        if (! mCaching)
+            return inverse(new MlTransform());
 
-	    temp =  ((mMatrix[0][2] * mMatrix[1][0]) * mMatrix[2][1]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
+        if (mInverse == null)
+            mInverse = createFlat();
+        else if (mInverseVersion == mVersion)
+            return mInverse;
 
-	    temp = -((mMatrix[0][2] * mMatrix[1][1]) * mMatrix[2][0]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
+        inverse(mInverse);
+        mInverseVersion = mVersion;
 
-	    temp = -((mMatrix[0][1] * mMatrix[1][0]) * mMatrix[2][2]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
+        return mInverse;
+    }
 
-	    temp = -((mMatrix[0][0] * mMatrix[1][2]) * mMatrix[2][1]);
-		if (temp >= MlScalar.ML_SCALAR_ZERO) pos += temp;
-		else neg += temp;
+    /**
+     * Get the normal matrix of <b>this</b> transform, the transpose of the
+     * inverse of its upper-left 3x3 matrix, with a zero translation.
+     * <p>
+     * Normals transformed by <code>mulDirMatrix()</code> of the normal matrix
+     * stay perpendicular to the surfaces transformed by <b>this</b> transform.
+     * If caching is enabled, the returned transform is owned by <b>this</b>
+     * transform and is reused by later calls; it must not be modified. Otherwise,
+     * a new transform is returned.
+     * </p>
+     *
+     * @return The normal matrix is returned.
+     */
+    public final MlTransform getNormalMatrix()
+    {
+        sync();
+        if (! mCaching)
+            return inverse(new MlTransform()).transpose();
 
-	    det_1 = pos + neg;
-	
-	    // XXX - May want to make this a variable.
-		float PRECISION_LIMIT = (float)1.0e-15;
+        if (mNormal == null)
+            mNormal = createFlat();
+        else if (mNormalVersion == mVersion)
+            return mNormal;
 
-	    // Is the submatrix A singular?
-	    temp = det_1 / (pos - neg);
-	    if (Math.abs(temp) < PRECISION_LIMIT)
-	        return new MlTransform(mMatrix);
+        getInverse().transpose(mNormal);
+        mNormalVersion = mVersion;
+
+        return mNormal;
+    }
 
-	    // Calculate inverse(A) = adj(A) / det(A)
-	    det_1 = 1 / det_1;
-	    result[0][0] =  ((mMatrix[1][1] * mMatrix[2][2]) - (mMatrix[1][2] * mMatrix[2][1]) * det_1);
-	    result[1][0] = -((mMatrix[1][0] * mMatrix[2][2]) - (mMatrix[1][2] * mMatrix[2][0]) * det_1);
-	    result[2][0] =  ((mMatrix[1][0] * mMatrix[2][1]) - (mMatrix[1][1] * mMatrix[2][0]) * det_1);
-	    result[0][1] = -((mMatrix[0][1] * mMatrix[2][2]) - (mMatrix[0][2] * mMatrix[2][1]) * det_1);
-	    result[1][1] =  ((mMatrix[0][0] * mMatrix[2][2]) - (mMatrix[0][2] * mMatrix[2][0]) * det_1);
-	    result[2][1] = -((mMatrix[0][0] * mMatrix[2][1]) - (mMatrix[0][1] * mMatrix[2][0]) * det_1);
-	    result[0][2] =  ((mMatrix[0][1] * mMatrix[1][2]) - (mMatrix[0][2] * mMatrix[1][1]) * det_1);
-	    result[1][2] = -((mMatrix[0][0] * mMatrix[1][2]) - (mMatrix[0][2] * mMatrix[1][0]) * det_1);
-	    result[2][2] =  ((mMatrix[0][0] * mMatrix[1][1]) - (mMatrix[0][1] * mMatrix[1][0]) * det_1);
-	
-	    // Calculate -C * inverse(A)
-	    result[3][0] = -( (mMatrix[3][0] * result[0][0]) +
-	                      (mMatrix[3][1] * result[1][0]) +
-	                      (mMatrix[3][2] * result[2][0]) );
-	    result[3][1] = -( (mMatrix[3][0] * result[0][1]) +
-	                      (mMatrix[3][1] * result[1][1]) +
-	                      (mMatrix[3][2] * result[2][1]) );
-	    result[3][2] = -( (mMatrix[3][0] * result[0][2]) +
-	                      (mMatrix[3][1] * result[1][2]) +
-	                      (mMatrix[3][2] * result[2][2]) );
-	
-	    return new MlTransform(result);
-	}
-    
     // Returns transpose of matrix
     public final MlTransform transpose()
     {
+        sync();
+        float[] m = mData;
+        int o = mOffset;
         return new MlTransform(
-                mMatrix[0][0], mMatrix[1][0], mMatrix[2][0],
-                mMatrix[0][1], mMatrix[1][1], mMatrix[2][1],
-                mMatrix[0][2], mMatrix[1][2], mMatrix[2][2],
+                m[o],     m[o + 3], m[o + 6],
+                m[o + 1], m[o + 4], m[o + 7],
+                m[o + 2], m[o + 5], m[o + 8],
                 0f, 0f, 0f);
     }
-    
+
+    /**
+     * Get the transpose of the upper-left 3x3 matrix, with a zero translation.
+     *
+     * @param result The transform the transpose is stored in; it may be <b>this</b>.
+     *
+     * @return <b>result</b> is returned.
+     */
+    public final MlTransform transpose(MlTransform result)
+    {
+        sync();
+        float[] m = mData;
+        int o = mOffset;
+        result.setValue(
+                m[o],     m[o + 3], m[o + 6],
+                m[o + 1], m[o + 4], m[o + 7],
+                m[o + 2], m[o + 5], m[o + 8],
+                0f, 0f, 0f);
+        return result;
+    }
+
+    // Computes d = a * b, where a, b and d are flat 4x3 matrices. The
+    // destination may be the same storage as either of the sources.
+    static void multiply(float[] a, int ao, float[] b, int bo, float[] d, int dO)
+    {
+        float a00 = a[ao],     a01 = a[ao + 1],  a02 = a[ao + 2];
+        float a10 = a[ao + 3], a11 = a[ao + 4],  a12 = a[ao + 5];
+        float a20 = a[ao + 6], a21 = a[ao + 7],  a22 = a[ao + 8];
+        float a30 = a[ao + 9], a31 = a[ao + 10], a32 = a[ao + 11];
+        float b00 = b[bo],     b01 = b[bo + 1],  b02 = b[bo + 2];
+        float b10 = b[bo + 3], b11 = b[bo + 4],  b12 = b[bo + 5];
+        float b20 = b[bo + 6], b21 = b[bo + 7],  b22 = b[bo + 8];
+        float b30 = b[bo + 9], b31 = b[bo + 10], b32 = b[bo + 11];
+
+        d[dO]      = (a00 * b00) + (a01 * b10) + (a02 * b20);
+        d[dO + 1]  = (a00 * b01) + (a01 * b11) + (a02 * b21);
+        d[dO + 2]  = (a00 * b02) + (a01 * b12) + (a02 * b22);
+        d[dO + 3]  = (a10 * b00) + (a11 * b10) + (a12 * b20);
+        d[dO + 4]  = (a10 * b01) + (a11 * b11) + (a12 * b21);
+        d[dO + 5]  = (a10 * b02) + (a11 * b12) + (a12 * b22);
+        d[dO + 6]  = (a20 * b00) + (a21 * b10) + (a22 * b20);
+        d[dO + 7]  = (a20 * b01) + (a21 * b11) + (a22 * b21);
+        d[dO + 8]  = (a20 * b02) + (a21 * b12) + (a22 * b22);
+        d[dO + 9]  = (a30 * b00) + (a31 * b10) + (a32 * b20) + b30;
+        d[dO + 10] = (a30 * b01) + (a31 * b11) + (a32 * b21) + b31;
+        d[dO + 11] = (a30 * b02) + (a31 * b12) + (a32 * b22) + b32;
+    }
+
+    // Computes d = a * t, where a is a flat 4x3 matrix and t is a pure
+    // translation. For finite elements the result equals that of multiply(),
+    // except possibly for the sign of a zero. The destination may be the same
+    // storage as either of the sources.
+    static void postTranslate(float[] a, int ao, float[] t, int to, float[] d, int dO)
+    {
+        float a30 = a[ao + 9], a31 = a[ao + 10], a32 = a[ao + 11];
+        float t30 = t[to + 9], t31 = t[to + 10], t32 = t[to + 11];
+
+        if ((d != a) || (dO != ao))
+            System.arraycopy(a, ao, d, dO, 9);
+        d[dO + 9]  = a30 + t30;
+        d[dO + 10] = a31 + t31;
+        d[dO + 11] = a32 + t32;
+    }
+
+    // Computes d = t * b, where t is a pure translation and b is a flat 4x3
+    // matrix. For finite elements the result equals that of multiply(),
+    // except possibly for the sign of a zero. The destination may be the same
+    // storage as either of the sources.
+    static void preTranslate(float[] t, int to, float[] b, int bo, float[] d, int dO)
+    {
+        float t30 = t[to + 9], t31 = t[to + 10], t32 = t[to + 11];
+        float b00 = b[bo],     b01 = b[bo + 1],  b02 = b[bo + 2];
+        float b10 = b[bo + 3], b11 = b[bo + 4],  b12 = b[bo + 5];
+        float b20 = b[bo + 6], b21 = b[bo + 7],  b22 = b[bo + 8];
+        float b30 = b[bo + 9], b31 = b[bo + 10], b32 = b[bo + 11];
+
+        if ((d != b) || (dO != bo))
+            System.arraycopy(b, bo, d, dO, 9);
+        d[dO + 9]  = (t30 * b00) + (t31 * b10) + (t32 * b20) + b30;
+        d[dO + 10] = (t30 * b01) + (t31 * b11) + (t32 * b21) + b31;
+        d[dO + 11] = (t30 * b02) + (t31 * b12) + (t32 * b22) + b32;
+    }
+
     //  Multiplies matrix by given matrix on right. this = this * trans.
     public final MlTransform mulRight(MlTransform trans)
     {
+        int a = classify();
+        int b = trans.classify();
+
         // Trivial cases.
-        if (checkIdentity(trans.mMatrix))
+        if (b == ML_TRANSFORM_IDENTITY)
             return this;
-        else if (checkIdentity(mMatrix))
+        else if (a == ML_TRANSFORM_IDENTITY)
         {
-            setValue(trans.mMatrix);
+            setValue(trans);
             return this;
         }
-        
-        float[][] tmp = new float[4][3];
-        
-        for (int i = 0; i < 3; i++)
-            for (int j = 0; j < 3; j++)
-                tmp[i][j] = ((mMatrix[i][0] * trans.mMatrix[0][j]) +
-                             (mMatrix[i][1] * trans.mMatrix[1][j]) +
-                             (mMatrix[i][2] * trans.mMatrix[2][j]));
-        
-        for (int i = 0; i < 3; i++)
-            tmp[3][i] = ((mMatrix[3][0] * trans.mMatrix[0][i]) +
-                         (mMatrix[3][1] * trans.mMatrix[1][i]) +
-                         (mMatrix[3][2] * trans.mMatrix[2][i]) +
-                         trans.mMatrix[3][i]);
 
-        // Save calculated value.
-        setValue(tmp);
-        
+        if (b == ML_TRANSFORM_TRANSLATE)
+            postTranslate(mData, mOffset, trans.mData, trans.mOffset, mData, mOffset);
+        else if (a == ML_TRANSFORM_TRANSLATE)
+            preTranslate(mData, mOffset, trans.mData, trans.mOffset, mData, mOffset);
+        else
+            multiply(mData, mOffset, trans.mData, trans.mOffset, mData, mOffset);
+        changed();
+        mType = combineTypes(a, b);
+
         return this;
     }
-    
+
     //  Multiplies matrix by given matrix on left. this = trans * this.
     public final MlTransform mulLeft(MlTransform trans)
     {
+        int a = trans.classify();
+        int b = classify();
+
         // Trivial cases.
-        if (checkIdentity(trans.mMatrix))
+        if (a == ML_TRANSFORM_IDENTITY)
             return this;
-        else if (checkIdentity(mMatrix))
+        else if (b == ML_TRANSFORM_IDENTITY)
         {
-            setValue(trans.mMatrix);
+            setValue(trans);
             return this;
         }
-        
-        float[][] tmp = new float[4][3];
-        
-        for (int i = 0; i < 3; i++)
-            for (int j = 0; j < 3; j++)
-                tmp[i][j] = ((trans.mMatrix[i][0] * mMatrix[0][j]) +
-                             (trans.mMatrix[i][1] * mMatrix[1][j]) +
-                             (trans.mMatrix[i][2] * mMatrix[2][j]));
-        
-        for (int i = 0; i < 3; i++)
-            tmp[3][i] = ((trans.mMatrix[3][0] * mMatrix[0][i]) +
-                         (trans.mMatrix[3][1] * mMatrix[1][i]) +
-                         (trans.mMatrix[3][2] * mMatrix[2][i]) +
-                         mMatrix[3][i]);
 
-        // Save calculated value.
-        setValue(tmp);
-        
+        if (b == ML_TRANSFORM_TRANSLATE)
+            postTranslate(trans.mData, trans.mOffset, mData, mOffset, mData, mOffset);
+        else if (a == ML_TRANSFORM_TRANSLATE)
+            preTranslate(trans.mData, trans.mOffset, mData, mOffset, mData, mOffset);
+        else
+            multiply(trans.mData, trans.mOffset, mData, mOffset, mData, mOffset);
+        changed();
+        mType = combineTypes(a, b);
+
         return this;
     }
-    
+
     // Multiplies matrix by given column vector, giving vector result
     public final void mulMatrixVec(MlVector3 src, MlVector3 dst)
     {
+        sync();
+        float[] m = mData;
+        int o = mOffset;
+        float[] v = src.mVector;
+        float vx = v[0], vy = v[1], vz = v[2];
         float x,y,z;
-        
-        float[] v = new float[3];
-        src.getValue(v);
-        
-        x = (mMatrix[0][0] * v[0]) + (mMatrix[0][1] * v[1]) +
-        	(mMatrix[0][2] * v[2]);
-        y = (mMatrix[1][0] * v[0]) + (mMatrix[1][1] * v[1]) +
-    		(mMatrix[1][2] * v[2]);
-        z = (mMatrix[2][0] * v[0]) + (mMatrix[2][1] * v[1]) +
-    		(mMatrix[2][2] * v[2]);
+
+        x = (m[o]     * vx) + (m[o + 1] * vy) +
+        	(m[o + 2] * vz);
+        y = (m[o + 3] * vx) + (m[o + 4] * vy) +
+    		(m[o + 5] * vz);
+        z = (m[o + 6] * vx) + (m[o + 7] * vy) +
+    		(m[o + 8] * vz);
 
         dst.setValue(x,y,z);
     }
-    
+
     // Multiplies given row vector by matrix, giving vector result
     public final void mulVecMatrix(MlVector3 src, MlVector3 dst)
     {
+        float[] m = mData;
+        int o = mOffset;
+        float[] v = src.mVector;
+        float vx = v[0], vy = v[1], vz = v[2];
         float x,y,z;
-        
-        float[] v = new float[3];
-        src.getValue(v);
-        
-        x = (v[0] * mMatrix[0][0]) + (v[1] * mMatrix[1][0]) +
-            (v[2] * mMatrix[2][0]) + mMatrix[3][0];
-        y = (v[0] * mMatrix[0][1]) + (v[1] * mMatrix[1][1]) +
-        	(v[2] * mMatrix[2][1]) + mMatrix[3][1];
-        z = (v[0] * mMatrix[0][2]) + (v[1] * mMatrix[1][2]) +
-        	(v[2] * mMatrix[2][2]) + mMatrix[3][2];
+
+        int type = peekType();
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            dst.setValue(vx,vy,vz);
+            return;
+        } else if (type == ML_TRANSFORM_TRANSLATE)
+        {
+            dst.setValue(vx + m[o + 9], vy + m[o + 10], vz + m[o + 11]);
+            return;
+        }
+
+        x = (vx * m[o])     + (vy * m[o + 3]) +
+            (vz * m[o + 6]) + m[o + 9];
+        y = (vx * m[o + 1]) + (vy * m[o + 4]) +
+        	(vz * m[o + 7]) + m[o + 10];
+        z = (vx * m[o + 2]) + (vy * m[o + 5]) +
+        	(vz * m[o + 8]) + m[o + 11];
 
         dst.setValue(x,y,z);
     }
-    
+
     // Multiplies given row vector by matrix, giving vector result
     // src is assumed to be a direction vector, so translation part of
     // matrix is ignored.
     public final void mulDirMatrix(MlVector3 src, MlVector3 dst)
     {
+        float[] m = mData;
+        int o = mOffset;
+        float[] v = src.mVector;
+        float vx = v[0], vy = v[1], vz = v[2];
         float x,y,z;
-        
-        float[] v = new float[3];
-        src.getValue(v);
-        
-        x = (v[0] * mMatrix[0][0]) + (v[1] * mMatrix[1][0]) +
-        	(v[2] * mMatrix[2][0]);
-        y = (v[0] * mMatrix[0][1]) + (v[1] * mMatrix[1][1]) +
-    		(v[2] * mMatrix[2][1]);
-        z = (v[0] * mMatrix[0][2]) + (v[1] * mMatrix[1][2]) +
-    		(v[2] * mMatrix[2][2]);
+
+        int type = peekType() & ~ML_TRANSFORM_TRANSLATE;
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            dst.setValue(vx,vy,vz);
+            return;
+        } else if (type == ML_TRANSFORM_UNIFORM_SCALE)
+        {
+            float scale = m[o];
+            dst.setValue(vx * scale, vy * scale, vz * scale);
+            return;
+        }
+
+        x = (vx * m[o])     + (vy * m[o + 3]) +
+        	(vz * m[o + 6]);
+        y = (vx * m[o + 1]) + (vy * m[o + 4]) +
+    		(vz * m[o + 7]);
+        z = (vx * m[o + 2]) + (vy * m[o + 5]) +
+    		(vz * m[o + 8]);
 
         dst.setValue(x,y,z);
     }
-    
+
+    // Multiplies given row vector, a surface normal, by the normal matrix,
+    // giving vector result. The result is not normalized.
+    public final void mulNormalMatrix(MlVector3 src, MlVector3 dst)
+    {
+        getNormalMatrix().mulDirMatrix(src, dst);
+    }
+
+    // Check that count vectors, starting at offset and stride elements apart,
+    // fit in the array.
+    static void checkBatch(float[] a, int offset, int stride, int count)
+    {
+        if (stride < 3)
+            throw new IllegalArgumentException("Invalid vector stride " + stride + ".");
+        if ((offset < 0) || (count < 0) ||
+            ((count > 0) && ((offset + ((long)(count - 1) * stride) + 3) > a.length)))
+            throw new IndexOutOfBoundsException("Invalid vector batch range.");
+    }
+
+    // Check that two vector arrays are the same size.
+    private static void checkBatch(MlVector3Array src, MlVector3Array dst)
+    {
+        if (src.size() != dst.size())
+            throw new IllegalArgumentException("Vector arrays differ in size.");
+    }
+
+    // Copies count vectors between packed arrays, unless the copy is in place.
+    private static void copyBatch(float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        if ((src == dst) && (srcOffset == dstOffset) && (srcStride == dstStride))
+            return;
+
+        for (int i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride)
+        {
+            float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+            dst[d] = vx; dst[d + 1] = vy; dst[d + 2] = vz;
+        }
+    }
+
+    /**
+     * Multiplies a batch of row vectors, points packed in an array, by the matrix.
+     * <p>
+     * The x, y and z components of point i are read from
+     * <code>src[srcOffset + (i * srcStride)]</code> and the two elements that
+     * follow it, and the result is written to the same place in <b>dst</b>
+     * using <b>dstOffset</b> and <b>dstStride</b>. The points may be interleaved
+     * with other vertex attributes. To transform the points in place, pass the
+     * same array, offset and stride for the source and destination; other
+     * overlapping ranges are not supported.
+     * </p>
+     *
+     * @param src The array holding the points.
+     * @param srcOffset The index of the first point in <b>src</b>.
+     * @param srcStride The number of elements from one point to the next in <b>src</b>.
+     * @param dst The array the transformed points are stored in.
+     * @param dstOffset The index of the first point in <b>dst</b>.
+     * @param dstStride The number of elements from one point to the next in <b>dst</b>.
+     * @param count The number of points.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> points.
+     */
+    public final void mulVecMatrix(float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        checkBatch(src, srcOffset, srcStride, count);
+        checkBatch(dst, dstOffset, dstStride, count);
+
+        int type = getType();
+        transformPoints(mData, mOffset, type, src, srcOffset, srcStride,
+            dst, dstOffset, dstStride, count);
+    }
+
+    // Multiplies a batch of points by the matrix starting at m[o], whose type
+    // is given, as mulVecMatrix() does. The ranges are not checked.
+    static void transformPoints(float[] m, int o, int type,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+        float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+        float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+        float m30 = m[o + 9], m31 = m[o + 10], m32 = m[o + 11];
+        int i, s, d;
+
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            copyBatch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+        } else if (type == ML_TRANSFORM_TRANSLATE)
+        {
+            for (i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride)
+            {
+                float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+                dst[d]     = vx + m30;
+                dst[d + 1] = vy + m31;
+                dst[d + 2] = vz + m32;
+            }
+        } else
+        {
+            for (i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride)
+            {
+                float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+                dst[d]     = (vx * m00) + (vy * m10) + (vz * m20) + m30;
+                dst[d + 1] = (vx * m01) + (vy * m11) + (vz * m21) + m31;
+                dst[d + 2] = (vx * m02) + (vy * m12) + (vz * m22) + m32;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a batch of row vectors, directions packed in an array, by the
+     * matrix. The translation part of the matrix is ignored.
+     * <p>
+     * The directions are laid out as described for the points of
+     * <code>mulVecMatrix(float[], int, int, float[], int, int, int)</code>,
+     * and may likewise be transformed in place.
+     * </p>
+     *
+     * @param src The array holding the directions.
+     * @param srcOffset The index of the first direction in <b>src</b>.
+     * @param srcStride The number of elements from one direction to the next in <b>src</b>.
+     * @param dst The array the transformed directions are stored in.
+     * @param dstOffset The index of the first direction in <b>dst</b>.
+     * @param dstStride The number of elements from one direction to the next in <b>dst</b>.
+     * @param count The number of directions.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> directions.
+     */
+    public final void mulDirMatrix(float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        checkBatch(src, srcOffset, srcStride, count);
+        checkBatch(dst, dstOffset, dstStride, count);
+
+        int type = getType();
+        transformDirections(mData, mOffset, type, src, srcOffset, srcStride,
+            dst, dstOffset, dstStride, count);
+    }
+
+    // Multiplies a batch of directions by the matrix starting at m[o], whose
+    // type is given, as mulDirMatrix() does. The ranges are not checked.
+    static void transformDirections(float[] m, int o, int type,
+        float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+        float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+        float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+        int i, s, d;
+
+        type &= ~ML_TRANSFORM_TRANSLATE;
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            copyBatch(src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+        } else if (type == ML_TRANSFORM_UNIFORM_SCALE)
+        {
+            for (i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride)
+            {
+                float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+                dst[d]     = vx * m00;
+                dst[d + 1] = vy * m00;
+                dst[d + 2] = vz * m00;
+            }
+        } else
+        {
+            for (i = 0, s = srcOffset, d = dstOffset; i < count; i++, s += srcStride, d += dstStride)
+            {
+                float vx = src[s], vy = src[s + 1], vz = src[s + 2];
+                dst[d]     = (vx * m00) + (vy * m10) + (vz * m20);
+                dst[d + 1] = (vx * m01) + (vy * m11) + (vz * m21);
+                dst[d + 2] = (vx * m02) + (vy * m12) + (vz * m22);
+            }
+        }
+    }
+
+    /**
+     * Multiplies a batch of row vectors, surface normals packed in an array, by
+     * the normal matrix returned by <code>getNormalMatrix()</code>. The results
+     * are not normalized.
+     * <p>
+     * The normals are laid out as described for the points of
+     * <code>mulVecMatrix(float[], int, int, float[], int, int, int)</code>,
+     * and may likewise be transformed in place.
+     * </p>
+     *
+     * @param src The array holding the normals.
+     * @param srcOffset The index of the first normal in <b>src</b>.
+     * @param srcStride The number of elements from one normal to the next in <b>src</b>.
+     * @param dst The array the transformed normals are stored in.
+     * @param dstOffset The index of the first normal in <b>dst</b>.
+     * @param dstStride The number of elements from one normal to the next in <b>dst</b>.
+     * @param count The number of normals.
+     *
+     * @throws IllegalArgumentException This exception is thrown if a stride
+     * is less than 3.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> normals.
+     */
+    public final void mulNormalMatrix(float[] src, int srcOffset, int srcStride,
+        float[] dst, int dstOffset, int dstStride, int count)
+    {
+        getNormalMatrix().mulDirMatrix(src, srcOffset, srcStride, dst, dstOffset, dstStride, count);
+    }
+
+    /**
+     * Multiplies a batch of row vectors, points held as a structure of arrays,
+     * by the matrix.
+     *
+     * @param src The points.
+     * @param dst The transformed points. It may be <b>src</b>, to transform
+     * the points in place.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * arrays differ in size.
+     */
+    public final void mulVecMatrix(MlVector3Array src, MlVector3Array dst)
+    {
+        sync();
+        checkBatch(src, dst);
+
+        float[] m = mData;
+        int o = mOffset;
+        float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+        float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+        float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+        float m30 = m[o + 9], m31 = m[o + 10], m32 = m[o + 11];
+        float[] sx = src.mX, sy = src.mY, sz = src.mZ;
+        float[] dx = dst.mX, dy = dst.mY, dz = dst.mZ;
+        int n = sx.length;
+
+        int type = getType();
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            if (src != dst)
+            {
+                System.arraycopy(sx, 0, dx, 0, n);
+                System.arraycopy(sy, 0, dy, 0, n);
+                System.arraycopy(sz, 0, dz, 0, n);
+            }
+        } else if (type == ML_TRANSFORM_TRANSLATE)
+        {
+            for (int i = 0; i < n; i++)
+            {
+                dx[i] = sx[i] + m30;
+                dy[i] = sy[i] + m31;
+                dz[i] = sz[i] + m32;
+            }
+        } else
+        {
+            for (int i = 0; i < n; i++)
+            {
+                float vx = sx[i], vy = sy[i], vz = sz[i];
+                dx[i] = (vx * m00) + (vy * m10) + (vz * m20) + m30;
+                dy[i] = (vx * m01) + (vy * m11) + (vz * m21) + m31;
+                dz[i] = (vx * m02) + (vy * m12) + (vz * m22) + m32;
+            }
+        }
+    }
+
+    /**
+     * Multiplies a batch of row vectors, directions held as a structure of
+     * arrays, by the matrix. The translation part of the matrix is ignored.
+     *
+     * @param src The directions.
+     * @param dst The transformed directions. It may be <b>src</b>, to transform
+     * the directions in place.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * arrays differ in size.
+     */
+    public final void mulDirMatrix(MlVector3Array src, MlVector3Array dst)
+    {
+        sync();
+        checkBatch(src, dst);
+
+        float[] m = mData;
+        int o = mOffset;
+        float m00 = m[o],     m01 = m[o + 1],  m02 = m[o + 2];
+        float m10 = m[o + 3], m11 = m[o + 4],  m12 = m[o + 5];
+        float m20 = m[o + 6], m21 = m[o + 7],  m22 = m[o + 8];
+        float[] sx = src.mX, sy = src.mY, sz = src.mZ;
+        float[] dx = dst.mX, dy = dst.mY, dz = dst.mZ;
+        int n = sx.length;
+
+        int type = getType() & ~ML_TRANSFORM_TRANSLATE;
+        if (type == ML_TRANSFORM_IDENTITY)
+        {
+            if (src != dst)
+            {
+                System.arraycopy(sx, 0, dx, 0, n);
+                System.arraycopy(sy, 0, dy, 0, n);
+                System.arraycopy(sz, 0, dz, 0, n);
+            }
+        } else if (type == ML_TRANSFORM_UNIFORM_SCALE)
+        {
+            for (int i = 0; i < n; i++)
+            {
+                dx[i] = sx[i] * m00;
+                dy[i] = sy[i] * m00;
+                dz[i] = sz[i] * m00;
+            }
+        } else
+        {
+            for (int i = 0; i < n; i++)
+            {
+                float vx = sx[i], vy = sy[i], vz = sz[i];
+                dx[i] = (vx * m00) + (vy * m10) + (vz * m20);
+                dy[i] = (vx * m01) + (vy * m11) + (vz * m21);
+                dz[i] = (vx * m02) + (vy * m12) + (vz * m22);
+            }
+        }
+    }
+
+    /**
+     * Multiplies a batch of row vectors, surface normals held as a structure of
+     * arrays, by the normal matrix returned by <code>getNormalMatrix()</code>.
+     * The results are not normalized.
+     *
+     * @param src The normals.
+     * @param dst The transformed normals. It may be <b>src</b>, to transform
+     * the normals in place.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * arrays differ in size.
+     */
+    public final void mulNormalMatrix(MlVector3Array src, MlVector3Array dst)
+    {
+        getNormalMatrix().mulDirMatrix(src, dst);
+    }
+
     public final MlTransform mul(MlTransform m)
     {
         return mulRight(m);
     }
-    
+
     public final MlTransform mul(MlTransform left, MlTransform right)
     {
         MlTransform m = new MlTransform();
@@ -703,16 +1914,17 @@ public class MlTransform
     // Equality comparison within given tolerance, for each component
     public final boolean equals(MlTransform trans, float tolerance)
     {
-        int i, j;
+        sync();
+        trans.sync();
+        int i;
         float d;
 
-        for (i = 0; i < 4; i++)
-            for (j = 0; j < 3; j++)
-            {
-                d = mMatrix[i][j] - trans.mMatrix[i][j];
-                if (Math.abs(d) > tolerance)
-                    return false;
-            }
+        for (i = 0; i < ML_TRANSFORM_SIZE; i++)
+        {
+            d = mData[mOffset + i] - trans.mData[trans.mOffset + i];
+            if (Math.abs(d) > tolerance)
+                return false;
+        }
 
         return true;
     }
@@ -730,28 +1942,53 @@ public class MlTransform
 		      MlRotation scaleOrientation,
 		      MlVector3 center)
     {
-        MlTransform so = new MlTransform();
-        MlTransform rot = new MlTransform();
-        MlTransform proj = new MlTransform();
-        if (! center.equals(new MlVector3(MlScalar.ML_SCALAR_ZERO,MlScalar.ML_SCALAR_ZERO,MlScalar.ML_SCALAR_ZERO)))
+        getTransform(translation, rotation, scaleFactor, scaleOrientation, center,
+            new MlTransformWorkspace());
+    }
+
+    /**
+     * Decomposes the matrix into a translation, rotation, scale,
+     * and scale orientation, as <code>getTransform(MlVector3, MlRotation,
+     * MlVector3, MlRotation, MlVector3)</code> does, keeping all intermediate
+     * results in the specified workspace so that no memory is allocated.
+     *
+     * @param translation The translation of the transform.
+     * @param rotation The rotation of the transform.
+     * @param scaleFactor The scale of the transform.
+     * @param scaleOrientation The scale orientation of the transform.
+     * @param center The center point for rotation and scaling.
+     * @param ws The workspace holding the intermediate results.
+     */
+    public final void getTransform(MlVector3 translation,
+              MlRotation rotation,
+              MlVector3 scaleFactor,
+              MlRotation scaleOrientation,
+              MlVector3 center,
+              MlTransformWorkspace ws)
+    {
+        MlTransform so = ws.mSo;
+        MlTransform rot = ws.mRot;
+        MlTransform proj = ws.mProj;
+        if (! center.isZero())
         {
 	        // To get fields for a non-0 center, we
 	        // need to decompose a new matrix "m" such
 	        // that [-center][m][center] = [this]
 	        // i.e., [m] = [center][this][-center]
-            MlTransform m = new MlTransform();
-            MlTransform c = new MlTransform();
-            m.setTranslation(center.unaryNegate());
+            MlTransform m = ws.mCentered;
+            MlTransform c = ws.mCenter;
+            m.setTranslation(center.unaryNegate(ws.mVector));
             m.mulLeft(this);
             c.setTranslation(center);
             m.mulLeft(c);
-            m.factor(so,scaleFactor,rot,translation,proj);
+            m.factor(so,scaleFactor,rot,translation,proj,ws);
         } else
-            factor(so,scaleFactor,rot,translation,proj);
+            factor(so,scaleFactor,rot,translation,proj,ws);
 
-        // Have to transpose because factor 
+        // Have to transpose because factor
         // gives us transpose of correct answer.
-        scaleOrientation.setValue(so.transpose());
+        so.transpose(ws.mTmp);
+        scaleOrientation.setValue(ws.mTmp);
 
         rotation.setValue(rot);
     }
@@ -891,9 +2128,9 @@ public class MlTransform
         /*
         for (int i = 0; i < 3; i++)
         {
-            s[i] = (mMatrix[i][0] * mMatrix[i][0]) +
-                   (mMatrix[i][1] * mMatrix[i][1]) +
-                   (mMatrix[i][2] * mMatrix[i][2]);
+            s[i] = (get(i, 0) * get(i, 0)) +
+                   (get(i, 1) * get(i, 1)) +
+                   (get(i, 2) * get(i, 2));
             s[i] = (float)Math.sqrt(s[i]);
         }
         */
@@ -911,11 +2148,14 @@ public class MlTransform
      */
     public final void getScale(float[] scale)
     {
-        for (int i = 0; i < 3; i++)
+        sync();
+        float[] m = mData;
+        int o = mOffset;
+        for (int i = 0; i < 3; i++, o += 3)
         {
-            scale[i] = (mMatrix[i][0] * mMatrix[i][0]) +
-                       (mMatrix[i][1] * mMatrix[i][1]) +
-                       (mMatrix[i][2] * mMatrix[i][2]);
+            scale[i] = (m[o]     * m[o]) +
+                       (m[o + 1] * m[o + 1]) +
+                       (m[o + 2] * m[o + 2]);
             scale[i] = (float)Math.sqrt(scale[i]);
         }
     }
@@ -923,10 +2163,14 @@ public class MlTransform
     // Sets matrix to scale by given uniform factor
     public final void setScale(float scale)
     {
-        mMatrix[0][0] = scale; mMatrix[0][1] = 0f; mMatrix[0][2] = 0f;
-        mMatrix[1][0] = 0f; mMatrix[1][1] = scale; mMatrix[1][2] = 0f;
-        mMatrix[2][0] = 0f; mMatrix[2][1] = 0f; mMatrix[2][2] = scale;
-        mMatrix[3][0] = 0f; mMatrix[3][1] = 0f; mMatrix[3][2] = 0f;
+        setValue(scale, 0f, 0f,
+                 0f, scale, 0f,
+                 0f, 0f, scale,
+                 0f, 0f, 0f);
+        if (scale == 1)
+            mType = ML_TRANSFORM_IDENTITY;
+        else if (scale != 0)
+            mType = ML_TRANSFORM_UNIFORM_SCALE;
     }
 
     // Sets matrix to scale by given vector.
@@ -939,10 +2183,10 @@ public class MlTransform
     
     private void setScale(float[] v)
     {
-        mMatrix[0][0] = v[0]; mMatrix[0][1] = 0f; mMatrix[0][2] = 0f;
-        mMatrix[1][0] = 0f; mMatrix[1][1] = v[1]; mMatrix[1][2] = 0f;
-        mMatrix[2][0] = 0f; mMatrix[2][1] = 0f; mMatrix[2][2] = v[2];
-        mMatrix[3][0] = 0f; mMatrix[3][1] = 0f; mMatrix[3][2] = 0f;
+        setValue(v[0], 0f, 0f,
+                 0f, v[1], 0f,
+                 0f, 0f, v[2],
+                 0f, 0f, 0f);
     }
 
 	//  Sets the scales of the given transform to the X,Y,Z nonuniform scales
@@ -984,6 +2228,24 @@ public class MlTransform
 	 */
 	public final void getRotation(float r[])
 	{
+        getRotation(r, MlTrig.ML_PRECISION_EXACT);
+	}
+
+    /**
+     * Get the rotation as an array of 3 components (theta x, theta y, theta z),
+     * computing the angles at a precision tier. <code>MlTrig.ML_PRECISION_FAST</code>
+     * avoids the double precision <code>java.lang.Math</code> functions, for
+     * extracting the rotations of many transforms.
+     *
+     * @param r The result is returned in this array.
+     * @param precision One of the <code>MlTrig</code> precision tiers.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    public final void getRotation(float r[], int precision)
+    {
+        MlTrig trig = MlTrig.getInstance(precision);
         float[][] t = new float[4][3];
         int i, j;
 
@@ -994,7 +2256,7 @@ public class MlTransform
 
              for (j = 0; j < 3; j++)
              {
-                 t[i][j] = mMatrix[i][j];
+                 t[i][j] = get(i, j);
                  total += t[i][j] * t[i][j];
              }
              if (total != MlScalar.ML_SCALAR_ZERO)
@@ -1006,19 +2268,19 @@ public class MlTransform
         }
         
         // Get Y rotation
-        r[1] = MlAngle.angleToDegrees(MlMath.mlAsin(t[2][0]));
+        r[1] = MlAngle.angleToDegrees(trig.asin(t[2][0]));
 
         if (Math.abs(t[2][0] - MlScalar.ML_SCALAR_ONE) > 0.001) 
         {
             // Get X and Z rotations
-            r[0] = MlAngle.angleToDegrees((float)MlMath.mlAtan2(-t[2][1],t[2][2]));
-            r[2] = MlAngle.angleToDegrees((float)MlMath.mlAtan2(-t[1][0],t[0][0]));
+            r[0] = MlAngle.angleToDegrees(trig.atan2(-t[2][1],t[2][2]));
+            r[2] = MlAngle.angleToDegrees(trig.atan2(-t[1][0],t[0][0]));
         } else
         {
             // Have Gimbal lock -- lost Z degree of freedom, so
             // express rotation as only a X rotation.
             // This can be avoided by moving to quaternion rotations!
-            r[0] = MlAngle.angleToDegrees((float)MlMath.mlAtan2(t[0][1],t[2][1]));
+            r[0] = MlAngle.angleToDegrees(trig.atan2(t[0][1],t[2][1]));
             r[2] = MlScalar.ML_SCALAR_ZERO;
         }
 
@@ -1061,7 +2323,7 @@ public class MlTransform
 
             for (j = 0; j < 3; j++)
             {
-                t[i][j] = mMatrix[i][j];
+                t[i][j] = get(i, j);
                 total += t[i][j] * t[i][j];
             }
             if (total != MlScalar.ML_SCALAR_ZERO)
@@ -1271,57 +2533,49 @@ public class MlTransform
     
     public final void applyRotation(float[] r)
     {
-        MlTransform mat = new MlTransform();
+        MlTransform mat = createFlat();
         mat.makeIdentity();
+        float[] sc = new float[2];
 
         // Apply Z Rotation
         if (r[2] != MlScalar.ML_SCALAR_ZERO)
         {
-            float angle = MlAngle.degreesToAngle(r[2]);
-            float sz = MlMath.mlSin(angle);
-            float cz = MlMath.mlCos(angle);
-            mat.mMatrix[0][0] = cz;
-            mat.mMatrix[0][1] = sz;
-            mat.mMatrix[1][0] = -sz;
-            mat.mMatrix[1][1] = cz;
-            mat.mMatrix[2][2] = MlScalar.ML_SCALAR_ONE;
-            mat.mMatrix[0][2] = mat.mMatrix[1][2] = mat.mMatrix[2][0] =
-            mat.mMatrix[2][1] = mat.mMatrix[3][0] = mat.mMatrix[3][1] =
-            mat.mMatrix[3][2] = MlScalar.ML_SCALAR_ZERO;
+            MlMath.mlSinCos(MlAngle.degreesToAngle(r[2]), sc, 0);
+            float sz = sc[0];
+            float cz = sc[1];
+            mat.setValue(
+                cz, sz, MlScalar.ML_SCALAR_ZERO,
+                -sz, cz, MlScalar.ML_SCALAR_ZERO,
+                MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ONE,
+                MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
             mulRight(mat);
         }
 
         // Apply Y Rotation
         if (r[1] != MlScalar.ML_SCALAR_ZERO)
         {
-            float angle = MlAngle.degreesToAngle(r[1]);
-            float sy = MlMath.mlSin(angle);
-            float cy = MlMath.mlCos(angle);
-            mat.mMatrix[0][0] = cy;
-            mat.mMatrix[0][2] = -sy;
-            mat.mMatrix[1][1] = MlScalar.ML_SCALAR_ONE;
-            mat.mMatrix[2][0] = sy;
-            mat.mMatrix[2][2] = cy;
-            mat.mMatrix[0][1] = mat.mMatrix[1][0] = mat.mMatrix[1][2] =
-            mat.mMatrix[2][1] = mat.mMatrix[3][0] = mat.mMatrix[3][1] =
-            mat.mMatrix[3][2] = MlScalar.ML_SCALAR_ZERO;
+            MlMath.mlSinCos(MlAngle.degreesToAngle(r[1]), sc, 0);
+            float sy = sc[0];
+            float cy = sc[1];
+            mat.setValue(
+                cy, MlScalar.ML_SCALAR_ZERO, -sy,
+                MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ONE, MlScalar.ML_SCALAR_ZERO,
+                sy, MlScalar.ML_SCALAR_ZERO, cy,
+                MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
             mulRight(mat);
          }
 
         // Apply X Rotation
         if (r[0] != MlScalar.ML_SCALAR_ZERO)
         {
-            float angle = MlAngle.degreesToAngle(r[0]);
-            float sx = MlMath.mlSin(angle);
-            float cx = (float)MlMath.mlCos(angle);
-            mat.mMatrix[0][0]= MlScalar.ML_SCALAR_ONE;
-            mat.mMatrix[1][1] = cx;
-            mat.mMatrix[1][2] = sx;
-            mat.mMatrix[2][1] = -sx;
-            mat.mMatrix[2][2] = cx;
-            mat.mMatrix[0][1] = mat.mMatrix[0][2] = mat.mMatrix[1][0] =
-            mat.mMatrix[2][0] = mat.mMatrix[3][0] = mat.mMatrix[3][1] =
-            mat.mMatrix[3][2] = MlScalar.ML_SCALAR_ZERO;
+            MlMath.mlSinCos(MlAngle.degreesToAngle(r[0]), sc, 0);
+            float sx = sc[0];
+            float cx = sc[1];
+            mat.setValue(
+                MlScalar.ML_SCALAR_ONE, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO,
+                MlScalar.ML_SCALAR_ZERO, cx, sx,
+                MlScalar.ML_SCALAR_ZERO, -sx, cx,
+                MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
             mulRight(mat);
         }
     }
@@ -1337,20 +2591,21 @@ public class MlTransform
     
     public final void getTranslation(float[] v)
     {
+        sync();
         for (int i = 0; i < 3; i++)
-            v[i] = mMatrix[3][i];
+            v[i] = mData[mOffset + 9 + i];
     }
     
     // Sets matrix to the translation matrix given by the vector
     public final void setTranslation(MlVector3 translation)
     {
-        float[] t = new float[3];
-        translation.getValue(t);
+        float[] t = translation.mVector;
 
-        mMatrix[0][0] = 1f; mMatrix[0][1] = 0f; mMatrix[0][2] = 0f;
-        mMatrix[1][0] = 0f; mMatrix[1][1] = 1f; mMatrix[1][2] = 0f;
-        mMatrix[2][0] = 0f; mMatrix[2][1] = 0f; mMatrix[2][2] = 1f;
-        mMatrix[3][0] = t[0]; mMatrix[3][1] = t[1]; mMatrix[3][2] = t[2];
+        setValue(1f, 0f, 0f,
+                 0f, 1f, 0f,
+                 0f, 0f, 1f,
+                 t[0], t[1], t[2]);
+        mType = ML_TRANSFORM_TRANSLATE;
      }
 
     // Sets the translation of the given transform to the X,Y,Z translations 
@@ -1364,19 +2619,29 @@ public class MlTransform
 
     private void setTranslationOnly(float[]t)
     {
+        sync();
+        int type = mType;
         for (int i = 0; i < 3; i++)
-            mMatrix[3][i] = t[i];
+            mData[mOffset + 9 + i] = t[i];
+        changed();
+        if (type != ML_TRANSFORM_UNKNOWN)
+            mType = type | ML_TRANSFORM_TRANSLATE;
     }
     
     // Adds the given X,Y,Z translations to the existing translation
     // contained in the transform
     public final void applyTranslation(MlVector3 translation)
     {
+        sync();
         float[] t = new float[3];
         translation.getValue(t);
 
+        int type = mType;
         for (int i = 0; i < 3; i++)
-            mMatrix[3][i] = mMatrix[3][i] + t[i];
+            mData[mOffset + 9 + i] = mData[mOffset + 9 + i] + t[i];
+        changed();
+        if (type != ML_TRANSFORM_UNKNOWN)
+            mType = type | ML_TRANSFORM_TRANSLATE;
     }
 
 }
@@ -0,0 +1,316 @@
+/*
+ * MlTransformBuffer.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * A direct, native-order buffer holding an array of transforms in one of the
+ * <code>MlBufferExporter</code> layouts, for uploading to a GPU, which tracks
+ * the range of transforms written since the last upload.
+ * <p>
+ * Transforms are written with <code>set()</code>, or with <code>update()</code>,
+ * which rewrites only the transforms that have changed since they were last
+ * written, using their version. After uploading the dirty range, for example
+ * with <code>glBufferSubData</code>, call <code>clearDirty()</code>.
+ * </p>
+ */
+public class MlTransformBuffer
+{
+    // The exporter used to lay out the transforms.
+    private final MlBufferExporter mExporter = new MlBufferExporter();
+    // The array a single transform is laid out in.
+    private final float[] mScratch = new float[16];
+    // The storage of the buffer.
+    private final ByteBuffer mBuffer;
+    // The float view of the storage, used for writing.
+    private final FloatBuffer mFloats;
+    // The layout of the transforms.
+    private final int mLayout;
+    // The number of floats per transform.
+    private final int mStride;
+    // The transform last written at each index, and its version.
+    private final MlTransform[] mSources;
+    private final int[] mVersions;
+    // The dirty range of transforms, empty when mDirtyFirst >= mDirtyEnd.
+    private int mDirtyFirst;
+    private int mDirtyEnd;
+
+    /**
+     * A constructor given the number of transforms and their layout.
+     *
+     * @param capacity The number of transforms in the buffer.
+     * @param layout The layout, one of the <code>MlBufferExporter.ML_LAYOUT_</code>
+     * constants.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the layout
+     * is not valid.
+     */
+    public MlTransformBuffer(int capacity, int layout)
+    {
+        super();
+        mLayout = layout;
+        mStride = MlBufferExporter.getStride(layout);
+        mBuffer = ByteBuffer.allocateDirect(capacity * mStride * 4).order(ByteOrder.nativeOrder());
+        mFloats = mBuffer.asFloatBuffer();
+        mSources = new MlTransform[capacity];
+        mVersions = new int[capacity];
+        clearDirty();
+    }
+
+    /**
+     * Get the number of transforms in the buffer.
+     *
+     * @return The number of transforms is returned.
+     */
+    public final int getCapacity()
+    {
+        return mSources.length;
+    }
+
+    /**
+     * Get the layout of the transforms.
+     *
+     * @return The layout is returned, one of the
+     * <code>MlBufferExporter.ML_LAYOUT_</code> constants.
+     */
+    public final int getLayout()
+    {
+        return mLayout;
+    }
+
+    /**
+     * Get the number of floats per transform.
+     *
+     * @return The number of floats is returned.
+     */
+    public final int getStride()
+    {
+        return mStride;
+    }
+
+    /**
+     * Get the storage of the buffer, to upload it. This class does not use
+     * the position and limit of the returned buffer.
+     *
+     * @return The buffer is returned.
+     */
+    public final ByteBuffer getBuffer()
+    {
+        return mBuffer;
+    }
+
+    // Add a range of transforms to the dirty range.
+    private void markDirty(int first, int end)
+    {
+        if (first < mDirtyFirst)
+            mDirtyFirst = first;
+        if (end > mDirtyEnd)
+            mDirtyEnd = end;
+    }
+
+    // Determine whether the transform at index was written from the transform
+    // and has not changed since. A bound transform is never current, since its
+    // elements may be written through the array without changing its version.
+    private boolean isCurrent(int index, MlTransform transform)
+    {
+        return (transform == mSources[index]) && (! transform.isBound()) &&
+               (transform.getVersion() == mVersions[index]);
+    }
+
+    // Write a range of transforms from an array, starting at index.
+    private void write(int index, MlTransform[] transforms, int first, int count)
+    {
+        mFloats.position(index * mStride);
+        mExporter.put(mFloats, transforms, first, count, mLayout);
+        for (int i = 0; i < count; i++)
+        {
+            MlTransform t = transforms[first + i];
+            mSources[index + i] = t;
+            mVersions[index + i] = t.getVersion();
+        }
+        markDirty(index, index + count);
+    }
+
+    /**
+     * Write a transform.
+     *
+     * @param index The index in the buffer to write the transform at.
+     * @param transform The transform to write.
+     *
+     * @throws IndexOutOfBoundsException This exception is thrown if the
+     * index is outside the buffer.
+     */
+    public final void set(int index, MlTransform transform)
+    {
+        if ((index < 0) || (index >= mSources.length))
+            throw new IndexOutOfBoundsException("Invalid transform index " + index + ".");
+
+        mFloats.position(index * mStride);
+        mFloats.put(mScratch, 0, MlBufferExporter.layout(transform, mLayout, mScratch, 0));
+        mSources[index] = transform;
+        mVersions[index] = transform.getVersion();
+        markDirty(index, index + 1);
+    }
+
+    /**
+     * Write a range of transforms.
+     *
+     * @param index The index in the buffer to write the first transform at.
+     * @param transforms The transforms to write.
+     * @param first The index of the first transform to write.
+     * @param count The number of transforms to write.
+     *
+     * @throws IndexOutOfBoundsException This exception is thrown if the
+     * transforms do not fit in the buffer.
+     */
+    public final void set(int index, MlTransform[] transforms, int first, int count)
+    {
+        if ((index < 0) || (count < 0) || (index > (mSources.length - count)))
+            throw new IndexOutOfBoundsException("Invalid transform range.");
+
+        write(index, transforms, first, count);
+    }
+
+    /**
+     * Write the transforms of an array that are not in the buffer at their
+     * index, or have changed since they were written. Transforms are compared
+     * using <code>MlTransform.getVersion()</code>; transforms bound to an array
+     * (see <code>MlTransform.bind()</code>) are always written, since their
+     * elements may be written through the array without changing the version.
+     *
+     * @param transforms The transforms, one for each index of the buffer from 0.
+     * @param count The number of transforms.
+     *
+     * @return The number of transforms written is returned.
+     *
+     * @throws IndexOutOfBoundsException This exception is thrown if the
+     * transforms do not fit in the buffer.
+     */
+    public final int update(MlTransform[] transforms, int count)
+    {
+        if ((count < 0) || (count > mSources.length))
+            throw new IndexOutOfBoundsException("Invalid transform range.");
+
+        int written = 0;
+        for (int i = 0; i < count; )
+        {
+            if (isCurrent(i, transforms[i]))
+            {
+                i++;
+                continue;
+            }
+
+            // Write the run of changed transforms with one bulk put.
+            int end = i + 1;
+            while ((end < count) && (! isCurrent(end, transforms[end])))
+                end++;
+            write(i, transforms, i, end - i);
+            written += end - i;
+            i = end;
+        }
+        return written;
+    }
+
+    /**
+     * Determine whether any transforms have been written since the dirty
+     * range was cleared.
+     *
+     * @return <b>true</b> is returned if the dirty range is not empty.
+     */
+    public final boolean isDirty()
+    {
+        return mDirtyFirst < mDirtyEnd;
+    }
+
+    /**
+     * Get the index of the first transform in the dirty range.
+     *
+     * @return The index is returned; it is 0 if the range is empty.
+     */
+    public final int getDirtyFirst()
+    {
+        return isDirty() ? mDirtyFirst : 0;
+    }
+
+    /**
+     * Get the number of transforms in the dirty range, which spans every
+     * transform written since it was cleared.
+     *
+     * @return The number of transforms is returned.
+     */
+    public final int getDirtyCount()
+    {
+        return isDirty() ? (mDirtyEnd - mDirtyFirst) : 0;
+    }
+
+    /**
+     * Get the offset of the dirty range in the buffer.
+     *
+     * @return The offset is returned, in bytes.
+     */
+    public final int getDirtyOffset()
+    {
+        return getDirtyFirst() * mStride * 4;
+    }
+
+    /**
+     * Get the size of the dirty range.
+     *
+     * @return The size is returned, in bytes.
+     */
+    public final int getDirtyLength()
+    {
+        return getDirtyCount() * mStride * 4;
+    }
+
+    /**
+     * Empty the dirty range, after uploading it.
+     */
+    public final void clearDirty()
+    {
+        mDirtyFirst = Integer.MAX_VALUE;
+        mDirtyEnd = 0;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * MlTransformDecoder.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the sequence of <code>MlTransform</code> frames encoded by a
+ * <code>MlTransformEncoder</code>.
+ * <p>
+ * The decoder must have the same tolerance as the encoder, and decode the
+ * frames in the order they were encoded, starting after the encoder was
+ * created or last reset.
+ * </p>
+ */
+public class MlTransformDecoder
+{
+    // The tolerance, or 0 in lossless mode.
+    private final float mTolerance;
+    // The quantization step in lossy mode.
+    private final double mStep;
+    // The last two frames, as float bits in lossless mode or quantized
+    // values in lossy mode.
+    private final long[] mLast = new long[MlTransform.ML_TRANSFORM_SIZE];
+    private final long[] mLast2 = new long[MlTransform.ML_TRANSFORM_SIZE];
+    // The number of frames in the history, up to 2.
+    private int mHistory;
+    // The frame being decoded.
+    private final long[] mCurrent = new long[MlTransform.ML_TRANSFORM_SIZE];
+    // A copy of the bytes of a frame read from a buffer.
+    private final byte[] mFrame = new byte[MlTransformEncoder.ML_MAX_FRAME_SIZE];
+    // The offset after the last varint read.
+    private int mOffset;
+
+    /**
+     * A constructor for a lossless decoder.
+     */
+    public MlTransformDecoder()
+    {
+        this(0);
+    }
+
+    /**
+     * A constructor given the tolerance of the encoding.
+     *
+     * @param tolerance The tolerance the frames were encoded with.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * tolerance is negative or not finite.
+     */
+    public MlTransformDecoder(float tolerance)
+    {
+        super();
+        if (! (tolerance >= 0) || Float.isInfinite(tolerance))
+            throw new IllegalArgumentException("Invalid tolerance " + tolerance + ".");
+
+        mTolerance = tolerance;
+        mStep = 2.0 * tolerance;
+    }
+
+    /**
+     * Get the tolerance of the encoding.
+     *
+     * @return The tolerance is returned, or 0 if the encoding is lossless.
+     */
+    public final float getTolerance()
+    {
+        return mTolerance;
+    }
+
+    /**
+     * Forget the frames decoded so far, to match a reset of the encoder.
+     */
+    public final void reset()
+    {
+        mHistory = 0;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            mLast[i] = mLast2[i] = 0;
+    }
+
+    // Read a varint ending before limit, leaving the offset after it in
+    // mOffset. Returns -1 with mOffset set to -1 if it is truncated.
+    private long getVarint(byte[] data, int offset, int limit) throws IOException
+    {
+        long v = 0;
+        for (int shift = 0; offset < limit; shift += 7)
+        {
+            if (shift > 63)
+                throw new IOException("Invalid transform frame.");
+
+            byte b = data[offset++];
+            v |= (long)(b & 0x7f) << shift;
+            if (b >= 0)
+            {
+                mOffset = offset;
+                return v;
+            }
+        }
+        mOffset = -1;
+        return -1;
+    }
+
+    // Decode a frame ending before limit into mCurrent, and return its size,
+    // or -1 if it is truncated.
+    private int decodeFrame(byte[] data, int offset, int limit) throws IOException
+    {
+        long header = getVarint(data, offset, limit);
+        if (mOffset < 0)
+            return -1;
+        if ((header >>> (MlTransform.ML_TRANSFORM_SIZE + 1)) != 0)
+            throw new IOException("Invalid transform frame.");
+        boolean linear = (header & MlTransformEncoder.ML_PREDICT_LINEAR) != 0;
+        if (linear && (mHistory < 2))
+            throw new IOException("Invalid transform frame.");
+
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+        {
+            long prediction = linear ?
+                MlTransformEncoder.predict(mLast[i], mLast2[i], mStep) : mLast[i];
+            long residual = 0;
+            if ((header & (2 << i)) != 0)
+            {
+                residual = getVarint(data, mOffset, limit);
+                if (mOffset < 0)
+                    return -1;
+            }
+            mCurrent[i] = MlTransformEncoder.apply(prediction, residual, mStep);
+        }
+        return mOffset - offset;
+    }
+
+    // Add the decoded frame to the history, and store it in the transform.
+    private void commit(MlTransform transform)
+    {
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            m[o + i] = MlTransformEncoder.dequantize(mCurrent[i], mStep);
+        transform.changed();
+
+        System.arraycopy(mLast, 0, mLast2, 0, MlTransform.ML_TRANSFORM_SIZE);
+        System.arraycopy(mCurrent, 0, mLast, 0, MlTransform.ML_TRANSFORM_SIZE);
+        if (mHistory < 2)
+            mHistory++;
+    }
+
+    /**
+     * Decode the next frame from a byte array.
+     *
+     * @param offset The offset in the array of the frame.
+     * @param data The array the frame is stored in.
+     * @param transform The output transform that will contain the results.
+     *
+     * @return The size of the encoded frame is returned, in bytes.
+     *
+     * @throws IOException This exception is thrown if the frame is not valid,
+     * or extends past the end of the array; nothing is decoded.
+     */
+    public final int decode(int offset, byte[] data, MlTransform transform)
+        throws IOException
+    {
+        if ((offset < 0) || (offset > data.length))
+            throw new IOException("Invalid data array length.");
+
+        int n = decodeFrame(data, offset, data.length);
+        if (n < 0)
+            throw new IOException("Invalid data array length.");
+
+        commit(transform);
+        return n;
+    }
+
+    /**
+     * Decode the next frame from the current position of a buffer, and
+     * advance the position.
+     *
+     * @param buffer The buffer to read from.
+     * @param transform The output transform that will contain the results.
+     *
+     * @throws IOException This exception is thrown if the frame is not valid;
+     * nothing is read.
+     * @throws BufferUnderflowException This exception is thrown if the frame
+     * extends past the limit of the buffer; nothing is read.
+     */
+    public final void decode(ByteBuffer buffer, MlTransform transform)
+        throws IOException
+    {
+        int p = buffer.position();
+        int length = Math.min(buffer.remaining(), mFrame.length);
+        for (int i = 0; i < length; i++)
+            mFrame[i] = buffer.get(p + i);
+
+        int n = decodeFrame(mFrame, 0, length);
+        if (n < 0)
+            throw new BufferUnderflowException();
+
+        buffer.position(p + n);
+        commit(transform);
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * MlTransformEncoder.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a sequence of <code>MlTransform</code> frames, such as the frames of
+ * a replicated or recorded transform, as differences from the frames before.
+ * <p>
+ * Each of the 12 transform elements is predicted either from the previous
+ * frame, or by extrapolating linearly from the two previous frames, whichever
+ * encodes the frame in fewer bytes. Only the elements that differ from their
+ * prediction are written, so a transform that does not change takes a single
+ * byte, and one that moves at a constant rate in lossy mode too. A frame is
+ * laid out as:
+ * </p>
+ * <pre>
+ *     varint  bit 0: the frame is predicted linearly from the two previous frames
+ *             bits 1-12: the elements that differ from the prediction
+ *     varint  for each element that differs, in order, its residual
+ * </pre>
+ * <p>
+ * In lossless mode the residual is the exclusive or of the bits of the element
+ * and of its prediction, which has few significant bits when the two are
+ * close, and the frames are decoded exactly. In lossy mode the elements are
+ * quantized to a multiple of twice the tolerance, and the residual is the
+ * zig-zag encoded difference of the quantized element and its prediction;
+ * decoded elements are within the tolerance of the originals, to float
+ * precision. Lossy mode requires finite elements, within 2<sup>60</sup>
+ * times twice the tolerance; others are rejected.
+ * </p><p>
+ * The prediction depends on the frames already encoded, so the frames must be
+ * decoded in order by a <code>MlTransformDecoder</code> with the same
+ * tolerance. Both start from a frame of zeros, and <code>reset()</code>
+ * returns to it, for example to begin a key frame for a new receiver.
+ * </p>
+ */
+public class MlTransformEncoder
+{
+    /** The largest size of an encoded frame, in bytes. */
+    public static final int ML_MAX_FRAME_SIZE = 2 + (MlTransform.ML_TRANSFORM_SIZE * 10);
+
+    // The header bit of a frame predicted linearly. The following bits flag
+    // the elements with a residual.
+    static final int ML_PREDICT_LINEAR = 1;
+    // The bound on the magnitude of a quantized value in lossy mode, which
+    // keeps the predictions and residuals within a long.
+    static final double ML_MAX_QUANTIZED = 0x1p60;
+
+    // The tolerance, or 0 in lossless mode.
+    private final float mTolerance;
+    // The quantization step in lossy mode.
+    private final double mStep;
+    // The last two frames, as float bits in lossless mode or quantized
+    // values in lossy mode.
+    private final long[] mLast = new long[MlTransform.ML_TRANSFORM_SIZE];
+    private final long[] mLast2 = new long[MlTransform.ML_TRANSFORM_SIZE];
+    // The number of frames in the history, up to 2.
+    private int mHistory;
+    // The current frame and its residuals for each prediction.
+    private final long[] mCurrent = new long[MlTransform.ML_TRANSFORM_SIZE];
+    private final long[] mResidual = new long[MlTransform.ML_TRANSFORM_SIZE];
+    private final long[] mLinearResidual = new long[MlTransform.ML_TRANSFORM_SIZE];
+    // The encoded frame.
+    private final byte[] mFrame = new byte[ML_MAX_FRAME_SIZE];
+
+    /**
+     * A constructor for a lossless encoder.
+     */
+    public MlTransformEncoder()
+    {
+        this(0);
+    }
+
+    /**
+     * A constructor given the tolerance of the encoding.
+     *
+     * @param tolerance The largest difference between an element of a frame
+     * and its decoded value, or 0 to encode the frames exactly.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * tolerance is negative or not finite.
+     */
+    public MlTransformEncoder(float tolerance)
+    {
+        super();
+        if (! (tolerance >= 0) || Float.isInfinite(tolerance))
+            throw new IllegalArgumentException("Invalid tolerance " + tolerance + ".");
+
+        mTolerance = tolerance;
+        mStep = 2.0 * tolerance;
+    }
+
+    /**
+     * Get the tolerance of the encoding.
+     *
+     * @return The tolerance is returned, or 0 if the encoding is lossless.
+     */
+    public final float getTolerance()
+    {
+        return mTolerance;
+    }
+
+    /**
+     * Forget the frames encoded so far. The next frame is encoded as the
+     * difference from a frame of zeros.
+     */
+    public final void reset()
+    {
+        mHistory = 0;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+            mLast[i] = mLast2[i] = 0;
+    }
+
+    // Get the value a decoder tracks for an element: its float bits in
+    // lossless mode, or its quantized value in lossy mode.
+    static long quantize(float f, double step)
+    {
+        if (step == 0)
+            return Float.floatToRawIntBits(f);
+        return Math.round(f / step);
+    }
+
+    // Get the element for a tracked value.
+    static float dequantize(long v, double step)
+    {
+        if (step == 0)
+            return Float.intBitsToFloat((int)v);
+        return (float)(v * step);
+    }
+
+    // Predict a value linearly from the two previous values. The encoder and
+    // decoder may run on different platforms, so a NaN prediction, whose bits
+    // are not specified, is replaced by the canonical NaN.
+    static long predict(long last, long last2, double step)
+    {
+        if (step == 0)
+        {
+            float f = Float.intBitsToFloat((int)last);
+            return Float.floatToIntBits((2 * f) - Float.intBitsToFloat((int)last2));
+        }
+        return (2 * last) - last2;
+    }
+
+    // Get the residual of a value from its prediction.
+    static long residual(long v, long prediction, double step)
+    {
+        if (step == 0)
+            return (v ^ prediction) & 0xffffffffL;
+        long d = v - prediction;
+        return (d << 1) ^ (d >> 63);
+    }
+
+    // Get the value from its prediction and residual.
+    static long apply(long prediction, long residual, double step)
+    {
+        if (step == 0)
+            return (int)(prediction ^ residual);
+        return prediction + ((residual >>> 1) ^ -(residual & 1));
+    }
+
+    // Get the number of bytes of a varint.
+    static int varintSize(long v)
+    {
+        int n = 1;
+        while ((v & ~0x7fL) != 0)
+        {
+            v >>>= 7;
+            n++;
+        }
+        return n;
+    }
+
+    // Store a varint, 7 bits per byte, least significant first, and return
+    // the offset after it.
+    static int putVarint(byte[] data, int offset, long v)
+    {
+        while ((v & ~0x7fL) != 0)
+        {
+            data[offset++] = (byte)((v & 0x7f) | 0x80);
+            v >>>= 7;
+        }
+        data[offset++] = (byte)v;
+        return offset;
+    }
+
+    // Encode a frame into mFrame, and return its size. The frame is added to
+    // the history by commit().
+    private int encodeFrame(MlTransform transform)
+    {
+        transform.sync();
+        float m[] = transform.mData;
+        int o = transform.mOffset;
+        boolean linear = (mHistory == 2);
+
+        int size = 0, linearSize = 0;
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+        {
+            float f = m[o + i];
+            if ((mStep != 0) &&
+                (Float.isNaN(f) || Float.isInfinite(f) || (Math.abs(f / mStep) >= ML_MAX_QUANTIZED)))
+                throw new IllegalArgumentException("Element " + i + " cannot be encoded lossily: " + f + ".");
+            long v = quantize(f, mStep);
+            mCurrent[i] = v;
+            mResidual[i] = residual(v, mLast[i], mStep);
+            if (mResidual[i] != 0)
+                size += varintSize(mResidual[i]);
+            if (linear)
+            {
+                mLinearResidual[i] = residual(v, predict(mLast[i], mLast2[i], mStep), mStep);
+                if (mLinearResidual[i] != 0)
+                    linearSize += varintSize(mLinearResidual[i]);
+            }
+        }
+
+        long[] residuals = mResidual;
+        int header = 0;
+        if (linear && (linearSize < size))
+        {
+            residuals = mLinearResidual;
+            header = ML_PREDICT_LINEAR;
+        }
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+        {
+            if (residuals[i] != 0)
+                header |= 2 << i;
+        }
+
+        int n = putVarint(mFrame, 0, header);
+        for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+        {
+            if (residuals[i] != 0)
+                n = putVarint(mFrame, n, residuals[i]);
+        }
+        return n;
+    }
+
+    // Add the frame last encoded to the history.
+    private void commit()
+    {
+        System.arraycopy(mLast, 0, mLast2, 0, MlTransform.ML_TRANSFORM_SIZE);
+        System.arraycopy(mCurrent, 0, mLast, 0, MlTransform.ML_TRANSFORM_SIZE);
+        if (mHistory < 2)
+            mHistory++;
+    }
+
+    /**
+     * Encode the next frame into a byte array.
+     *
+     * @param offset The offset in the array to store the frame at.
+     * @param data The array the frame is stored in.
+     * @param transform The frame to encode.
+     *
+     * @return The size of the encoded frame is returned, in bytes.
+     *
+     * @throws IOException This exception is thrown if the encoded frame does
+     * not fit in the array after the <i>offset</i>; nothing is encoded. At most
+     * <code>ML_MAX_FRAME_SIZE</code> bytes are needed.
+     * @throws IllegalArgumentException This exception is thrown if the encoder
+     * is lossy and an element of the transform is not finite, or too large for
+     * the tolerance; nothing is encoded.
+     */
+    public final int encode(int offset, byte[] data, MlTransform transform)
+        throws IOException
+    {
+        int n = encodeFrame(transform);
+        if ((offset < 0) || ((data.length - offset) < n))
+            throw new IOException("Invalid data array length.");
+
+        System.arraycopy(mFrame, 0, data, offset, n);
+        commit();
+        return n;
+    }
+
+    /**
+     * Encode the next frame at the current position of a buffer, and advance
+     * the position.
+     *
+     * @param buffer The buffer to write to.
+     * @param transform The frame to encode.
+     *
+     * @throws BufferOverflowException This exception is thrown if the encoded
+     * frame does not fit in the buffer; nothing is encoded. At most
+     * <code>ML_MAX_FRAME_SIZE</code> bytes are needed.
+     * @throws IllegalArgumentException This exception is thrown if the encoder
+     * is lossy and an element of the transform is not finite, or too large for
+     * the tolerance; nothing is encoded.
+     */
+    public final void encode(ByteBuffer buffer, MlTransform transform)
+    {
+        int n = encodeFrame(transform);
+        if (buffer.remaining() < n)
+            throw new BufferOverflowException();
+
+        buffer.put(mFrame, 0, n);
+        commit();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MlTransformWorkspace.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * Reusable scratch space for the <code>MlTransform</code> decomposition methods
+ * (<code>factor()</code> and <code>getTransform()</code>).
+ * <p>
+ * Passing a workspace to those methods lets them run without allocating on the
+ * heap. A workspace holds no state between calls, but it must not be shared by
+ * threads that decompose transforms concurrently; keep one per caller.
+ * </p>
+ */
+public class MlTransformWorkspace
+{
+    // Scratch transforms used by factor().
+    final MlTransform mA = MlTransform.createFlat();
+    final MlTransform mB = MlTransform.createFlat();
+    final MlTransform mSi = MlTransform.createFlat();
+    final MlTransform mTmp = MlTransform.createFlat();
+
+    // Eigenvalues, eigenvectors and rotation count produced by jacobi3().
+    final float[] mEvalues = new float[3];
+    final MlVector3[] mEvectors = { new MlVector3(), new MlVector3(), new MlVector3() };
+    final int[] mRots = new int[1];
+
+    // Scratch arrays used by jacobi3(); mJacobiA holds a 3x3 matrix in row-major order.
+    final float[] mJacobiB = new float[3];
+    final float[] mJacobiZ = new float[3];
+    final float[] mJacobiA = new float[9];
+
+    // Scratch transforms and vectors used by getTransform().
+    final MlTransform mSo = MlTransform.createFlat();
+    final MlTransform mRot = MlTransform.createFlat();
+    final MlTransform mProj = MlTransform.createFlat();
+    final MlTransform mCentered = MlTransform.createFlat();
+    final MlTransform mCenter = MlTransform.createFlat();
+    final MlVector3 mVector = new MlVector3();
+
+    /**
+     * The default constructor.
+     */
+    public MlTransformWorkspace()
+    {
+        super();
+    }
+}
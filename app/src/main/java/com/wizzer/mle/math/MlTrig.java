@@ -0,0 +1,562 @@
+/*
+ * MlTrig.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * Trigonometric and inverse trigonometric functions on angles in
+ * <code>MlAngle</code> units, where 1 is a full turn, at a selectable
+ * precision.
+ * <p>
+ * Each precision tier has one shared instance, from <code>getInstance()</code>,
+ * so that a subsystem can hold the tier it needs; the <code>MlMath</code>
+ * functions that take a precision select it per call. The tiers are:
+ * </p>
+ * <ul>
+ * <li><code>ML_PRECISION_EXACT</code>: <code>java.lang.Math</code>, in double
+ * precision, as <code>MlMath.mlSin()</code> and the other functions without a
+ * precision. The angle is converted to radians in single precision first, so
+ * the error of the sine and cosine grows with the angle, to 1e-6 at two
+ * turns.</li>
+ * <li><code>ML_PRECISION_FAST</code>: minimax polynomials in single precision.
+ * The sine and cosine reduce the angle to within an eighth of a turn of a
+ * quarter turn; the inverse functions cover their whole range with one
+ * polynomial, with no branches but the selects of the sign and octant. The
+ * error is within a few units in the last place of a <code>float</code>.</li>
+ * <li><code>ML_PRECISION_FASTEST</code>: low order approximations, with an
+ * error of at most 1e-3 for the sine and cosine and 0.1 degree for the
+ * inverse functions; for particles, UI rotation and similar uses.</li>
+ * </ul>
+ * <p>
+ * <code>getMaxError()</code> and <code>getMaxAngleError()</code> give the
+ * contract of each tier, for arguments in range and angles within a few turns
+ * of zero. Results for arguments that are not finite are not specified.
+ * </p>
+ * <p>
+ * <code>sinCos()</code> computes the sine and cosine of an angle together,
+ * reducing the angle once, and the batch functions evaluate arrays of angles in
+ * <code>MlAngle</code> units, degrees or radians.
+ * </p>
+ */
+public abstract class MlTrig
+{
+    /** Use java.lang.Math, in double precision. */
+    public static final int ML_PRECISION_EXACT = 0;
+    /** Use minimax polynomials in single precision. */
+    public static final int ML_PRECISION_FAST = 1;
+    /** Use low order approximations. */
+    public static final int ML_PRECISION_FASTEST = 2;
+
+    // Pi / 2, as a float.
+    private static final float ML_HALF_PI = (float)(Math.PI / 2);
+
+    // The shared instances, indexed by precision.
+    private static final MlTrig[] ML_TIERS = { new Exact(), new Fast(), new Fastest() };
+
+    // The precision.
+    private final int mPrecision;
+    // The error bound of the sine and cosine.
+    private final float mMaxError;
+    // The error bound of the inverse functions, in MlAngle units.
+    private final float mMaxAngleError;
+
+    // Hide the constructor; use getInstance().
+    private MlTrig(int precision, float maxError, float maxAngleError)
+    {
+        super();
+        mPrecision = precision;
+        mMaxError = maxError;
+        mMaxAngleError = maxAngleError;
+    }
+
+    /**
+     * Get the shared instance of a precision tier.
+     *
+     * @param precision One of <code>ML_PRECISION_EXACT</code>,
+     * <code>ML_PRECISION_FAST</code> or <code>ML_PRECISION_FASTEST</code>.
+     *
+     * @return The instance is returned.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the
+     * precision is not valid.
+     */
+    static public MlTrig getInstance(int precision)
+    {
+        if ((precision < ML_PRECISION_EXACT) || (precision > ML_PRECISION_FASTEST))
+            throw new IllegalArgumentException("Invalid precision " + precision + ".");
+        return ML_TIERS[precision];
+    }
+
+    /**
+     * Get the precision.
+     *
+     * @return The precision tier is returned.
+     */
+    public final int getPrecision()
+    {
+        return mPrecision;
+    }
+
+    /**
+     * Get the largest absolute error of the sine or cosine of an angle.
+     *
+     * @return The error bound is returned.
+     */
+    public final float getMaxError()
+    {
+        return mMaxError;
+    }
+
+    /**
+     * Get the largest error of the arc sine, arc cosine or arc tangent.
+     *
+     * @return The error bound is returned, in <code>MlAngle</code> units.
+     */
+    public final float getMaxAngleError()
+    {
+        return mMaxAngleError;
+    }
+
+    /**
+     * Compute the sine of an angle.
+     *
+     * @param a The angle, in <code>MlAngle</code> units.
+     *
+     * @return The sine of the angle is returned.
+     */
+    public abstract float sin(float a);
+
+    /**
+     * Compute the cosine of an angle.
+     *
+     * @param a The angle, in <code>MlAngle</code> units.
+     *
+     * @return The cosine of the angle is returned.
+     */
+    public abstract float cos(float a);
+
+    /**
+     * Compute the arc sine of a value.
+     *
+     * @param x The value, from -1 to 1.
+     *
+     * @return The angle is returned, in <code>MlAngle</code> units, from -1/4
+     * to 1/4.
+     */
+    public abstract float asin(float x);
+
+    /**
+     * Compute the arc cosine of a value.
+     *
+     * @param x The value, from -1 to 1.
+     *
+     * @return The angle is returned, in <code>MlAngle</code> units, from 0
+     * to 1/2.
+     */
+    public abstract float acos(float x);
+
+    /**
+     * Compute the angle of a point from the x axis.
+     *
+     * @param y The y coordinate.
+     * @param x The x coordinate.
+     *
+     * @return The angle is returned, in <code>MlAngle</code> units, from -1/2
+     * to 1/2.
+     */
+    public abstract float atan2(float y, float x);
+
+    // Compute the sine and cosine of an angle, into s[sOffset] and c[cOffset].
+    abstract void sinCos(float a, float[] s, int sOffset, float[] c, int cOffset);
+
+    /**
+     * Compute the sine and cosine of an angle.
+     *
+     * @param a The angle, in <code>MlAngle</code> units.
+     * @param sc The array the sine is stored in, at <b>offset</b>, and the
+     * cosine, at <b>offset</b> + 1.
+     * @param offset The index of the sine in <b>sc</b>.
+     */
+    public final void sinCos(float a, float[] sc, int offset)
+    {
+        sinCos(a, sc, offset, sc, offset + 1);
+    }
+
+    // Check that count elements starting at offset fit in the array.
+    private static void checkBatch(float[] a, int offset, int count)
+    {
+        if ((offset < 0) || (count < 0) || (offset > (a.length - count)))
+            throw new IndexOutOfBoundsException("Invalid angle batch range.");
+    }
+
+    /**
+     * Compute the sines of an array of angles.
+     *
+     * @param angles The array holding the angles.
+     * @param offset The index of the first angle in <b>angles</b>.
+     * @param result The array the sines are stored in.
+     * @param resultOffset The index of the first sine in <b>result</b>.
+     * @param count The number of angles.
+     * @param units One of the <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the units
+     * are not valid.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> elements.
+     */
+    public final void sin(float[] angles, int offset, float[] result, int resultOffset,
+        int count, int units)
+    {
+        float scale = MlAngle.unitsToAngle(units);
+        checkBatch(angles, offset, count);
+        checkBatch(result, resultOffset, count);
+
+        for (int i = 0; i < count; i++)
+            result[resultOffset + i] = sin(angles[offset + i] * scale);
+    }
+
+    /**
+     * Compute the cosines of an array of angles.
+     *
+     * @param angles The array holding the angles.
+     * @param offset The index of the first angle in <b>angles</b>.
+     * @param result The array the cosines are stored in.
+     * @param resultOffset The index of the first cosine in <b>result</b>.
+     * @param count The number of angles.
+     * @param units One of the <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the units
+     * are not valid.
+     * @throws IndexOutOfBoundsException This exception is thrown if either
+     * array is too small to hold <b>count</b> elements.
+     */
+    public final void cos(float[] angles, int offset, float[] result, int resultOffset,
+        int count, int units)
+    {
+        float scale = MlAngle.unitsToAngle(units);
+        checkBatch(angles, offset, count);
+        checkBatch(result, resultOffset, count);
+
+        for (int i = 0; i < count; i++)
+            result[resultOffset + i] = cos(angles[offset + i] * scale);
+    }
+
+    /**
+     * Compute the sines and cosines of an array of angles.
+     *
+     * @param angles The array holding the angles.
+     * @param offset The index of the first angle in <b>angles</b>.
+     * @param sin The array the sines are stored in.
+     * @param cos The array the cosines are stored in.
+     * @param resultOffset The index of the first sine in <b>sin</b> and the
+     * first cosine in <b>cos</b>.
+     * @param count The number of angles.
+     * @param units One of the <code>MlAngle</code> units.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the units
+     * are not valid.
+     * @throws IndexOutOfBoundsException This exception is thrown if any
+     * array is too small to hold <b>count</b> elements.
+     */
+    public final void sinCos(float[] angles, int offset, float[] sin, float[] cos,
+        int resultOffset, int count, int units)
+    {
+        float scale = MlAngle.unitsToAngle(units);
+        checkBatch(angles, offset, count);
+        checkBatch(sin, resultOffset, count);
+        checkBatch(cos, resultOffset, count);
+
+        for (int i = 0; i < count; i++)
+            sinCos(angles[offset + i] * scale, sin, resultOffset + i, cos, resultOffset + i);
+    }
+
+    // The tier that uses java.lang.Math.
+    private static final class Exact extends MlTrig
+    {
+        Exact()
+        {
+            super(ML_PRECISION_EXACT, 1e-6f, 1e-7f);
+        }
+
+        public float sin(float a)
+        {
+            return MlMath.mlSin(a);
+        }
+
+        public float cos(float a)
+        {
+            return MlMath.mlCos(a);
+        }
+
+        public float asin(float x)
+        {
+            return MlMath.mlAsin(x);
+        }
+
+        public float acos(float x)
+        {
+            return MlMath.mlAcos(x);
+        }
+
+        public float atan2(float y, float x)
+        {
+            return MlMath.mlAtan2(y, x);
+        }
+
+        void sinCos(float a, float[] s, int sOffset, float[] c, int cOffset)
+        {
+            double r = MlAngle.angleToRadians(a);
+            s[sOffset] = (float)Math.sin(r);
+            c[cOffset] = (float)Math.cos(r);
+        }
+    }
+
+    // The tier that uses minimax polynomials.
+    private static final class Fast extends MlTrig
+    {
+        Fast()
+        {
+            super(ML_PRECISION_FAST, 2e-7f, 1e-7f);
+        }
+
+        public float sin(float a)
+        {
+            return fastSin(a, 0);
+        }
+
+        public float cos(float a)
+        {
+            return fastSin(a, 1);
+        }
+
+        public float asin(float x)
+        {
+            return fastAsin(x);
+        }
+
+        public float acos(float x)
+        {
+            return fastAcos(x);
+        }
+
+        public float atan2(float y, float x)
+        {
+            return fastAtan2(y, x);
+        }
+
+        void sinCos(float a, float[] s, int sOffset, float[] c, int cOffset)
+        {
+            fastSinCos(a, s, sOffset, c, cOffset);
+        }
+    }
+
+    // The tier that uses low order approximations.
+    private static final class Fastest extends MlTrig
+    {
+        Fastest()
+        {
+            super(ML_PRECISION_FASTEST, 1e-3f, 2.5e-4f);
+        }
+
+        public float sin(float a)
+        {
+            return fastestSin(a);
+        }
+
+        public float cos(float a)
+        {
+            return fastestSin(a + MlAngle.ML_ANGLE_PI_HALF);
+        }
+
+        public float asin(float x)
+        {
+            return MlAngle.ML_ANGLE_PI_HALF - fastestAcos(x);
+        }
+
+        public float acos(float x)
+        {
+            return fastestAcos(x);
+        }
+
+        public float atan2(float y, float x)
+        {
+            return fastestAtan2(y, x);
+        }
+
+        void sinCos(float a, float[] s, int sOffset, float[] c, int cOffset)
+        {
+            s[sOffset] = fastestSin(a);
+            c[cOffset] = fastestSin(a + MlAngle.ML_ANGLE_PI_HALF);
+        }
+    }
+
+    // Compute the sine, from -pi/4 to pi/4, with a minimax polynomial in the
+    // angle x and its square z.
+    private static float sinPolynomial(float x, float z)
+    {
+        return x + (x * z * (-1.6666654611e-1f + (z * (8.3321608736e-3f + (z * -1.9515295891e-4f)))));
+    }
+
+    // Compute the cosine, from -pi/4 to pi/4, with a minimax polynomial in the
+    // square z of the angle.
+    private static float cosPolynomial(float z)
+    {
+        return 1 - (MlScalar.ML_SCALAR_HALF * z) +
+            (z * z * (4.166664568298827e-2f + (z * (-1.388731625493765e-3f + (z * 2.443315711809948e-5f)))));
+    }
+
+    // Compute the sine of an angle, advanced by a number of quarter turns, from
+    // the nearest quarter turn and the polynomials.
+    static float fastSin(float a, int quarters)
+    {
+        float t = a * 4;
+        int q = Math.round(t);
+        float x = (t - q) * ML_HALF_PI;
+        float z = x * x;
+        q += quarters;
+
+        float s = ((q & 1) == 0) ? sinPolynomial(x, z) : cosPolynomial(z);
+        return ((q & 2) == 0) ? s : -s;
+    }
+
+    // Compute the sine and cosine of an angle from one reduction to the
+    // nearest quarter turn.
+    static void fastSinCos(float a, float[] s, int sOffset, float[] c, int cOffset)
+    {
+        float t = a * 4;
+        int q = Math.round(t);
+        float x = (t - q) * ML_HALF_PI;
+        float z = x * x;
+
+        float sx = sinPolynomial(x, z);
+        float cx = cosPolynomial(z);
+        if ((q & 1) != 0)
+        {
+            float tmp = sx;
+            sx = cx;
+            cx = -tmp;
+        }
+        if ((q & 2) != 0)
+        {
+            sx = -sx;
+            cx = -cx;
+        }
+        s[sOffset] = sx;
+        c[cOffset] = cx;
+    }
+
+    // Compute the arc cosine, in radians, of a value from 0 to 1, with the
+    // polynomial of Abramowitz and Stegun 4.4.46; the error is 2e-8 before
+    // rounding.
+    private static float acosPositive(float ax)
+    {
+        return (float)Math.sqrt(1 - ax) * (1.5707963050f + (ax * (-2.145988016e-1f +
+            (ax * (8.89789874e-2f + (ax * (-5.01743046e-2f + (ax * (3.08918810e-2f +
+            (ax * (-1.70881256e-2f + (ax * (6.6700901e-3f + (ax * -1.2624911e-3f))))))))))))));
+    }
+
+    // Compute the arc sine over the whole range, without branches.
+    static float fastAsin(float x)
+    {
+        return MlAngle.radiansToAngle(Math.copySign(ML_HALF_PI - acosPositive(Math.abs(x)), x));
+    }
+
+    // Compute the arc cosine over the whole range. Negative values are
+    // reflected with a select rather than a sign, so that small angles keep
+    // their precision.
+    static float fastAcos(float x)
+    {
+        float a = MlAngle.radiansToAngle(acosPositive(Math.abs(x)));
+        return (x < 0) ? (MlAngle.ML_ANGLE_PI - a) : a;
+    }
+
+    // Compute the angle of a point, from a minimax polynomial for the arc
+    // tangent from 0 to 1, of degree 13, with no range reduction.
+    static float fastAtan2(float y, float x)
+    {
+        float ax = Math.abs(x);
+        float ay = Math.abs(y);
+        float r = Math.min(ax, ay) / Math.max(Math.max(ax, ay), Float.MIN_VALUE);
+        float z = r * r;
+        float a = r * (9.9999611155e-1f + (z * (-3.3317368053e-1f + (z * (1.9807815551e-1f +
+            (z * (-1.3233342042e-1f + (z * (7.9623671380e-2f + (z * (-3.3604219710e-2f +
+            (z * 6.8117930088e-3f))))))))))));
+        return quadrant(MlAngle.radiansToAngle(a), ay > ax, y, x);
+    }
+
+    // Move an angle from 0 to 1/8 turn into the octant of a point, with selects.
+    private static float quadrant(float a, boolean steep, float y, float x)
+    {
+        a = steep ? (MlAngle.ML_ANGLE_PI_HALF - a) : a;
+        a = (x < 0) ? (MlAngle.ML_ANGLE_PI - a) : a;
+        return Math.copySign(a, y);
+    }
+
+    // Compute the sine of an angle from a corrected parabola over each half
+    // turn.
+    static float fastestSin(float a)
+    {
+        float r = a - Math.round(a);
+        float s = (8 * r) - (16 * r * Math.abs(r));
+        return s + (0.224f * ((s * Math.abs(s)) - s));
+    }
+
+    // Compute the arc cosine with a cubic, from Abramowitz and Stegun 4.4.45,
+    // in MlAngle units.
+    static float fastestAcos(float x)
+    {
+        float ax = Math.abs(x);
+        float a = (float)Math.sqrt(1 - ax) *
+            (2.4998925e-1f + (ax * (-3.3759055e-2f + (ax * (1.1819005e-2f + (ax * -2.9808607e-3f))))));
+        return (x < 0) ? (MlAngle.ML_ANGLE_PI - a) : a;
+    }
+
+    // Compute the angle of a point, from a cubic fit of the arc tangent
+    // from 0 to 1.
+    static float fastestAtan2(float y, float x)
+    {
+        float ax = Math.abs(x);
+        float ay = Math.abs(y);
+        float max = Math.max(ax, ay);
+        float r = (max == 0) ? 0 : (Math.min(ax, ay) / max);
+
+        float a = (0.125f * r) - (r * (r - 1) * (3.8945215e-2f + (1.0551973e-2f * r)));
+        return quadrant(a, ay > ax, y, x);
+    }
+}
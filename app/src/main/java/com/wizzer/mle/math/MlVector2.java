@@ -237,6 +237,21 @@ public class MlVector2
     {
         return new MlVector2(-mVector[0], -mVector[1]);
     }
+
+    /**
+     * Nondestructive unary negation into the specified vector.
+     * 
+     * @param result The vector the result is stored in; it may be <b>this</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    public final MlVector2 unaryNegate(MlVector2 result)
+    {
+        result.mVector[0] = -mVector[0];
+        result.mVector[1] = -mVector[1];
+
+        return result;
+    }
     
     // Calculate the scale.
     private static void calcScale( 
@@ -288,10 +303,10 @@ public class MlVector2
      */
     public final boolean equals(MlVector2 v, float tolerance)
     {
-        MlVector2 diff =  new MlVector2(mVector[0] - v.mVector[0],
-                mVector[1] - v.mVector[1]);
+        float dx = mVector[0] - v.mVector[0];
+        float dy = mVector[1] - v.mVector[1];
 
-        return diff.dot(diff) <= tolerance;
+        return ((dx * dx) + (dy * dy)) <= tolerance;
     }
 
     /**
@@ -311,6 +326,11 @@ public class MlVector2
 
     /**
      * Component-wise binary scalar multiplication.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>mul(MlVector2, float, MlVector2)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v The vector to multiply.
      * @param d The scalar value to multiply by.
@@ -322,6 +342,27 @@ public class MlVector2
         return new MlVector2((v.mVector[0] * d),
         	(v.mVector[1] * d));
     }
+
+    /**
+     * Component-wise binary scalar multiplication into the specified vector.
+     * <p>
+     * Unlike <code>mul(MlVector2, float)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v The vector to multiply.
+     * @param d The scalar value to multiply by.
+     * @param result The vector the result is stored in; it may be <b>v</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector2 mul(MlVector2 v, float d, MlVector2 result)
+    {
+        result.mVector[0] = v.mVector[0] * d;
+        result.mVector[1] = v.mVector[1] * d;
+
+        return result;
+    }
     
     /**
      * Component-wise scalar division.
@@ -342,7 +383,7 @@ public class MlVector2
      * 
      * @param v The vector to add.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector2 add(MlVector2 v)
     {
@@ -354,6 +395,11 @@ public class MlVector2
 
     /**
      * Component-wise binary vector addition.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>add(MlVector2, MlVector2, MlVector2)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -365,13 +411,34 @@ public class MlVector2
         return new MlVector2(v1.mVector[0] + v2.mVector[0],
         	v1.mVector[1] + v2.mVector[1]);
     }
+
+    /**
+     * Component-wise binary vector addition into the specified vector.
+     * <p>
+     * Unlike <code>add(MlVector2, MlVector2)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector2 add(MlVector2 v1, MlVector2 v2, MlVector2 result)
+    {
+        result.mVector[0] = v1.mVector[0] + v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] + v2.mVector[1];
+
+        return result;
+    }
     
     /**
      * Component-wise vector subtraction.
      * 
      * @param v The vector to subtract.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector2 sub(MlVector2 v)
     {
@@ -383,6 +450,11 @@ public class MlVector2
     
     /**
      * Component-wise binary vector subtraction.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>sub(MlVector2, MlVector2, MlVector2)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -395,4 +467,25 @@ public class MlVector2
             v1.mVector[1] - v2.mVector[1]);
     }
 
+    /**
+     * Component-wise binary vector subtraction into the specified vector.
+     * <p>
+     * Unlike <code>sub(MlVector2, MlVector2)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector2 sub(MlVector2 v1, MlVector2 v2, MlVector2 result)
+    {
+        result.mVector[0] = v1.mVector[0] - v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] - v2.mVector[1];
+
+        return result;
+    }
+
 }
@@ -0,0 +1,340 @@
+/*
+ * MlVector2Array.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+// Declare package.
+package com.wizzer.mle.math;
+
+/**
+ * A batch of 2D vectors stored as a structure of arrays: the x and y
+ * components of all vectors are kept in two separate primitive arrays.
+ * <p>
+ * The bulk operations mirror those of <code>MlVector2</code> and are applied
+ * to every vector in the batch. Unless stated otherwise, the operands of a bulk
+ * operation must all hold the same number of vectors, and the result may be
+ * stored in one of the operands.
+ * </p>
+ */
+public class MlVector2Array
+{
+    // The x components.
+    public float[] mX;
+    // The y components.
+    public float[] mY;
+
+    /**
+     * A constructor given the number of vectors. All elements are
+     * initialized to zero (0.0f).
+     *
+     * @param size The number of vectors.
+     */
+    public MlVector2Array(int size)
+    {
+        super();
+        mX = new float[size];
+        mY = new float[size];
+    }
+
+    /**
+     * A constructor given the component arrays. The arrays are used
+     * in place.
+     *
+     * @param x The x components.
+     * @param y The y components.
+     *
+     * @throws IllegalArgumentException This exception is thrown if the arrays
+     * do not have the same length.
+     */
+    public MlVector2Array(float[] x, float[] y)
+    {
+        super();
+        if ((x.length != y.length))
+            throw new IllegalArgumentException("Component arrays differ in length.");
+
+        mX = x;
+        mY = y;
+    }
+
+    /**
+     * Get the number of vectors.
+     *
+     * @return The number of vectors is returned.
+     */
+    public final int size()
+    {
+        return mX.length;
+    }
+
+    // Check that the specified batch has the same number of vectors as this one.
+    private void checkSize(MlVector2Array v)
+    {
+        if (v.mX.length != mX.length)
+            throw new IllegalArgumentException("Vector arrays differ in size.");
+    }
+
+    /**
+     * Get the value of a vector.
+     *
+     * @param i The index of the vector.
+     * @param v The vector the value is returned in.
+     */
+    public final void get(int i, MlVector2 v)
+    {
+        v.mVector[0] = mX[i];
+        v.mVector[1] = mY[i];
+    }
+
+    /**
+     * Set the value of a vector.
+     *
+     * @param i The index of the vector.
+     * @param v The vector to copy from.
+     */
+    public final void set(int i, MlVector2 v)
+    {
+        mX[i] = v.mVector[0];
+        mY[i] = v.mVector[1];
+    }
+
+    /**
+     * Set the value of a vector from 2 individual components.
+     *
+     * @param i The index of the vector.
+     * @param x The x element to set.
+     * @param y The y element to set.
+     */
+    public final void set(int i, float x, float y)
+    {
+        mX[i] = x;
+        mY[i] = y;
+    }
+
+    /**
+     * Component-wise vector addition.
+     *
+     * @param v The vectors to add.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array add(MlVector2Array v)
+    {
+        return add(this, v);
+    }
+
+    /**
+     * Component-wise binary vector addition. <b>this</b> is set to
+     * <b>v1</b> + <b>v2</b>.
+     *
+     * @param v1 The first vectors.
+     * @param v2 The second vectors.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array add(MlVector2Array v1, MlVector2Array v2)
+    {
+        checkSize(v1);
+        checkSize(v2);
+
+        float[] x = mX, y = mY;
+        float[] x1 = v1.mX, y1 = v1.mY;
+        float[] x2 = v2.mX, y2 = v2.mY;
+        for (int i = 0; i < x.length; i++)
+        {
+            x[i] = x1[i] + x2[i];
+            y[i] = y1[i] + y2[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Component-wise vector subtraction.
+     *
+     * @param v The vectors to subtract.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array sub(MlVector2Array v)
+    {
+        return sub(this, v);
+    }
+
+    /**
+     * Component-wise binary vector subtraction. <b>this</b> is set to
+     * <b>v1</b> - <b>v2</b>.
+     *
+     * @param v1 The first vectors.
+     * @param v2 The second vectors.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array sub(MlVector2Array v1, MlVector2Array v2)
+    {
+        checkSize(v1);
+        checkSize(v2);
+
+        float[] x = mX, y = mY;
+        float[] x1 = v1.mX, y1 = v1.mY;
+        float[] x2 = v2.mX, y2 = v2.mY;
+        for (int i = 0; i < x.length; i++)
+        {
+            x[i] = x1[i] - x2[i];
+            y[i] = y1[i] - y2[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Component-wise scalar multiplication.
+     *
+     * @param d The scalar value to multiply by.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array mul(float d)
+    {
+        return mul(this, d);
+    }
+
+    /**
+     * Component-wise binary scalar multiplication. <b>this</b> is set to
+     * <b>v</b> * <b>d</b>.
+     *
+     * @param v The vectors to multiply.
+     * @param d The scalar value to multiply by.
+     *
+     * @return <b>this</b> is returned.
+     */
+    public final MlVector2Array mul(MlVector2Array v, float d)
+    {
+        checkSize(v);
+
+        float[] x = mX, y = mY;
+        float[] vx = v.mX, vy = v.mY;
+        for (int i = 0; i < x.length; i++)
+        {
+            x[i] = vx[i] * d;
+            y[i] = vy[i] * d;
+        }
+
+        return this;
+    }
+
+    /**
+     * Calculate the dot-product of each vector of this batch and the
+     * corresponding vector of <b>v</b>.
+     *
+     * @param v The other vectors.
+     * @param result The array the dot products are returned in; it must hold
+     * at least <code>size()</code> elements.
+     */
+    public final void dot(MlVector2Array v, float[] result)
+    {
+        checkSize(v);
+
+        float[] x = mX, y = mY;
+        float[] vx = v.mX, vy = v.mY;
+        for (int i = 0; i < x.length; i++)
+            result[i] = (x[i] * vx[i]) + (y[i] * vy[i]);
+    }
+
+    /**
+     * Get the length of each vector.
+     *
+     * @param result The array the geometric lengths are returned in; it must hold
+     * at least <code>size()</code> elements.
+     */
+    public final void length(float[] result)
+    {
+        float[] x = mX, y = mY;
+        for (int i = 0; i < x.length; i++)
+            result[i] = (float)Math.sqrt((x[i] * x[i]) + (y[i] * y[i]));
+    }
+
+    /**
+     * Normalize the vectors.
+     * <p>
+     * Changes each vector to be unit length. Zero vectors are left unchanged.
+     * </p>
+     *
+     * @param lengths The array the original lengths are returned in, or <b>null</b>.
+     */
+    public final void normalize(float[] lengths)
+    {
+        float[] x = mX, y = mY;
+        for (int i = 0; i < x.length; i++)
+        {
+            float len = (float)Math.sqrt((x[i] * x[i]) + (y[i] * y[i]));
+            if (len != MlScalar.ML_SCALAR_ZERO)
+            {
+                float inv = 1 / len;
+                x[i] = x[i] * inv;
+                y[i] = y[i] * inv;
+            }
+            if (lengths != null)
+                lengths[i] = len;
+        }
+    }
+
+    /**
+     * Linear interpolation, aka lerp.  Set "result" to the interpolation
+     * by "weight" from "v0" (when weight=0) to "v1" (when weight=1), for
+     * each vector of the batches.
+     *
+     * @param weight The factor.
+     * @param v0 The first vectors.
+     * @param v1 The second vectors.
+     * @param result The result of the interpolation.
+     */
+    static public final void interpolate(float weight,
+        MlVector2Array v0, MlVector2Array v1, MlVector2Array result)
+    {
+        result.checkSize(v0);
+        result.checkSize(v1);
+
+        float oneMinusWeight = MlScalar.ML_SCALAR_ONE - weight;
+        float[] x = result.mX, y = result.mY;
+        float[] x0 = v0.mX, y0 = v0.mY;
+        float[] x1 = v1.mX, y1 = v1.mY;
+        for (int i = 0; i < x.length; i++)
+        {
+            x[i] = (x0[i] * oneMinusWeight) + (x1[i] * weight);
+            y[i] = (y0[i] * oneMinusWeight) + (y1[i] * weight);
+        }
+    }
+}
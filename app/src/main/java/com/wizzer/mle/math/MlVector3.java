@@ -131,6 +131,25 @@ public class MlVector3
         	(mVector[0] * v.mVector[1]) - (mVector[1] * v.mVector[0]));
         return result;
     }
+
+    /**
+     * Calculate the cross-product of this vector and the passed
+     * argument <b>v</b> into the specified vector.
+     * 
+     * @param v The other vector.
+     * @param result The vector the right-handed cross product is stored in;
+     * it may be <b>this</b> or <b>v</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    public final MlVector3 cross(MlVector3 v, MlVector3 result)
+    {
+        float x = (mVector[1] * v.mVector[2]) - (mVector[2] * v.mVector[1]);
+        float y = (mVector[2] * v.mVector[0]) - (mVector[0] * v.mVector[2]);
+        float z = (mVector[0] * v.mVector[1]) - (mVector[1] * v.mVector[0]);
+
+        return result.setValue(x, y, z);
+    }
     
     /**
      * Calculate the dot-product of this vector and the passed
@@ -349,6 +368,22 @@ public class MlVector3
         return new MlVector3(-mVector[0], -mVector[1], -mVector[2]);
     }
 
+    /**
+     * Nondestructive unary negation into the specified vector.
+     * 
+     * @param result The vector the result is stored in; it may be <b>this</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    public final MlVector3 unaryNegate(MlVector3 result)
+    {
+        result.mVector[0] = -mVector[0];
+        result.mVector[1] = -mVector[1];
+        result.mVector[2] = -mVector[2];
+
+        return result;
+    }
+
     /**
      * Changes vector to have length of input scale factor.
      * 
@@ -442,10 +477,11 @@ public class MlVector3
      */
     public final boolean equals(MlVector3 v, float tolerance)
     {
-        MlVector3 diff =  new MlVector3(mVector[0] - v.mVector[0],
-                mVector[1] - v.mVector[1], mVector[2] - v.mVector[2]);
+        float dx = mVector[0] - v.mVector[0];
+        float dy = mVector[1] - v.mVector[1];
+        float dz = mVector[2] - v.mVector[2];
 
-        return diff.dot(diff) <= tolerance;
+        return ((dx * dx) + (dy * dy) + (dz * dz)) <= tolerance;
     }
     
     /**
@@ -456,31 +492,35 @@ public class MlVector3
      */
     public final MlVector3 getClosestAxis()
     {
-        MlVector3 axis = new MlVector3(MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
-        MlVector3 bestAxis = new MlVector3();
-        float d, max = -21.234f;
-
-        axis.mVector[0] = MlScalar.ML_SCALAR_ONE;     // +x axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
-
-        axis.mVector[0] = -MlScalar.ML_SCALAR_ONE;    // -x axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
-        axis.mVector[0] = MlScalar.ML_SCALAR_ZERO;
-
-        axis.mVector[1] = MlScalar.ML_SCALAR_ONE;     // +y axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
+        return getClosestAxis(new MlVector3());
+    }
 
-        axis.mVector[1] = -MlScalar.ML_SCALAR_ONE;    // -y axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
-        axis.mVector[1] = MlScalar.ML_SCALAR_ZERO;
+    /**
+     * Returns principal axis that is closest (based on maximum dot
+     * product) to this vector.
+     * 
+     * @param result The vector the principal axis is stored in.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    public final MlVector3 getClosestAxis(MlVector3 result)
+    {
+        float x = mVector[0], y = mVector[1], z = mVector[2];
+        float d, max = -21.234f;
+        int axis = 0;
 
-        axis.mVector[2] = MlScalar.ML_SCALAR_ONE;     // +z axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
+        // Candidates are tried in the order +x, -x, +y, -y, +z, -z.
+        if ((d = x) > max)  { max = d; axis = 0; }
+        if ((d = -x) > max) { max = d; axis = 1; }
+        if ((d = y) > max)  { max = d; axis = 2; }
+        if ((d = -y) > max) { max = d; axis = 3; }
+        if ((d = z) > max)  { max = d; axis = 4; }
+        if ((d = -z) > max) { max = d; axis = 5; }
 
-        axis.mVector[2] = -MlScalar.ML_SCALAR_ONE;    // -z axis
-        if ((d = dot(axis)) > max) { max = d; bestAxis = axis; }
+        result.setValue(MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO, MlScalar.ML_SCALAR_ZERO);
+        result.mVector[axis >> 1] = ((axis & 1) == 0) ? MlScalar.ML_SCALAR_ONE : -MlScalar.ML_SCALAR_ONE;
 
-        return bestAxis;
+        return result;
     }
 
     /**
@@ -501,6 +541,11 @@ public class MlVector3
 
     /**
      * Component-wise binary scalar multiplication.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>mul(MlVector3, float, MlVector3)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v The vector to multiply.
      * @param d The scalar value to multiply by.
@@ -512,6 +557,28 @@ public class MlVector3
         return new MlVector3((v.mVector[0] * d),
         	(v.mVector[1] * d), (v.mVector[2] * d));
     }
+
+    /**
+     * Component-wise binary scalar multiplication into the specified vector.
+     * <p>
+     * Unlike <code>mul(MlVector3, float)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v The vector to multiply.
+     * @param d The scalar value to multiply by.
+     * @param result The vector the result is stored in; it may be <b>v</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector3 mul(MlVector3 v, float d, MlVector3 result)
+    {
+        result.mVector[0] = v.mVector[0] * d;
+        result.mVector[1] = v.mVector[1] * d;
+        result.mVector[2] = v.mVector[2] * d;
+
+        return result;
+    }
     
     /**
      * Component-wise scalar division.
@@ -532,7 +599,7 @@ public class MlVector3
      * 
      * @param v The vector to add.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector3 add(MlVector3 v)
     {
@@ -545,6 +612,11 @@ public class MlVector3
 
     /**
      * Component-wise binary vector addition.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>add(MlVector3, MlVector3, MlVector3)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -557,13 +629,35 @@ public class MlVector3
         	v1.mVector[1] + v2.mVector[1],
         	v1.mVector[2] + v2.mVector[2]);
     }
+
+    /**
+     * Component-wise binary vector addition into the specified vector.
+     * <p>
+     * Unlike <code>add(MlVector3, MlVector3)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector3 add(MlVector3 v1, MlVector3 v2, MlVector3 result)
+    {
+        result.mVector[0] = v1.mVector[0] + v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] + v2.mVector[1];
+        result.mVector[2] = v1.mVector[2] + v2.mVector[2];
+
+        return result;
+    }
     
     /**
      * Component-wise vector subtraction.
      * 
      * @param v The vector to subtract.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector3 sub(MlVector3 v)
     {
@@ -576,6 +670,11 @@ public class MlVector3
     
     /**
      * Component-wise binary vector subtraction.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>sub(MlVector3, MlVector3, MlVector3)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -589,4 +688,26 @@ public class MlVector3
             v1.mVector[2] - v2.mVector[2]);
     }
 
+    /**
+     * Component-wise binary vector subtraction into the specified vector.
+     * <p>
+     * Unlike <code>sub(MlVector3, MlVector3)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector3 sub(MlVector3 v1, MlVector3 v2, MlVector3 result)
+    {
+        result.mVector[0] = v1.mVector[0] - v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] - v2.mVector[1];
+        result.mVector[2] = v1.mVector[2] - v2.mVector[2];
+
+        return result;
+    }
+
 }
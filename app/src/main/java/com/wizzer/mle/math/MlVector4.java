@@ -283,6 +283,23 @@ public class MlVector4
     {
         return new MlVector4(-mVector[0], -mVector[1], -mVector[2], -mVector[3]);
     }
+
+    /**
+     * Nondestructive unary negation into the specified vector.
+     * 
+     * @param result The vector the result is stored in; it may be <b>this</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    public final MlVector4 unaryNegate(MlVector4 result)
+    {
+        result.mVector[0] = -mVector[0];
+        result.mVector[1] = -mVector[1];
+        result.mVector[2] = -mVector[2];
+        result.mVector[3] = -mVector[3];
+
+        return result;
+    }
     
     // Calculate the scale.
     private static void calcScale( 
@@ -336,11 +353,12 @@ public class MlVector4
      */
     public final boolean equals(MlVector4 v, float tolerance)
     {
-        MlVector4 diff =  new MlVector4(mVector[0] - v.mVector[0],
-                mVector[1] - v.mVector[1], mVector[2] - v.mVector[2],
-                mVector[3] - v.mVector[3]);
+        float dx = mVector[0] - v.mVector[0];
+        float dy = mVector[1] - v.mVector[1];
+        float dz = mVector[2] - v.mVector[2];
+        float dw = mVector[3] - v.mVector[3];
 
-        return diff.dot(diff) <= tolerance;
+        return ((dx * dx) + (dy * dy) + (dz * dz) + (dw * dw)) <= tolerance;
     }
 
     /**
@@ -362,6 +380,11 @@ public class MlVector4
 
     /**
      * Component-wise binary scalar multiplication.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>mul(MlVector4, float, MlVector4)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v The vector to multiply.
      * @param d The scalar value to multiply by.
@@ -374,6 +397,29 @@ public class MlVector4
         	(v.mVector[1] * d), (v.mVector[2] * d),
         	(v.mVector[3] * d));
     }
+
+    /**
+     * Component-wise binary scalar multiplication into the specified vector.
+     * <p>
+     * Unlike <code>mul(MlVector4, float)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v The vector to multiply.
+     * @param d The scalar value to multiply by.
+     * @param result The vector the result is stored in; it may be <b>v</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector4 mul(MlVector4 v, float d, MlVector4 result)
+    {
+        result.mVector[0] = v.mVector[0] * d;
+        result.mVector[1] = v.mVector[1] * d;
+        result.mVector[2] = v.mVector[2] * d;
+        result.mVector[3] = v.mVector[3] * d;
+
+        return result;
+    }
     
     /**
      * Component-wise scalar division.
@@ -394,7 +440,7 @@ public class MlVector4
      * 
      * @param v The vector to add.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector4 add(MlVector4 v)
     {
@@ -408,6 +454,11 @@ public class MlVector4
 
     /**
      * Component-wise binary vector addition.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>add(MlVector4, MlVector4, MlVector4)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -421,13 +472,36 @@ public class MlVector4
         	v1.mVector[2] + v2.mVector[2],
         	v1.mVector[3] + v2.mVector[3]);
     }
+
+    /**
+     * Component-wise binary vector addition into the specified vector.
+     * <p>
+     * Unlike <code>add(MlVector4, MlVector4)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector4 add(MlVector4 v1, MlVector4 v2, MlVector4 result)
+    {
+        result.mVector[0] = v1.mVector[0] + v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] + v2.mVector[1];
+        result.mVector[2] = v1.mVector[2] + v2.mVector[2];
+        result.mVector[3] = v1.mVector[3] + v2.mVector[3];
+
+        return result;
+    }
     
     /**
      * Component-wise vector subtraction.
      * 
      * @param v The vector to subtract.
      * 
-     * @return A new vector containing the result is returned.
+     * @return <b>this</b> vector is returned.
      */
     public final MlVector4 sub(MlVector4 v)
     {
@@ -441,6 +515,11 @@ public class MlVector4
     
     /**
      * Component-wise binary vector subtraction.
+     * <p>
+     * <b>this</b> is not used. The static
+     * <code>sub(MlVector4, MlVector4, MlVector4)</code> stores the result in an
+     * existing vector instead.
+     * </p>
      * 
      * @param v1 The first vector.
      * @param v2 The second vector.
@@ -455,4 +534,27 @@ public class MlVector4
             v1.mVector[3] - v2.mVector[3]);
     }
 
+    /**
+     * Component-wise binary vector subtraction into the specified vector.
+     * <p>
+     * Unlike <code>sub(MlVector4, MlVector4)</code>, which returns a
+     * new vector, this allocates nothing.
+     * </p>
+     * 
+     * @param v1 The first vector.
+     * @param v2 The second vector.
+     * @param result The vector the result is stored in; it may be <b>v1</b> or <b>v2</b>.
+     * 
+     * @return <b>result</b> is returned.
+     */
+    static public final MlVector4 sub(MlVector4 v1, MlVector4 v2, MlVector4 result)
+    {
+        result.mVector[0] = v1.mVector[0] - v2.mVector[0];
+        result.mVector[1] = v1.mVector[1] - v2.mVector[1];
+        result.mVector[2] = v1.mVector[2] - v2.mVector[2];
+        result.mVector[3] = v1.mVector[3] - v2.mVector[3];
+
+        return result;
+    }
+
 }
@@ -0,0 +1,178 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlBufferExporterUnitTest
+{
+    private static MlTransform[] transforms(int count) {
+        MlTransform[] transforms = new MlTransform[count];
+        for (int i = 0; i < count; i++) {
+            transforms[i] = new MlTransform();
+            float[] m = new float[12];
+            for (int j = 0; j < 12; j++)
+                m[j] = (i * 100) + j;
+            transforms[i].setValue(m, 0);
+        }
+        return transforms;
+    }
+
+    @Test
+    public void testLayouts() throws Exception {
+        MlBufferExporter exporter = new MlBufferExporter();
+        MlTransform[] transforms = transforms(200);
+
+        FloatBuffer rows = MlBufferExporter.allocate(200 * 12);
+        exporter.put(rows, transforms, 0, 200, MlBufferExporter.ML_LAYOUT_ROWS_4X3);
+        assertEquals(200 * 12, rows.position());
+        assertTrue(rows.isDirect());
+        assertEquals(ByteOrder.nativeOrder(), rows.order());
+
+        FloatBuffer columns = MlBufferExporter.allocate(200 * 12);
+        exporter.put(columns, transforms, 0, 200, MlBufferExporter.ML_LAYOUT_COLUMNS_3X4);
+
+        FloatBuffer padded = MlBufferExporter.allocate(200 * 16);
+        exporter.put(padded, transforms, 0, 200, MlBufferExporter.ML_LAYOUT_PADDED_4X4);
+
+        for (int i = 0; i < 200; i++) {
+            for (int r = 0; r < 4; r++) {
+                for (int c = 0; c < 3; c++) {
+                    float e = transforms[i].get(r, c);
+                    assertEquals(e, rows.get((i * 12) + (r * 3) + c), 0);
+                    assertEquals(e, columns.get((i * 12) + (c * 4) + r), 0);
+                    assertEquals(e, padded.get((i * 16) + (r * 4) + c), 0);
+                }
+                assertEquals((r == 3) ? 1 : 0, padded.get((i * 16) + (r * 4) + 3), 0);
+            }
+        }
+
+        // Nothing is written if the transforms do not fit.
+        rows.position(12);
+        try {
+            exporter.put(rows, transforms, 0, 200, MlBufferExporter.ML_LAYOUT_ROWS_4X3);
+            fail("Expected a buffer overflow.");
+        } catch (BufferOverflowException e) {
+            assertEquals(12, rows.position());
+        }
+    }
+
+    @Test
+    public void testVectorsAndRotations() throws Exception {
+        MlBufferExporter exporter = new MlBufferExporter();
+        MlVector3[] vectors = { new MlVector3(1, 2, 3), new MlVector3(4, 5, 6) };
+        MlVector3Array batch = new MlVector3Array(new float[] { 1, 4 },
+            new float[] { 2, 5 }, new float[] { 3, 6 });
+        MlRotation[] rotations = { new MlRotation(), new MlRotation(0, 1, 0, 0) };
+
+        ByteBuffer bytes = ByteBuffer.allocate(4 + (8 * 4) + (6 * 4) + (8 * 4));
+        bytes.order(ByteOrder.LITTLE_ENDIAN);
+        bytes.position(4);
+        exporter.put(bytes, vectors, 0, 2, true);
+        exporter.put(bytes, batch, 0, 2, false);
+        exporter.put(bytes, rotations, 0, 2);
+        assertEquals(0, bytes.remaining());
+
+        float[] expected = { 1, 2, 3, 0, 4, 5, 6, 0, 1, 2, 3, 4, 5, 6, 0, 0, 0, 1, 0, 1, 0, 0 };
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], bytes.getFloat(4 + (i * 4)), 0);
+
+        FloatBuffer floats = MlBufferExporter.allocate(8);
+        exporter.put(floats, batch, 0, 2, true);
+        assertEquals(0, floats.get(3), 0);
+        assertEquals(6, floats.get(6), 0);
+    }
+
+    @Test
+    public void testTransformBuffer() throws Exception {
+        MlTransform[] transforms = transforms(10);
+        MlTransformBuffer buffer = new MlTransformBuffer(10, MlBufferExporter.ML_LAYOUT_PADDED_4X4);
+        assertEquals(16, buffer.getStride());
+        assertEquals(10 * 16 * 4, buffer.getBuffer().capacity());
+        assertFalse(buffer.isDirty());
+
+        assertEquals(10, buffer.update(transforms, 10));
+        assertEquals(0, buffer.getDirtyFirst());
+        assertEquals(10, buffer.getDirtyCount());
+        buffer.clearDirty();
+
+        // Only changed transforms are rewritten.
+        assertEquals(0, buffer.update(transforms, 10));
+        assertFalse(buffer.isDirty());
+        transforms[3].set(3, 0, -1);
+        transforms[6].set(3, 1, -2);
+        assertEquals(2, buffer.update(transforms, 10));
+        assertEquals(3, buffer.getDirtyFirst());
+        assertEquals(4, buffer.getDirtyCount());
+        assertEquals(3 * 64, buffer.getDirtyOffset());
+        assertEquals(4 * 64, buffer.getDirtyLength());
+
+        FloatBuffer floats = buffer.getBuffer().asFloatBuffer();
+        assertEquals(-1, floats.get((3 * 16) + 12), 0);
+        assertEquals(-2, floats.get((6 * 16) + 13), 0);
+
+        buffer.clearDirty();
+        MlTransform other = new MlTransform();
+        other.makeIdentity();
+        buffer.set(9, other);
+        assertEquals(9, buffer.getDirtyFirst());
+        assertEquals(1, buffer.getDirtyCount());
+        assertEquals(1, floats.get((9 * 16) + 15), 0);
+        assertEquals(1, buffer.update(transforms, 10));
+
+        // Transforms bound to a shared array are always rewritten, so writes
+        // made through the array or another transform are not missed.
+        float[] data = new float[2 * MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform[] bound = {
+            new MlTransform(data, 0), new MlTransform(data, MlTransform.ML_TRANSFORM_SIZE) };
+        bound[0].makeIdentity();
+        bound[1].makeIdentity();
+        MlTransformBuffer shared = new MlTransformBuffer(2, MlBufferExporter.ML_LAYOUT_ROWS_4X3);
+        assertEquals(2, shared.update(bound, 2));
+        data[9] = 5;
+        new MlTransform(data, MlTransform.ML_TRANSFORM_SIZE).set(3, 1, 6);
+        assertEquals(2, shared.update(bound, 2));
+        FloatBuffer rows = shared.getBuffer().asFloatBuffer();
+        assertEquals(5, rows.get(9), 0);
+        assertEquals(6, rows.get(12 + 10), 0);
+    }
+}
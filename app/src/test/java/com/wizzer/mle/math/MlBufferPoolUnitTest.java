@@ -0,0 +1,224 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+public class MlBufferPoolUnitTest
+{
+    @Test
+    public void testAcquireRelease() throws Exception {
+        MlBufferPool pool = new MlBufferPool(4096);
+        assertEquals(256, pool.getMaxBufferSize());
+
+        ByteBuffer a = pool.acquire(48);
+        ByteBuffer b = pool.acquire(65);
+        ByteBuffer c = pool.acquire(1000);
+        assertEquals(64, a.capacity());
+        assertEquals(128, b.capacity());
+        assertEquals(1000, c.capacity());
+        assertTrue(a.isDirect() && b.isDirect() && c.isDirect());
+        assertEquals(1, pool.getSlabCount());
+        assertEquals(64 + 128 + 1000, pool.getBytesInUse());
+
+        MlMath.writeTransform(a.order(ByteOrder.LITTLE_ENDIAN), new MlTransform());
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+        assertEquals(0, pool.getBytesInUse());
+        assertEquals(64 + 128 + 1000, pool.getHighWaterMark());
+
+        // A released buffer is reused, cleared and big-endian.
+        ByteBuffer d = pool.acquire(64);
+        assertSame(a, d);
+        assertEquals(0, d.position());
+        assertEquals(64, d.limit());
+        assertEquals(ByteOrder.BIG_ENDIAN, d.order());
+        assertEquals(4, pool.getAcquireCount());
+        assertEquals(1, pool.getHitCount());
+        assertEquals(0.25f, pool.getHitRate(), 0);
+
+        // Buffers not acquired from this pool are refused, without changing
+        // the statistics.
+        ByteBuffer[] foreign = { ByteBuffer.allocate(64), ByteBuffer.allocateDirect(128),
+            ByteBuffer.allocateDirect(1000), new MlBufferPool(4096).acquire(64) };
+        for (ByteBuffer buffer : foreign) {
+            try {
+                pool.release(buffer);
+                fail("Expected a buffer that was not acquired from this pool.");
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+        assertEquals(64, pool.getBytesInUse());
+
+        // A large buffer is released once.
+        ByteBuffer e = pool.acquire(300);
+        pool.release(e);
+        try {
+            pool.release(e);
+            fail("Expected a buffer that was not acquired from this pool.");
+        } catch (IllegalArgumentException expected) {
+            // Expected.
+        }
+        assertEquals(64, pool.getBytesInUse());
+    }
+
+    @Test
+    public void testSlabRemainder() throws Exception {
+        MlBufferPool pool = new MlBufferPool(4096);
+        pool.acquire(64);
+        for (int i = 0; i < 15; i++)
+            pool.acquire(256);
+        assertEquals(1, pool.getSlabCount());
+
+        // The 192 bytes left do not fit another 256 byte buffer; they are
+        // carved into a 128 and a 64 byte buffer rather than abandoned.
+        pool.acquire(256);
+        assertEquals(2, pool.getSlabCount());
+        ByteBuffer a = pool.acquire(128);
+        ByteBuffer b = pool.acquire(64);
+        for (int i = 0; i < 14; i++)
+            pool.acquire(256);
+        pool.acquire(128);
+        pool.acquire(64);
+        pool.acquire(64);
+        assertEquals(2, pool.getSlabCount());
+        assertEquals(128, a.capacity());
+        assertEquals(64, b.capacity());
+
+        // Buffers carved from the remainder are pooled buffers.
+        a.putInt(0, 1);
+        b.putInt(0, 2);
+        assertEquals(1, a.getInt(0));
+        pool.release(a);
+        pool.release(b);
+        assertEquals(2 * 4096 - 192, pool.getBytesInUse());
+    }
+
+    @Test
+    public void testSlabs() throws Exception {
+        MlBufferPool pool = new MlBufferPool(4096);
+        ByteBuffer[] buffers = new ByteBuffer[100];
+        for (int i = 0; i < buffers.length; i++)
+            buffers[i] = pool.acquire(256);
+        assertEquals(7, pool.getSlabCount());
+        assertEquals(7 * 4096, pool.getSlabBytes());
+
+        // Writing one buffer does not touch its neighbours.
+        for (int i = 0; i < buffers.length; i++)
+            buffers[i].putInt(0, i);
+        for (int i = 0; i < buffers.length; i++)
+            assertEquals(i, buffers[i].getInt(0));
+
+        for (int round = 0; round < 10; round++) {
+            for (ByteBuffer buffer : buffers)
+                pool.release(buffer);
+            for (int i = 0; i < buffers.length; i++)
+                buffers[i] = pool.acquire(200);
+        }
+        assertEquals(7, pool.getSlabCount());
+        assertEquals(100 * 256, pool.getHighWaterMark());
+        assertEquals(1000, pool.getHitCount());
+    }
+
+    @Test
+    public void testThreads() throws Exception {
+        final MlBufferPool pool = new MlBufferPool();
+        Thread[] threads = new Thread[4];
+        final Throwable[] failure = new Throwable[1];
+        for (int t = 0; t < threads.length; t++) {
+            final int id = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        ByteBuffer[] held = new ByteBuffer[50];
+                        for (int round = 0; round < 200; round++) {
+                            for (int i = 0; i < held.length; i++) {
+                                held[i] = pool.acquire(64 + i);
+                                held[i].putInt(0, (id * 1000) + i);
+                            }
+                            for (int i = 0; i < held.length; i++) {
+                                assertEquals((id * 1000) + i, held[i].getInt(0));
+                                pool.release(held[i]);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure[0] = e;
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertNull(failure[0]);
+        assertEquals(0, pool.getBytesInUse());
+        assertTrue(pool.getHitRate() > 0.9f);
+    }
+
+    @Test
+    public void testSteadyStateAllocation() throws Exception {
+        java.lang.management.ThreadMXBean management = ManagementFactory.getThreadMXBean();
+        assumeTrue(management instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) management;
+        assumeTrue(bean.isThreadAllocatedMemorySupported());
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        MlBufferPool pool = new MlBufferPool();
+        MlTransform transform = new MlTransform();
+        long id = Thread.currentThread().getId();
+        for (int i = 0; i < 1000; i++)
+            pool.release(pool.acquire(48));
+
+        bean.getThreadAllocatedBytes(id);
+        long before = bean.getThreadAllocatedBytes(id);
+        for (int i = 0; i < 100000; i++) {
+            ByteBuffer buffer = pool.acquire(48);
+            MlMath.writeTransform(buffer, transform);
+            pool.release(buffer);
+        }
+        long bytes = bean.getThreadAllocatedBytes(id) - before;
+        assertTrue("Allocated " + bytes + " bytes", bytes < 1024);
+    }
+}
@@ -0,0 +1,133 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlClipUnitTest
+{
+    private static final int[] FRAMES = { 1000, 0, 37 };
+
+    private static void setFrame(MlTransform transform, int track, int frame) {
+        transform.setValue(
+            track, frame, 1,
+            0, 1, 0,
+            0, 0, 1,
+            frame * 0.5f, -track, frame);
+    }
+
+    @Test
+    public void testRandomAccess() throws Exception {
+        File file = File.createTempFile("clip", ".mlc");
+        try {
+            MlClipWriter writer = new MlClipWriter(file, FRAMES.length, 30);
+            MlTransform transform = new MlTransform();
+            for (int track = 0; track < FRAMES.length; track++) {
+                assertEquals(track, writer.beginTrack());
+                for (int frame = 0; frame < FRAMES[track]; frame++) {
+                    setFrame(transform, track, frame);
+                    writer.write(transform);
+                }
+            }
+            writer.close();
+
+            MlClipReader reader = new MlClipReader(file);
+            assertEquals(FRAMES.length, reader.getTrackCount());
+            assertEquals(30, reader.getFrameRate(), 0);
+            for (int track = 0; track < FRAMES.length; track++)
+                assertEquals(FRAMES[track], reader.getFrameCount(track));
+
+            MlTransform expected = new MlTransform();
+            float[] m = new float[14];
+            int[] order = { 999, 0, 500, 1, 998 };
+            for (int frame : order) {
+                setFrame(expected, 0, frame);
+                reader.getFrame(0, frame, transform);
+                assertTrue(transform.equals(expected, 0));
+                reader.getFrame(0, frame, m, 2);
+                for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+                    assertEquals(expected.mData[i], m[2 + i], 0);
+            }
+            setFrame(expected, 2, 36);
+            reader.getFrame(2, 36, transform);
+            assertTrue(transform.equals(expected, 0));
+
+            try {
+                reader.getFrame(1, 0, transform);
+                fail("Expected an empty track.");
+            } catch (IndexOutOfBoundsException e) {
+                // Expected.
+            }
+            reader.close();
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testInvalidFile() throws Exception {
+        File file = File.createTempFile("clip", ".mlc");
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            raf.write(new byte[64]);
+            raf.close();
+            try {
+                new MlClipReader(file).close();
+                fail("Expected an invalid clip file.");
+            } catch (IOException e) {
+                // Expected.
+            }
+
+            // A channel given by the caller is left open.
+            RandomAccessFile in = new RandomAccessFile(file, "r");
+            try {
+                new MlClipReader(in.getChannel()).close();
+                fail("Expected an invalid clip file.");
+            } catch (IOException e) {
+                // Expected.
+            }
+            assertTrue(in.getChannel().isOpen());
+            in.close();
+        } finally {
+            file.delete();
+        }
+    }
+}
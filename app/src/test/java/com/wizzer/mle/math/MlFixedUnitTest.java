@@ -0,0 +1,177 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlFixedUnitTest
+{
+    private static final float ONE = MlFixed.ML_FIXED_ONE;
+
+    // The expected results of testDeterminism().
+    private static final long HASH = 6823345238552084480L;
+    private static final int VX = -34752, VY = 95773, VZ = -24983;
+
+    @Test
+    public void testScalar() throws Exception {
+        assertEquals(MlFixed.ML_FIXED_ONE, MlFixed.floatToFixed(1));
+        assertEquals(-0x18000, MlFixed.floatToFixed(-1.5f));
+        assertEquals(2.25f, MlFixed.fixedToFloat(0x24000), 0);
+        assertEquals(0x30000, MlFixed.mul(0x18000, 0x20000));
+        assertEquals(-0x30000, MlFixed.mul(-0x18000, 0x20000));
+        assertEquals(1, MlFixed.mul(1, MlFixed.ML_FIXED_HALF));
+        assertEquals(0xC000, MlFixed.div(0x18000, 0x20000));
+        assertEquals(0x20000, MlFixed.sqrt(0x40000));
+        assertEquals(0x16A09, MlFixed.sqrt(0x20000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSqrt() throws Exception {
+        MlFixed.sqrt(-1);
+    }
+
+    @Test
+    public void testSinCos() throws Exception {
+        int[] sc = new int[2];
+        for (int a = 0; a < MlFixedAngle.ML_FIXED_ANGLE_TWO_PI; a++) {
+            double r = (2 * Math.PI * a) / MlFixedAngle.ML_FIXED_ANGLE_TWO_PI;
+            int s = MlFixedAngle.sin(a);
+            int c = MlFixedAngle.cos(a);
+            assertEquals(Math.sin(r) * ONE, s, 1);
+            assertEquals(Math.cos(r) * ONE, c, 1);
+
+            // Angles wrap, and the values are symmetric.
+            assertEquals(s, MlFixedAngle.sin(a - MlFixedAngle.ML_FIXED_ANGLE_TWO_PI));
+            assertEquals(-s, MlFixedAngle.sin(-a));
+            MlFixedAngle.sinCos(a, sc, 0);
+            assertEquals(s, sc[0]);
+            assertEquals(c, sc[1]);
+        }
+        assertEquals(MlFixed.ML_FIXED_ONE, MlFixedAngle.sin(MlFixedAngle.ML_FIXED_ANGLE_PI_HALF));
+        assertEquals(-MlFixed.ML_FIXED_ONE, MlFixedAngle.cos(MlFixedAngle.ML_FIXED_ANGLE_PI));
+        assertEquals(0, MlFixedAngle.sin(MlFixedAngle.ML_FIXED_ANGLE_PI));
+        assertEquals(MlFixedAngle.sin(0x1234), MlFixedAngle.sin(0x1234 + (5 << 16)));
+    }
+
+    @Test
+    public void testDeterminism() throws Exception {
+        // Pins every sine, so that any change in the results is noticed.
+        long hash = 0;
+        for (int a = 0; a < MlFixedAngle.ML_FIXED_ANGLE_TWO_PI; a++)
+            hash = (hash * 31) + MlFixedAngle.sin(a);
+        assertEquals(HASH, hash);
+
+        MlFixedRotation q = new MlFixedRotation(new MlFixedVector3(0x10000, 0x20000, 0x30000), 0x1800);
+        MlFixedVector3 v = new MlFixedVector3(0x18000, -0x8000, 0x4000);
+        for (int i = 0; i < 100; i++)
+            q.multVec(v, v);
+        assertTrue(v.equals(new MlFixedVector3(VX, VY, VZ)));
+    }
+
+    @Test
+    public void testAngleConversion() throws Exception {
+        assertEquals(MlFixedAngle.ML_FIXED_ANGLE_PI_HALF, MlFixedAngle.angleToFixed(MlAngle.ML_ANGLE_PI_HALF));
+        assertEquals(MlAngle.ML_ANGLE_PI, MlFixedAngle.fixedToAngle(MlFixedAngle.ML_FIXED_ANGLE_PI), 0);
+        assertEquals(-0x1000, MlFixedAngle.angleToFixed(-0.0625f));
+    }
+
+    @Test
+    public void testVector() throws Exception {
+        MlVector3 f1 = new MlVector3(1.25f, -2.5f, 0.75f);
+        MlVector3 f2 = new MlVector3(-0.5f, 3.0f, 2.0f);
+        MlFixedVector3 v1 = new MlFixedVector3(f1);
+        MlFixedVector3 v2 = new MlFixedVector3(f2);
+
+        assertEquals(f1.dot(f2), MlFixed.fixedToFloat(v1.dot(v2)), 0);
+        MlVector3 r = new MlVector3();
+        v1.cross(v2, new MlFixedVector3()).getValue(r);
+        assertTrue(r.equals(f1.cross(f2), 0));
+        assertEquals(f1.length(), MlFixed.fixedToFloat(v1.length()), 2 / ONE);
+
+        new MlFixedVector3(v1).add(v2).getValue(r);
+        assertTrue(r.equals(new MlVector3(0.75f, 0.5f, 2.75f), 0));
+        new MlFixedVector3(v1).sub(v2).getValue(r);
+        assertTrue(r.equals(new MlVector3(1.75f, -5.5f, -1.25f), 0));
+        new MlFixedVector3(v1).mul(0x20000).getValue(r);
+        assertTrue(r.equals(new MlVector3(2.5f, -5.0f, 1.5f), 0));
+
+        MlFixedVector3 n = new MlFixedVector3(v1);
+        assertEquals(v1.length(), n.normalize());
+        n.getValue(r);
+        f1.normalize();
+        assertTrue(r.equals(f1, 3 / ONE));
+        assertEquals(0, new MlFixedVector3().normalize());
+    }
+
+    @Test
+    public void testRotation() throws Exception {
+        MlVector3 axis = new MlVector3(1, 2, 3);
+        float angle = 0.15f;
+        MlRotation f = new MlRotation(axis, MlAngle.angleToRadians(angle));
+        MlFixedRotation q = new MlFixedRotation(new MlFixedVector3(axis), MlFixedAngle.angleToFixed(angle));
+        MlRotation r = new MlRotation();
+        q.getValue(r);
+        assertTrue(r.equals(f, 1e-4f));
+        new MlFixedRotation(f).getValue(r);
+        assertTrue(r.equals(f, 1e-4f));
+
+        // Products and rotated vectors follow the floating-point classes.
+        MlRotation f2 = new MlRotation(new MlVector3(-2, 0, 1), 0.9f);
+        MlFixedRotation q2 = new MlFixedRotation(f2);
+        new MlFixedRotation(q).mul(q2).getValue(r);
+        assertTrue(r.equals(new MlRotation(f.mQuat).mul(f2), 1e-4f));
+
+        MlVector3 v = new MlVector3(1.5f, -2.0f, 0.25f);
+        MlVector3 expected = new MlVector3();
+        f.multVec(v, expected);
+        MlFixedVector3 fv = new MlFixedVector3(v);
+        q.multVec(fv, fv);
+        MlVector3 result = new MlVector3();
+        fv.getValue(result);
+        assertTrue(result.equals(expected, 1e-3f));
+
+        // The inverse undoes the rotation, to within the rounding.
+        new MlFixedRotation(q).invert().multVec(fv, fv);
+        fv.getValue(result);
+        assertTrue(result.equals(v, 1e-3f));
+
+        MlFixedRotation identity = new MlFixedRotation();
+        assertEquals(MlFixed.ML_FIXED_ONE, identity.mQuat[3]);
+        MlFixedVector3 same = new MlFixedVector3(0x18000, -0x8000, 0x4000);
+        identity.multVec(same, fv);
+        assertTrue(fv.equals(same));
+    }
+}
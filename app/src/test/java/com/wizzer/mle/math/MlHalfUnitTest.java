@@ -0,0 +1,163 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlHalfUnitTest
+{
+    @Test
+    public void testRoundTrip() throws Exception {
+        for (int h = 0; h < 0x10000; h++) {
+            float f = MlHalf.halfToFloat((short)h);
+            if (Float.isNaN(f))
+                assertTrue(((h & 0x7c00) == 0x7c00) && ((h & 0x3ff) != 0));
+            // NaNs come back quiet.
+            int expected = Float.isNaN(f) ? (h | 0x200) : h;
+            assertEquals(expected, MlHalf.floatToHalf(f) & 0xffff);
+        }
+        assertEquals(65504f, MlHalf.halfToFloat((short)0x7bff), 0);
+        assertEquals(5.9604645e-8f, MlHalf.halfToFloat((short)1), 0);
+        assertEquals(-2f, MlHalf.halfToFloat((short)0xc000), 0);
+    }
+
+    @Test
+    public void testRoundToNearestEven() throws Exception {
+        // Check either side of, and at, the midpoint between adjacent values.
+        for (int h = 0; h < 0x7bff; h++) {
+            float lo = MlHalf.halfToFloat((short)h);
+            float hi = MlHalf.halfToFloat((short)(h + 1));
+            float mid = (lo + hi) / 2;
+            int even = ((h & 1) == 0) ? h : (h + 1);
+            assertEquals(even, MlHalf.floatToHalf(mid));
+            assertEquals(h, MlHalf.floatToHalf(Math.nextAfter(mid, 0)));
+            assertEquals(h + 1, MlHalf.floatToHalf(Math.nextUp(mid)));
+            assertEquals(h | 0x8000, MlHalf.floatToHalf(-Math.nextAfter(mid, 0)) & 0xffff);
+        }
+        assertEquals(0x7bff, MlHalf.floatToHalf(65519.99f));
+        assertEquals(0x7c00, MlHalf.floatToHalf(65520f));
+        assertEquals(0xfc00, MlHalf.floatToHalf(Float.NEGATIVE_INFINITY) & 0xffff);
+        assertEquals(0, MlHalf.floatToHalf(Float.MIN_VALUE));
+        assertEquals(0x8000, MlHalf.floatToHalf(-0f) & 0xffff);
+    }
+
+    @Test
+    public void testVectors() throws Exception {
+        MlVector2 uv = new MlVector2(0.25f, 0.75f);
+        MlVector3 normal = new MlVector3(0.6f, 0.8f, 0);
+        MlVector4 color = new MlVector4(1, 0.5f, 0.125f, 1);
+        byte[] data = new byte[1 + 4 + 6 + 8];
+        MlHalf.convertVector2ToByteArray(1, data, uv);
+        MlHalf.convertVector3ToByteArray(5, data, normal);
+        MlHalf.convertVector4ToByteArray(11, data, color);
+        assertEquals(0x3400, ((data[1] & 0xff) << 8) | (data[2] & 0xff));
+
+        MlVector2 uv2 = new MlVector2();
+        MlVector3 normal2 = new MlVector3();
+        MlVector4 color2 = new MlVector4();
+        MlHalf.convertByteArrayToVector2(1, data, uv2);
+        MlHalf.convertByteArrayToVector3(5, data, normal2);
+        MlHalf.convertByteArrayToVector4(11, data, color2);
+        assertTrue(uv2.equals(uv, 0));
+        assertTrue(normal2.equals(normal, 1e-3f));
+        assertTrue(color2.equals(color, 0));
+
+        ByteBuffer buffer = ByteBuffer.allocate(18).order(ByteOrder.LITTLE_ENDIAN);
+        MlHalf.writeVector2(buffer, uv);
+        MlHalf.writeVector3(buffer, normal);
+        MlHalf.writeVector4(buffer, color);
+        assertEquals(0, buffer.remaining());
+        assertEquals(0x3400, buffer.getShort(0));
+        buffer.flip();
+        MlHalf.readVector2(buffer, uv2);
+        MlHalf.readVector3(buffer, normal2);
+        MlHalf.readVector4(buffer, color2);
+        assertTrue(uv2.equals(uv, 0));
+        assertTrue(normal2.equals(normal, 1e-3f));
+        assertTrue(color2.equals(color, 0));
+
+        try {
+            MlHalf.convertVector4ToByteArray(12, data, color);
+            fail("Expected an invalid data array length.");
+        } catch (java.io.IOException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testArrays() throws Exception {
+        float[] values = { 0, 1, -1.5f, 1e-5f, 1024, 70000 };
+        short[] halves = new short[values.length];
+        float[] result = new float[values.length + 1];
+        MlHalf.convertFloatArrayToHalfArray(values, 0, halves, 0, values.length);
+        MlHalf.convertHalfArrayToFloatArray(halves, 0, result, 1, values.length);
+        for (int i = 0; i < values.length; i++)
+            assertEquals(MlHalf.halfToFloat(MlHalf.floatToHalf(values[i])), result[i + 1], 0);
+        assertEquals(Float.POSITIVE_INFINITY, result[values.length], 0);
+
+        byte[] data = new byte[values.length * 2];
+        MlHalf.convertFloatArrayToByteArray(0, data, values, 0, values.length);
+        MlHalf.convertByteArrayToFloatArray(0, data, result, 0, values.length);
+        for (int i = 0; i < values.length; i++)
+            assertEquals(MlHalf.halfToFloat(halves[i]), result[i], 0);
+
+        MlVector3[] normals = { new MlVector3(1, 0, 0), new MlVector3(0, -1, 0) };
+        MlVector3[] normals2 = { new MlVector3(), new MlVector3() };
+        data = new byte[12];
+        MlHalf.convertVector3ArrayToByteArray(0, data, normals, 0, 2);
+        MlHalf.convertByteArrayToVector3Array(0, data, normals2, 0, 2);
+        assertTrue(normals2[1].equals(normals[1], 0));
+
+        MlTransform[] transforms = { new MlTransform(), new MlTransform() };
+        transforms[1].setTranslation(new MlVector3(2, 3, 4));
+        MlTransform[] transforms2 = { new MlTransform(), new MlTransform() };
+        transforms2[1].makeIdentity();
+        data = new byte[48];
+        MlHalf.convertTransformArrayToByteArray(0, data, transforms, 0, 2);
+        MlHalf.convertByteArrayToTransformArray(0, data, transforms2, 0, 2);
+        assertTrue(transforms2[1].equals(transforms[1], 0));
+
+        ByteBuffer buffer = ByteBuffer.allocate(24);
+        MlHalf.writeTransform(buffer, transforms[1]);
+        buffer.flip();
+        MlHalf.readTransform(buffer, transforms2[0]);
+        assertTrue(transforms2[0].equals(transforms[1], 0));
+    }
+}
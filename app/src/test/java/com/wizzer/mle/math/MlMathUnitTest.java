@@ -0,0 +1,235 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlMathUnitTest
+{
+    @Test
+    public void testPrimitives() throws Exception {
+        ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+        byte[] data = new byte[10];
+        for (ByteOrder order : orders) {
+            ByteBuffer buffer = ByteBuffer.wrap(data).order(order);
+
+            MlMath.convertIntegerToByteArray(0x12345678, data, 1, order);
+            assertEquals(0x12345678, buffer.getInt(1));
+            assertEquals(0x12345678, MlMath.convertByteArrayToInteger(data, 1, order));
+
+            MlMath.convertFloatToByteArray(-1.5e-3f, data, 2, order);
+            assertEquals(-1.5e-3f, buffer.getFloat(2), 0);
+            assertEquals(-1.5e-3f, MlMath.convertByteArrayToFloat(data, 2, order), 0);
+
+            MlMath.convertDoubleToByteArray(Math.PI, data, 2, order);
+            assertEquals(Math.PI, buffer.getDouble(2), 0);
+            assertEquals(Math.PI, MlMath.convertByteArrayToDouble(data, 2, order), 0);
+        }
+
+        try {
+            MlMath.convertIntegerToByteArray(1, data, 7, ByteOrder.BIG_ENDIAN);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testStructures() throws Exception {
+        byte[] data = new byte[52];
+
+        MlVector3 v = new MlVector3(1, -2, 3.5f);
+        MlVector3 v2 = new MlVector3();
+        MlMath.convertVector3ToByteArray(4, data, v);
+        assertEquals(-2, ByteBuffer.wrap(data).getFloat(8), 0);
+        MlMath.convertByteArrayToVector3(4, data, v2);
+        assertTrue(v.equals(v2, 0));
+
+        MlRotation r = new MlRotation(new MlVector3(1, 2, 3), 0.7f);
+        MlRotation r2 = new MlRotation();
+        MlMath.convertRotationToByteArray(4, data, r);
+        MlMath.convertByteArrayToRotation(4, data, r2);
+        // Decoding renormalizes the quaternion.
+        assertTrue(r.equals(r2, 1e-6f));
+
+        MlTransform t = new MlTransform();
+        t.setTransform(v, r, new MlVector3(2, 3, 4));
+        MlTransform t2 = new MlTransform();
+        MlMath.convertTransforrmToByteArray(4, data, t);
+        MlMath.convertByteArrayToTransform(4, data, t2);
+        assertTrue(t.equals(t2, 0));
+        assertEquals(t.get(3, 2), t2.mMatrix[3][2], 0);
+
+        try {
+            MlMath.convertTransforrmToByteArray(5, data, t);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testArrays() throws Exception {
+        MlTransform[] transforms = new MlTransform[3];
+        MlTransform[] decoded = new MlTransform[3];
+        for (int i = 0; i < transforms.length; i++) {
+            transforms[i] = new MlTransform();
+            transforms[i].setTransform(new MlVector3(i, 2 * i, 3), new MlRotation(new MlVector3(1, i, 0), i),
+                new MlVector3(1, 2, 3));
+            decoded[i] = new MlTransform();
+        }
+
+        // Arrays are stored exactly as consecutive single conversions.
+        byte[] data = new byte[2 + (3 * 48)];
+        byte[] expected = new byte[data.length];
+        MlMath.convertTransformArrayToByteArray(2, data, transforms, 0, 3);
+        for (int i = 0; i < transforms.length; i++)
+            MlMath.convertTransforrmToByteArray(2 + (i * 48), expected, transforms[i]);
+        assertArrayEquals(expected, data);
+        MlMath.convertByteArrayToTransformArray(2, data, decoded, 0, 3);
+        for (int i = 0; i < transforms.length; i++)
+            assertTrue(transforms[i].equals(decoded[i], 0));
+
+        MlRotation[] rotations = { new MlRotation(new MlVector3(1, 2, 3), 0.7f), MlRotation.identity() };
+        MlRotation[] rotations2 = { new MlRotation(), new MlRotation(), new MlRotation() };
+        MlMath.convertRotationArrayToByteArray(0, data, rotations, 0, 2);
+        MlMath.convertByteArrayToRotationArray(0, data, rotations2, 1, 2);
+        assertTrue(rotations[0].equals(rotations2[1], 1e-6f));
+        assertTrue(rotations[1].equals(rotations2[2], 1e-6f));
+
+        MlVector3[] vectors = { new MlVector3(1, 2, 3), new MlVector3(-4, 5, -6) };
+        MlVector3[] vectors2 = { new MlVector3(), new MlVector3() };
+        MlMath.convertVector3ArrayToByteArray(0, data, vectors, 0, 2);
+        MlMath.convertByteArrayToVector3Array(0, data, vectors2, 0, 2);
+        assertTrue(vectors[1].equals(vectors2[1], 0));
+
+        float[] values = { 1, -2, 3, Float.NaN };
+        float[] values2 = new float[4];
+        MlMath.convertFloatArrayToByteArray(0, data, values, 0, 4);
+        MlMath.convertByteArrayToFloatArray(0, data, values2, 0, 4);
+        assertArrayEquals(values, values2, 0);
+
+        try {
+            MlMath.convertByteArrayToTransformArray(3, data, decoded, 0, 3);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testBuffers() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(60).order(ByteOrder.LITTLE_ENDIAN);
+
+        MlTransform t = new MlTransform();
+        t.setTransform(new MlVector3(1, 2, 3), new MlRotation(new MlVector3(1, 2, 3), 0.7f),
+            new MlVector3(2, 3, 4));
+        MlVector3 v = new MlVector3(1, -2, 3.5f);
+        MlMath.writeTransform(buffer, t);
+        MlMath.writeVector3(buffer, v);
+        assertEquals(60, buffer.position());
+        assertEquals(t.get(0, 1), buffer.getFloat(4), 0);
+
+        try {
+            MlMath.writeVector2(buffer, new MlVector2(1, 2));
+            fail("Expected BufferOverflowException");
+        } catch (BufferOverflowException ex) {
+            assertEquals(60, buffer.position());
+        }
+
+        buffer.flip();
+        MlTransform t2 = new MlTransform();
+        MlVector3 v2 = new MlVector3();
+        MlMath.readTransform(buffer, t2);
+        MlMath.readVector3(buffer, v2);
+        assertTrue(t.equals(t2, 0));
+        assertTrue(v.equals(v2, 0));
+        assertEquals(t.get(2, 1), t2.mMatrix[2][1], 0);
+    }
+
+    @Test
+    public void testStructureOfArrays() throws Exception {
+        ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+        for (ByteOrder order : orders) {
+            ByteBuffer buffer = ByteBuffer.allocate(2 + (3 * 12) + (2 * 48)).order(order);
+            buffer.position(2);
+            for (int i = 0; i < 3; i++)
+                MlMath.writeVector3(buffer, new MlVector3(i, 10 + i, 20 + i));
+            MlTransform[] transforms = { new MlTransform(), new MlTransform() };
+            transforms[1].setTransform(new MlVector3(1, 2, 3),
+                new MlRotation(new MlVector3(0, 1, 0), 0.3f), new MlVector3(1, 1, 1));
+            for (MlTransform t : transforms)
+                MlMath.writeTransform(buffer, t);
+            byte[] data = buffer.array();
+
+            float[] x = new float[4], y = new float[4], z = new float[4];
+            MlMath.convertByteArrayToVector3Array(2, data, x, y, z, 1, 3, order);
+            float[] m = new float[36];
+            MlMath.convertByteArrayToTransformArray(2 + 36, data, m, 1, 2, order);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(i, x[i + 1], 0);
+                assertEquals(10 + i, y[i + 1], 0);
+                assertEquals(20 + i, z[i + 1], 0);
+            }
+            for (int i = 0; i < 2; i++)
+                assertTrue(transforms[i].equals(new MlTransform(m, 12 * (i + 1)), 0));
+
+            buffer.position(2);
+            float[] x2 = new float[3], y2 = new float[3], z2 = new float[3];
+            MlMath.readVector3Array(buffer, x2, y2, z2, 0, 3);
+            float[] m2 = new float[24];
+            MlMath.readTransformArray(buffer, m2, 0, 2);
+            assertFalse(buffer.hasRemaining());
+            assertArrayEquals(new float[] { 10, 11, 12 }, y2, 0);
+            for (int i = 0; i < 24; i++)
+                assertEquals(m[12 + i], m2[i], 0);
+
+            buffer.position(buffer.limit() - 47);
+            try {
+                MlMath.readTransformArray(buffer, m2, 0, 1);
+                fail("Expected BufferUnderflowException");
+            } catch (java.nio.BufferUnderflowException ex) {
+                assertEquals(buffer.limit() - 47, buffer.position());
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlParallelTransformerUnitTest
+{
+    @Test
+    public void testMatchesSequential() throws Exception {
+        MlTransform t = new MlTransform();
+        t.setTransform(new MlVector3(1, 2, 3), new MlRotation(new MlVector3(1, 2, 3), 0.7f),
+            new MlVector3(2, 3, 4));
+
+        // Points interleaved with a fourth attribute.
+        int count = 100003;
+        float[] src = new float[count * 4];
+        for (int i = 0; i < src.length; i++)
+            src[i] = (float)Math.sin(i);
+
+        float[] expected = new float[count * 3];
+        float[] actual = new float[count * 3];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MlParallelTransformer transformer = new MlParallelTransformer(pool, 1000);
+            assertSame(pool, transformer.getPool());
+
+            t.mulVecMatrix(src, 0, 4, expected, 0, 3, count);
+            transformer.mulVecMatrix(t, src, 0, 4, actual, 0, 3, count);
+            assertArrayEquals(expected, actual, 0);
+
+            t.mulDirMatrix(src, 0, 4, expected, 0, 3, count);
+            transformer.mulDirMatrix(t, src, 0, 4, actual, 0, 3, count);
+            assertArrayEquals(expected, actual, 0);
+
+            t.mulNormalMatrix(src, 0, 4, expected, 0, 3, count);
+            transformer.mulNormalMatrix(t, src, 0, 4, actual, 0, 3, count);
+            assertArrayEquals(expected, actual, 0);
+
+            // In place.
+            t.mulVecMatrix(src, 0, 4, expected, 0, 3, count);
+            transformer.mulVecMatrix(t, src, 0, 4, src, 0, 4, count);
+            for (int i = 0; i < count; i++)
+                assertEquals(expected[i * 3], src[i * 4], 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundTransform() throws Exception {
+        // A translation bound to a shared array, over points that include
+        // signed zeros and non-finite values, split into many chunks.
+        float[] data = new float[2 * MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform t = new MlTransform(data, MlTransform.ML_TRANSFORM_SIZE);
+        t.setTranslation(new MlVector3(-0.0f, 2, 3));
+
+        int count = 20000;
+        float[] src = new float[count * 3];
+        float[] special = { -0.0f, 0.0f, Float.NaN, Float.POSITIVE_INFINITY, 1.5f };
+        for (int i = 0; i < src.length; i++)
+            src[i] = special[i % special.length];
+
+        float[] expected = new float[src.length];
+        float[] actual = new float[src.length];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MlParallelTransformer transformer = new MlParallelTransformer(pool, 7);
+            t.mulVecMatrix(src, 0, 3, expected, 0, 3, count);
+            transformer.mulVecMatrix(t, src, 0, 3, actual, 0, 3, count);
+            for (int i = 0; i < src.length; i++)
+                assertEquals(Float.floatToRawIntBits(expected[i]), Float.floatToRawIntBits(actual[i]));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testThreshold() throws Exception {
+        MlParallelTransformer transformer = new MlParallelTransformer();
+        assertEquals(MlParallelTransformer.ML_DEFAULT_THRESHOLD, transformer.getThreshold());
+
+        transformer.setThreshold(1);
+        assertEquals(1, transformer.getThreshold());
+
+        try {
+            transformer.setThreshold(0);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException ex) {
+            // Expected.
+        }
+
+        float[] points = new float[9];
+        try {
+            transformer.mulVecMatrix(MlTransform.identity(), points, 0, 3, points, 0, 3, 4);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // Expected.
+        }
+    }
+}
@@ -0,0 +1,132 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlRotationCodecUnitTest
+{
+    // Returns the angle of the rotation between two rotations, in radians.
+    private static double angle(MlRotation a, MlRotation b) {
+        double dot = 0;
+        for (int i = 0; i < 4; i++)
+            dot += a.mQuat[i] * b.mQuat[i];
+        double sign = (dot < 0) ? -1 : 1;
+        double chord = 0;
+        for (int i = 0; i < 4; i++) {
+            double d = a.mQuat[i] - (sign * b.mQuat[i]);
+            chord += d * d;
+        }
+        return 4 * Math.asin(Math.sqrt(chord) / 2);
+    }
+
+    private static MlRotation[] randomRotations(int count) {
+        Random random = new Random(14);
+        MlRotation[] rotations = new MlRotation[count];
+        for (int i = 0; i < count; i++) {
+            rotations[i] = new MlRotation(
+                (float)random.nextGaussian(), (float)random.nextGaussian(),
+                (float)random.nextGaussian(), (float)random.nextGaussian());
+        }
+        rotations[0] = new MlRotation();
+        rotations[1] = new MlRotation(0, 0, -1, 0);
+        rotations[2] = new MlRotation(0.5f, -0.5f, 0.5f, -0.5f);
+        return rotations;
+    }
+
+    @Test
+    public void testMaxError() throws Exception {
+        MlRotation[] rotations = randomRotations(10000);
+        MlRotation decoded = new MlRotation();
+        int[] bits = { 16, 32, 48, 64 };
+        for (int b : bits) {
+            MlRotationCodec codec = new MlRotationCodec(b);
+            assertEquals(b / 8, codec.getSize());
+            float max = codec.getMaxError();
+            for (MlRotation rotation : rotations) {
+                long packed = codec.encode(rotation);
+                assertEquals(0, (b == 64) ? 0 : (packed >>> b));
+                codec.decode(packed, decoded);
+                assertTrue(angle(rotation, decoded) <= max);
+            }
+        }
+        assertEquals(0.274, Math.toDegrees(new MlRotationCodec(32).getMaxError()), 0.001);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        MlRotationCodec codec = new MlRotationCodec(48);
+        MlRotation[] rotations = randomRotations(100);
+        byte[] data = new byte[3 + (100 * 6)];
+        codec.encode(3, data, rotations, 0, 100);
+
+        MlRotation[] decoded = new MlRotation[100];
+        for (int i = 0; i < decoded.length; i++)
+            decoded[i] = new MlRotation();
+        codec.decode(3, data, decoded, 0, 100);
+
+        MlRotation single = new MlRotation();
+        ByteBuffer buffer = ByteBuffer.wrap(data, 3, data.length - 3);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(angle(rotations[i], decoded[i]) <= codec.getMaxError());
+            codec.decode(3 + (i * 6), data, single);
+            assertTrue(single.equals(decoded[i], 0));
+            codec.read(buffer, single);
+            assertTrue(single.equals(decoded[i], 0));
+        }
+
+        buffer.clear();
+        codec.write(buffer, rotations[5]);
+        codec.decode(0, data, single);
+        assertTrue(single.equals(decoded[5], 0));
+
+        try {
+            codec.encode(3, data, rotations, 0, 101);
+            fail("Expected an invalid data array length.");
+        } catch (java.io.IOException e) {
+            // Expected.
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBits() throws Exception {
+        new MlRotationCodec(30);
+    }
+}
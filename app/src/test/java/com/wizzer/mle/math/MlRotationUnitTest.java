@@ -126,4 +126,48 @@ public class MlRotationUnitTest
         assertEquals(0.0, rot.mQuat[2], 0.0);
         assertEquals(0.9998469948768616, rot.mQuat[3], 0.0);
     }
+
+    @Test
+    public void testSlerp() throws Exception {
+        MlRotation rot0 = new MlRotation(new MlVector3(1, 2, 3), 0.4f);
+        MlRotation rot1 = new MlRotation(new MlVector3(-1, 0, 2), 2.1f);
+        double cosom = 0;
+        for (int i = 0; i < 4; i++)
+            cosom += rot0.mQuat[i] * rot1.mQuat[i];
+        double omega = Math.acos(cosom);
+
+        for (int k = 0; k <= 10; k++) {
+            float t = k / 10.0f;
+            MlRotation rot = rot0.slerp(rot0, rot1, t);
+            for (int i = 0; i < 4; i++) {
+                double q = ((Math.sin((1 - t) * omega) * rot0.mQuat[i]) +
+                    (Math.sin(t * omega) * rot1.mQuat[i])) / Math.sin(omega);
+                assertEquals(q, rot.mQuat[i], 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testSlerpSmallAngle() throws Exception {
+        // Just above the angle below which slerp interpolates linearly, where
+        // the sine of the angle must not lose precision.
+        MlVector3 axis = new MlVector3(1, 2, 3);
+        for (int n = 0; n < 20; n++) {
+            MlRotation rot0 = new MlRotation(axis, 0.4f + (n * 0.1f));
+            MlRotation rot1 = new MlRotation(axis, 0.4f + (n * 0.1f) + 0.0095f + (n * 0.001f));
+            float cosom = (rot0.mQuat[0] * rot1.mQuat[0]) + (rot0.mQuat[1] * rot1.mQuat[1])
+                + (rot0.mQuat[2] * rot1.mQuat[2]) + (rot0.mQuat[3] * rot1.mQuat[3]);
+            double omega = Math.acos(cosom);
+
+            for (int k = 0; k <= 10; k++) {
+                float t = k / 10.0f;
+                MlRotation rot = rot0.slerp(rot0, rot1, t);
+                for (int i = 0; i < 4; i++) {
+                    double q = ((Math.sin((1 - t) * omega) * rot0.mQuat[i]) +
+                        (Math.sin(t * omega) * rot1.mQuat[i])) / Math.sin(omega);
+                    assertEquals(q, rot.mQuat[i], 3e-7);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,88 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlSinTableUnitTest
+{
+    // Returns the largest error of the table over angles from -2 to 2 turns.
+    private static double maxError(MlSinTable table) {
+        double max = 0;
+        for (int i = -200000; i <= 200000; i++) {
+            float a = i / 100000.0f + 1.234e-6f;
+            double r = 2 * Math.PI * a;
+            max = Math.max(max, Math.abs(table.sin(a) - Math.sin(r)));
+            max = Math.max(max, Math.abs(table.cos(a) - Math.cos(r)));
+        }
+        return max;
+    }
+
+    @Test
+    public void testErrorBounds() throws Exception {
+        int[] sizes = { 64, 256, 4096 };
+        int[] modes = { MlSinTable.ML_INTERPOLATE_LINEAR, MlSinTable.ML_INTERPOLATE_QUADRATIC };
+        for (int size : sizes) {
+            for (int mode : modes) {
+                MlSinTable table = new MlSinTable(size, mode);
+                double error = maxError(table);
+                assertTrue(size + "/" + mode + ": " + error, error <= table.getMaxError());
+            }
+        }
+        assertTrue(new MlSinTable(4096, MlSinTable.ML_INTERPOLATE_LINEAR).getMaxError() < 6e-7f);
+        assertTrue(MlSinTable.getDefault().getMaxError() < 3e-7f);
+    }
+
+    @Test
+    public void testDefault() throws Exception {
+        assertSame(MlSinTable.getDefault(), MlSinTable.getDefault());
+        assertEquals(MlSinTable.ML_DEFAULT_SIZE, MlSinTable.getDefault().getSize());
+
+        float e = MlSinTable.getDefault().getMaxError();
+        assertEquals(0, MlMath.mlFastSin(0), 0);
+        assertEquals(1, MlMath.mlFastCos(0), 0);
+        assertEquals(1, MlMath.mlFastSin(MlAngle.ML_ANGLE_PI_HALF), e);
+        assertEquals(-1, MlMath.mlFastCos(MlAngle.ML_ANGLE_PI), e);
+        assertEquals(MlMath.mlSin(0.1f), MlMath.mlFastSin(0.1f), 2 * e);
+        assertEquals(MlMath.mlCos(-0.7f), MlMath.mlFastCos(-0.7f), 2 * e);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() throws Exception {
+        new MlSinTable(1000, MlSinTable.ML_INTERPOLATE_LINEAR);
+    }
+}
@@ -0,0 +1,158 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlSnapshotUnitTest
+{
+    private static final int COUNT = 3000;
+
+    private static MlSnapshotWriter writer(MlVector3[] vectors, MlRotation[] rotations,
+                                           MlTransform[] transforms) {
+        for (int i = 0; i < COUNT; i++) {
+            vectors[i] = new MlVector3(i, -i, 0.5f * i);
+            rotations[i] = new MlRotation(new MlVector3(1, 0, 0), 0.001f * i);
+            transforms[i] = new MlTransform();
+            transforms[i].setTransform(vectors[i], rotations[i], new MlVector3(1, 2, 1));
+        }
+        MlSnapshotWriter writer = new MlSnapshotWriter();
+        assertEquals(0, writer.add(transforms, 0, COUNT));
+        assertEquals(1, writer.add(vectors, 10, 20));
+        assertEquals(2, writer.add(rotations, 0, COUNT));
+        return writer;
+    }
+
+    @Test
+    public void testBuffer() throws Exception {
+        MlVector3[] vectors = new MlVector3[COUNT];
+        MlRotation[] rotations = new MlRotation[COUNT];
+        MlTransform[] transforms = new MlTransform[COUNT];
+        MlSnapshotWriter writer = writer(vectors, rotations, transforms);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(out));
+        assertEquals(writer.getSize(), out.size());
+
+        MlSnapshotReader reader = new MlSnapshotReader(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals(MlSnapshotWriter.ML_SNAPSHOT_VERSION, reader.getVersion());
+        assertEquals(3, reader.getSectionCount());
+        assertEquals(MlStreamWriter.ML_RECORD_TRANSFORM, reader.getSectionType(0));
+        assertEquals(20, reader.getRecordCount(1));
+
+        MlTransform t = new MlTransform();
+        reader.getTransform(0, 2999, t);
+        assertTrue(t.equals(transforms[2999], 0));
+        assertTrue(reader.getTransform(0, 5).equals(transforms[5], 0));
+        assertSame(reader.getTransform(0, 5), reader.getTransform(0, 5));
+        assertTrue(reader.getVector3(1, 0).equals(vectors[10], 0));
+        assertTrue(reader.getRotation(2, 1234).equals(rotations[1234], 1e-6f));
+
+        try {
+            reader.getRotation(1, 0);
+            fail("Expected a record type mismatch.");
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+        try {
+            reader.getVector3(1, 20);
+            fail("Expected an invalid record.");
+        } catch (IndexOutOfBoundsException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testFile() throws Exception {
+        MlVector3[] vectors = new MlVector3[COUNT];
+        MlRotation[] rotations = new MlRotation[COUNT];
+        MlTransform[] transforms = new MlTransform[COUNT];
+        MlSnapshotWriter writer = writer(vectors, rotations, transforms);
+
+        File file = File.createTempFile("snapshot", ".mls");
+        try {
+            FileOutputStream out = new FileOutputStream(file);
+            writer.write(out.getChannel());
+            out.close();
+
+            MlSnapshotReader reader = new MlSnapshotReader(file);
+            MlVector3 v = new MlVector3();
+            reader.getVector3(1, 19, v);
+            assertTrue(v.equals(vectors[29], 0));
+            assertTrue(reader.getTransform(0, 1500).equals(transforms[1500], 0));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testInvalid() throws Exception {
+        byte[] data = new byte[32];
+        try {
+            new MlSnapshotReader(ByteBuffer.wrap(data));
+            fail("Expected an invalid snapshot.");
+        } catch (IOException e) {
+            // Expected.
+        }
+
+        MlSnapshotWriter writer = new MlSnapshotWriter();
+        writer.add(new MlVector3[] { new MlVector3() }, 0, 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(Channels.newChannel(out));
+        data = out.toByteArray();
+        try {
+            new MlSnapshotReader(ByteBuffer.wrap(data, 0, data.length - 1));
+            fail("Expected a truncated snapshot.");
+        } catch (IOException e) {
+            // Expected.
+        }
+        data[4] = 2;
+        try {
+            new MlSnapshotReader(ByteBuffer.wrap(data));
+            fail("Expected an unsupported version.");
+        } catch (IOException e) {
+            // Expected.
+        }
+    }
+}
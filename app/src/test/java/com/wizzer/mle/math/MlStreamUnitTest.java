@@ -0,0 +1,161 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlStreamUnitTest
+{
+    private static final int FRAMES = 200;
+
+    private static byte[] writeFrames() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MlStreamWriter writer = new MlStreamWriter(Channels.newChannel(out), 256);
+        MlVector3 vector = new MlVector3();
+        MlRotation rotation = new MlRotation();
+        MlTransform transform = new MlTransform();
+
+        for (int i = 0; i < FRAMES; i++) {
+            writer.beginFrame();
+            vector.setValue(i, -i, 0.5f * i);
+            writer.write(vector);
+            rotation.setValue(new MlVector3(0, 1, 0), 0.01f * i);
+            writer.write(rotation);
+            transform.makeIdentity();
+            transform.setTranslation(vector);
+            writer.write(transform);
+            writer.endFrame();
+        }
+        assertEquals(FRAMES, writer.getSequence());
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static void checkFrame(MlStreamReader reader) throws Exception {
+        int i = reader.getSequence();
+        MlVector3 vector = new MlVector3();
+        MlRotation rotation = new MlRotation();
+        MlTransform transform = new MlTransform();
+
+        assertEquals(MlStreamWriter.ML_RECORD_VECTOR3, reader.nextRecord());
+        reader.read(vector);
+        assertTrue(vector.equals(new MlVector3(i, -i, 0.5f * i), 0));
+        assertEquals(MlStreamWriter.ML_RECORD_ROTATION, reader.nextRecord());
+        reader.read(rotation);
+        assertTrue(rotation.equals(new MlRotation(new MlVector3(0, 1, 0), 0.01f * i), 1e-6f));
+        assertEquals(MlStreamWriter.ML_RECORD_TRANSFORM, reader.nextRecord());
+        reader.read(transform);
+        transform.getTranslation(vector);
+        assertTrue(vector.equals(new MlVector3(i, -i, 0.5f * i), 0));
+        assertEquals(MlStreamReader.ML_RECORD_END, reader.nextRecord());
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        byte[] data = writeFrames();
+        MlStreamReader reader = new MlStreamReader(
+            Channels.newChannel(new ByteArrayInputStream(data)), 256);
+
+        for (int i = 0; i < FRAMES; i++) {
+            assertTrue(reader.nextFrame());
+            assertEquals(i, reader.getSequence());
+            checkFrame(reader);
+        }
+        assertFalse(reader.nextFrame());
+        assertEquals(0, reader.getSkippedBytes());
+        reader.close();
+    }
+
+    @Test
+    public void testSkipRecords() throws Exception {
+        byte[] data = writeFrames();
+        MlStreamReader reader = new MlStreamReader(
+            Channels.newChannel(new ByteArrayInputStream(data)));
+
+        assertTrue(reader.nextFrame());
+        assertEquals(MlStreamWriter.ML_RECORD_VECTOR3, reader.nextRecord());
+        try {
+            reader.read(new MlRotation());
+            fail("Expected a record type mismatch.");
+        } catch (java.io.IOException e) {
+            // Expected.
+        }
+        assertEquals(MlStreamWriter.ML_RECORD_ROTATION, reader.nextRecord());
+        assertTrue(reader.nextFrame());
+        assertEquals(1, reader.getSequence());
+        checkFrame(reader);
+    }
+
+    @Test
+    public void testResync() throws Exception {
+        byte[] data = writeFrames();
+        int frameSize = data.length / FRAMES;
+
+        // Start in the middle of the third frame.
+        int start = (2 * frameSize) + 7;
+        MlStreamReader reader = new MlStreamReader(Channels.newChannel(
+            new ByteArrayInputStream(data, start, data.length - start)), 256);
+        assertTrue(reader.nextFrame());
+        assertEquals(3, reader.getSequence());
+        assertEquals(frameSize - 7, reader.getSkippedBytes());
+
+        // Damage the payload of the sixth frame.
+        data[(5 * frameSize) + 20] ^= 0x40;
+        reader = new MlStreamReader(Channels.newChannel(new ByteArrayInputStream(data)), 256);
+        int expected = 0;
+        while (reader.nextFrame()) {
+            if (expected == 5)
+                expected++;
+            assertEquals(expected++, reader.getSequence());
+            checkFrame(reader);
+        }
+        assertEquals(FRAMES, expected);
+        assertEquals(frameSize, reader.getSkippedBytes());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNoFrame() throws Exception {
+        MlStreamReader reader = new MlStreamReader(
+            Channels.newChannel(new ByteArrayInputStream(new byte[0])));
+        assertFalse(reader.nextFrame());
+        reader.nextRecord();
+    }
+}
@@ -0,0 +1,215 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+package com.wizzer.mle.math;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlTransformEncoderUnitTest
+{
+    private static final int FRAMES = 300;
+
+    // Returns frames that are mostly static, with a transform moving at a
+    // constant rate, and occasional jumps.
+    private static MlTransform[] frames() {
+        Random random = new Random(16);
+        MlTransform[] frames = new MlTransform[FRAMES];
+        MlVector3 axis = new MlVector3(0, 0, 1);
+        for (int i = 0; i < FRAMES; i++) {
+            MlRotation rotation = new MlRotation(axis, ((i / 50) % 2) * 0.5f);
+            frames[i] = new MlTransform();
+            frames[i].setTransform(new MlVector3(0.25f * i, 10, -3), rotation,
+                new MlVector3(1, 1, 1));
+            if ((i % 97) == 0)
+                frames[i].set(3, 2, random.nextFloat());
+        }
+        return frames;
+    }
+
+    @Test
+    public void testLossless() throws Exception {
+        MlTransform[] frames = frames();
+        MlTransformEncoder encoder = new MlTransformEncoder();
+        MlTransformDecoder decoder = new MlTransformDecoder();
+        byte[] data = new byte[FRAMES * MlTransformEncoder.ML_MAX_FRAME_SIZE];
+
+        int offset = 0;
+        for (MlTransform frame : frames)
+            offset += encoder.encode(offset, data, frame);
+        assertTrue(offset < (FRAMES * 48) / 4);
+
+        MlTransform decoded = new MlTransform();
+        int end = offset;
+        offset = 0;
+        for (MlTransform frame : frames) {
+            offset += decoder.decode(offset, data, decoded);
+            for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+                assertEquals(Float.floatToRawIntBits(frame.mData[i]),
+                    Float.floatToRawIntBits(decoded.mData[i]));
+        }
+        assertEquals(end, offset);
+
+        // A static frame takes one byte.
+        assertEquals(1, encoder.encode(0, data, frames[FRAMES - 1]));
+    }
+
+    @Test
+    public void testNaNPrediction() throws Exception {
+        // Infinity predicts infinity - infinity, whose bits are canonical.
+        long inf = Float.floatToRawIntBits(Float.POSITIVE_INFINITY);
+        assertEquals(0x7fc00000L, MlTransformEncoder.predict(inf, inf, 0));
+
+        // Infinite and NaN elements, with a payload, round trip exactly.
+        MlTransform[] frames = new MlTransform[6];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = MlTransform.identity();
+            frames[i].set(3, 0, Float.POSITIVE_INFINITY);
+            frames[i].set(3, 1, Float.intBitsToFloat(0x7f800001 + (i / 3)));
+            frames[i].set(3, 2, i);
+        }
+        MlTransformEncoder encoder = new MlTransformEncoder();
+        MlTransformDecoder decoder = new MlTransformDecoder();
+        byte[] data = new byte[MlTransformEncoder.ML_MAX_FRAME_SIZE];
+        MlTransform decoded = new MlTransform();
+        for (MlTransform frame : frames) {
+            encoder.encode(0, data, frame);
+            decoder.decode(0, data, decoded);
+            for (int i = 0; i < MlTransform.ML_TRANSFORM_SIZE; i++)
+                assertEquals(Float.floatToRawIntBits(frame.mData[i]),
+                    Float.floatToRawIntBits(decoded.mData[i]));
+        }
+    }
+
+    @Test
+    public void testLossy() throws Exception {
+        MlTransform[] frames = frames();
+        float tolerance = 1e-4f;
+        MlTransformEncoder encoder = new MlTransformEncoder(tolerance);
+        MlTransformDecoder decoder = new MlTransformDecoder(tolerance);
+        ByteBuffer buffer = ByteBuffer.allocate(FRAMES * MlTransformEncoder.ML_MAX_FRAME_SIZE);
+
+        int moving = 0;
+        for (int i = 0; i < FRAMES; i++) {
+            int p = buffer.position();
+            encoder.encode(buffer, frames[i]);
+            if ((i > 2) && ((i % 50) > 2) && ((i % 97) > 2))
+                moving = Math.max(moving, buffer.position() - p);
+        }
+        // Constant motion is predicted exactly.
+        assertEquals(1, moving);
+
+        buffer.flip();
+        MlTransform decoded = new MlTransform();
+        for (MlTransform frame : frames) {
+            decoder.decode(buffer, decoded);
+            assertTrue(decoded.equals(frame, tolerance * 1.01f));
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testLossyNotFinite() throws Exception {
+        MlTransformEncoder encoder = new MlTransformEncoder(1e-4f);
+        byte[] data = new byte[MlTransformEncoder.ML_MAX_FRAME_SIZE];
+        MlTransform[] frames = frames();
+        encoder.encode(0, data, frames[0]);
+
+        // Elements that cannot be quantized are rejected, and nothing is encoded.
+        float[] invalid = { Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, 1e30f };
+        for (float f : invalid) {
+            MlTransform t = new MlTransform(frames[1]);
+            t.set(2, 1, f);
+            try {
+                encoder.encode(0, data, t);
+                fail("Expected an IllegalArgumentException for " + f + ".");
+            } catch (IllegalArgumentException e) {
+                // Expected.
+            }
+        }
+
+        // The lossless encoder takes them exactly.
+        MlTransformEncoder lossless = new MlTransformEncoder();
+        MlTransformDecoder decoder = new MlTransformDecoder();
+        MlTransform decoded = new MlTransform();
+        MlTransform t = new MlTransform(frames[1]);
+        t.set(2, 1, Float.NaN);
+        lossless.encode(0, data, t);
+        decoder.decode(0, data, decoded);
+        assertTrue(Float.isNaN(decoded.get(2, 1)));
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        MlTransform[] frames = frames();
+        MlTransformEncoder encoder = new MlTransformEncoder();
+        MlTransformDecoder decoder = new MlTransformDecoder();
+        byte[] data = new byte[MlTransformEncoder.ML_MAX_FRAME_SIZE];
+        MlTransform decoded = new MlTransform();
+
+        encoder.encode(0, data, frames[0]);
+        encoder.encode(0, data, frames[1]);
+        encoder.reset();
+        encoder.encode(0, data, frames[2]);
+        decoder.decode(0, data, decoded);
+        assertTrue(decoded.equals(frames[2], 0));
+
+        // A truncated frame is not decoded.
+        int n = encoder.encode(0, data, frames[60]);
+        byte[] truncated = new byte[n - 1];
+        System.arraycopy(data, 0, truncated, 0, n - 1);
+        try {
+            decoder.decode(0, truncated, decoded);
+            fail("Expected a truncated frame.");
+        } catch (IOException e) {
+            // Expected.
+        }
+        decoder.decode(0, data, decoded);
+        assertTrue(decoded.equals(frames[60], 0));
+
+        // A linear prediction needs two frames.
+        data[0] = (byte)MlTransformEncoder.ML_PREDICT_LINEAR;
+        try {
+            new MlTransformDecoder().decode(0, data, decoded);
+            fail("Expected an invalid frame.");
+        } catch (IOException e) {
+            // Expected.
+        }
+    }
+}
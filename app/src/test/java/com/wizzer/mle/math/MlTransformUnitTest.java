@@ -359,4 +359,473 @@ public class MlTransformUnitTest
         assertEquals(8.938580140238628E-5, rotation.mVector[1], 0);
         assertEquals(8.938566315919161E-5, rotation.mVector[2], 0);
     }
+
+    @Test
+    public void testFlatStorage() throws Exception {
+        // Pack two transforms into one shared array.
+        float data[] = new float[2 * MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform first = new MlTransform(data, 0);
+        MlTransform second = new MlTransform(data, MlTransform.ML_TRANSFORM_SIZE);
+        assertNull(first.mMatrix);
+        assertSame(data, second.getData());
+        assertEquals(MlTransform.ML_TRANSFORM_SIZE, second.getOffset());
+
+        first.makeIdentity();
+        second.setScale(5);
+        assertTrue(first.isIdentity());
+        assertEquals(1, data[0], 0);
+        assertEquals(5, data[12], 0);
+        assertEquals(5, data[16], 0);
+        assertEquals(5, data[20], 0);
+
+        // Operations on bound transforms match those on owned storage.
+        MlVector3 v = new MlVector3(-1, -25, 50);
+        second.setTranslationOnly(v);
+        first.mulRight(second);
+        assertEquals(5, first.get(0, 0), 0);
+        assertEquals(-1, first.get(3, 0), 0);
+        assertEquals(-25, first.get(3, 1), 0);
+        assertEquals(50, first.get(3, 2), 0);
+
+        MlTransform copy = new MlTransform(first);
+        assertTrue(copy.equals(first, 0));
+        assertEquals(5, copy.mMatrix[1][1], 0);
+        assertEquals(50, copy.mMatrix[3][2], 0);
+
+        // Rebind a single instance to walk over the packed transforms.
+        MlTransform cursor = new MlTransform(data, 0);
+        assertEquals(5, cursor.get(0, 0), 0);
+        cursor.bind(data, MlTransform.ML_TRANSFORM_SIZE);
+        assertEquals(-25, cursor.get(3, 1), 0);
+
+        try {
+            cursor.bind(data, MlTransform.ML_TRANSFORM_SIZE + 1);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testMatrixView() throws Exception {
+        // A new transform has a view.
+        MlTransform t = new MlTransform();
+        assertEquals(0, t.mMatrix[3][2], 0);
+        t.makeIdentity();
+
+        // The view follows changes made through the transform.
+        t.set(3, 0, 7);
+        assertEquals(7, t.mMatrix[3][0], 0);
+
+        // Changes made through the view are seen by the transform.
+        t.mMatrix[3][1] = 8;
+        assertEquals(8, t.get(3, 1), 0);
+        assertEquals(MlTransform.ML_TRANSFORM_TRANSLATE, t.getType());
+
+        float flat[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        t.getValue(flat, 0);
+        assertEquals(7, flat[9], 0);
+        assertEquals(8, flat[10], 0);
+
+        MlVector3 v = new MlVector3();
+        t.mMatrix[0][0] = 2;
+        t.mulVecMatrix(new MlVector3(1, 1, 1), v);
+        assertTrue(v.equals(new MlVector3(9, 9, 1), 0));
+
+        // A write through the view bumps the version.
+        int version = t.getVersion();
+        t.mMatrix[2][2] = 3;
+        assertNotEquals(version, t.getVersion());
+
+        // A bound transform has no view.
+        t.bind(new float[MlTransform.ML_TRANSFORM_SIZE], 0);
+        assertNull(t.mMatrix);
+    }
+
+    @Test
+    public void testNoMatrixView() throws Exception {
+        MlTransform t = new MlTransform();
+        t.makeIdentity();
+
+        // Dropping the view keeps the elements written through it.
+        t.mMatrix[3][0] = 5;
+        t.setMatrixView(false);
+        assertFalse(t.hasMatrixView());
+        assertNull(t.mMatrix);
+        assertEquals(5, t.get(3, 0), 0);
+
+        // The transform is still usable through its methods, and can cache.
+        t.set(3, 1, 6);
+        assertEquals(6, t.get(3, 1), 0);
+        assertEquals(MlTransform.ML_TRANSFORM_TRANSLATE, t.getType());
+        t.setCaching(true);
+        assertEquals(-6, t.getInverse().get(3, 1), 0);
+
+        // Restoring the view fills it in.
+        t.setMatrixView(true);
+        assertTrue(t.hasMatrixView());
+        assertEquals(6, t.mMatrix[3][1], 0);
+        t.mMatrix[3][1] = 2;
+        assertEquals(-2, t.getInverse().get(3, 1), 0);
+
+        // A bound transform cannot have a view.
+        t.bind(new float[MlTransform.ML_TRANSFORM_SIZE], 0);
+        try {
+            t.setMatrixView(true);
+            fail("Expected an IllegalStateException.");
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void testGetTransformWorkspace() throws Exception {
+        MlTransform t = new MlTransform();
+        MlRotation r = new MlRotation(new MlVector3(0, 0, 1), 0.5f);
+        t.setTransform(new MlVector3(1, 2, 3), r, new MlVector3(2, 3, 4));
+
+        MlTransformWorkspace ws = new MlTransformWorkspace();
+        MlVector3 translation = new MlVector3();
+        MlRotation rotation = new MlRotation();
+        MlVector3 scale = new MlVector3();
+        MlRotation scaleOrientation = new MlRotation();
+
+        // Decompose twice with the same workspace; the results must not depend
+        // on what a previous call left behind.
+        for (int i = 0; i < 2; i++) {
+            t.getTransform(translation, rotation, scale, scaleOrientation,
+                new MlVector3(), ws);
+
+            assertTrue(translation.equals(new MlVector3(1, 2, 3), 1e-5f));
+            assertTrue(scale.equals(new MlVector3(2, 3, 4), 1e-5f));
+            assertTrue(rotation.equals(r, 1e-5f));
+        }
+
+        // The allocating overload gives the same answer.
+        MlVector3 scale2 = new MlVector3();
+        MlRotation rotation2 = new MlRotation();
+        t.getTransform(new MlVector3(), rotation2, scale2, new MlRotation());
+        assertTrue(scale2.equals(scale, 0));
+        assertTrue(rotation2.equals(rotation, 0));
+    }
+
+    @Test
+    public void testType() throws Exception {
+        MlTransform t = MlTransform.identity();
+        assertEquals(MlTransform.ML_TRANSFORM_IDENTITY, t.getType());
+
+        t.setTranslation(new MlVector3(1, 2, 3));
+        assertEquals(MlTransform.ML_TRANSFORM_TRANSLATE, t.getType());
+
+        t.setScale(2);
+        assertEquals(MlTransform.ML_TRANSFORM_UNIFORM_SCALE, t.getType());
+
+        new MlRotation(new MlVector3(1, 2, 3), 0.7f).getValue(t);
+        assertEquals(MlTransform.ML_TRANSFORM_ROTATE, t.getType());
+
+        t.setTranslationOnly(new MlVector3(1, 2, 3));
+        assertEquals(MlTransform.ML_TRANSFORM_ROTATE | MlTransform.ML_TRANSFORM_TRANSLATE,
+            t.getType());
+
+        MlTransform s = new MlTransform();
+        s.setScale(3);
+        t.mulRight(s);
+        assertEquals(MlTransform.ML_TRANSFORM_ROTATE | MlTransform.ML_TRANSFORM_UNIFORM_SCALE |
+            MlTransform.ML_TRANSFORM_TRANSLATE, t.getType());
+
+        s.setScale(new MlVector3(1, 2, 3));
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE, s.getType());
+        t.mulRight(s);
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE | MlTransform.ML_TRANSFORM_TRANSLATE,
+            t.getType());
+
+        // Writing through the view discards the cached type.
+        t.makeIdentity();
+        t.mMatrix[3][0] = 5;
+        t.commitMatrix();
+        assertEquals(MlTransform.ML_TRANSFORM_TRANSLATE, t.getType());
+    }
+
+    @Test
+    public void testTypeFastPaths() throws Exception {
+        MlTransform r = new MlTransform();
+        new MlRotation(new MlVector3(1, 2, 3), 0.7f).getValue(r);
+        r.setTranslationOnly(new MlVector3(4, 5, 6));
+        MlTransform t = new MlTransform();
+        t.setTranslation(new MlVector3(-1, 2, -3));
+
+        // Multiplying by a translation gives the same result as the general product.
+        float expected[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        float actual[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform.multiply(r.getData(), 0, t.getData(), 0, expected, 0);
+        new MlTransform(r).mulRight(t).getValue(actual, 0);
+        assertArrayEquals(expected, actual, 0);
+        MlTransform.multiply(t.getData(), 0, r.getData(), 0, expected, 0);
+        new MlTransform(r).mulLeft(t).getValue(actual, 0);
+        assertArrayEquals(expected, actual, 0);
+        new MlTransform(t).mulRight(r).getValue(actual, 0);
+        assertArrayEquals(expected, actual, 0);
+
+        MlVector3 v = new MlVector3(7, 8, 9);
+        MlVector3 result = new MlVector3();
+        t.mulVecMatrix(v, result);
+        assertTrue(result.equals(new MlVector3(6, 10, 6), 0));
+        t.mulDirMatrix(v, result);
+        assertTrue(result.equals(v, 0));
+
+        // Each kind of transform, times its inverse, is the identity.
+        MlTransform s = new MlTransform();
+        s.setScale(new MlVector3(1, 2, 3));
+        MlTransform u = new MlTransform();
+        u.setScale(0.5f);
+        MlTransform rs = new MlTransform(r).mulRight(u);
+        MlTransform g = new MlTransform(r).mulLeft(s);
+        MlTransform[] transforms = { MlTransform.identity(), t, u, r, rs, g };
+        for (MlTransform m : transforms) {
+            MlTransform product = new MlTransform(m).mulRight(m.inverse());
+            assertTrue(product.equals(MlTransform.identity(), 1e-5f));
+        }
+    }
+
+    @Test
+    public void testChainedRotationInverse() throws Exception {
+        // The rounding of a long chain of products of rotations accumulates; the
+        // inverse of the product must follow the general inverse, not the transpose.
+        MlTransform r = new MlTransform();
+        new MlRotation(new MlVector3(1, 2, 3), 0.1f).getValue(r);
+        MlTransform t = MlTransform.identity();
+        for (int i = 0; i < 100000; i++)
+            t.mulRight(r);
+
+        float m[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        float expected[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        float actual[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        t.getValue(m, 0);
+        invert(m, expected);
+        t.inverse().getValue(actual, 0);
+        assertArrayEquals(expected, actual, 1e-6f);
+    }
+
+    // The general inverse of the upper-left 3x3 matrix, computed in double.
+    private static void invert(float m[], float result[]) {
+        double c00 = ((double) m[4] * m[8]) - ((double) m[5] * m[7]);
+        double c01 = ((double) m[2] * m[7]) - ((double) m[1] * m[8]);
+        double c02 = ((double) m[1] * m[5]) - ((double) m[2] * m[4]);
+        double c10 = ((double) m[5] * m[6]) - ((double) m[3] * m[8]);
+        double c11 = ((double) m[0] * m[8]) - ((double) m[2] * m[6]);
+        double c12 = ((double) m[2] * m[3]) - ((double) m[0] * m[5]);
+        double c20 = ((double) m[3] * m[7]) - ((double) m[4] * m[6]);
+        double c21 = ((double) m[1] * m[6]) - ((double) m[0] * m[7]);
+        double c22 = ((double) m[0] * m[4]) - ((double) m[1] * m[3]);
+        double det = (m[0] * c00) + (m[1] * c10) + (m[2] * c20);
+        double c[] = { c00, c01, c02, c10, c11, c12, c20, c21, c22 };
+        for (int i = 0; i < 9; i++)
+            result[i] = (float) (c[i] / det);
+        for (int j = 0; j < 3; j++)
+            result[9 + j] = (float) (-((m[9] * c[j]) + (m[10] * c[3 + j]) + (m[11] * c[6 + j])) / det);
+    }
+
+    @Test
+    public void testInexactType() throws Exception {
+        // Close to a rotation, but not one within rounding; it is reported as
+        // affine, and the inverse is not taken as the transpose.
+        MlTransform t = new MlTransform(1, 0, 0, 0, 1, 0, 0, 0, 1.000004f, 0, 0, 0);
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE, t.getType());
+        assertEquals(1 / 1.000004f, t.inverse().get(2, 2), 0);
+
+        // So is its product with a rotation, whose inverse stays exact.
+        MlTransform r = new MlTransform();
+        new MlRotation(new MlVector3(1, 2, 3), 0.7f).getValue(r);
+        MlTransform p = new MlTransform(r).mulRight(t);
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE, p.getType());
+        assertTrue(new MlTransform(p).mulRight(p.inverse()).equals(MlTransform.identity(), 1e-6f));
+
+        // Rotations and scales built exactly keep the fast path and their types.
+        MlTransform q = new MlTransform(0, 1, 0, -1, 0, 0, 0, 0, 1, 0, 0, 0);
+        MlTransform s = new MlTransform();
+        s.setScale(2);
+        q.mulRight(s);
+        assertEquals(MlTransform.ML_TRANSFORM_ROTATE | MlTransform.ML_TRANSFORM_UNIFORM_SCALE,
+            q.getType());
+        assertTrue(q.inverse().equals(new MlTransform(0, -0.5f, 0, 0.5f, 0, 0, 0, 0, 0.5f, 0, 0, 0), 0));
+    }
+
+    @Test
+    public void testRigidInverse() throws Exception {
+        // Rotations built from a quaternion are rigid within rounding, and
+        // take the transpose as their inverse.
+        float[] axes = { 1, 2, 3,  -0.3f, 0.9f, 0.1f,  0, 0, 1,  5, -7, 2 };
+        for (int i = 0; i < axes.length; i += 3) {
+            for (float angle = 0.1f; angle < 6.2f; angle += 0.37f) {
+                MlTransform r = new MlTransform();
+                new MlRotation(new MlVector3(axes[i], axes[i + 1], axes[i + 2]), angle).getValue(r);
+                r.setTranslationOnly(new MlVector3(4, 5, 6));
+                assertEquals(MlTransform.ML_TRANSFORM_ROTATE | MlTransform.ML_TRANSFORM_TRANSLATE,
+                    r.getType());
+
+                MlTransform inverse = r.inverse();
+                for (int row = 0; row < 3; row++)
+                    for (int column = 0; column < 3; column++)
+                        assertEquals(r.get(column, row), inverse.get(row, column), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testBoundType() throws Exception {
+        float data[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform first = new MlTransform(data, 0);
+        MlTransform second = new MlTransform(data, 0);
+        first.makeIdentity();
+        assertEquals(MlTransform.ML_TRANSFORM_IDENTITY, second.getType());
+
+        // Writes through another transform or the array are seen by both
+        // once committed.
+        second.setScale(new MlVector3(1, 2, 8));
+        first.commitMatrix();
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE, first.getType());
+        assertEquals(0.125f, first.inverse().get(2, 2), 0);
+        data[8] = 1;
+        data[9] = 4;
+        first.commitMatrix();
+        second.commitMatrix();
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE | MlTransform.ML_TRANSFORM_TRANSLATE,
+            second.getType());
+        assertEquals(1, first.inverse().get(2, 2), 0);
+        assertEquals(-4, first.inverse().get(3, 0), 0);
+
+        // A copy does not inherit a stale type.
+        MlTransform copy = new MlTransform(first);
+        data[4] = 1;
+        first.commitMatrix();
+        assertEquals(MlTransform.ML_TRANSFORM_AFFINE | MlTransform.ML_TRANSFORM_TRANSLATE,
+            copy.getType());
+        assertEquals(MlTransform.ML_TRANSFORM_TRANSLATE, first.getType());
+    }
+
+    @Test
+    public void testCachedInverse() throws Exception {
+        MlTransform t = new MlTransform();
+        t.setScale(new MlVector3(2, 4, 8));
+        t.setTranslationOnly(new MlVector3(1, 2, 3));
+        assertFalse(t.isCaching());
+
+        t.setCaching(true);
+        MlTransform inverse = t.getInverse();
+        assertSame(inverse, t.getInverse());
+        assertTrue(inverse.equals(t.inverse(), 0));
+        assertNotSame(inverse, t.inverse());
+
+        // Repeated queries reuse the cached inverse without computing it again;
+        // a mark left in it survives until the transform is modified.
+        float element = inverse.get(1, 2);
+        inverse.set(1, 2, 42);
+        assertSame(inverse, t.getInverse());
+        assertEquals(42, t.getInverse().get(1, 2), 0);
+        assertEquals(42, t.inverse().get(1, 2), 0);
+        t.mMatrix[3][0] = 5;
+        assertSame(inverse, t.getInverse());
+        assertEquals(element, t.getInverse().get(1, 2), 0);
+        assertTrue(new MlTransform(t).mulRight(inverse).equals(MlTransform.identity(), 1e-6f));
+
+        MlTransform normal = t.getNormalMatrix();
+        assertSame(normal, t.getNormalMatrix());
+        assertTrue(normal.equals(new MlTransform(0.5f, 0, 0, 0, 0.25f, 0, 0, 0, 0.125f, 0, 0, 0), 0));
+
+        // Modifying the transform invalidates the cache.
+        int version = t.getVersion();
+        t.setScale(4);
+        assertTrue(t.getVersion() != version);
+        assertSame(inverse, t.getInverse());
+        assertTrue(inverse.equals(new MlTransform(0.25f, 0, 0, 0, 0.25f, 0, 0, 0, 0.25f, 0, 0, 0), 0));
+        assertTrue(t.getNormalMatrix().equals(inverse, 0));
+
+        // A bound transform cannot cache, so writes into the shared array are
+        // seen once committed.
+        float data[] = new float[MlTransform.ML_TRANSFORM_SIZE];
+        MlTransform bound = new MlTransform(data, 0);
+        MlTransform other = new MlTransform(data, 0);
+        bound.makeIdentity();
+        try {
+            bound.setCaching(true);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertFalse(bound.isCaching());
+        assertTrue(bound.getInverse().isIdentity());
+        other.setScale(0.5f);
+        bound.commitMatrix();
+        assertEquals(2, bound.getInverse().get(0, 0), 0);
+        assertEquals(2, bound.getNormalMatrix().get(1, 1), 0);
+
+        // Binding a caching transform disables caching.
+        MlTransform rebound = new MlTransform(t);
+        rebound.setCaching(true);
+        rebound.getInverse();
+        rebound.bind(data, 0);
+        assertFalse(rebound.isCaching());
+        data[0] = 0.25f;
+        rebound.commitMatrix();
+        assertEquals(4, rebound.getInverse().get(0, 0), 0);
+
+        t.setCaching(false);
+        assertNotSame(t.getInverse(), t.getInverse());
+    }
+
+    @Test
+    public void testBatchTransforms() throws Exception {
+        MlTransform t = new MlTransform();
+        t.setTransform(new MlVector3(1, 2, 3), new MlRotation(new MlVector3(1, 2, 3), 0.7f),
+            new MlVector3(2, 3, 4));
+
+        // Three vertices interleaved with a fourth attribute.
+        float[] vertices = { 1, 2, 3, -1,   4, 5, 6, -1,   -7, 8, -9, -1 };
+        float[] points = new float[9];
+        float[] directions = new float[9];
+        t.mulVecMatrix(vertices, 0, 4, points, 0, 3, 3);
+        t.mulDirMatrix(vertices, 0, 4, directions, 0, 3, 3);
+
+        MlVector3 v = new MlVector3();
+        MlVector3 expected = new MlVector3();
+        MlVector3Array soa = new MlVector3Array(3);
+        for (int i = 0; i < 3; i++) {
+            v.setValue(vertices[i * 4], vertices[(i * 4) + 1], vertices[(i * 4) + 2]);
+            soa.set(i, v);
+
+            t.mulVecMatrix(v, expected);
+            assertTrue(expected.equals(new MlVector3(points[i * 3], points[(i * 3) + 1], points[(i * 3) + 2]), 0));
+            t.mulDirMatrix(v, expected);
+            assertTrue(expected.equals(new MlVector3(directions[i * 3], directions[(i * 3) + 1], directions[(i * 3) + 2]), 0));
+        }
+        assertEquals(-1, vertices[3], 0);
+
+        // In place.
+        t.mulVecMatrix(vertices, 0, 4, vertices, 0, 4, 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(points[i * 3], vertices[i * 4], 0);
+            assertEquals(-1, vertices[(i * 4) + 3], 0);
+        }
+
+        // Structure of arrays, in place.
+        t.mulVecMatrix(soa, soa);
+        for (int i = 0; i < 3; i++) {
+            soa.get(i, v);
+            assertTrue(v.equals(new MlVector3(points[i * 3], points[(i * 3) + 1], points[(i * 3) + 2]), 0));
+        }
+
+        // Transformed normals stay perpendicular to transformed tangents.
+        float[] tangent = { 1, -1, 0 };
+        float[] normal = { 1, 1, 0 };
+        t.mulDirMatrix(tangent, 0, 3, tangent, 0, 3, 1);
+        t.mulNormalMatrix(normal, 0, 3, normal, 0, 3, 1);
+        assertEquals(0, (tangent[0] * normal[0]) + (tangent[1] * normal[1]) + (tangent[2] * normal[2]), 1e-5f);
+
+        try {
+            t.mulVecMatrix(points, 0, 3, points, 1, 3, 3);
+            fail("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // Expected.
+        }
+    }
 }
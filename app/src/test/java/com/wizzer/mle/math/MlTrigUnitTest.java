@@ -0,0 +1,246 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlTrigUnitTest
+{
+    private static final int[] TIERS = {
+        MlTrig.ML_PRECISION_EXACT, MlTrig.ML_PRECISION_FAST, MlTrig.ML_PRECISION_FASTEST
+    };
+
+    // Returns the largest error of the sine and cosine over angles from -2 to 2 turns.
+    private static double sinError(MlTrig trig) {
+        double max = 0;
+        for (int i = -400000; i <= 400000; i++) {
+            float a = i / 200000.0f + 1.234e-7f;
+            double r = 2 * Math.PI * a;
+            max = Math.max(max, Math.abs(trig.sin(a) - Math.sin(r)));
+            max = Math.max(max, Math.abs(trig.cos(a) - Math.cos(r)));
+        }
+        return max;
+    }
+
+    // Returns the largest error of the inverse functions, in turns.
+    private static double angleError(MlTrig trig) {
+        double max = 0;
+        for (int i = -200000; i <= 200000; i++) {
+            float x = i / 200000.0f;
+            max = Math.max(max, Math.abs(trig.asin(x) - (Math.asin(x) / (2 * Math.PI))));
+            max = Math.max(max, Math.abs(trig.acos(x) - (Math.acos(x) / (2 * Math.PI))));
+        }
+        for (int i = 0; i < 200000; i++) {
+            double t = (2 * Math.PI * i) / 200000;
+            float r = ((i % 7) + 1) * 0.37f;
+            float y = (float)(r * Math.sin(t));
+            float x = (float)(r * Math.cos(t));
+            double e = Math.abs(trig.atan2(y, x) - (Math.atan2(y, x) / (2 * Math.PI)));
+            max = Math.max(max, Math.min(e, 1 - e));
+        }
+        return max;
+    }
+
+    @Test
+    public void testErrorBounds() throws Exception {
+        for (int tier : TIERS) {
+            MlTrig trig = MlTrig.getInstance(tier);
+            double error = sinError(trig);
+            assertTrue(tier + ": " + error, error <= trig.getMaxError());
+            error = angleError(trig);
+            assertTrue(tier + ": " + error, error <= trig.getMaxAngleError());
+        }
+        assertTrue(MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).getMaxError() <= 1e-6f);
+        assertTrue(MlTrig.getInstance(MlTrig.ML_PRECISION_FASTEST).getMaxError() <= 1e-3f);
+        assertTrue(MlAngle.angleToDegrees(
+            MlTrig.getInstance(MlTrig.ML_PRECISION_FASTEST).getMaxAngleError()) <= 0.1f);
+    }
+
+    @Test
+    public void testSpecialValues() throws Exception {
+        for (int tier : TIERS) {
+            MlTrig trig = MlTrig.getInstance(tier);
+            float e = trig.getMaxError();
+            float ae = trig.getMaxAngleError();
+            assertEquals(0, trig.sin(0), e);
+            assertEquals(1, trig.cos(0), e);
+            assertEquals(-1, trig.sin(-MlAngle.ML_ANGLE_PI_HALF), e);
+            assertEquals(-1, trig.cos(MlAngle.ML_ANGLE_PI), e);
+            assertEquals(MlAngle.ML_ANGLE_PI_HALF, trig.asin(1), ae);
+            assertEquals(-MlAngle.ML_ANGLE_PI_HALF, trig.asin(-1), ae);
+            assertEquals(0, trig.acos(1), ae);
+            assertEquals(MlAngle.ML_ANGLE_PI, trig.acos(-1), ae);
+            assertEquals(0, trig.atan2(0, 0), 0);
+            assertEquals(MlAngle.ML_ANGLE_PI, trig.atan2(0, -1), ae);
+            assertEquals(-MlAngle.ML_ANGLE_PI, trig.atan2(-0.0f, -1), ae);
+            assertEquals(MlAngle.ML_ANGLE_PI_HALF, trig.atan2(2, 0), ae);
+            assertEquals(-MlAngle.ML_ANGLE_PI_FOURTH, trig.atan2(-3, 3), ae);
+        }
+    }
+
+    @Test
+    public void testMathPrecision() throws Exception {
+        for (int tier : TIERS) {
+            MlTrig trig = MlTrig.getInstance(tier);
+            assertEquals(tier, trig.getPrecision());
+            assertEquals(trig.sin(0.3f), MlMath.mlSin(0.3f, tier), 0);
+            assertEquals(trig.cos(0.3f), MlMath.mlCos(0.3f, tier), 0);
+            assertEquals(trig.asin(0.3f), MlMath.mlAsin(0.3f, tier), 0);
+            assertEquals(trig.acos(0.3f), MlMath.mlAcos(0.3f, tier), 0);
+            assertEquals(trig.atan2(0.3f, -0.4f), MlMath.mlAtan2(0.3f, -0.4f, tier), 0);
+        }
+        assertEquals(MlMath.mlSin(0.3f), MlMath.mlSin(0.3f, MlTrig.ML_PRECISION_EXACT), 0);
+    }
+
+    @Test
+    public void testSinCos() throws Exception {
+        float[] sc = new float[3];
+        for (int tier : TIERS) {
+            MlTrig trig = MlTrig.getInstance(tier);
+            for (int i = -1000; i <= 1000; i++) {
+                float a = i * 0.00173f;
+                trig.sinCos(a, sc, 1);
+                assertEquals(trig.sin(a), sc[1], trig.getMaxError());
+                assertEquals(trig.cos(a), sc[2], trig.getMaxError());
+            }
+        }
+
+        MlMath.mlSinCos(0.3f, sc, 0);
+        assertEquals(MlMath.mlSin(0.3f), sc[0], 0);
+        assertEquals(MlMath.mlCos(0.3f), sc[1], 0);
+        MlMath.mlSinCos(0.3f, sc, 0, MlTrig.ML_PRECISION_FAST);
+        assertEquals(MlMath.mlSin(0.3f, MlTrig.ML_PRECISION_FAST), sc[0], 0);
+        assertEquals(MlMath.mlCos(0.3f, MlTrig.ML_PRECISION_FAST), sc[1], 0);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        float[] turns = new float[100];
+        float[] degrees = new float[100];
+        float[] radians = new float[100];
+        for (int i = 0; i < 100; i++) {
+            turns[i] = (i - 50) * 0.0123f;
+            degrees[i] = turns[i] * 360;
+            radians[i] = (float)(turns[i] * 2 * Math.PI);
+        }
+
+        float[] s = new float[102];
+        float[] c = new float[102];
+        for (int tier : TIERS) {
+            MlTrig trig = MlTrig.getInstance(tier);
+            float e = 2 * trig.getMaxError();
+            float[][] angles = { turns, degrees, radians };
+            int[] units = { MlAngle.ML_UNITS_ANGLE, MlAngle.ML_UNITS_DEGREES, MlAngle.ML_UNITS_RADIANS };
+            for (int u = 0; u < 3; u++) {
+                trig.sinCos(angles[u], 1, s, c, 2, 99, units[u]);
+                for (int i = 1; i < 100; i++) {
+                    double r = 2 * Math.PI * turns[i];
+                    assertEquals(Math.sin(r), s[i + 1], e);
+                    assertEquals(Math.cos(r), c[i + 1], e);
+                }
+                trig.sin(angles[u], 0, s, 0, 100, units[u]);
+                trig.cos(angles[u], 0, c, 0, 100, units[u]);
+                for (int i = 0; i < 100; i++) {
+                    double r = 2 * Math.PI * turns[i];
+                    assertEquals(Math.sin(r), s[i], e);
+                    assertEquals(Math.cos(r), c[i], e);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testBatchRange() throws Exception {
+        MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).sin(new float[10], 0, new float[10], 1, 10,
+            MlAngle.ML_UNITS_ANGLE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidUnits() throws Exception {
+        MlTrig.getInstance(MlTrig.ML_PRECISION_FAST).cos(new float[10], 0, new float[10], 0, 10, 3);
+    }
+
+    @Test
+    public void testFastInverse() throws Exception {
+        MlTrig trig = MlTrig.getInstance(MlTrig.ML_PRECISION_FAST);
+        for (int i = -1000; i <= 1000; i++) {
+            float x = i / 1000.0f;
+            assertEquals(trig.asin(x), MlMath.mlFastAsin(x), 0);
+            assertEquals(trig.acos(x), MlMath.mlFastAcos(x), 0);
+            assertEquals(trig.atan2(x, 0.3f), MlMath.mlFastAtan2(x, 0.3f), 0);
+        }
+
+        // Small angles keep their precision.
+        float x = (float)Math.cos(1e-3);
+        assertEquals(Math.acos(x) / (2 * Math.PI), MlMath.mlFastAcos(x), 1e-9);
+        assertEquals(MlAngle.ML_ANGLE_PI_HALF, MlMath.mlFastAtan2(1e-30f, 0), 0);
+    }
+
+    @Test
+    public void testExtraction() throws Exception {
+        int fast = MlTrig.ML_PRECISION_FAST;
+        MlTransform t = new MlTransform();
+        float[] exact = new float[3];
+        float[] r = new float[3];
+        for (int i = 0; i < 50; i++) {
+            t.setTransform(new MlVector3(1, 2, 3), new MlVector3(i * 7.1f, i * -3.3f, i * 5.7f),
+                new MlVector3(1, 1, 1));
+            t.getRotation(exact);
+            t.getRotation(r, fast);
+            for (int j = 0; j < 3; j++) {
+                double e = Math.abs(exact[j] - r[j]);
+                assertEquals(0, Math.min(e, 360 - e), 1e-3);
+            }
+        }
+
+        MlRotation rot0 = new MlRotation(new MlVector3(1, 2, 3), 0.4f);
+        MlRotation rot1 = new MlRotation(new MlVector3(-1, 0, 2), 2.1f);
+        for (int k = 0; k <= 10; k++) {
+            float f = k / 10.0f;
+            assertTrue(rot0.slerp(rot0, rot1, f).equals(rot0.slerp(rot0, rot1, f, fast), 1e-6f));
+        }
+
+        MlVector3 axis = new MlVector3();
+        float[] radians = new float[1];
+        rot1.getValue(axis, radians, fast);
+        assertEquals(2.1f, radians[0], 1e-5f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() throws Exception {
+        MlTrig.getInstance(3);
+    }
+}
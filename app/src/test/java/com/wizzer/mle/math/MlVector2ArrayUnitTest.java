@@ -0,0 +1,129 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlVector2ArrayUnitTest
+{
+    @Test
+    public void testGetSet() throws Exception {
+        MlVector2Array array = new MlVector2Array(3);
+        assertEquals(3, array.size());
+
+        array.set(0, new MlVector2(1, 2));
+        array.set(1, 3, 4);
+
+        MlVector2 v = new MlVector2();
+        array.get(0, v);
+        assertTrue(v.equals(new MlVector2(1, 2)));
+        array.get(1, v);
+        assertTrue(v.equals(new MlVector2(3, 4)));
+        array.get(2, v);
+        assertTrue(v.isZero());
+    }
+
+    @Test
+    public void testArithmetic() throws Exception {
+        MlVector2Array a = new MlVector2Array(
+            new float[] {1, -2, 3.5f}, new float[] {0, 7, -0.25f});
+        MlVector2Array b = new MlVector2Array(
+            new float[] {0.5f, 1, -3}, new float[] {2, -1, 6});
+        MlVector2Array result = new MlVector2Array(3);
+        float[] dots = new float[3];
+        MlVector2 v = new MlVector2();
+
+        // Each result must match the equivalent MlVector2 operation.
+        for (int i = 0; i < 3; i++) {
+            MlVector2 va = new MlVector2(a.mX[i], a.mY[i]);
+            MlVector2 vb = new MlVector2(b.mX[i], b.mY[i]);
+
+            result.add(a, b).get(i, v);
+            assertTrue(v.equals(va.add(va, vb)));
+            result.sub(a, b).get(i, v);
+            assertTrue(v.equals(va.sub(va, vb)));
+            result.mul(a, 2.5f).get(i, v);
+            assertTrue(v.equals(va.mul(va, 2.5f)));
+            a.dot(b, dots);
+            assertEquals(va.dot(vb), dots[i], 0);
+
+            MlVector2 lerp = va.add(va.mul(va, 0.75f), vb.mul(vb, 0.25f));
+            MlVector2Array.interpolate(0.25f, a, b, result);
+            result.get(i, v);
+            assertTrue(v.equals(lerp, 0.000001f));
+        }
+
+        // The result may be stored in one of the operands.
+        a.add(b);
+        assertEquals(1.5f, a.mX[0], 0);
+        assertEquals(2, a.mY[0], 0);
+        a.sub(b);
+        assertEquals(1, a.mX[0], 0);
+        a.mul(2);
+        assertEquals(-4, a.mX[1], 0);
+    }
+
+    @Test
+    public void testNormalize() throws Exception {
+        MlVector2Array array = new MlVector2Array(
+            new float[] {3, 0, -1.5f}, new float[] {4, 0, 2.5f});
+        MlVector2[] vectors = new MlVector2[3];
+        for (int i = 0; i < 3; i++)
+            vectors[i] = new MlVector2(array.mX[i], array.mY[i]);
+
+        float[] lengths = new float[3];
+        array.length(lengths);
+        for (int i = 0; i < 3; i++)
+            assertEquals(vectors[i].length(), lengths[i], 0);
+
+        // Each vector must match MlVector2.normalize(); zero vectors are left
+        // unchanged.
+        array.normalize(lengths);
+        MlVector2 v = new MlVector2();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(vectors[i].normalize(), lengths[i], 0);
+            array.get(i, v);
+            assertTrue(v.equals(vectors[i], 0.000001f));
+        }
+        array.get(1, v);
+        assertTrue(v.isZero());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() throws Exception {
+        new MlVector2Array(2).add(new MlVector2Array(3));
+    }
+}
@@ -0,0 +1,124 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlVector3ArrayUnitTest
+{
+    @Test
+    public void testGetSet() throws Exception {
+        MlVector3Array array = new MlVector3Array(4);
+        assertEquals(4, array.size());
+
+        array.set(1, new MlVector3(1, 2, 3));
+        array.set(2, 4, 5, 6);
+
+        MlVector3 v = new MlVector3();
+        array.get(1, v);
+        assertTrue(v.equals(new MlVector3(1, 2, 3)));
+        array.get(2, v);
+        assertTrue(v.equals(new MlVector3(4, 5, 6)));
+        array.get(3, v);
+        assertTrue(v.isZero());
+    }
+
+    @Test
+    public void testArithmetic() throws Exception {
+        MlVector3Array a = new MlVector3Array(
+            new float[] {1, 0, 3}, new float[] {0, 1, 4}, new float[] {0, 0, 5});
+        MlVector3Array b = new MlVector3Array(
+            new float[] {0, 0, 1}, new float[] {1, 0, 1}, new float[] {0, 1, 1});
+        MlVector3Array result = new MlVector3Array(3);
+        float[] dots = new float[3];
+        MlVector3 v = new MlVector3();
+
+        // Each result must match the equivalent MlVector3 operation.
+        for (int i = 0; i < 3; i++) {
+            MlVector3 va = new MlVector3(a.mX[i], a.mY[i], a.mZ[i]);
+            MlVector3 vb = new MlVector3(b.mX[i], b.mY[i], b.mZ[i]);
+
+            result.add(a, b).get(i, v);
+            assertTrue(v.equals(va.add(va, vb)));
+            result.sub(a, b).get(i, v);
+            assertTrue(v.equals(va.sub(va, vb)));
+            result.mul(a, 2.5f).get(i, v);
+            assertTrue(v.equals(va.mul(va, 2.5f)));
+            result.cross(a, b).get(i, v);
+            assertTrue(v.equals(va.cross(vb)));
+            a.dot(b, dots);
+            assertEquals(va.dot(vb), dots[i], 0);
+
+            MlVector3 lerp = new MlVector3();
+            MlVector3.interpolate(0.25f, va, vb, lerp);
+            MlVector3Array.interpolate(0.25f, a, b, result);
+            result.get(i, v);
+            assertTrue(v.equals(lerp, 0.000001f));
+        }
+
+        // The result may be stored in one of the operands.
+        a.add(b);
+        assertEquals(1, a.mX[0], 0);
+        assertEquals(1, a.mY[0], 0);
+        assertEquals(4, a.mX[2], 0);
+    }
+
+    @Test
+    public void testNormalize() throws Exception {
+        MlVector3Array array = new MlVector3Array(2);
+        array.set(0, 3, 0, 4);
+
+        float[] lengths = new float[2];
+        array.length(lengths);
+        assertEquals(5, lengths[0], 0);
+        assertEquals(0, lengths[1], 0);
+
+        array.normalize(lengths);
+        assertEquals(5, lengths[0], 0);
+        assertEquals(0.6, array.mX[0], 0.000001);
+        assertEquals(0.8, array.mZ[0], 0.000001);
+
+        // Zero vectors are left unchanged.
+        assertEquals(0, array.mX[1], 0);
+        assertEquals(0, array.mY[1], 0);
+        assertEquals(0, array.mZ[1], 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() throws Exception {
+        new MlVector3Array(2).add(new MlVector3Array(3));
+    }
+}
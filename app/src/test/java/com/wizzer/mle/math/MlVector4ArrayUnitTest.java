@@ -0,0 +1,133 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MlVector4ArrayUnitTest
+{
+    @Test
+    public void testGetSet() throws Exception {
+        MlVector4Array array = new MlVector4Array(3);
+        assertEquals(3, array.size());
+
+        array.set(0, new MlVector4(1, 2, 3, 4));
+        array.set(1, 5, 6, 7, 8);
+
+        MlVector4 v = new MlVector4();
+        array.get(0, v);
+        assertTrue(v.equals(new MlVector4(1, 2, 3, 4)));
+        array.get(1, v);
+        assertTrue(v.equals(new MlVector4(5, 6, 7, 8)));
+        array.get(2, v);
+        assertTrue(v.isZero());
+    }
+
+    @Test
+    public void testArithmetic() throws Exception {
+        MlVector4Array a = new MlVector4Array(
+            new float[] {1, -2, 3.5f}, new float[] {0, 7, -0.25f},
+            new float[] {4, 0, 1}, new float[] {-1, 0.5f, 2});
+        MlVector4Array b = new MlVector4Array(
+            new float[] {0.5f, 1, -3}, new float[] {2, -1, 6},
+            new float[] {0, 3, 1}, new float[] {1, 1, -8});
+        MlVector4Array result = new MlVector4Array(3);
+        float[] dots = new float[3];
+        MlVector4 v = new MlVector4();
+
+        // Each result must match the equivalent MlVector4 operation.
+        for (int i = 0; i < 3; i++) {
+            MlVector4 va = new MlVector4(a.mX[i], a.mY[i], a.mZ[i], a.mW[i]);
+            MlVector4 vb = new MlVector4(b.mX[i], b.mY[i], b.mZ[i], b.mW[i]);
+
+            result.add(a, b).get(i, v);
+            assertTrue(v.equals(va.add(va, vb)));
+            result.sub(a, b).get(i, v);
+            assertTrue(v.equals(va.sub(va, vb)));
+            result.mul(a, 2.5f).get(i, v);
+            assertTrue(v.equals(va.mul(va, 2.5f)));
+            a.dot(b, dots);
+            assertEquals(va.dot(vb), dots[i], 0);
+
+            MlVector4 lerp = va.add(va.mul(va, 0.75f), vb.mul(vb, 0.25f));
+            MlVector4Array.interpolate(0.25f, a, b, result);
+            result.get(i, v);
+            assertTrue(v.equals(lerp, 0.000001f));
+        }
+
+        // The result may be stored in one of the operands.
+        a.add(b);
+        assertEquals(1.5f, a.mX[0], 0);
+        assertEquals(0, a.mW[0], 0);
+        a.sub(b);
+        assertEquals(-1, a.mW[0], 0);
+        a.mul(2);
+        assertEquals(4, a.mW[2], 0);
+    }
+
+    @Test
+    public void testNormalize() throws Exception {
+        MlVector4Array array = new MlVector4Array(
+            new float[] {1, 0, -1.5f}, new float[] {2, 0, 2.5f},
+            new float[] {2, 0, 0.5f}, new float[] {4, 0, -3});
+        MlVector4[] vectors = new MlVector4[3];
+        for (int i = 0; i < 3; i++)
+            vectors[i] = new MlVector4(array.mX[i], array.mY[i], array.mZ[i], array.mW[i]);
+
+        float[] lengths = new float[3];
+        array.length(lengths);
+        assertEquals(5, lengths[0], 0);
+        for (int i = 0; i < 3; i++)
+            assertEquals(vectors[i].length(), lengths[i], 0);
+
+        // Each vector must match MlVector4.normalize(); zero vectors are left
+        // unchanged.
+        array.normalize(lengths);
+        MlVector4 v = new MlVector4();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(vectors[i].normalize(), lengths[i], 0);
+            array.get(i, v);
+            assertTrue(v.equals(vectors[i], 0.000001f));
+        }
+        array.get(1, v);
+        assertTrue(v.isZero());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSizeMismatch() throws Exception {
+        new MlVector4Array(2).add(new MlVector4Array(3));
+    }
+}
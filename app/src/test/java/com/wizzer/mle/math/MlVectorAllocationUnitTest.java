@@ -0,0 +1,144 @@
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+package com.wizzer.mle.math;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+/**
+ * Checks that the destination-parameter vector operations do not allocate.
+ * The tests are skipped on JVMs that cannot report per-thread allocation.
+ */
+public class MlVectorAllocationUnitTest
+{
+    private static final int CALLS = 100000;
+
+    // Allowed slack for allocations made by the measurement itself.
+    private static final long SLACK = 1024;
+
+    private com.sun.management.ThreadMXBean mBean;
+
+    @Before
+    public void setUp() throws Exception {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        mBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(mBean.isThreadAllocatedMemorySupported());
+        mBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private long allocatedBytes() {
+        return mBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Test
+    public void testVector2() throws Exception {
+        MlVector2 a = new MlVector2(1, 2);
+        MlVector2 b = new MlVector2(3, 4);
+        MlVector2 dst = new MlVector2();
+        boolean equal = false;
+
+        allocatedBytes();
+        long before = allocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            MlVector2.add(a, b, dst);
+            MlVector2.sub(dst, b, dst);
+            MlVector2.mul(dst, 1.0f, dst);
+            dst.unaryNegate(dst);
+            equal |= dst.equals(a, 0.001f);
+        }
+        long bytes = allocatedBytes() - before;
+
+        assertFalse(equal);
+        assertTrue(new MlVector2(-1, -2).equals(dst));
+        assertTrue("Allocated " + bytes + " bytes", bytes < SLACK);
+    }
+
+    @Test
+    public void testVector3() throws Exception {
+        MlVector3 a = new MlVector3(1, 2, 3);
+        MlVector3 b = new MlVector3(4, 5, 6);
+        MlVector3 dst = new MlVector3();
+        MlVector3 axis = new MlVector3();
+        boolean equal = false;
+
+        allocatedBytes();
+        long before = allocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            MlVector3.add(a, b, dst);
+            MlVector3.sub(dst, b, dst);
+            MlVector3.mul(dst, 1.0f, dst);
+            dst.unaryNegate(dst);
+            dst.cross(a, axis);
+            dst.getClosestAxis(axis);
+            equal |= dst.equals(a, 0.001f);
+        }
+        long bytes = allocatedBytes() - before;
+
+        assertFalse(equal);
+        assertTrue(new MlVector3(-1, -2, -3).equals(dst));
+        assertTrue(new MlVector3(0, 0, -1).equals(axis));
+        assertTrue("Allocated " + bytes + " bytes", bytes < SLACK);
+    }
+
+    @Test
+    public void testVector4() throws Exception {
+        MlVector4 a = new MlVector4(1, 2, 3, 4);
+        MlVector4 b = new MlVector4(5, 6, 7, 8);
+        MlVector4 dst = new MlVector4();
+        MlRotation r = new MlRotation();
+        boolean equal = false;
+
+        allocatedBytes();
+        long before = allocatedBytes();
+        for (int i = 0; i < CALLS; i++) {
+            MlVector4.add(a, b, dst);
+            MlVector4.sub(dst, b, dst);
+            MlVector4.mul(dst, 1.0f, dst);
+            dst.unaryNegate(dst);
+            equal |= dst.equals(a, 0.001f);
+            equal |= !r.equals(r, 0.001f);
+        }
+        long bytes = allocatedBytes() - before;
+
+        assertFalse(equal);
+        assertTrue(new MlVector4(-1, -2, -3, -4).equals(dst));
+        assertTrue("Allocated " + bytes + " bytes", bytes < SLACK);
+    }
+}
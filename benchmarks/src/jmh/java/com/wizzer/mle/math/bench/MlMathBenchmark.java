@@ -0,0 +1,231 @@
+/*
+ * MlMathBenchmark.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math.bench;
+
+// Import standard Java classes.
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+// Import JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Import Magic Lantern classes.
+import com.wizzer.mle.math.MlMath;
+import com.wizzer.mle.math.MlRotation;
+import com.wizzer.mle.math.MlTransform;
+import com.wizzer.mle.math.MlVector2;
+import com.wizzer.mle.math.MlVector3;
+import com.wizzer.mle.math.MlVector4;
+
+/**
+ * Benchmarks of the <code>MlMath</code> byte array conversions and
+ * trigonometric functions.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlMathBenchmark
+{
+    private byte[] mData;
+    private byte[] mVector2Data, mVector3Data, mVector4Data;
+    private byte[] mTransformData, mRotationData;
+    private MlVector2 mVector2;
+    private MlVector3 mVector3;
+    private MlVector4 mVector4;
+    private MlTransform mTransform;
+    private MlRotation mRotation;
+    private float mAngle;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        mData = new byte[8];
+        mVector2 = new MlVector2(1.5f, -2.25f);
+        mVector3 = new MlVector3(1.5f, -2.25f, 0.5f);
+        mVector4 = new MlVector4(1.5f, -2.25f, 0.5f, 1.0f);
+        mRotation = new MlRotation(new MlVector3(1, 2, 3), 0.7f);
+        mTransform = new MlTransform();
+        mTransform.setTransform(mVector3, mRotation, new MlVector3(2, 3, 4));
+        mAngle = 0.7f;
+
+        mVector2Data = new byte[8];
+        MlMath.convertVector2ToByteArray(0, mVector2Data, mVector2);
+        mVector3Data = new byte[12];
+        MlMath.convertVector3ToByteArray(0, mVector3Data, mVector3);
+        mVector4Data = new byte[16];
+        MlMath.convertVector4ToByteArray(0, mVector4Data, mVector4);
+        mTransformData = new byte[48];
+        MlMath.convertTransforrmToByteArray(0, mTransformData, mTransform);
+        mRotationData = new byte[16];
+        MlMath.convertRotationToByteArray(0, mRotationData, mRotation);
+    }
+
+    @Benchmark
+    public byte[] intToBytes()
+    {
+        MlMath.convertIntegerToByteArray(0x12345678, mData, 0, ByteOrder.BIG_ENDIAN);
+        return mData;
+    }
+
+    @Benchmark
+    public int bytesToInt()
+    {
+        return MlMath.convertByteArrayToInteger(mVector2Data, 0, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Benchmark
+    public byte[] floatToBytes()
+    {
+        MlMath.convertFloatToByteArray(1.5f, mData, 0, ByteOrder.BIG_ENDIAN);
+        return mData;
+    }
+
+    @Benchmark
+    public float bytesToFloat()
+    {
+        return MlMath.convertByteArrayToFloat(mVector2Data, 0, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Benchmark
+    public byte[] doubleToBytes()
+    {
+        MlMath.convertDoubleToByteArray(1.5, mData, 0, ByteOrder.BIG_ENDIAN);
+        return mData;
+    }
+
+    @Benchmark
+    public double bytesToDouble()
+    {
+        return MlMath.convertByteArrayToDouble(mVector2Data, 0, ByteOrder.BIG_ENDIAN);
+    }
+
+    @Benchmark
+    public byte[] vector2ToBytes() throws IOException
+    {
+        MlMath.convertVector2ToByteArray(0, mVector2Data, mVector2);
+        return mVector2Data;
+    }
+
+    @Benchmark
+    public MlVector2 bytesToVector2() throws IOException
+    {
+        MlMath.convertByteArrayToVector2(0, mVector2Data, mVector2);
+        return mVector2;
+    }
+
+    @Benchmark
+    public byte[] vector3ToBytes() throws IOException
+    {
+        MlMath.convertVector3ToByteArray(0, mVector3Data, mVector3);
+        return mVector3Data;
+    }
+
+    @Benchmark
+    public MlVector3 bytesToVector3() throws IOException
+    {
+        MlMath.convertByteArrayToVector3(0, mVector3Data, mVector3);
+        return mVector3;
+    }
+
+    @Benchmark
+    public byte[] vector4ToBytes() throws IOException
+    {
+        MlMath.convertVector4ToByteArray(0, mVector4Data, mVector4);
+        return mVector4Data;
+    }
+
+    @Benchmark
+    public MlVector4 bytesToVector4() throws IOException
+    {
+        MlMath.convertByteArrayToVector4(0, mVector4Data, mVector4);
+        return mVector4;
+    }
+
+    @Benchmark
+    public byte[] transformToBytes() throws IOException
+    {
+        MlMath.convertTransforrmToByteArray(0, mTransformData, mTransform);
+        return mTransformData;
+    }
+
+    @Benchmark
+    public MlTransform bytesToTransform() throws IOException
+    {
+        MlMath.convertByteArrayToTransform(0, mTransformData, mTransform);
+        return mTransform;
+    }
+
+    @Benchmark
+    public byte[] rotationToBytes() throws IOException
+    {
+        MlMath.convertRotationToByteArray(0, mRotationData, mRotation);
+        return mRotationData;
+    }
+
+    @Benchmark
+    public MlRotation bytesToRotation() throws IOException
+    {
+        MlMath.convertByteArrayToRotation(0, mRotationData, mRotation);
+        return mRotation;
+    }
+
+    @Benchmark
+    public float sin()
+    {
+        return MlMath.mlSin(mAngle);
+    }
+
+    @Benchmark
+    public float cos()
+    {
+        return MlMath.mlCos(mAngle);
+    }
+
+    @Benchmark
+    public float atan2()
+    {
+        return MlMath.mlAtan2(mAngle, 0.3f);
+    }
+}
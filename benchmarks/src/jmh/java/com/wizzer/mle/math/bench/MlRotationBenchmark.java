@@ -0,0 +1,144 @@
+/*
+ * MlRotationBenchmark.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math.bench;
+
+// Import standard Java classes.
+import java.util.concurrent.TimeUnit;
+
+// Import JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Import Magic Lantern classes.
+import com.wizzer.mle.math.MlRotation;
+import com.wizzer.mle.math.MlTransform;
+import com.wizzer.mle.math.MlTrig;
+import com.wizzer.mle.math.MlVector3;
+
+/**
+ * Benchmarks of the <code>MlRotation</code> operations.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlRotationBenchmark
+{
+    private MlRotation mA, mB, mR;
+    private MlTransform mMatrix, mT;
+    private MlVector3 mV, mResult;
+
+    @Setup
+    public void setup()
+    {
+        mA = new MlRotation(new MlVector3(1, 2, 3), 0.7f);
+        mB = new MlRotation(new MlVector3(-3, 1, 2), 1.3f);
+        mR = new MlRotation();
+        mMatrix = new MlTransform();
+        mA.getValue(mMatrix);
+        mT = new MlTransform();
+        mV = new MlVector3(1.5f, -2.25f, 0.5f);
+        mResult = new MlVector3();
+    }
+
+    @Benchmark
+    public MlRotation mul()
+    {
+        return mR.mul(mA, mB);
+    }
+
+    @Benchmark
+    public MlRotation mulInPlace()
+    {
+        return mR.setValue(mA.mQuat).mul(mB);
+    }
+
+    @Benchmark
+    public MlRotation slerp()
+    {
+        return mR.slerp(mA, mB, 0.3f);
+    }
+
+    @Benchmark
+    public MlRotation slerpFast()
+    {
+        return mR.slerp(mA, mB, 0.3f, MlTrig.ML_PRECISION_FAST);
+    }
+
+    @Benchmark
+    public MlVector3 multVec()
+    {
+        mA.multVec(mV, mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public MlRotation setValueTransform()
+    {
+        return mR.setValue(mMatrix);
+    }
+
+    @Benchmark
+    public MlTransform getValueTransform()
+    {
+        mA.getValue(mT);
+        return mT;
+    }
+
+    @Benchmark
+    public MlRotation setValueAxisAngle()
+    {
+        return mR.setValue(mV, 0.7f);
+    }
+
+    @Benchmark
+    public MlRotation inverse()
+    {
+        return mA.inverse();
+    }
+
+    @Benchmark
+    public boolean equals()
+    {
+        return mA.equals(mB, 0.001f);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * MlTransformBenchmark.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math.bench;
+
+// Import standard Java classes.
+import java.util.concurrent.TimeUnit;
+
+// Import JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Import Magic Lantern classes.
+import com.wizzer.mle.math.MlRotation;
+import com.wizzer.mle.math.MlTransform;
+import com.wizzer.mle.math.MlTransformWorkspace;
+import com.wizzer.mle.math.MlTrig;
+import com.wizzer.mle.math.MlVector3;
+
+/**
+ * Benchmarks of the <code>MlTransform</code> operations.
+ * <p>
+ * The operands are never modified, so every invocation does the same work;
+ * operations that modify a transform in place are applied to a scratch copy.
+ * </p>
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlTransformBenchmark
+{
+    // The number of points in the batch benchmarks.
+    private static final int BATCH_SIZE = 1024;
+
+    private MlTransform mA, mB, mTranslation, mCached, mR;
+    private MlTransform mFactorR, mFactorU, mFactorProj;
+    private MlTransformWorkspace mWorkspace;
+    private MlVector3 mT, mS, mEuler, mCenter, mV, mResult;
+    private MlRotation mRotation, mScaleOrientation;
+    private MlVector3 mGetT, mGetS;
+    private MlRotation mGetRotation, mGetScaleOrientation;
+    private float[] mPoints, mTransformed;
+    private float[] mAngles;
+
+    @Setup
+    public void setup()
+    {
+        mT = new MlVector3(1, 2, 3);
+        mS = new MlVector3(2, 3, 4);
+        mEuler = new MlVector3(30, 45, 60);
+        mCenter = new MlVector3();
+        mRotation = new MlRotation(new MlVector3(1, 2, 3), 0.7f);
+        mScaleOrientation = new MlRotation(new MlVector3(0, 0, 1), 0.2f);
+
+        mA = new MlTransform();
+        mA.setTransform(mT, mRotation, mS);
+        mB = new MlTransform();
+        mB.setTransform(new MlVector3(-3, 1, 2), new MlRotation(new MlVector3(-3, 1, 2), 1.3f),
+            new MlVector3(1, 1, 1));
+        mTranslation = new MlTransform();
+        mTranslation.setTranslation(mT);
+        mCached = new MlTransform(mA);
+        mCached.setCaching(true);
+        mR = new MlTransform();
+
+        mFactorR = new MlTransform();
+        mFactorU = new MlTransform();
+        mFactorProj = new MlTransform();
+        mWorkspace = new MlTransformWorkspace();
+        mV = new MlVector3(1.5f, -2.25f, 0.5f);
+        mResult = new MlVector3();
+        mGetT = new MlVector3();
+        mGetS = new MlVector3();
+        mGetRotation = new MlRotation();
+        mGetScaleOrientation = new MlRotation();
+
+        mPoints = new float[BATCH_SIZE * 3];
+        for (int i = 0; i < mPoints.length; i++)
+            mPoints[i] = (float)Math.sin(i);
+        mTransformed = new float[BATCH_SIZE * 3];
+        mAngles = new float[3];
+    }
+
+    @Benchmark
+    public MlTransform mulRight()
+    {
+        mR.setValue(mA);
+        return mR.mulRight(mB);
+    }
+
+    @Benchmark
+    public MlTransform mulLeft()
+    {
+        mR.setValue(mA);
+        return mR.mulLeft(mB);
+    }
+
+    @Benchmark
+    public MlTransform mulRightTranslation()
+    {
+        mR.setValue(mA);
+        return mR.mulRight(mTranslation);
+    }
+
+    @Benchmark
+    public MlTransform inverse()
+    {
+        return mA.inverse();
+    }
+
+    @Benchmark
+    public MlTransform inverseInto()
+    {
+        return mA.inverse(mR);
+    }
+
+    @Benchmark
+    public MlTransform inverseCached()
+    {
+        return mCached.getInverse();
+    }
+
+    @Benchmark
+    public MlTransform transpose()
+    {
+        return mA.transpose();
+    }
+
+    @Benchmark
+    public float determinant()
+    {
+        return mA.determinant();
+    }
+
+    @Benchmark
+    public boolean factor()
+    {
+        return mA.factor(mFactorR, mResult, mFactorU, mGetT, mFactorProj);
+    }
+
+    @Benchmark
+    public boolean factorWorkspace()
+    {
+        return mA.factor(mFactorR, mResult, mFactorU, mGetT, mFactorProj, mWorkspace);
+    }
+
+    @Benchmark
+    public MlRotation getTransform()
+    {
+        mA.getTransform(mGetT, mGetRotation, mGetS, mGetScaleOrientation);
+        return mGetRotation;
+    }
+
+    @Benchmark
+    public MlRotation getTransformWorkspace()
+    {
+        mA.getTransform(mGetT, mGetRotation, mGetS, mGetScaleOrientation, mCenter, mWorkspace);
+        return mGetRotation;
+    }
+
+    @Benchmark
+    public MlTransform setTransform()
+    {
+        mR.setTransform(mT, mRotation, mS);
+        return mR;
+    }
+
+    @Benchmark
+    public MlTransform setTransformScaleOrientation()
+    {
+        mR.setTransform(mT, mRotation, mS, mScaleOrientation);
+        return mR;
+    }
+
+    @Benchmark
+    public MlTransform applyRotation()
+    {
+        mR.setValue(mA);
+        mR.applyRotation(mEuler);
+        return mR;
+    }
+
+    @Benchmark
+    public MlVector3 getRotation()
+    {
+        mA.getRotation(mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public MlVector3 getScale()
+    {
+        mA.getScale(mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public MlVector3 mulVecMatrix()
+    {
+        mA.mulVecMatrix(mV, mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public MlVector3 mulDirMatrix()
+    {
+        mA.mulDirMatrix(mV, mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public MlVector3 mulMatrixVec()
+    {
+        mA.mulMatrixVec(mV, mResult);
+        return mResult;
+    }
+
+    @Benchmark
+    public float[] mulVecMatrixBatch()
+    {
+        mA.mulVecMatrix(mPoints, 0, 3, mTransformed, 0, 3, BATCH_SIZE);
+        return mTransformed;
+    }
+
+    @Benchmark
+    public float[] mulDirMatrixBatch()
+    {
+        mA.mulDirMatrix(mPoints, 0, 3, mTransformed, 0, 3, BATCH_SIZE);
+        return mTransformed;
+    }
+
+    @Benchmark
+    public float[] getRotationEuler()
+    {
+        mA.getRotation(mAngles);
+        return mAngles;
+    }
+
+    @Benchmark
+    public float[] getRotationEulerFast()
+    {
+        mA.getRotation(mAngles, MlTrig.ML_PRECISION_FAST);
+        return mAngles;
+    }
+}
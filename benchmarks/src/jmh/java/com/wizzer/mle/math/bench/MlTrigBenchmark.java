@@ -0,0 +1,257 @@
+/*
+ * MlTrigBenchmark.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math.bench;
+
+// Import standard Java classes.
+import java.util.concurrent.TimeUnit;
+
+// Import JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Import Magic Lantern classes.
+import com.wizzer.mle.math.MlAngle;
+import com.wizzer.mle.math.MlFixedAngle;
+import com.wizzer.mle.math.MlMath;
+import com.wizzer.mle.math.MlSinTable;
+import com.wizzer.mle.math.MlTrig;
+
+/**
+ * Benchmarks comparing the trigonometric functions of <code>MlMath</code>
+ * with the table-driven ones and the <code>MlTrig</code> precision tiers, over
+ * an array of angles.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MlTrigBenchmark
+{
+    private static final int COUNT = 1024;
+
+    private float[] mAngles;
+    private MlSinTable mLinear;
+    private MlSinTable mQuadratic;
+    private MlTrig mFast;
+    private MlTrig mFastest;
+    private float[] mSin;
+    private float[] mCos;
+    private int[] mFixedAngles;
+
+    @Setup
+    public void setup()
+    {
+        mAngles = new float[COUNT];
+        // The angles, from -1 to 1, are also valid arguments to the inverse
+        // functions.
+        for (int i = 0; i < COUNT; i++)
+            mAngles[i] = ((i * 0.618034f) % 2.0f) - 1.0f;
+        mLinear = new MlSinTable(MlSinTable.ML_DEFAULT_SIZE, MlSinTable.ML_INTERPOLATE_LINEAR);
+        mQuadratic = new MlSinTable(MlSinTable.ML_DEFAULT_SIZE, MlSinTable.ML_INTERPOLATE_QUADRATIC);
+        mFast = MlTrig.getInstance(MlTrig.ML_PRECISION_FAST);
+        mFastest = MlTrig.getInstance(MlTrig.ML_PRECISION_FASTEST);
+        mSin = new float[COUNT];
+        mCos = new float[COUNT];
+        mFixedAngles = new int[COUNT];
+        for (int i = 0; i < COUNT; i++)
+            mFixedAngles[i] = MlFixedAngle.angleToFixed(mAngles[i]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sin()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlMath.mlSin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sinTableLinear()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mLinear.sin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sinTableQuadratic()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mQuadratic.sin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float cos()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlMath.mlCos(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float fastCos()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlMath.mlFastCos(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sinFast()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFast.sin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sinFastest()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFastest.sin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float asin()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlMath.mlAsin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float asinFast()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFast.asin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float asinFastest()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFastest.asin(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float atan2()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlMath.mlAtan2(mAngles[i], mAngles[COUNT - 1 - i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float atan2Fast()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFast.atan2(mAngles[i], mAngles[COUNT - 1 - i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float atan2Fastest()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFastest.atan2(mAngles[i], mAngles[COUNT - 1 - i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float sinAndCosFast()
+    {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += mFast.sin(mAngles[i]) + mFast.cos(mAngles[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public float[] sinCosFastBatch()
+    {
+        mFast.sinCos(mAngles, 0, mSin, mCos, 0, COUNT, MlAngle.ML_UNITS_ANGLE);
+        return mCos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public int sinFixed()
+    {
+        int sum = 0;
+        for (int i = 0; i < COUNT; i++)
+            sum += MlFixedAngle.sin(mFixedAngles[i]);
+        return sum;
+    }
+}
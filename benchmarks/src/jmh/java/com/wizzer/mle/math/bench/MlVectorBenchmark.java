@@ -0,0 +1,297 @@
+/*
+ * MlVectorBenchmark.java
+ * Created on Oct 17, 2026
+ */
+
+// COPYRIGHT_BEGIN
+//
+// The MIT License (MIT)
+//
+// Copyright (c) 2026 Wizzer Works
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+//  For information concerning this header file, contact Mark S. Millard,
+//  of Wizzer Works at msm@wizzerworks.com.
+//
+//  More information concerning Wizzer Works may be found at
+//
+//      http://www.wizzerworks.com
+//
+// COPYRIGHT_END
+
+
+// Declare package.
+package com.wizzer.mle.math.bench;
+
+// Import standard Java classes.
+import java.util.concurrent.TimeUnit;
+
+// Import JMH classes.
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// Import Magic Lantern classes.
+import com.wizzer.mle.math.MlVector2;
+import com.wizzer.mle.math.MlVector3;
+import com.wizzer.mle.math.MlVector4;
+
+/**
+ * Benchmarks of the <code>MlVector2</code>, <code>MlVector3</code> and
+ * <code>MlVector4</code> arithmetic.
+ * <p>
+ * The operands are never modified, so every invocation does the same work;
+ * operations that modify a vector in place are applied to a scratch copy.
+ * </p>
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MlVectorBenchmark
+{
+    private MlVector2 mA2, mB2, mR2;
+    private MlVector3 mA3, mB3, mR3;
+    private MlVector4 mA4, mB4, mR4;
+
+    @Setup
+    public void setup()
+    {
+        mA2 = new MlVector2(1.5f, -2.25f);
+        mB2 = new MlVector2(-0.75f, 3.5f);
+        mR2 = new MlVector2();
+        mA3 = new MlVector3(1.5f, -2.25f, 0.5f);
+        mB3 = new MlVector3(-0.75f, 3.5f, 2.0f);
+        mR3 = new MlVector3();
+        mA4 = new MlVector4(1.5f, -2.25f, 0.5f, 1.0f);
+        mB4 = new MlVector4(-0.75f, 3.5f, 2.0f, -1.0f);
+        mR4 = new MlVector4();
+    }
+
+    @Benchmark
+    public MlVector2 vector2Add()
+    {
+        return mR2.add(mA2, mB2);
+    }
+
+    @Benchmark
+    public MlVector2 vector2AddInto()
+    {
+        return MlVector2.add(mA2, mB2, mR2);
+    }
+
+    @Benchmark
+    public MlVector2 vector2Sub()
+    {
+        return mR2.sub(mA2, mB2);
+    }
+
+    @Benchmark
+    public MlVector2 vector2SubInto()
+    {
+        return MlVector2.sub(mA2, mB2, mR2);
+    }
+
+    @Benchmark
+    public MlVector2 vector2Mul()
+    {
+        return mR2.mul(mA2, 1.25f);
+    }
+
+    @Benchmark
+    public MlVector2 vector2MulInto()
+    {
+        return MlVector2.mul(mA2, 1.25f, mR2);
+    }
+
+    @Benchmark
+    public float vector2Dot()
+    {
+        return mA2.dot(mB2);
+    }
+
+    @Benchmark
+    public float vector2Length()
+    {
+        return mA2.length();
+    }
+
+    @Benchmark
+    public float vector2Normalize()
+    {
+        return mR2.setValue(mA2).normalize();
+    }
+
+    @Benchmark
+    public boolean vector2Equals()
+    {
+        return mA2.equals(mB2, 0.001f);
+    }
+
+    @Benchmark
+    public MlVector3 vector3Add()
+    {
+        return mR3.add(mA3, mB3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3AddInto()
+    {
+        return MlVector3.add(mA3, mB3, mR3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3Sub()
+    {
+        return mR3.sub(mA3, mB3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3SubInto()
+    {
+        return MlVector3.sub(mA3, mB3, mR3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3Mul()
+    {
+        return mR3.mul(mA3, 1.25f);
+    }
+
+    @Benchmark
+    public MlVector3 vector3MulInto()
+    {
+        return MlVector3.mul(mA3, 1.25f, mR3);
+    }
+
+    @Benchmark
+    public float vector3Dot()
+    {
+        return mA3.dot(mB3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3Cross()
+    {
+        return mA3.cross(mB3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3CrossInto()
+    {
+        return mA3.cross(mB3, mR3);
+    }
+
+    @Benchmark
+    public float vector3Length()
+    {
+        return mA3.length();
+    }
+
+    @Benchmark
+    public float vector3Normalize()
+    {
+        return mR3.setValue(mA3).normalize();
+    }
+
+    @Benchmark
+    public MlVector3 vector3UnaryNegate()
+    {
+        return mA3.unaryNegate();
+    }
+
+    @Benchmark
+    public MlVector3 vector3UnaryNegateInto()
+    {
+        return mA3.unaryNegate(mR3);
+    }
+
+    @Benchmark
+    public MlVector3 vector3GetClosestAxis()
+    {
+        return mA3.getClosestAxis(mR3);
+    }
+
+    @Benchmark
+    public boolean vector3Equals()
+    {
+        return mA3.equals(mB3, 0.001f);
+    }
+
+    @Benchmark
+    public MlVector4 vector4Add()
+    {
+        return mR4.add(mA4, mB4);
+    }
+
+    @Benchmark
+    public MlVector4 vector4AddInto()
+    {
+        return MlVector4.add(mA4, mB4, mR4);
+    }
+
+    @Benchmark
+    public MlVector4 vector4Sub()
+    {
+        return mR4.sub(mA4, mB4);
+    }
+
+    @Benchmark
+    public MlVector4 vector4SubInto()
+    {
+        return MlVector4.sub(mA4, mB4, mR4);
+    }
+
+    @Benchmark
+    public MlVector4 vector4Mul()
+    {
+        return mR4.mul(mA4, 1.25f);
+    }
+
+    @Benchmark
+    public MlVector4 vector4MulInto()
+    {
+        return MlVector4.mul(mA4, 1.25f, mR4);
+    }
+
+    @Benchmark
+    public float vector4Dot()
+    {
+        return mA4.dot(mB4);
+    }
+
+    @Benchmark
+    public float vector4Length()
+    {
+        return mA4.length();
+    }
+
+    @Benchmark
+    public float vector4Normalize()
+    {
+        return mR4.setValue(mA4).normalize();
+    }
+
+    @Benchmark
+    public boolean vector4Equals()
+    {
+        return mA4.equals(mB4, 0.001f);
+    }
+}